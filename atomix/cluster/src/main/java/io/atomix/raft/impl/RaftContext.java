@@ -290,6 +290,14 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return partitionConfig.getMaxAppendBatchSize();
   }
 
+  public int getMaxSnapshotChunkSize() {
+    return partitionConfig.getMaxSnapshotChunkSize();
+  }
+
+  public int getMaxSnapshotChunksInFlight() {
+    return partitionConfig.getMaxSnapshotChunksInFlight();
+  }
+
   public int getMaxAppendsPerFollower() {
     return partitionConfig.getMaxAppendsPerFollower();
   }
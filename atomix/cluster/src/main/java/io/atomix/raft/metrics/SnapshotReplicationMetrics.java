@@ -15,6 +15,7 @@
  */
 package io.atomix.raft.metrics;
 
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 
 public class SnapshotReplicationMetrics extends RaftMetrics {
@@ -36,6 +37,27 @@ public class SnapshotReplicationMetrics extends RaftMetrics {
           .help("Approximate duration of replication in milliseconds")
           .name("snapshot_replication_duration_milliseconds")
           .register();
+  private static final Counter SENT_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("Number of snapshot bytes sent to followers")
+          .name("snapshot_replication_sent_bytes")
+          .register();
+  private static final Gauge IN_FLIGHT_BYTES =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("Number of snapshot bytes sent to followers which are not yet acknowledged")
+          .name("snapshot_replication_in_flight_bytes")
+          .register();
+  private static final Counter CHUNK_RETRIES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("Number of times the sending of snapshot chunks was resumed after a failed request")
+          .name("snapshot_replication_chunk_retries")
+          .register();
 
   public SnapshotReplicationMetrics(final String partitionName) {
     super(partitionName);
@@ -56,4 +78,17 @@ public class SnapshotReplicationMetrics extends RaftMetrics {
   public void observeDuration(final long durationMillis) {
     DURATION.labels(partitionGroupName, partition).set(durationMillis);
   }
+
+  public void chunkSent(final int bytes) {
+    SENT_BYTES.labels(partitionGroupName, partition).inc(bytes);
+    IN_FLIGHT_BYTES.labels(partitionGroupName, partition).inc(bytes);
+  }
+
+  public void chunkCompleted(final int bytes) {
+    IN_FLIGHT_BYTES.labels(partitionGroupName, partition).dec(bytes);
+  }
+
+  public void incrementChunkRetries() {
+    CHUNK_RETRIES.labels(partitionGroupName, partition).inc();
+  }
 }
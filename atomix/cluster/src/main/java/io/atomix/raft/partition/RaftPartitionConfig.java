@@ -30,11 +30,15 @@ public class RaftPartitionConfig {
   private static final RoundRobinPartitionDistributor DEFAULT_PARTITION_DISTRIBUTOR =
       new RoundRobinPartitionDistributor();
   private static final int DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final int DEFAULT_MAX_SNAPSHOT_CHUNK_SIZE = 1024 * 1024;
+  private static final int DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT = 4;
 
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
   private int maxAppendsPerFollower = 2;
   private int maxAppendBatchSize = 32 * 1024;
+  private int maxSnapshotChunkSize = DEFAULT_MAX_SNAPSHOT_CHUNK_SIZE;
+  private int maxSnapshotChunksInFlight = DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT;
   private boolean priorityElectionEnabled = DEFAULT_PRIORITY_ELECTION;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private int minStepDownFailureCount = DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT;
@@ -98,6 +102,34 @@ public class RaftPartitionConfig {
     this.maxAppendBatchSize = maxAppendBatchSize;
   }
 
+  public int getMaxSnapshotChunkSize() {
+    return maxSnapshotChunkSize;
+  }
+
+  /**
+   * Sets the maximum size of a snapshot chunk; larger snapshot files are replicated in several
+   * chunks, which bounds the memory used to replicate a snapshot.
+   *
+   * @param maxSnapshotChunkSize the maximum size of a snapshot chunk in bytes
+   */
+  public void setMaxSnapshotChunkSize(final int maxSnapshotChunkSize) {
+    this.maxSnapshotChunkSize = maxSnapshotChunkSize;
+  }
+
+  public int getMaxSnapshotChunksInFlight() {
+    return maxSnapshotChunksInFlight;
+  }
+
+  /**
+   * Sets the maximum number of snapshot chunks which are sent to a follower without having been
+   * acknowledged yet. The first chunk of a snapshot is always sent on its own.
+   *
+   * @param maxSnapshotChunksInFlight the maximum number of unacknowledged chunks per follower
+   */
+  public void setMaxSnapshotChunksInFlight(final int maxSnapshotChunksInFlight) {
+    this.maxSnapshotChunksInFlight = maxSnapshotChunksInFlight;
+  }
+
   public boolean isPriorityElectionEnabled() {
     return priorityElectionEnabled;
   }
@@ -326,6 +326,32 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets the maximum size of a snapshot chunk, which is sent per install request. Larger snapshot
+     * files are split into several chunks. Default size is 1 MB.
+     *
+     * @param maxSnapshotChunkSize the maximum size of a snapshot chunk
+     * @return the Raft partition group builder
+     */
+    public Builder withMaxSnapshotChunkSize(final int maxSnapshotChunkSize) {
+      checkArgument(maxSnapshotChunkSize > 0, "maxSnapshotChunkSize must be positive");
+      config.getPartitionConfig().setMaxSnapshotChunkSize(maxSnapshotChunkSize);
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of snapshot chunks which can be sent to a follower before the first
+     * of them is acknowledged. Default is 4.
+     *
+     * @param maxSnapshotChunksInFlight the maximum number of unacknowledged chunks per follower
+     * @return the Raft partition group builder
+     */
+    public Builder withMaxSnapshotChunksInFlight(final int maxSnapshotChunksInFlight) {
+      checkArgument(maxSnapshotChunksInFlight > 0, "maxSnapshotChunksInFlight must be positive");
+      config.getPartitionConfig().setMaxSnapshotChunksInFlight(maxSnapshotChunksInFlight);
+      return this;
+    }
+
     /**
      * Sets the heartbeatInterval. The leader will send heartbeats to a follower at this interval.
      *
@@ -407,6 +433,30 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets how long followers may delay flushing appended entries, such that the entries of several
+     * append requests are flushed at once.
+     *
+     * @param maxFlushDelay the max delay between appending and flushing an entry
+     * @return the Raft partition group builder
+     */
+    public Builder withMaxFlushDelay(final Duration maxFlushDelay) {
+      config.getStorageConfig().setMaxFlushDelay(maxFlushDelay);
+      return this;
+    }
+
+    /**
+     * Sets how many bytes followers may append before flushing, even if the max flush delay did not
+     * expire yet.
+     *
+     * @param maxUnflushedBytes the max number of bytes to append before flushing
+     * @return the Raft partition group builder
+     */
+    public Builder withMaxUnflushedBytes(final long maxUnflushedBytes) {
+      config.getStorageConfig().setMaxUnflushedBytes(maxUnflushedBytes);
+      return this;
+    }
+
     /**
      * Sets the Raft snapshot store factory to use.
      *
@@ -19,6 +19,7 @@ package io.atomix.raft.partition;
 import com.esotericsoftware.kryo.serializers.FieldSerializer.Optional;
 import io.atomix.utils.memory.MemorySize;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStoreFactory;
+import java.time.Duration;
 
 /** Raft storage configuration. */
 public class RaftStorageConfig {
@@ -28,10 +29,16 @@ public class RaftStorageConfig {
   private static final boolean DEFAULT_FLUSH_EXPLICITLY = true;
   private static final long DEFAULT_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
+  private static final Duration DEFAULT_MAX_FLUSH_DELAY = Duration.ZERO;
+  private static final long DEFAULT_MAX_UNFLUSHED_BYTES = 1024L * 1024;
+  private static final boolean DEFAULT_PREALLOCATE_SEGMENTS = true;
 
   private String directory;
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private boolean flushExplicitly = DEFAULT_FLUSH_EXPLICITLY;
+  private Duration maxFlushDelay = DEFAULT_MAX_FLUSH_DELAY;
+  private long maxUnflushedBytes = DEFAULT_MAX_UNFLUSHED_BYTES;
+  private boolean preallocateSegments = DEFAULT_PREALLOCATE_SEGMENTS;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
 
@@ -92,6 +99,72 @@ public class RaftStorageConfig {
     return this;
   }
 
+  /**
+   * Returns how long followers may delay flushing appended entries, such that the entries of
+   * several append requests are flushed at once.
+   *
+   * @return the max flush delay
+   */
+  public Duration getMaxFlushDelay() {
+    return maxFlushDelay;
+  }
+
+  /**
+   * Sets how long followers may delay flushing appended entries, such that the entries of several
+   * append requests are flushed at once. Entries are still only acknowledged once flushed. A zero
+   * delay flushes before each acknowledgement.
+   *
+   * @param maxFlushDelay the max flush delay
+   * @return the Raft partition group configuration
+   */
+  public RaftStorageConfig setMaxFlushDelay(final Duration maxFlushDelay) {
+    this.maxFlushDelay = maxFlushDelay;
+    return this;
+  }
+
+  /**
+   * Returns how many bytes followers may append before flushing, even if the max flush delay did
+   * not expire yet.
+   *
+   * @return the max number of unflushed bytes
+   */
+  public long getMaxUnflushedBytes() {
+    return maxUnflushedBytes;
+  }
+
+  /**
+   * Sets how many bytes followers may append before flushing, even if the max flush delay did not
+   * expire yet.
+   *
+   * @param maxUnflushedBytes the max number of unflushed bytes
+   * @return the Raft partition group configuration
+   */
+  public RaftStorageConfig setMaxUnflushedBytes(final long maxUnflushedBytes) {
+    this.maxUnflushedBytes = maxUnflushedBytes;
+    return this;
+  }
+
+  /**
+   * Returns whether the file of the next log segment is prepared in the background.
+   *
+   * @return whether to preallocate segments
+   */
+  public boolean shouldPreallocateSegments() {
+    return preallocateSegments;
+  }
+
+  /**
+   * Sets whether the file of the next log segment is prepared in the background, such that rolling
+   * over to a new segment does not block appends on creating and allocating the file.
+   *
+   * @param preallocateSegments whether to preallocate segments
+   * @return the Raft partition group configuration
+   */
+  public RaftStorageConfig setPreallocateSegments(final boolean preallocateSegments) {
+    this.preallocateSegments = preallocateSegments;
+    return this;
+  }
+
   /**
    * Sets the partition data directory.
    *
@@ -340,6 +340,9 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer>, Health
         .withDirectory(partition.dataDirectory())
         .withMaxSegmentSize((int) storageConfig.getSegmentSize().bytes())
         .withFlushExplicitly(storageConfig.shouldFlushExplicitly())
+        .withMaxFlushDelay(storageConfig.getMaxFlushDelay())
+        .withMaxUnflushedBytes(storageConfig.getMaxUnflushedBytes())
+        .withSegmentPreallocation(storageConfig.shouldPreallocateSegments())
         .withFreeDiskSpace(storageConfig.getFreeDiskSpace())
         .withSnapshotStore(persistedSnapshotStore)
         .withJournalIndexDensity(storageConfig.getJournalIndexDensity())
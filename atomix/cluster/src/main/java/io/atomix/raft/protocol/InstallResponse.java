@@ -16,19 +16,31 @@
  */
 package io.atomix.raft.protocol;
 
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import io.atomix.raft.RaftError;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. The response to the initial request additionally lists the chunks of the latest
+ * snapshot of the receiver, such that the leader can skip sending the chunks it already has.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
-  public InstallResponse(final Status status, final RaftError error) {
+  // the checksums of the chunks of the receiver's latest snapshot by name; a HashMap, as it has to
+  // be serialized
+  private final HashMap<String, Long> availableChunks;
+
+  public InstallResponse(
+      final Status status, final RaftError error, final HashMap<String, Long> availableChunks) {
     super(status, error);
+    this.availableChunks = availableChunks;
   }
 
   /**
@@ -40,13 +52,60 @@ public class InstallResponse extends AbstractRaftResponse {
     return new Builder();
   }
 
+  /**
+   * Returns the checksums of the chunks which the receiver already has, by chunk name. May be
+   * empty, e.g. if the receiver has no snapshot, or if this is not the response to the initial
+   * request.
+   *
+   * @return the checksums of the available chunks by name
+   */
+  public Map<String, Long> availableChunks() {
+    return availableChunks != null ? availableChunks : Map.of();
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), status, availableChunks());
+  }
+
+  @Override
+  public boolean equals(final Object object) {
+    if (object instanceof InstallResponse) {
+      final InstallResponse response = (InstallResponse) object;
+      return response.status == status
+          && Objects.equals(response.error, error)
+          && response.availableChunks().equals(availableChunks());
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    if (status == Status.OK) {
+      return toStringHelper(this)
+          .add("status", status)
+          .add("availableChunks", availableChunks().size())
+          .toString();
+    } else {
+      return toStringHelper(this).add("status", status).add("error", error).toString();
+    }
+  }
+
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
 
+    private HashMap<String, Long> availableChunks;
+
+    public Builder withAvailableChunks(final Map<String, Long> availableChunks) {
+      checkNotNull(availableChunks, "availableChunks cannot be null");
+      this.availableChunks = availableChunks.isEmpty() ? null : new HashMap<>(availableChunks);
+      return this;
+    }
+
     @Override
     public InstallResponse build() {
       validate();
-      return new InstallResponse(status, error);
+      return new InstallResponse(status, error, availableChunks);
     }
   }
 }
@@ -23,6 +23,7 @@ import io.atomix.raft.cluster.impl.DefaultRaftMember;
 import io.atomix.raft.cluster.impl.RaftMemberContext;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.LeaderMetrics;
+import io.atomix.raft.metrics.SnapshotReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
 import io.atomix.raft.protocol.ConfigureRequest;
@@ -51,11 +52,13 @@ import org.slf4j.Logger;
 abstract class AbstractAppender implements AutoCloseable {
 
   protected final int maxBatchSizePerAppend;
+  protected final int maxSnapshotChunkSize;
   protected final Logger log;
   protected final RaftContext raft;
   protected boolean open = true;
 
   private final LeaderMetrics metrics;
+  private final SnapshotReplicationMetrics snapshotReplicationMetrics;
 
   AbstractAppender(final RaftContext raft) {
     this.raft = checkNotNull(raft, "context cannot be null");
@@ -63,7 +66,9 @@ abstract class AbstractAppender implements AutoCloseable {
         ContextualLoggerFactory.getLogger(
             getClass(), LoggerContext.builder(RaftServer.class).addValue(raft.getName()).build());
     metrics = new LeaderMetrics(raft.getName());
+    snapshotReplicationMetrics = new SnapshotReplicationMetrics(raft.getName());
     maxBatchSizePerAppend = raft.getMaxAppendBatchSize();
+    maxSnapshotChunkSize = raft.getMaxSnapshotChunkSize();
   }
 
   /**
@@ -449,6 +454,7 @@ abstract class AbstractAppender implements AutoCloseable {
     if (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()) {
       try {
         final SnapshotChunkReader snapshotChunkReader = persistedSnapshot.newChunkReader();
+        snapshotChunkReader.setMaximumChunkSize(maxSnapshotChunkSize);
         member.setSnapshotChunkReader(snapshotChunkReader);
       } catch (final UncheckedIOException e) {
         log.warn(
@@ -467,6 +473,7 @@ abstract class AbstractAppender implements AutoCloseable {
     }
 
     try {
+      final ByteBuffer chunkId = reader.nextId();
       final SnapshotChunk chunk = reader.next();
 
       // Create the install request, indicating whether this is the last chunk of data based on
@@ -481,7 +488,7 @@ abstract class AbstractAppender implements AutoCloseable {
               .withTerm(persistedSnapshot.getTerm())
               .withVersion(persistedSnapshot.version())
               .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
-              .withChunkId(ByteBuffer.wrap(chunk.getChunkName().getBytes()))
+              .withChunkId(chunkId)
               .withInitial(member.getNextSnapshotChunk() == null)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
@@ -505,6 +512,8 @@ abstract class AbstractAppender implements AutoCloseable {
     member.startInstall();
 
     final long timestamp = System.currentTimeMillis();
+    final int chunkSize = request.data().remaining();
+    snapshotReplicationMetrics.chunkSent(chunkSize);
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
@@ -513,6 +522,7 @@ abstract class AbstractAppender implements AutoCloseable {
             (response, error) -> {
               // Complete the install to the member.
               member.completeInstall();
+              snapshotReplicationMetrics.chunkCompleted(chunkSize);
 
               if (open) {
                 if (error == null) {
@@ -530,13 +540,28 @@ abstract class AbstractAppender implements AutoCloseable {
   /** Handles an install response failure. */
   protected void handleInstallResponseFailure(
       final RaftMemberContext member, final InstallRequest request, final Throwable error) {
-    // Reset the member's snapshot index and offset to resend the snapshot from the start
-    // once a connection to the member is re-established.
-    member.setNextSnapshotIndex(0);
-    member.setNextSnapshotChunk(null);
-
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
+
+    if (member.getNextSnapshotIndex() != request.index()) {
+      // another snapshot is already being sent to the member, or sending it was restarted
+      return;
+    }
+
+    if (member.getNextSnapshotChunk() == null) {
+      // Reset the member's snapshot index and offset to resend the snapshot from the start
+      // once a connection to the member is re-established.
+      member.setNextSnapshotIndex(0);
+    } else {
+      // the following chunks which are still in flight may have been received, but as they are
+      // acknowledged in order we resend all chunks after the last acknowledged one
+      log.debug(
+          "Failed to send snapshot chunk to {}, resending chunks of snapshot {} from the last acknowledged one",
+          member.getMember().memberId(),
+          request.index());
+      member.getSnapshotChunkReader().seek(member.getNextSnapshotChunk());
+      snapshotReplicationMetrics.incrementChunkRetries();
+    }
   }
 
   /** Handles an install response. */
@@ -553,7 +578,6 @@ abstract class AbstractAppender implements AutoCloseable {
   }
 
   /** Handles an OK install response. */
-  @SuppressWarnings("unused")
   protected void handleInstallResponseOk(
       final RaftMemberContext member,
       final InstallRequest request,
@@ -563,15 +587,30 @@ abstract class AbstractAppender implements AutoCloseable {
 
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
-    if (request.complete()) {
+    if (request.complete() && member.getNextSnapshotIndex() == request.index()) {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunk(null);
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
     }
-    // If more install requests remain, increment the member's snapshot offset.
-    else {
+    // If more install requests remain, increment the member's snapshot offset. Several chunks may
+    // be in flight, of which only the next expected one moves the offset forward.
+    else if (isNextExpectedChunk(member, request)) {
       member.setNextSnapshotChunk(request.nextChunkId());
+
+      // The response to the initial request lists the chunks the member already has, which don't
+      // have to be sent again
+      final var availableChunks = response.availableChunks();
+      if (request.isInitial()
+          && !availableChunks.isEmpty()
+          && member.getNextSnapshotIndex() == request.index()) {
+        log.debug(
+            "Member {} has a snapshot with {} chunks, reusing the ones it has in common with snapshot {}",
+            member.getMember().memberId(),
+            availableChunks.size(),
+            request.index());
+        member.getSnapshotChunkReader().reuse(availableChunks);
+      }
     }
 
     // Recursively append entries to the member.
@@ -584,6 +623,17 @@ abstract class AbstractAppender implements AutoCloseable {
       final RaftMemberContext member,
       final InstallRequest request,
       final InstallResponse response) {
+    if (!isNextExpectedChunk(member, request)) {
+      // a chunk following one which failed, or which belongs to a snapshot which is not sent
+      // anymore; the handling of the earlier chunk decides how to continue
+      log.debug(
+          "Ignoring failed install request {} to member {}, with {}",
+          request,
+          member.getMember().memberId(),
+          response.error());
+      return;
+    }
+
     log.warn(
         "Failed to send {} to member {}, with {}. Restart sending snapshot.",
         request,
@@ -594,6 +644,17 @@ abstract class AbstractAppender implements AutoCloseable {
     member.setNextSnapshotChunk(null);
   }
 
+  private boolean isNextExpectedChunk(
+      final RaftMemberContext member, final InstallRequest request) {
+    if (member.getNextSnapshotIndex() != request.index()) {
+      return false;
+    }
+
+    return request.isInitial()
+        ? member.getNextSnapshotChunk() == null
+        : request.chunkId().equals(member.getNextSnapshotChunk());
+  }
+
   @Override
   public void close() {
     open = false;
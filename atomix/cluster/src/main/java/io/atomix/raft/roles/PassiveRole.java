@@ -36,6 +36,7 @@ import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.PersistedRaftRecord;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
+import io.atomix.utils.concurrent.Scheduled;
 import io.atomix.utils.concurrent.ThreadContext;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
@@ -44,6 +45,12 @@ import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.PersistedSnapshotListener;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
@@ -56,6 +63,18 @@ public class PassiveRole extends InactiveRole {
   private ReceivedSnapshot pendingSnapshot;
   private PersistedSnapshotListener snapshotListener;
   private ByteBuffer nextPendingSnapshotChunkId;
+  // the leader resends the chunks following a failed request, some of which may have been received
+  private final Set<ByteBuffer> receivedSnapshotChunkIds = new HashSet<>();
+
+  // appends which are written to the log but not yet flushed; they are only acknowledged once the
+  // log was flushed, which happens at the latest after the configured max flush delay
+  private final List<DeferredAppend> deferredAppends = new ArrayList<>();
+  private long unflushedBytes;
+  private Scheduled deferredFlushTimer;
+  // the log is flushed at most once per max flush delay; an append received after a longer idle
+  // period is flushed right away, such that a low append rate does not pay the delay
+  private boolean hasFlushed;
+  private long lastFlushNanos;
 
   public PassiveRole(final RaftContext context) {
     super(context);
@@ -76,6 +95,7 @@ public class PassiveRole extends InactiveRole {
 
   @Override
   public CompletableFuture<Void> stop() {
+    flushDeferredAppends();
     abortPendingSnapshots();
     if (snapshotListener != null) {
       raft.getPersistedSnapshotStore().removeSnapshotListener(snapshotListener);
@@ -227,6 +247,11 @@ public class PassiveRole extends InactiveRole {
       // listeners in advance so that they can close all consumers of the log.
       raft.notifySnapshotReplicationStarted();
     } else {
+      if (receivedSnapshotChunkIds.contains(request.chunkId())) {
+        log.debug("Ignoring snapshot chunk {} which was already received", snapshotChunk);
+        return CompletableFuture.completedFuture(logResponse(newInstallResponseOk(request)));
+      }
+
       // fail the request if this is not the expected next chunk
       if (!isExpectedChunk(request.chunkId())) {
         return CompletableFuture.completedFuture(
@@ -284,15 +309,32 @@ public class PassiveRole extends InactiveRole {
 
       pendingSnapshot = null;
       pendingSnapshotStartTimestamp = 0L;
+      receivedSnapshotChunkIds.clear();
       snapshotReplicationMetrics.decrementCount();
       snapshotReplicationMetrics.observeDuration(elapsed);
       onSnapshotReceiveCompletedOrAborted();
     } else {
+      receivedSnapshotChunkIds.add(request.chunkId());
       setNextExpected(request.nextChunkId());
     }
 
-    return CompletableFuture.completedFuture(
-        logResponse(InstallResponse.builder().withStatus(RaftResponse.Status.OK).build()));
+    return CompletableFuture.completedFuture(logResponse(newInstallResponseOk(request)));
+  }
+
+  private InstallResponse newInstallResponseOk(final InstallRequest request) {
+    final var response = InstallResponse.builder().withStatus(RaftResponse.Status.OK);
+    if (request.isInitial() && !request.complete()) {
+      // let the leader skip the remaining chunks which we already have
+      response.withAvailableChunks(getAvailableSnapshotChunks());
+    }
+    return response.build();
+  }
+
+  private Map<String, Long> getAvailableSnapshotChunks() {
+    return raft.getPersistedSnapshotStore()
+        .getLatestSnapshot()
+        .map(PersistedSnapshot::getChunkChecksums)
+        .orElse(Map.of());
   }
 
   @Override
@@ -380,6 +422,7 @@ public class PassiveRole extends InactiveRole {
       }
       pendingSnapshot = null;
       pendingSnapshotStartTimestamp = 0L;
+      receivedSnapshotChunkIds.clear();
 
       snapshotReplicationMetrics.decrementCount();
       onSnapshotReceiveCompletedOrAborted();
@@ -527,6 +570,7 @@ public class PassiveRole extends InactiveRole {
 
     // Track the last log index while entries are appended.
     long lastLogIndex = request.prevLogIndex();
+    long appendedBytes = 0;
 
     if (!request.entries().isEmpty()) {
 
@@ -535,6 +579,7 @@ public class PassiveRole extends InactiveRole {
       // Reset the log to the previous index plus one.
       if (request.prevLogTerm() == 0) {
         log.debug("Reset first index to {}", request.prevLogIndex() + 1);
+        flushDeferredAppends();
         raft.getLog().reset(request.prevLogIndex() + 1);
       }
 
@@ -550,6 +595,7 @@ public class PassiveRole extends InactiveRole {
           flush(lastLogIndex - 1, request.prevLogIndex());
           return;
         }
+        appendedBytes += entry.approximateSize();
 
         // If the last log index meets the commitIndex, break the append loop to avoid appending
         // uncommitted entries.
@@ -569,6 +615,13 @@ public class PassiveRole extends InactiveRole {
       raft.notifyCommitListeners(commitIndex);
     }
 
+    // With a max flush delay, the flush is shared with the appends received until then; the ack is
+    // deferred until after the flush, as we must only acknowledge what we have persisted
+    if (shouldDeferFlush(lastLogIndex, request.prevLogIndex())) {
+      deferAppend(lastLogIndex, appendedBytes, future);
+      return;
+    }
+
     // Make sure all entries are flushed before ack to ensure we have persisted what we acknowledge
     flush(lastLogIndex, request.prevLogIndex());
 
@@ -578,8 +631,83 @@ public class PassiveRole extends InactiveRole {
 
   private void flush(final long lastWrittenIndex, final long previousEntryIndex) {
     if (raft.getLog().shouldFlushExplicitly() && lastWrittenIndex > previousEntryIndex) {
-      raft.getLog().flush();
-      raft.setLastWrittenIndex(lastWrittenIndex);
+      flushLog(lastWrittenIndex);
+    }
+  }
+
+  private void flushLog(final long lastWrittenIndex) {
+    raft.getLog().flush();
+    raft.setLastWrittenIndex(lastWrittenIndex);
+    hasFlushed = true;
+    lastFlushNanos = System.nanoTime();
+  }
+
+  private boolean shouldDeferFlush(final long lastWrittenIndex, final long previousEntryIndex) {
+    final RaftLog raftLog = raft.getLog();
+    final Duration maxFlushDelay = raftLog.getMaxFlushDelay();
+    if (!raftLog.shouldFlushExplicitly() || maxFlushDelay.isZero() || maxFlushDelay.isNegative()) {
+      return false;
+    }
+
+    // even if nothing was appended, the response must not overtake the deferred ones, as it
+    // acknowledges the same entries
+    if (!deferredAppends.isEmpty()) {
+      return true;
+    }
+
+    return lastWrittenIndex > previousEntryIndex && getRemainingFlushDelay(maxFlushDelay) > 0;
+  }
+
+  private long getRemainingFlushDelay(final Duration maxFlushDelay) {
+    if (!hasFlushed) {
+      return 0;
+    }
+
+    final long sinceLastFlush = System.nanoTime() - lastFlushNanos;
+    return Math.max(0, maxFlushDelay.toNanos() - sinceLastFlush);
+  }
+
+  private void deferAppend(
+      final long lastLogIndex,
+      final long appendedBytes,
+      final CompletableFuture<AppendResponse> future) {
+    deferredAppends.add(new DeferredAppend(lastLogIndex, future));
+    unflushedBytes += appendedBytes;
+
+    if (unflushedBytes >= raft.getLog().getMaxUnflushedBytes()) {
+      flushDeferredAppends();
+    } else if (deferredFlushTimer == null) {
+      final long remainingDelay = getRemainingFlushDelay(raft.getLog().getMaxFlushDelay());
+      deferredFlushTimer =
+          raft.getThreadContext()
+              .schedule(Duration.ofNanos(remainingDelay), this::flushDeferredAppends);
+    }
+  }
+
+  /**
+   * Flushes the log and acknowledges all deferred appends. Must be called before the log is
+   * truncated or reset, and before any other append response is sent, such that we never
+   * acknowledge entries which were not flushed.
+   */
+  private void flushDeferredAppends() {
+    if (deferredFlushTimer != null) {
+      deferredFlushTimer.cancel();
+      deferredFlushTimer = null;
+    }
+
+    if (deferredAppends.isEmpty()) {
+      return;
+    }
+
+    final long lastWrittenIndex = deferredAppends.get(deferredAppends.size() - 1).lastLogIndex;
+    flushLog(lastWrittenIndex);
+
+    // copy, since completing the futures may trigger new appends
+    final List<DeferredAppend> flushedAppends = new ArrayList<>(deferredAppends);
+    deferredAppends.clear();
+    unflushedBytes = 0;
+    for (final DeferredAppend append : flushedAppends) {
+      respondToAppend(true, append.lastLogIndex, append.future);
     }
   }
 
@@ -601,6 +729,7 @@ public class PassiveRole extends InactiveRole {
         // If the last entry term doesn't match the leader's term for the same entry, truncate
         // the log and append the leader's entry.
         if (lastEntry.term() != entry.term()) {
+          flushDeferredAppends();
           raft.getLog().deleteAfter(index - 1);
           raft.getLog().flush();
           raft.setLastWrittenIndex(index - 1);
@@ -654,6 +783,7 @@ public class PassiveRole extends InactiveRole {
       // truncate
       // the log and append the leader's entry.
       if (existingEntry.term() != entry.term()) {
+        flushDeferredAppends();
         raft.getLog().deleteAfter(index - 1);
         raft.getLog().flush();
         raft.setLastWrittenIndex(index - 1);
@@ -730,6 +860,16 @@ public class PassiveRole extends InactiveRole {
       final boolean succeeded,
       final long lastLogIndex,
       final CompletableFuture<AppendResponse> future) {
+    // deferred appends are acknowledged first, such that responses are sent in the order in which
+    // the requests were received
+    flushDeferredAppends();
+    return respondToAppend(succeeded, lastLogIndex, future);
+  }
+
+  private boolean respondToAppend(
+      final boolean succeeded,
+      final long lastLogIndex,
+      final CompletableFuture<AppendResponse> future) {
     future.complete(
         logResponse(
             AppendResponse.builder()
@@ -742,6 +882,17 @@ public class PassiveRole extends InactiveRole {
     return succeeded;
   }
 
+  private static final class DeferredAppend {
+    private final long lastLogIndex;
+    private final CompletableFuture<AppendResponse> future;
+
+    private DeferredAppend(
+        final long lastLogIndex, final CompletableFuture<AppendResponse> future) {
+      this.lastLogIndex = lastLogIndex;
+      this.future = future;
+    }
+  }
+
   private static final class ResetWriterSnapshotListener implements PersistedSnapshotListener {
 
     private final ThreadContext threadContext;
@@ -30,6 +30,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 
 /**
  * Immutable log configuration and {@link RaftLog} factory.
@@ -55,6 +56,9 @@ public final class RaftStorage {
   private final int maxSegmentSize;
   private final long freeDiskSpace;
   private final boolean flushExplicitly;
+  private final Duration maxFlushDelay;
+  private final long maxUnflushedBytes;
+  private final boolean preallocateSegments;
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final int journalIndexDensity;
 
@@ -64,6 +68,9 @@ public final class RaftStorage {
       final int maxSegmentSize,
       final long freeDiskSpace,
       final boolean flushExplicitly,
+      final Duration maxFlushDelay,
+      final long maxUnflushedBytes,
+      final boolean preallocateSegments,
       final ReceivableSnapshotStore persistedSnapshotStore,
       final int journalIndexDensity) {
     this.prefix = prefix;
@@ -71,6 +78,9 @@ public final class RaftStorage {
     this.maxSegmentSize = maxSegmentSize;
     this.freeDiskSpace = freeDiskSpace;
     this.flushExplicitly = flushExplicitly;
+    this.maxFlushDelay = maxFlushDelay;
+    this.maxUnflushedBytes = maxUnflushedBytes;
+    this.preallocateSegments = preallocateSegments;
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
 
@@ -170,6 +180,9 @@ public final class RaftStorage {
         .withMaxSegmentSize(maxSegmentSize)
         .withFreeDiskSpace(freeDiskSpace)
         .withFlushExplicitly(flushExplicitly)
+        .withMaxFlushDelay(maxFlushDelay)
+        .withMaxUnflushedBytes(maxUnflushedBytes)
+        .withSegmentPreallocation(preallocateSegments)
         .withJournalIndexDensity(journalIndexDensity)
         .withLastWrittenIndex(lastWrittenIndex)
         .build();
@@ -218,12 +231,17 @@ public final class RaftStorage {
     private static final long DEFAULT_FREE_DISK_SPACE = 1024L * 1024 * 1024;
     private static final boolean DEFAULT_FLUSH_EXPLICITLY = true;
     private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
+    private static final Duration DEFAULT_MAX_FLUSH_DELAY = Duration.ZERO;
+    private static final long DEFAULT_MAX_UNFLUSHED_BYTES = 1024L * 1024;
 
     private String prefix = DEFAULT_PREFIX;
     private File directory = new File(DEFAULT_DIRECTORY);
     private int maxSegmentSize = DEFAULT_MAX_SEGMENT_SIZE;
     private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
     private boolean flushExplicitly = DEFAULT_FLUSH_EXPLICITLY;
+    private Duration maxFlushDelay = DEFAULT_MAX_FLUSH_DELAY;
+    private long maxUnflushedBytes = DEFAULT_MAX_UNFLUSHED_BYTES;
+    private boolean preallocateSegments;
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
 
@@ -300,6 +318,44 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets how long followers may delay flushing appended entries, such that the entries of several
+     * append requests are flushed at once. Entries are still only acknowledged once flushed. A zero
+     * delay flushes before each acknowledgement.
+     *
+     * @param maxFlushDelay the max delay between appending and flushing an entry
+     * @return the storage builder.
+     */
+    public Builder withMaxFlushDelay(final Duration maxFlushDelay) {
+      this.maxFlushDelay = checkNotNull(maxFlushDelay, "maxFlushDelay cannot be null");
+      return this;
+    }
+
+    /**
+     * Sets how many bytes followers may append before flushing, even if the max flush delay did not
+     * expire yet.
+     *
+     * @param maxUnflushedBytes the max number of bytes to append before flushing
+     * @return the storage builder.
+     */
+    public Builder withMaxUnflushedBytes(final long maxUnflushedBytes) {
+      checkArgument(maxUnflushedBytes > 0, "maxUnflushedBytes must be positive");
+      this.maxUnflushedBytes = maxUnflushedBytes;
+      return this;
+    }
+
+    /**
+     * Sets whether the file of the next log segment is prepared in the background, such that
+     * rolling over to a new segment does not block appends on creating and allocating the file.
+     *
+     * @param preallocateSegments true to prepare the next segment file in the background
+     * @return the storage builder.
+     */
+    public Builder withSegmentPreallocation(final boolean preallocateSegments) {
+      this.preallocateSegments = preallocateSegments;
+      return this;
+    }
+
     /**
      * Sets the snapshot store to use for remote snapshot installation.
      *
@@ -329,6 +385,9 @@ public final class RaftStorage {
           maxSegmentSize,
           freeDiskSpace,
           flushExplicitly,
+          maxFlushDelay,
+          maxUnflushedBytes,
+          preallocateSegments,
           persistedSnapshotStore,
           journalIndexDensity);
     }
@@ -25,6 +25,7 @@ import io.atomix.raft.storage.serializer.RaftEntrySerializer;
 import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.journal.JournalRecord;
 import java.io.Closeable;
+import java.time.Duration;
 import org.agrona.CloseHelper;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -35,15 +36,23 @@ public final class RaftLog implements Closeable {
   private final Journal journal;
   private final RaftEntrySerializer serializer = new RaftEntrySBESerializer();
   private final boolean flushExplicitly;
+  private final Duration maxFlushDelay;
+  private final long maxUnflushedBytes;
 
   private IndexedRaftLogEntry lastAppendedEntry;
   private volatile long commitIndex;
 
   private final MutableDirectBuffer writeBuffer = new ExpandableArrayBuffer(4 * 1024);
 
-  RaftLog(final Journal journal, final boolean flushExplicitly) {
+  RaftLog(
+      final Journal journal,
+      final boolean flushExplicitly,
+      final Duration maxFlushDelay,
+      final long maxUnflushedBytes) {
     this.journal = journal;
     this.flushExplicitly = flushExplicitly;
+    this.maxFlushDelay = maxFlushDelay;
+    this.maxUnflushedBytes = maxUnflushedBytes;
   }
 
   /**
@@ -110,6 +119,27 @@ public final class RaftLog implements Closeable {
     return flushExplicitly;
   }
 
+  /**
+   * Returns how long a follower may delay flushing appended entries, and thus acknowledging them,
+   * in order to flush the entries of several append requests at once. A zero delay means the
+   * entries are flushed before each acknowledgement.
+   *
+   * @return the max flush delay
+   */
+  public Duration getMaxFlushDelay() {
+    return maxFlushDelay;
+  }
+
+  /**
+   * Returns how many bytes a follower may append before it flushes, regardless of the {@link
+   * #getMaxFlushDelay() max flush delay}.
+   *
+   * @return the max number of unflushed bytes
+   */
+  public long getMaxUnflushedBytes() {
+    return maxUnflushedBytes;
+  }
+
   public long getFirstIndex() {
     return journal.getFirstIndex();
   }
@@ -211,6 +241,10 @@ public final class RaftLog implements Closeable {
         + serializer
         + ", flushExplicitly="
         + flushExplicitly
+        + ", maxFlushDelay="
+        + maxFlushDelay
+        + ", maxUnflushedBytes="
+        + maxUnflushedBytes
         + ", lastAppendedEntry="
         + lastAppendedEntry
         + ", commitIndex="
@@ -19,11 +19,14 @@ import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.journal.file.SegmentedJournal;
 import io.camunda.zeebe.journal.file.SegmentedJournalBuilder;
 import java.io.File;
+import java.time.Duration;
 
 public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
 
   private final SegmentedJournalBuilder journalBuilder = SegmentedJournal.builder();
   private boolean flushExplicitly = true;
+  private Duration maxFlushDelay = Duration.ZERO;
+  private long maxUnflushedBytes = 1024 * 1024;
 
   protected RaftLogBuilder() {}
 
@@ -98,6 +101,39 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets how long followers may delay flushing appended entries, returning the builder for
+   * chaining.
+   *
+   * <p>With a positive delay, followers defer the flush and the acknowledgement of an append
+   * request, such that the entries of all append requests received within the delay are flushed at
+   * once. Entries are still only acknowledged after they were flushed. Followers flush at most once
+   * per delay, so entries received after a longer idle period are flushed right away. The leader is
+   * not affected, as it flushes whenever the commit index advances. Only applies if {@link
+   * #withFlushExplicitly(boolean) explicit flushing} is enabled; a zero delay flushes before each
+   * acknowledgement.
+   *
+   * @param maxFlushDelay the max delay between appending and flushing an entry
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withMaxFlushDelay(final Duration maxFlushDelay) {
+    this.maxFlushDelay = maxFlushDelay;
+    return this;
+  }
+
+  /**
+   * Sets how many bytes followers may append before flushing, even if the {@link
+   * #withMaxFlushDelay(Duration) max flush delay} did not expire yet, returning the builder for
+   * chaining.
+   *
+   * @param maxUnflushedBytes the max number of bytes to append before flushing
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withMaxUnflushedBytes(final long maxUnflushedBytes) {
+    this.maxUnflushedBytes = maxUnflushedBytes;
+    return this;
+  }
+
   /**
    * Sets the index density of the journal.
    *
@@ -113,6 +149,18 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets whether the file of the next journal segment is prepared in the background, such that
+   * rolling over to a new segment does not block appends on creating and allocating the file.
+   *
+   * @param preallocateSegments true to prepare the next segment file in the background
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withSegmentPreallocation(final boolean preallocateSegments) {
+    journalBuilder.withSegmentPreallocation(preallocateSegments);
+    return this;
+  }
+
   public RaftLogBuilder withLastWrittenIndex(final long lastWrittenIndex) {
     journalBuilder.withLastWrittenIndex(lastWrittenIndex);
     return this;
@@ -121,6 +169,6 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
   @Override
   public RaftLog build() {
     final Journal journal = journalBuilder.build();
-    return new RaftLog(journal, flushExplicitly);
+    return new RaftLog(journal, flushExplicitly, maxFlushDelay, maxUnflushedBytes);
   }
 }
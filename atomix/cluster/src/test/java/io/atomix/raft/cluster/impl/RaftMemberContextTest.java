@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.RaftMember.Type;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RaftMemberContextTest {
+
+  private RaftMemberContext member;
+
+  @Before
+  public void setup() {
+    member =
+        new RaftMemberContext(
+            new DefaultRaftMember(new MemberId("1"), Type.ACTIVE, Instant.now()),
+            mock(RaftClusterContext.class),
+            2,
+            3);
+  }
+
+  @Test
+  public void shouldInstallFirstSnapshotChunkAlone() {
+    // when
+    member.startInstall();
+
+    // then
+    assertThat(member.canInstall()).isFalse();
+  }
+
+  @Test
+  public void shouldInstallSnapshotChunksUpToMaximumInFlight() {
+    // given
+    member.setNextSnapshotChunk(ByteBuffer.wrap("file1".getBytes()));
+
+    // when
+    member.startInstall();
+    member.startInstall();
+
+    // then
+    assertThat(member.canInstall()).isTrue();
+    member.startInstall();
+    assertThat(member.canInstall()).isFalse();
+    member.completeInstall();
+    assertThat(member.canInstall()).isTrue();
+  }
+}
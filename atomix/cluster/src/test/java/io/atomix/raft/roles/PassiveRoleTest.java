@@ -16,33 +16,55 @@
 package io.atomix.raft.roles;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.impl.RaftClusterContext;
 import io.atomix.raft.impl.RaftContext;
 import io.atomix.raft.metrics.RaftReplicationMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.PersistedRaftRecord;
 import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.ThreadContext;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
+import io.camunda.zeebe.snapshots.ReceivedSnapshot;
+import io.camunda.zeebe.snapshots.SnapshotChunk;
+import io.camunda.zeebe.util.sched.future.CompletableActorFuture;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.Timeout;
+import org.mockito.ArgumentCaptor;
 
 public class PassiveRoleTest {
 
@@ -50,6 +72,8 @@ public class PassiveRoleTest {
   private RaftLog log;
   private PassiveRole role;
   private RaftContext ctx;
+  private PersistedSnapshot snapshot;
+  private ReceivableSnapshotStore store;
 
   @Before
   public void setup() throws IOException {
@@ -57,13 +81,15 @@ public class PassiveRoleTest {
 
     log = mock(RaftLog.class);
     when(log.shouldFlushExplicitly()).thenReturn(true);
+    when(log.getMaxFlushDelay()).thenReturn(Duration.ZERO);
+    when(log.getMaxUnflushedBytes()).thenReturn(1024L * 1024);
     when(ctx.getLog()).thenReturn(log);
 
-    final PersistedSnapshot snapshot = mock(PersistedSnapshot.class);
+    snapshot = mock(PersistedSnapshot.class);
     when(snapshot.getIndex()).thenReturn(1L);
     when(snapshot.getTerm()).thenReturn(1L);
 
-    final ReceivableSnapshotStore store = mock(ReceivableSnapshotStore.class);
+    store = mock(ReceivableSnapshotStore.class);
     when(store.getLatestSnapshot()).thenReturn(Optional.of(snapshot));
 
     final RaftStorage storage = mock(RaftStorage.class);
@@ -71,6 +97,7 @@ public class PassiveRoleTest {
     when(ctx.getLog()).thenReturn(log);
     when(ctx.getPersistedSnapshotStore()).thenReturn(store);
     when(ctx.getTerm()).thenReturn(1L);
+    when(ctx.getCluster()).thenReturn(mock(RaftClusterContext.class));
     when(ctx.getReplicationMetrics()).thenReturn(mock(RaftReplicationMetrics.class));
 
     role = new PassiveRole(ctx);
@@ -221,4 +248,231 @@ public class PassiveRoleTest {
     // then
     verify(ctx).setLastWrittenIndex(eq(1L));
   }
+
+  @Test
+  public void shouldFlushAppendImmediatelyIfNotFlushedWithinMaxFlushDelay() {
+    // given
+    final ArgumentCaptor<Runnable> deferredFlush = enableDeferredFlush(1024);
+    final List<String> events = recordLogEvents();
+
+    // when
+    final CompletableFuture<AppendResponse> response = appendEntry(1, events);
+
+    // then
+    assertThat(response).isCompleted();
+    assertThat(response.join().succeeded()).isTrue();
+    assertThat(deferredFlush.getAllValues()).isEmpty();
+    assertThat(events).containsExactly("append-1", "flush", "ack-1");
+    verify(ctx).setLastWrittenIndex(eq(1L));
+  }
+
+  @Test
+  public void shouldDeferAcknowledgementUntilFlushed() {
+    // given
+    final ArgumentCaptor<Runnable> deferredFlush = enableDeferredFlush(1024);
+    final List<String> events = recordLogEvents();
+    appendEntry(1, events).join();
+
+    // when
+    final CompletableFuture<AppendResponse> secondResponse = appendEntry(2, events);
+    final CompletableFuture<AppendResponse> thirdResponse = appendEntry(3, events);
+
+    // then
+    assertThat(secondResponse).isNotDone();
+    assertThat(thirdResponse).isNotDone();
+    verify(log, times(1)).flush();
+    verify(ctx, never()).setLastWrittenIndex(eq(3L));
+
+    // when
+    deferredFlush.getValue().run();
+
+    // then
+    assertThat(events)
+        .containsExactly(
+            "append-1", "flush", "ack-1", "append-2", "append-3", "flush", "ack-2", "ack-3");
+    verify(ctx).setLastWrittenIndex(eq(3L));
+    assertThat(thirdResponse.join().succeeded()).isTrue();
+    assertThat(thirdResponse.join().lastLogIndex()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldFlushImmediatelyWhenMaxUnflushedBytesIsReached() {
+    // given
+    final ArgumentCaptor<Runnable> deferredFlush = enableDeferredFlush(1);
+    final List<String> events = recordLogEvents();
+    appendEntry(1, events).join();
+
+    // when
+    final AppendResponse response = appendEntry(2, events).join();
+
+    // then
+    assertThat(deferredFlush.getAllValues()).isEmpty();
+    assertThat(events).containsExactly("append-1", "flush", "ack-1", "append-2", "flush", "ack-2");
+    verify(ctx).setLastWrittenIndex(eq(2L));
+    assertThat(response.lastLogIndex()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldAcknowledgeDeferredAppendsBeforeRejectingRequest() {
+    // given
+    enableDeferredFlush(1024);
+    final List<String> events = recordLogEvents();
+    appendEntry(1, events).join();
+    final CompletableFuture<AppendResponse> deferredResponse = appendEntry(2, events);
+
+    // when - a request with an outdated term is rejected
+    final AppendResponse rejectedResponse =
+        role.handleAppend(new AppendRequest(0, "", 0, 0, List.of(), 0)).join();
+
+    // then
+    assertThat(rejectedResponse.succeeded()).isFalse();
+    assertThat(deferredResponse.join().succeeded()).isTrue();
+    assertThat(events).containsExactly("append-1", "flush", "ack-1", "append-2", "flush", "ack-2");
+  }
+
+  private ArgumentCaptor<Runnable> enableDeferredFlush(final long maxUnflushedBytes) {
+    final ThreadContext threadContext = mock(ThreadContext.class);
+    final ArgumentCaptor<Runnable> deferredFlush = ArgumentCaptor.forClass(Runnable.class);
+    when(threadContext.schedule(any(Duration.class), deferredFlush.capture()))
+        .thenReturn(mock(Scheduled.class));
+    when(ctx.getThreadContext()).thenReturn(threadContext);
+    when(log.getMaxFlushDelay()).thenReturn(Duration.ofMinutes(1));
+    when(log.getMaxUnflushedBytes()).thenReturn(maxUnflushedBytes);
+    return deferredFlush;
+  }
+
+  /**
+   * Records appends to and flushes of the log, such that tests can verify that entries are only
+   * acknowledged after they were flushed.
+   */
+  private List<String> recordLogEvents() {
+    final List<String> events = new ArrayList<>();
+    final AtomicReference<IndexedRaftLogEntry> lastEntry = new AtomicReference<>();
+    when(log.getLastEntry()).thenAnswer(invocation -> lastEntry.get());
+    when(log.append(any(PersistedRaftRecord.class)))
+        .thenAnswer(
+            invocation -> {
+              final PersistedRaftRecord record = invocation.getArgument(0);
+              final IndexedRaftLogEntry entry = mock(IndexedRaftLogEntry.class);
+              when(entry.index()).thenReturn(record.index());
+              when(entry.term()).thenReturn(record.term());
+              lastEntry.set(entry);
+              events.add("append-" + record.index());
+              return entry;
+            });
+    doAnswer(invocation -> events.add("flush")).when(log).flush();
+    return events;
+  }
+
+  private CompletableFuture<AppendResponse> appendEntry(
+      final long index, final List<String> events) {
+    final var entry = new PersistedRaftRecord(1, index, index, 1, new byte[1]);
+    final long prevLogTerm = index == 1 ? 0 : 1;
+    final var request = new AppendRequest(1, "", index - 1, prevLogTerm, List.of(entry), 0);
+    return role.handleAppend(request)
+        .thenApply(
+            response -> {
+              events.add("ack-" + response.lastLogIndex());
+              return response;
+            });
+  }
+
+  @Test
+  public void shouldRespondWithAvailableChunksToInitialInstallRequest() {
+    // given
+    when(snapshot.getChunkChecksums()).thenReturn(Map.of("file1", 1L, "file2", 2L));
+    final ReceivedSnapshot receivedSnapshot = mock(ReceivedSnapshot.class);
+    when(receivedSnapshot.index()).thenReturn(2L);
+    when(receivedSnapshot.apply(any())).thenReturn(CompletableActorFuture.completed(null));
+    when(store.newReceivedSnapshot(any())).thenReturn(receivedSnapshot);
+
+    // when
+    final InstallResponse response =
+        role.onInstall(newInstallRequest("file1", "file2", true)).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.OK);
+    assertThat(response.availableChunks()).containsOnly(entry("file1", 1L), entry("file2", 2L));
+  }
+
+  @Test
+  public void shouldNotRespondWithAvailableChunksToSubsequentInstallRequest() {
+    // given
+    when(snapshot.getChunkChecksums()).thenReturn(Map.of("file1", 1L));
+    final ReceivedSnapshot receivedSnapshot = mock(ReceivedSnapshot.class);
+    when(receivedSnapshot.index()).thenReturn(2L);
+    when(receivedSnapshot.apply(any())).thenReturn(CompletableActorFuture.completed(null));
+    when(store.newReceivedSnapshot(any())).thenReturn(receivedSnapshot);
+    role.onInstall(newInstallRequest("file1", "file2", true)).join();
+
+    // when
+    final InstallResponse response =
+        role.onInstall(newInstallRequest("file2", "file3", false)).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.OK);
+    assertThat(response.availableChunks()).isEmpty();
+  }
+
+  @Test
+  public void shouldAcceptSnapshotChunkWhichWasAlreadyReceived() {
+    // given
+    final ReceivedSnapshot receivedSnapshot = mock(ReceivedSnapshot.class);
+    when(receivedSnapshot.index()).thenReturn(2L);
+    when(receivedSnapshot.apply(any())).thenReturn(CompletableActorFuture.completed(null));
+    when(store.newReceivedSnapshot(any())).thenReturn(receivedSnapshot);
+    role.onInstall(newInstallRequest("file1", "file2", true)).join();
+    role.onInstall(newInstallRequest("file2", "file3", false)).join();
+
+    // when - the leader resends the chunks following a failed request
+    final InstallResponse response =
+        role.onInstall(newInstallRequest("file2", "file3", false)).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.OK);
+    verify(receivedSnapshot, times(2)).apply(any());
+  }
+
+  @Test
+  public void shouldRejectSnapshotChunkReceivedOutOfOrder() {
+    // given
+    final ReceivedSnapshot receivedSnapshot = mock(ReceivedSnapshot.class);
+    when(receivedSnapshot.index()).thenReturn(2L);
+    when(receivedSnapshot.apply(any())).thenReturn(CompletableActorFuture.completed(null));
+    when(store.newReceivedSnapshot(any())).thenReturn(receivedSnapshot);
+    role.onInstall(newInstallRequest("file1", "file2", true)).join();
+
+    // when
+    final InstallResponse response =
+        role.onInstall(newInstallRequest("file3", "file4", false)).join();
+
+    // then
+    assertThat(response.status()).isEqualTo(Status.ERROR);
+    verify(receivedSnapshot, times(1)).apply(any());
+  }
+
+  private InstallRequest newInstallRequest(
+      final String chunkName, final String nextChunkName, final boolean initial) {
+    final SnapshotChunk chunk = mock(SnapshotChunk.class);
+    when(chunk.getSnapshotId()).thenReturn("2-1-1-1");
+    when(chunk.getChunkName()).thenReturn(chunkName);
+    when(chunk.getContent()).thenReturn(new byte[0]);
+    when(chunk.getTotalCount()).thenReturn(3);
+    final var chunkImpl = new SnapshotChunkImpl(chunk);
+    final var data = ByteBuffer.allocate(chunkImpl.getLength());
+    chunkImpl.write(new UnsafeBuffer(data), 0);
+
+    return InstallRequest.builder()
+        .withCurrentTerm(1)
+        .withLeader(new MemberId("leader"))
+        .withIndex(2)
+        .withTerm(1)
+        .withVersion(1)
+        .withChunkId(ByteBuffer.wrap(chunkName.getBytes()))
+        .withNextChunkId(ByteBuffer.wrap(nextChunkName.getBytes()))
+        .withData(data)
+        .withInitial(initial)
+        .withComplete(false)
+        .build();
+  }
 }
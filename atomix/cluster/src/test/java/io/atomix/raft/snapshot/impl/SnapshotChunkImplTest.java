@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.snapshot.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.snapshots.SnapshotChunk;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class SnapshotChunkImplTest {
+
+  @Test
+  public void shouldEncodeFileBlock() {
+    // given
+    final SnapshotChunk chunk = mock(SnapshotChunk.class);
+    when(chunk.getSnapshotId()).thenReturn("1-1-1-1");
+    when(chunk.getChunkName()).thenReturn("file");
+    when(chunk.getTotalCount()).thenReturn(2);
+    when(chunk.getChecksum()).thenReturn(3L);
+    when(chunk.getSnapshotChecksum()).thenReturn(4L);
+    when(chunk.getContent()).thenReturn("block".getBytes());
+    when(chunk.getFileBlockPosition()).thenReturn(5L);
+    when(chunk.getTotalFileSize()).thenReturn(10L);
+
+    // when
+    final var decoded = new SnapshotChunkImpl();
+    decoded.wrap(new UnsafeBuffer(new SnapshotChunkImpl(chunk).toByteBuffer()));
+
+    // then
+    assertThat(decoded.getSnapshotId()).isEqualTo("1-1-1-1");
+    assertThat(decoded.getChunkName()).isEqualTo("file");
+    assertThat(decoded.getTotalCount()).isEqualTo(2);
+    assertThat(decoded.getChecksum()).isEqualTo(3L);
+    assertThat(decoded.getSnapshotChecksum()).isEqualTo(4L);
+    assertThat(decoded.getContent()).isEqualTo("block".getBytes());
+    assertThat(decoded.getFileBlockPosition()).isEqualTo(5L);
+    assertThat(decoded.getTotalFileSize()).isEqualTo(10L);
+    assertThat(decoded.isReused()).isFalse();
+  }
+}
@@ -32,6 +32,7 @@ import io.camunda.zeebe.journal.Journal;
 import java.io.File;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Set;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -208,7 +209,7 @@ class RaftLogTest {
   void shouldFlushWhenFlushExplicitlyTrue() {
     // given
     final Journal journal = mock(Journal.class);
-    final var log = new RaftLog(journal, true);
+    final var log = new RaftLog(journal, true, Duration.ZERO, 1024);
 
     // when
     log.flush();
@@ -221,7 +222,7 @@ class RaftLogTest {
   void shouldNotFlushWhenFlushExplicitlyFalse() {
     // given
     final Journal journal = mock(Journal.class);
-    final var log = new RaftLog(journal, false);
+    final var log = new RaftLog(journal, false, Duration.ZERO, 1024);
 
     // when
     log.flush();
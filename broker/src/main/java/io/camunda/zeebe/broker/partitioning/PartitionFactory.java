@@ -185,6 +185,7 @@ final class PartitionFactory {
     final var databaseCfg = brokerCfg.getExperimental().getRocksdb();
 
     return new StateControllerImpl(
+        raftPartition.id().id(),
         DefaultZeebeDbFactory.defaultFactory(databaseCfg.createRocksDbConfiguration()),
         snapshotStore,
         runtimeDirectory,
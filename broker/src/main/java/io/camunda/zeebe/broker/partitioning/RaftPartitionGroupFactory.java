@@ -67,6 +67,8 @@ final class RaftPartitionGroupFactory {
             .withMaxAppendsPerFollower(experimentalCfg.getMaxAppendsPerFollower())
             .withEntryValidator(new ZeebeEntryValidator())
             .withFlushExplicitly(!experimentalCfg.isDisableExplicitRaftFlush())
+            .withMaxFlushDelay(experimentalCfg.getRaft().getMaxFlushDelay())
+            .withMaxUnflushedBytes(experimentalCfg.getRaft().getMaxUnflushedBytes().toBytes())
             .withFreeDiskSpace(dataCfg.getFreeDiskSpaceReplicationWatermark())
             .withJournalIndexDensity(dataCfg.getLogIndexDensity())
             .withPriorityElection(clusterCfg.getRaft().isEnablePriorityElection())
@@ -77,7 +79,11 @@ final class RaftPartitionGroupFactory {
             .withMaxQuorumResponseTimeout(experimentalCfg.getRaft().getMaxQuorumResponseTimeout())
             .withMinStepDownFailureCount(experimentalCfg.getRaft().getMinStepDownFailureCount())
             .withPreferSnapshotReplicationThreshold(
-                experimentalCfg.getRaft().getPreferSnapshotReplicationThreshold());
+                experimentalCfg.getRaft().getPreferSnapshotReplicationThreshold())
+            .withMaxSnapshotChunkSize(
+                (int) experimentalCfg.getRaft().getMaxSnapshotChunkSize().toBytes())
+            .withMaxSnapshotChunksInFlight(
+                experimentalCfg.getRaft().getMaxSnapshotChunksInFlight());
 
     final int maxMessageSize = (int) networkCfg.getMaxMessageSizeInBytes();
 
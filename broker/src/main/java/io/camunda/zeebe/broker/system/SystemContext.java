@@ -39,6 +39,8 @@ public final class SystemContext {
       "Snapshot period %s needs to be larger then or equals to one minute.";
   private static final String MAX_BATCH_SIZE_ERROR_MSG =
       "Expected to have an append batch size maximum which is non negative and smaller then '%d', but was '%s'.";
+  private static final String MAX_SNAPSHOT_CHUNK_SIZE_ERROR_MSG =
+      "Expected to have a snapshot chunk size maximum which is positive and smaller then '%d', but was '%s'.";
   private static final String REPLICATION_WITH_DISABLED_FLUSH_WARNING =
       "Disabling explicit flushing is an experimental feature and can lead to inconsistencies "
           + "and/or data loss! Please refer to the documentation whether or not you should use this!";
@@ -88,6 +90,14 @@ public final class SystemContext {
           String.format(MAX_BATCH_SIZE_ERROR_MSG, Integer.MAX_VALUE, maxAppendBatchSize));
     }
 
+    final var maxSnapshotChunkSize = experimental.getRaft().getMaxSnapshotChunkSize();
+    if (maxSnapshotChunkSize.toBytes() <= 0
+        || maxSnapshotChunkSize.toBytes() >= Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          String.format(
+              MAX_SNAPSHOT_CHUNK_SIZE_ERROR_MSG, Integer.MAX_VALUE, maxSnapshotChunkSize));
+    }
+
     final int replicationFactor = cluster.getReplicationFactor();
     if (replicationFactor < 1 || replicationFactor > clusterSize) {
       throw new IllegalArgumentException(
@@ -0,0 +1,67 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+public final class ExperimentalProcessingCfg implements ConfigurationEntry {
+
+  private static final boolean DEFAULT_ENABLE_PIPELINING = false;
+  private static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 1;
+  private static final int DEFAULT_REPLAY_PARALLELISM = 1;
+  private static final int DEFAULT_MAX_SCHEDULED_COMMANDS_PER_RUN = 1000;
+
+  private boolean enablePipelining = DEFAULT_ENABLE_PIPELINING;
+  private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private int replayParallelism = DEFAULT_REPLAY_PARALLELISM;
+  private int maxScheduledCommandsPerRun = DEFAULT_MAX_SCHEDULED_COMMANDS_PER_RUN;
+
+  public boolean isEnablePipelining() {
+    return enablePipelining;
+  }
+
+  public void setEnablePipelining(final boolean enablePipelining) {
+    this.enablePipelining = enablePipelining;
+  }
+
+  public int getMaxCommandsInBatch() {
+    return maxCommandsInBatch;
+  }
+
+  public void setMaxCommandsInBatch(final int maxCommandsInBatch) {
+    this.maxCommandsInBatch = maxCommandsInBatch;
+  }
+
+  public int getReplayParallelism() {
+    return replayParallelism;
+  }
+
+  public void setReplayParallelism(final int replayParallelism) {
+    this.replayParallelism = replayParallelism;
+  }
+
+  public int getMaxScheduledCommandsPerRun() {
+    return maxScheduledCommandsPerRun;
+  }
+
+  public void setMaxScheduledCommandsPerRun(final int maxScheduledCommandsPerRun) {
+    this.maxScheduledCommandsPerRun = maxScheduledCommandsPerRun;
+  }
+
+  @Override
+  public String toString() {
+    return "ExperimentalProcessingCfg{"
+        + "enablePipelining="
+        + enablePipelining
+        + ", maxCommandsInBatch="
+        + maxCommandsInBatch
+        + ", replayParallelism="
+        + replayParallelism
+        + ", maxScheduledCommandsPerRun="
+        + maxScheduledCommandsPerRun
+        + '}';
+  }
+}
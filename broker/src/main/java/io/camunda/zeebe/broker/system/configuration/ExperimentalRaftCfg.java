@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import java.time.Duration;
+import org.springframework.util.unit.DataSize;
 
 public final class ExperimentalRaftCfg implements ConfigurationEntry {
 
@@ -15,11 +16,19 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final Duration DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT = Duration.ofSeconds(0);
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final int DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final Duration DEFAULT_MAX_FLUSH_DELAY = Duration.ZERO;
+  private static final DataSize DEFAULT_MAX_UNFLUSHED_BYTES = DataSize.ofMegabytes(1);
+  private static final DataSize DEFAULT_MAX_SNAPSHOT_CHUNK_SIZE = DataSize.ofMegabytes(1);
+  private static final int DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT = 4;
 
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
   private int minStepDownFailureCount = DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT;
   private int preferSnapshotReplicationThreshold = DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD;
+  private Duration maxFlushDelay = DEFAULT_MAX_FLUSH_DELAY;
+  private DataSize maxUnflushedBytes = DEFAULT_MAX_UNFLUSHED_BYTES;
+  private DataSize maxSnapshotChunkSize = DEFAULT_MAX_SNAPSHOT_CHUNK_SIZE;
+  private int maxSnapshotChunksInFlight = DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT;
 
   public Duration getRequestTimeout() {
     return requestTimeout;
@@ -52,4 +61,36 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   public void setPreferSnapshotReplicationThreshold(final int preferSnapshotReplicationThreshold) {
     this.preferSnapshotReplicationThreshold = preferSnapshotReplicationThreshold;
   }
+
+  public Duration getMaxFlushDelay() {
+    return maxFlushDelay;
+  }
+
+  public void setMaxFlushDelay(final Duration maxFlushDelay) {
+    this.maxFlushDelay = maxFlushDelay;
+  }
+
+  public DataSize getMaxUnflushedBytes() {
+    return maxUnflushedBytes;
+  }
+
+  public void setMaxUnflushedBytes(final DataSize maxUnflushedBytes) {
+    this.maxUnflushedBytes = maxUnflushedBytes;
+  }
+
+  public DataSize getMaxSnapshotChunkSize() {
+    return maxSnapshotChunkSize;
+  }
+
+  public void setMaxSnapshotChunkSize(final DataSize maxSnapshotChunkSize) {
+    this.maxSnapshotChunkSize = maxSnapshotChunkSize;
+  }
+
+  public int getMaxSnapshotChunksInFlight() {
+    return maxSnapshotChunksInFlight;
+  }
+
+  public void setMaxSnapshotChunksInFlight(final int maxSnapshotChunksInFlight) {
+    this.maxSnapshotChunksInFlight = maxSnapshotChunksInFlight;
+  }
 }
@@ -8,6 +8,8 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
@@ -25,6 +27,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
       RocksDbConfiguration.DEFAULT_MIN_WRITE_BUFFER_NUMBER_TO_MERGE;
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
+  private boolean enableSeparateColumnFamilies =
+      RocksDbConfiguration.DEFAULT_SEPARATE_COLUMN_FAMILIES_ENABLED;
+  private Map<String, Properties> columnFamilyOptionsOverrides = new HashMap<>();
+  private Map<String, DataSize> columnFamilyCacheSizes = new HashMap<>();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -36,6 +42,11 @@ public final class RocksdbCfg implements ConfigurationEntry {
       // we must do some transformations on the entries of this properties object.
       columnFamilyOptions = initColumnFamilyOptions(columnFamilyOptions);
     }
+
+    final var overrides = new HashMap<String, Properties>();
+    columnFamilyOptionsOverrides.forEach(
+        (name, options) -> overrides.put(name, initColumnFamilyOptions(options)));
+    columnFamilyOptionsOverrides = overrides;
   }
 
   private static Properties initColumnFamilyOptions(final Properties original) {
@@ -110,7 +121,35 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.disableWal = disableWal;
   }
 
+  public boolean isEnableSeparateColumnFamilies() {
+    return enableSeparateColumnFamilies;
+  }
+
+  public void setEnableSeparateColumnFamilies(final boolean enableSeparateColumnFamilies) {
+    this.enableSeparateColumnFamilies = enableSeparateColumnFamilies;
+  }
+
+  public Map<String, Properties> getColumnFamilyOptionsOverrides() {
+    return columnFamilyOptionsOverrides;
+  }
+
+  public void setColumnFamilyOptionsOverrides(
+      final Map<String, Properties> columnFamilyOptionsOverrides) {
+    this.columnFamilyOptionsOverrides = columnFamilyOptionsOverrides;
+  }
+
+  public Map<String, DataSize> getColumnFamilyCacheSizes() {
+    return columnFamilyCacheSizes;
+  }
+
+  public void setColumnFamilyCacheSizes(final Map<String, DataSize> columnFamilyCacheSizes) {
+    this.columnFamilyCacheSizes = columnFamilyCacheSizes;
+  }
+
   public RocksDbConfiguration createRocksDbConfiguration() {
+    final var cacheSizes = new HashMap<String, Long>();
+    columnFamilyCacheSizes.forEach((name, size) -> cacheSizes.put(name, size.toBytes()));
+
     return new RocksDbConfiguration()
         .setColumnFamilyOptions(columnFamilyOptions)
         .setMaxOpenFiles(maxOpenFiles)
@@ -119,7 +158,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setMinWriteBufferNumberToMerge(minWriteBufferNumberToMerge)
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
-        .setWalDisabled(disableWal);
+        .setWalDisabled(disableWal)
+        .setSeparateColumnFamiliesEnabled(enableSeparateColumnFamilies)
+        .setColumnFamilyOptionsOverrides(columnFamilyOptionsOverrides)
+        .setColumnFamilyCacheSizes(cacheSizes);
   }
 
   @Override
@@ -141,6 +183,12 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + ioRateBytesPerSecond
         + ", disableWal="
         + disableWal
+        + ", enableSeparateColumnFamilies="
+        + enableSeparateColumnFamilies
+        + ", columnFamilyOptionsOverrides="
+        + columnFamilyOptionsOverrides
+        + ", columnFamilyCacheSizes="
+        + columnFamilyCacheSizes
         + '}';
   }
 
@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.partitions;
+
+import io.prometheus.client.Gauge;
+
+/**
+ * Measures the phases of recovering the state of a partition before the replay starts. The replay
+ * itself is measured by the engine's replay metrics.
+ */
+public class RecoveryMetrics {
+  private static final String SNAPSHOT_COPY_PHASE = "snapshotCopy";
+  private static final String DB_OPEN_PHASE = "dbOpen";
+
+  private static final Gauge RECOVERY_PHASE_DURATION =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("state_recovery_phase_duration")
+          .help(
+              "The time (in seconds) needed for each phase of recovering the state from the latest snapshot.")
+          .labelNames("partition", "phase")
+          .register();
+
+  private final String partitionIdLabel;
+
+  public RecoveryMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public Gauge.Timer startSnapshotCopyTimer() {
+    return RECOVERY_PHASE_DURATION.labels(partitionIdLabel, SNAPSHOT_COPY_PHASE).startTimer();
+  }
+
+  public Gauge.Timer startDbOpenTimer() {
+    return RECOVERY_PHASE_DURATION.labels(partitionIdLabel, DB_OPEN_PHASE).startTimer();
+  }
+
+  /** Resets the durations of the previous recovery, e.g. if there is no snapshot to copy. */
+  public void reset() {
+    RECOVERY_PHASE_DURATION.labels(partitionIdLabel, SNAPSHOT_COPY_PHASE).set(0);
+    RECOVERY_PHASE_DURATION.labels(partitionIdLabel, DB_OPEN_PHASE).set(0);
+  }
+}
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.system.partitions.impl;
 
 import io.camunda.zeebe.broker.system.partitions.AtomixRecordEntrySupplier;
+import io.camunda.zeebe.broker.system.partitions.RecoveryMetrics;
 import io.camunda.zeebe.broker.system.partitions.StateController;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
@@ -45,8 +46,10 @@ public class StateControllerImpl implements StateController {
 
   private final ConstructableSnapshotStore constructableSnapshotStore;
   private final ConcurrencyControl concurrencyControl;
+  private final RecoveryMetrics recoveryMetrics;
 
   public StateControllerImpl(
+      final int partitionId,
       @SuppressWarnings("rawtypes") final ZeebeDbFactory zeebeDbFactory,
       final ConstructableSnapshotStore constructableSnapshotStore,
       final Path runtimeDirectory,
@@ -59,6 +62,7 @@ public class StateControllerImpl implements StateController {
     this.exporterPositionSupplier = exporterPositionSupplier;
     this.entrySupplier = entrySupplier;
     this.concurrencyControl = concurrencyControl;
+    recoveryMetrics = new RecoveryMetrics(partitionId);
   }
 
   @Override
@@ -109,14 +113,17 @@ public class StateControllerImpl implements StateController {
               "Failed to delete runtime folder. Cannot recover from snapshot.", e));
     }
 
+    recoveryMetrics.reset();
     final var optLatestSnapshot = constructableSnapshotStore.getLatestSnapshot();
     if (optLatestSnapshot.isPresent()) {
       final var snapshot = optLatestSnapshot.get();
       LOG.debug("Recovering state from available snapshot: {}", snapshot);
+      final var snapshotCopyTimer = recoveryMetrics.startSnapshotCopyTimer();
       constructableSnapshotStore
           .copySnapshot(snapshot, runtimeDirectory)
           .onComplete(
               (ok, error) -> {
+                snapshotCopyTimer.setDuration();
                 if (error != null) {
                   future.completeExceptionally(
                       new RuntimeException(
@@ -195,7 +202,9 @@ public class StateControllerImpl implements StateController {
   private void openDb(final ActorFuture<ZeebeDb> future) {
     try {
       if (db == null) {
-        db = zeebeDbFactory.createDb(runtimeDirectory.toFile());
+        try (final var ignored = recoveryMetrics.startDbOpenTimer()) {
+          db = zeebeDbFactory.createDb(runtimeDirectory.toFile());
+        }
         LOG.debug("Opened database from '{}'.", runtimeDirectory);
         future.complete(db);
       }
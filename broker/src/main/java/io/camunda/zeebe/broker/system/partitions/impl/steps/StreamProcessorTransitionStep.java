@@ -123,6 +123,7 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
       final PartitionTransitionContext context, final Role targetRole) {
     final StreamProcessorMode streamProcessorMode =
         targetRole == Role.LEADER ? StreamProcessorMode.PROCESSING : StreamProcessorMode.REPLAY;
+    final var processingCfg = context.getBrokerCfg().getExperimental().getProcessing();
     return StreamProcessor.builder()
         .logStream(context.getLogStream())
         .actorSchedulingService(context.getActorSchedulingService())
@@ -133,6 +134,10 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .listener(processedCommand -> context.getOnProcessedListener().accept(processedCommand))
         .streamProcessorFactory(context.getStreamProcessorFactory())
         .streamProcessorMode(streamProcessorMode)
+        .pipelinedProcessing(processingCfg.isEnablePipelining())
+        .maxCommandsInBatch(processingCfg.getMaxCommandsInBatch())
+        .replayParallelism(processingCfg.getReplayParallelism())
+        .maxScheduledCommandsPerRun(processingCfg.getMaxScheduledCommandsPerRun())
         .build();
   }
 }
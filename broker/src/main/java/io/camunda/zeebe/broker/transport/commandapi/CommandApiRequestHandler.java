@@ -12,6 +12,9 @@ import io.camunda.zeebe.broker.transport.ApiRequestHandler;
 import io.camunda.zeebe.broker.transport.ErrorResponseWriter;
 import io.camunda.zeebe.broker.transport.backpressure.BackpressureMetrics;
 import io.camunda.zeebe.broker.transport.backpressure.RequestLimiter;
+import io.camunda.zeebe.broker.transport.commandapi.CommandBatchResponseCollector.PendingBatch;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchWriter.LogEntryBuilder;
 import io.camunda.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.camunda.zeebe.msgpack.UnpackedObject;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
@@ -20,6 +23,7 @@ import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.util.Either;
 import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.IntArrayList;
 import org.slf4j.Logger;
 
 final class CommandApiRequestHandler
@@ -27,13 +31,18 @@ final class CommandApiRequestHandler
   private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
 
   private final Int2ObjectHashMap<LogStreamRecordWriter> leadingStreams = new Int2ObjectHashMap<>();
+  private final Int2ObjectHashMap<LogStreamBatchWriter> leadingBatchStreams =
+      new Int2ObjectHashMap<>();
   private final Int2ObjectHashMap<RequestLimiter<Intent>> partitionLimiters =
       new Int2ObjectHashMap<>();
   private final BackpressureMetrics metrics = new BackpressureMetrics();
+  private final IntArrayList unwrittenCommands = new IntArrayList();
+  private final CommandBatchResponseCollector batchResponses;
   private boolean isDiskSpaceAvailable = true;
 
-  CommandApiRequestHandler() {
+  CommandApiRequestHandler(final CommandBatchResponseCollector batchResponses) {
     super(new CommandApiRequestReader(), new CommandApiResponseWriter());
+    this.batchResponses = batchResponses;
   }
 
   @Override
@@ -43,6 +52,10 @@ final class CommandApiRequestHandler
       final CommandApiRequestReader requestReader,
       final CommandApiResponseWriter responseWriter,
       final ErrorResponseWriter errorWriter) {
+    if (requestReader.isBatch()) {
+      return handleExecuteCommandBatchRequest(
+          partitionId, requestId, requestReader, responseWriter, errorWriter);
+    }
     return handleExecuteCommandRequest(
         partitionId, requestId, requestReader, responseWriter, errorWriter);
   }
@@ -65,30 +78,168 @@ final class CommandApiRequestHandler
     final var logStreamWriter = leadingStreams.get(partitionId);
     final var limiter = partitionLimiters.get(partitionId);
 
+    if (logStreamWriter == null) {
+      errorWriter.partitionLeaderMismatch(partitionId);
+      return Either.left(errorWriter);
+    }
+
+    if (!tryAcceptCommand(partitionId, requestId, reader, limiter, errorWriter)) {
+      return Either.left(errorWriter);
+    }
+
+    final var metadata = reader.metadata();
+    boolean written = false;
+    try {
+      written = writeCommand(command.key(), metadata, reader.event(), logStreamWriter);
+      return Either.right(responseWriter);
+    } catch (final Exception ex) {
+      LOG.error("Unexpected error on writing {} command", metadata.getIntent(), ex);
+      errorWriter.internalError("Failed writing response: %s", ex);
+      return Either.left(errorWriter);
+    } finally {
+      if (!written) {
+        limiter.onIgnore(partitionId, requestId);
+      }
+    }
+  }
+
+  /**
+   * Writes the commands of a batch request to the log, as one batch of log entries. If the commands
+   * don't fit into one batch, they are split into several batches, each of which is written
+   * atomically. Every command is written with its own request id, so that the stream processor
+   * responds to it like to a single command; the responses are collected by the {@link
+   * CommandBatchResponseCollector} and sent as one batch response. Commands which are not accepted
+   * or not written are responded with an error in the batch response.
+   */
+  private Either<ErrorResponseWriter, CommandApiResponseWriter> handleExecuteCommandBatchRequest(
+      final int partitionId,
+      final long requestId,
+      final CommandApiRequestReader reader,
+      final CommandApiResponseWriter responseWriter,
+      final ErrorResponseWriter errorWriter) {
+
+    if (!isDiskSpaceAvailable) {
+      errorWriter.resourceExhausted(
+          String.format(
+              "Cannot accept requests for partition %d. Broker is out of disk space", partitionId));
+      return Either.left(errorWriter);
+    }
+
+    final var batchWriter = leadingBatchStreams.get(partitionId);
+    final var limiter = partitionLimiters.get(partitionId);
+
+    if (batchWriter == null) {
+      errorWriter.partitionLeaderMismatch(partitionId);
+      return Either.left(errorWriter);
+    }
+
+    final int batchSize = reader.getBatchSize();
+    final PendingBatch batch = batchResponses.startBatch(partitionId, requestId, batchSize);
+    batchWriter.reset();
+    unwrittenCommands.clear();
+
+    for (int index = 0; index < batchSize; index++) {
+      reader.wrapBatchCommand(index);
+      errorWriter.reset();
+
+      final long commandRequestId = batch.getCommandRequestId(index);
+      if (!tryAcceptCommand(partitionId, commandRequestId, reader, limiter, errorWriter)) {
+        batch.complete(index, errorWriter);
+        continue;
+      }
+
+      final var metadata = reader.metadata();
+      final var event = reader.event();
+      if (!unwrittenCommands.isEmpty()
+          && !batchWriter.canWriteAdditionalEvent(metadata.getLength() + event.getLength())) {
+        writeCommands(partitionId, batch, batchWriter, limiter, errorWriter);
+      }
+
+      batch.awaitResponse(index);
+      unwrittenCommands.addInt(index);
+
+      final long key = reader.getMessageDecoder().key();
+      final LogEntryBuilder logEntry = batchWriter.event();
+      if (key != ExecuteCommandRequestDecoder.keyNullValue()) {
+        logEntry.key(key);
+      } else {
+        logEntry.keyNull();
+      }
+      logEntry.metadataWriter(metadata).valueWriter(event).done();
+    }
+
+    writeCommands(partitionId, batch, batchWriter, limiter, errorWriter);
+    return Either.right(responseWriter);
+  }
+
+  private void writeCommands(
+      final int partitionId,
+      final PendingBatch batch,
+      final LogStreamBatchWriter batchWriter,
+      final RequestLimiter<Intent> limiter,
+      final ErrorResponseWriter errorWriter) {
+    if (unwrittenCommands.isEmpty()) {
+      return;
+    }
+
+    long position = -1;
+    try {
+      position = batchWriter.tryWrite();
+    } catch (final Exception ex) {
+      LOG.error("Unexpected error on writing a batch of commands", ex);
+    } finally {
+      batchWriter.reset();
+    }
+
+    if (position < 0) {
+      for (int i = 0; i < unwrittenCommands.size(); i++) {
+        final int index = unwrittenCommands.getInt(i);
+        batch.cancelResponse(index);
+        limiter.onIgnore(partitionId, batch.getCommandRequestId(index));
+        errorWriter.reset();
+        batch.complete(index, errorWriter.internalError("Failed to write the command to the log"));
+      }
+    }
+    unwrittenCommands.clear();
+  }
+
+  private void setCommandMetadata(
+      final int partitionId, final long requestId, final CommandApiRequestReader reader) {
+    final var command = reader.getMessageDecoder();
     final var eventType = command.valueType();
-    final var intent = Intent.fromProtocolValue(eventType, command.intent());
-    final var event = reader.event();
     final var metadata = reader.metadata();
 
     metadata.requestId(requestId);
     metadata.requestStreamId(partitionId);
     metadata.recordType(RecordType.COMMAND);
-    metadata.intent(intent);
+    metadata.intent(Intent.fromProtocolValue(eventType, command.intent()));
     metadata.valueType(eventType);
+  }
 
-    if (logStreamWriter == null) {
-      errorWriter.partitionLeaderMismatch(partitionId);
-      return Either.left(errorWriter);
-    }
+  /**
+   * Sets the metadata of the read command, and checks whether the command is supported and can be
+   * accepted by the request limiter of the partition.
+   *
+   * @return true if the command was accepted, otherwise false and the error is written to the given
+   *     error writer
+   */
+  private boolean tryAcceptCommand(
+      final int partitionId,
+      final long requestId,
+      final CommandApiRequestReader reader,
+      final RequestLimiter<Intent> limiter,
+      final ErrorResponseWriter errorWriter) {
+    setCommandMetadata(partitionId, requestId, reader);
 
-    if (event == null) {
+    final var eventType = reader.getMessageDecoder().valueType();
+    if (reader.event() == null) {
       errorWriter.unsupportedMessage(
           eventType.name(), CommandApiRequestReader.RECORDS_BY_TYPE.keySet().toArray());
-      return Either.left(errorWriter);
+      return false;
     }
 
     metrics.receivedRequest(partitionId);
-    if (!limiter.tryAcquire(partitionId, requestId, intent)) {
+    if (!limiter.tryAcquire(partitionId, requestId, reader.metadata().getIntent())) {
       metrics.dropped(partitionId);
       LOG.trace(
           "Partition-{} receiving too many requests. Current limit {} inflight {}, dropping request {} from gateway",
@@ -97,22 +248,10 @@ final class CommandApiRequestHandler
           limiter.getInflightCount(),
           requestId);
       errorWriter.resourceExhausted();
-      return Either.left(errorWriter);
+      return false;
     }
 
-    boolean written = false;
-    try {
-      written = writeCommand(command.key(), metadata, event, logStreamWriter);
-      return Either.right(responseWriter);
-    } catch (final Exception ex) {
-      LOG.error("Unexpected error on writing {} command", intent, ex);
-      errorWriter.internalError("Failed writing response: %s", ex);
-      return Either.left(errorWriter);
-    } finally {
-      if (!written) {
-        limiter.onIgnore(partitionId, requestId);
-      }
-    }
+    return true;
   }
 
   private boolean writeCommand(
@@ -137,10 +276,12 @@ final class CommandApiRequestHandler
   void addPartition(
       final int partitionId,
       final LogStreamRecordWriter logStreamWriter,
+      final LogStreamBatchWriter logStreamBatchWriter,
       final RequestLimiter<Intent> limiter) {
     actor.submit(
         () -> {
           leadingStreams.put(partitionId, logStreamWriter);
+          leadingBatchStreams.put(partitionId, logStreamBatchWriter);
           partitionLimiters.put(partitionId, limiter);
         });
   }
@@ -149,7 +290,9 @@ final class CommandApiRequestHandler
     actor.submit(
         () -> {
           leadingStreams.remove(partitionId);
+          leadingBatchStreams.remove(partitionId);
           partitionLimiters.remove(partitionId);
+          batchResponses.removePartition(partitionId);
         });
   }
 
@@ -12,6 +12,7 @@ import static io.camunda.zeebe.protocol.record.ExecuteCommandRequestDecoder.TEMP
 import io.camunda.zeebe.broker.transport.ApiRequestHandler.RequestReader;
 import io.camunda.zeebe.broker.transport.RequestReaderException;
 import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
@@ -21,10 +22,12 @@ import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder;
 import io.camunda.zeebe.protocol.record.ExecuteCommandRequestDecoder;
 import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
 import io.camunda.zeebe.protocol.record.ValueType;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import org.agrona.DirectBuffer;
 
@@ -47,6 +50,8 @@ public class CommandApiRequestReader implements RequestReader<ExecuteCommandRequ
   private final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
   private final ExecuteCommandRequestDecoder commandRequestDecoder =
       new ExecuteCommandRequestDecoder();
+  private final ExecuteCommandBatchRequest batchRequest = new ExecuteCommandBatchRequest();
+  private boolean isBatch;
 
   @Override
   public void reset() {
@@ -54,6 +59,8 @@ public class CommandApiRequestReader implements RequestReader<ExecuteCommandRequ
       event.reset();
     }
     eventMetadata.reset();
+    batchRequest.reset();
+    isBatch = false;
   }
 
   @Override
@@ -65,6 +72,53 @@ public class CommandApiRequestReader implements RequestReader<ExecuteCommandRequ
   public void wrap(final DirectBuffer buffer, final int offset, final int length) {
     messageHeaderDecoder.wrap(buffer, offset);
 
+    if (messageHeaderDecoder.templateId() == ExecuteCommandBatchRequestDecoder.TEMPLATE_ID) {
+      wrapBatch(buffer, offset, length);
+    } else {
+      wrapCommand(buffer, offset);
+    }
+  }
+
+  /**
+   * Wraps the command at the given index of the read batch request, after which the command can be
+   * accessed like a single command request.
+   *
+   * @param index the index of the command in the batch
+   */
+  public void wrapBatchCommand(final int index) {
+    if (event != null) {
+      event.reset();
+    }
+    eventMetadata.reset();
+
+    final DirectBuffer command = batchRequest.getCommands().get(index);
+    messageHeaderDecoder.wrap(command, 0);
+    wrapCommand(command, 0);
+  }
+
+  public boolean isBatch() {
+    return isBatch;
+  }
+
+  public int getBatchSize() {
+    return batchRequest.getCommands().size();
+  }
+
+  private void wrapBatch(final DirectBuffer buffer, final int offset, final int length) {
+    batchRequest.wrap(buffer, offset, length);
+    isBatch = true;
+
+    final List<DirectBuffer> commands = batchRequest.getCommands();
+    for (final DirectBuffer command : commands) {
+      messageHeaderDecoder.wrap(command, 0);
+      final int templateId = messageHeaderDecoder.templateId();
+      if (TEMPLATE_ID != templateId) {
+        throw new RequestReaderException.InvalidTemplateException(TEMPLATE_ID, templateId);
+      }
+    }
+  }
+
+  private void wrapCommand(final DirectBuffer buffer, final int offset) {
     final int templateId = messageHeaderDecoder.templateId();
     if (TEMPLATE_ID != templateId) {
       throw new RequestReaderException.InvalidTemplateException(
@@ -18,6 +18,8 @@ import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecord;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
 import io.camunda.zeebe.engine.state.QueryService;
 import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
@@ -36,6 +38,7 @@ public final class CommandApiServiceImpl extends Actor
   private final PartitionAwareRequestLimiter limiter;
   private final ServerTransport serverTransport;
   private final CommandApiRequestHandler commandHandler;
+  private final CommandBatchResponseCollector batchResponses;
   private final QueryApiRequestHandler queryHandler;
   private final IntHashSet leadPartitions = new IntHashSet();
   private final String actorName;
@@ -50,7 +53,8 @@ public final class CommandApiServiceImpl extends Actor
     this.serverTransport = serverTransport;
     this.limiter = limiter;
     this.scheduler = scheduler;
-    commandHandler = new CommandApiRequestHandler();
+    batchResponses = new CommandBatchResponseCollector(serverTransport);
+    commandHandler = new CommandApiRequestHandler(batchResponses);
     queryHandler = new QueryApiRequestHandler(queryApiCfg, localBroker.getNodeId());
     actorName = buildActorName(localBroker.getNodeId(), "CommandApiService");
   }
@@ -113,22 +117,41 @@ public final class CommandApiServiceImpl extends Actor
               .onComplete(
                   (recordWriter, error) -> {
                     if (error == null) {
-                      final var requestLimiter = limiter.getLimiter(partitionId);
-                      commandHandler.addPartition(partitionId, recordWriter, requestLimiter);
-                      serverTransport.subscribe(partitionId, RequestType.COMMAND, commandHandler);
-                      future.complete(null);
+                      logStream
+                          .newLogStreamBatchWriter()
+                          .onComplete(
+                              (batchWriter, batchWriterError) -> {
+                                if (batchWriterError == null) {
+                                  addCommandHandler(partitionId, recordWriter, batchWriter);
+                                  future.complete(null);
+                                } else {
+                                  onWriterRetrievalFailure(partitionId, batchWriterError, future);
+                                }
+                              });
                     } else {
-                      Loggers.SYSTEM_LOGGER.error(
-                          "Error on retrieving write buffer from log stream {}",
-                          partitionId,
-                          error);
-                      future.completeExceptionally(error);
+                      onWriterRetrievalFailure(partitionId, error, future);
                     }
                   });
         });
     return future;
   }
 
+  private void addCommandHandler(
+      final int partitionId,
+      final LogStreamRecordWriter recordWriter,
+      final LogStreamBatchWriter batchWriter) {
+    final var requestLimiter = limiter.getLimiter(partitionId);
+    commandHandler.addPartition(partitionId, recordWriter, batchWriter, requestLimiter);
+    serverTransport.subscribe(partitionId, RequestType.COMMAND, commandHandler);
+  }
+
+  private void onWriterRetrievalFailure(
+      final int partitionId, final Throwable error, final CompletableActorFuture<Void> future) {
+    Loggers.SYSTEM_LOGGER.error(
+        "Error on retrieving write buffer from log stream {}", partitionId, error);
+    future.completeExceptionally(error);
+  }
+
   @Override
   public ActorFuture<Void> onBecomingInactive(final int partitionId, final long term) {
     return removeLeaderHandlersAsync(partitionId);
@@ -157,7 +180,7 @@ public final class CommandApiServiceImpl extends Actor
 
   @Override
   public CommandResponseWriter newCommandResponseWriter() {
-    return new CommandResponseWriterImpl(serverTransport);
+    return new CommandResponseWriterImpl(batchResponses);
   }
 
   @Override
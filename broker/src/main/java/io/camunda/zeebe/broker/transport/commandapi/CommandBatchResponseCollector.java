@@ -0,0 +1,146 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.transport.commandapi;
+
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.camunda.zeebe.transport.ServerOutput;
+import io.camunda.zeebe.transport.ServerResponse;
+import io.camunda.zeebe.transport.impl.ServerResponseImpl;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Collects the responses to the commands of batch requests. Every command of a batch is written
+ * with its own request id, which is taken from a range of negative ids that can't collide with the
+ * ids of the requests received by the transport. Responses to these ids are held back until all
+ * commands of the batch are responded, and are then sent as one {@link
+ * ExecuteCommandBatchResponse}. All other responses are passed to the underlying output.
+ *
+ * <p>The responses are written by the stream processors of the partitions, so this class is thread
+ * safe.
+ */
+final class CommandBatchResponseCollector implements ServerOutput {
+
+  private final ServerOutput output;
+  private final AtomicLong nextCommandRequestId = new AtomicLong(Long.MIN_VALUE);
+  private final Map<Long, PendingBatch> pendingCommands = new ConcurrentHashMap<>();
+
+  CommandBatchResponseCollector(final ServerOutput output) {
+    this.output = output;
+  }
+
+  @Override
+  public void sendResponse(final ServerResponse response) {
+    final PendingBatch batch = pendingCommands.remove(response.getRequestId());
+    if (batch == null) {
+      output.sendResponse(response);
+    } else {
+      batch.completeCommand(response.getRequestId(), response);
+    }
+  }
+
+  /**
+   * Starts to collect the responses of a batch request.
+   *
+   * @param partitionId the partition of the batch request
+   * @param requestId the id of the batch request
+   * @param size the number of commands in the batch
+   * @return the pending batch, which assigns the request ids of its commands
+   */
+  PendingBatch startBatch(final int partitionId, final long requestId, final int size) {
+    final long firstCommandRequestId = nextCommandRequestId.getAndAdd(size);
+    return new PendingBatch(partitionId, requestId, firstCommandRequestId, size);
+  }
+
+  /** Drops the pending batches of the partition, which are not responded anymore. */
+  void removePartition(final int partitionId) {
+    pendingCommands.values().removeIf(batch -> batch.partitionId == partitionId);
+  }
+
+  final class PendingBatch {
+    private final int partitionId;
+    private final long requestId;
+    private final long firstCommandRequestId;
+    private final byte[][] responses;
+    private int pendingResponses;
+
+    private PendingBatch(
+        final int partitionId,
+        final long requestId,
+        final long firstCommandRequestId,
+        final int size) {
+      this.partitionId = partitionId;
+      this.requestId = requestId;
+      this.firstCommandRequestId = firstCommandRequestId;
+      responses = new byte[size][];
+      pendingResponses = size;
+    }
+
+    /** @return the request id to write the command at the given index with */
+    long getCommandRequestId(final int index) {
+      return firstCommandRequestId + index;
+    }
+
+    /** Routes the response to the command at the given index to this batch. */
+    void awaitResponse(final int index) {
+      pendingCommands.put(getCommandRequestId(index), this);
+    }
+
+    /**
+     * Stops to route the response to the command at the given index to this batch, e.g. if the
+     * command was not written.
+     */
+    void cancelResponse(final int index) {
+      pendingCommands.remove(getCommandRequestId(index));
+    }
+
+    /**
+     * Sets the response to the command at the given index. The batch response is sent as soon as
+     * all commands are responded.
+     */
+    void complete(final int index, final BufferWriter response) {
+      completeCommand(getCommandRequestId(index), response);
+    }
+
+    private void completeCommand(final long commandRequestId, final BufferWriter response) {
+      final byte[] bytes = new byte[response.getLength()];
+      response.write(new UnsafeBuffer(bytes), 0);
+
+      final boolean isComplete;
+      synchronized (this) {
+        final int index = (int) (commandRequestId - firstCommandRequestId);
+        if (responses[index] != null) {
+          return;
+        }
+        responses[index] = bytes;
+        isComplete = --pendingResponses == 0;
+      }
+
+      if (isComplete) {
+        sendBatchResponse();
+      }
+    }
+
+    private void sendBatchResponse() {
+      final ExecuteCommandBatchResponse batchResponse = new ExecuteCommandBatchResponse();
+      for (final byte[] response : responses) {
+        batchResponse.addResponse(new DirectBufferWriter().wrap(new UnsafeBuffer(response)));
+      }
+
+      output.sendResponse(
+          new ServerResponseImpl()
+              .setPartitionId(partitionId)
+              .setRequestId(requestId)
+              .writer(batchResponse));
+    }
+  }
+}
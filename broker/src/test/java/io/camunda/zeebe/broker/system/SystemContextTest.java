@@ -140,6 +140,19 @@ final class SystemContextTest {
             "Expected to have an append batch size maximum which is non negative and smaller then '2147483647', but was '3221225472B'.");
   }
 
+  @Test
+  void shouldThrowExceptionIfSnapshotChunkSizeIsNotPositive() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setMaxSnapshotChunkSize(DataSize.ofBytes(0));
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Expected to have a snapshot chunk size maximum which is positive and smaller then '2147483647', but was '0B'.");
+  }
+
   @Test
   void shouldNotThrowExceptionIfSnapshotPeriodIsEqualToOneMinute() {
     // given
@@ -13,6 +13,7 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
+import org.springframework.util.unit.DataSize;
 
 public class ExperimentalCfgTest {
 
@@ -109,4 +110,175 @@ public class ExperimentalCfgTest {
     // then
     assertThat(raft.getPreferSnapshotReplicationThreshold()).isEqualTo(10);
   }
+
+  @Test
+  public void shouldSetMaxFlushDelayFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getMaxFlushDelay()).isEqualTo(Duration.ofMillis(5));
+  }
+
+  @Test
+  public void shouldSetMaxFlushDelayFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.maxFlushDelay", "10ms");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getMaxFlushDelay()).isEqualTo(Duration.ofMillis(10));
+  }
+
+  @Test
+  public void shouldSetMaxUnflushedBytesFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getMaxUnflushedBytes()).isEqualTo(DataSize.ofMegabytes(2));
+  }
+
+  @Test
+  public void shouldSetMaxSnapshotChunkSizeFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getMaxSnapshotChunkSize()).isEqualTo(DataSize.ofKilobytes(512));
+  }
+
+  @Test
+  public void shouldSetMaxSnapshotChunkSizeFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.maxSnapshotChunkSize", "2MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getMaxSnapshotChunkSize()).isEqualTo(DataSize.ofMegabytes(2));
+  }
+
+  @Test
+  public void shouldSetMaxSnapshotChunksInFlightFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getMaxSnapshotChunksInFlight()).isEqualTo(8);
+  }
+
+  @Test
+  public void shouldSetMaxSnapshotChunksInFlightFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.maxSnapshotChunksInFlight", "2");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raft = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raft.getMaxSnapshotChunksInFlight()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldSetEnablePipeliningFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var processing = cfg.getExperimental().getProcessing();
+
+    // then
+    assertThat(processing.isEnablePipelining()).isTrue();
+  }
+
+  @Test
+  public void shouldSetEnablePipeliningFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.processing.enablePipelining", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var processing = cfg.getExperimental().getProcessing();
+
+    // then
+    assertThat(processing.isEnablePipelining()).isFalse();
+  }
+
+  @Test
+  public void shouldSetMaxCommandsInBatchFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var processing = cfg.getExperimental().getProcessing();
+
+    // then
+    assertThat(processing.getMaxCommandsInBatch()).isEqualTo(16);
+  }
+
+  @Test
+  public void shouldSetMaxCommandsInBatchFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.processing.maxCommandsInBatch", "4");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var processing = cfg.getExperimental().getProcessing();
+
+    // then
+    assertThat(processing.getMaxCommandsInBatch()).isEqualTo(4);
+  }
+
+  @Test
+  public void shouldSetReplayParallelismFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var processing = cfg.getExperimental().getProcessing();
+
+    // then
+    assertThat(processing.getReplayParallelism()).isEqualTo(4);
+  }
+
+  @Test
+  public void shouldSetReplayParallelismFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.processing.replayParallelism", "2");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var processing = cfg.getExperimental().getProcessing();
+
+    // then
+    assertThat(processing.getReplayParallelism()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldSetMaxScheduledCommandsPerRunFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var processing = cfg.getExperimental().getProcessing();
+
+    // then
+    assertThat(processing.getMaxScheduledCommandsPerRun()).isEqualTo(100);
+  }
+
+  @Test
+  public void shouldSetMaxScheduledCommandsPerRunFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.processing.maxScheduledCommandsPerRun", "10");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var processing = cfg.getExperimental().getProcessing();
+
+    // then
+    assertThat(processing.getMaxScheduledCommandsPerRun()).isEqualTo(10);
+  }
 }
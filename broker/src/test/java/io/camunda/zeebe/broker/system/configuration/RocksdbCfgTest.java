@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -77,6 +78,9 @@ public final class RocksdbCfgTest {
     assertThat(rocksDbConfiguration.getMinWriteBufferNumberToMerge()).isEqualTo(3);
     assertThat(rocksDbConfiguration.getIoRateBytesPerSecond()).isZero();
     assertThat(rocksDbConfiguration.isWalDisabled()).isFalse();
+    assertThat(rocksDbConfiguration.isSeparateColumnFamiliesEnabled()).isFalse();
+    assertThat(rocksDbConfiguration.getColumnFamilyOptionsOverrides()).isEmpty();
+    assertThat(rocksDbConfiguration.getColumnFamilyCacheSizes()).isEmpty();
   }
 
   @Test
@@ -285,4 +289,55 @@ public final class RocksdbCfgTest {
     // then
     assertThat(rocksdb.isDisableWal()).isTrue();
   }
+
+  @Test
+  public void shouldEnableSeparateColumnFamiliesViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableSeparateColumnFamilies()).isTrue();
+  }
+
+  @Test
+  public void shouldEnableSeparateColumnFamiliesViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.enableSeparateColumnFamilies", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableSeparateColumnFamilies()).isTrue();
+  }
+
+  @Test
+  public void shouldSetColumnFamilyOptionsOverridesViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.getColumnFamilyOptionsOverrides())
+        .containsOnlyKeys("VARIABLES");
+    assertThat(rocksDbConfiguration.getColumnFamilyOptionsOverrides().get("VARIABLES"))
+        .containsEntry("write_buffer_size", "33554432");
+  }
+
+  @Test
+  public void shouldSetColumnFamilyCacheSizesViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.getColumnFamilyCacheSizes())
+        .containsOnly(
+            entry("ELEMENT_INSTANCE_KEY", DataSize.ofMegabytes(16).toBytes()),
+            entry("JOBS", DataSize.ofMegabytes(8).toBytes()));
+  }
 }
@@ -63,6 +63,7 @@ public final class AsyncSnapshotingTest {
 
     snapshotController =
         new StateControllerImpl(
+            1,
             ZeebeRocksDbFactory.newFactory(),
             persistedSnapshotStore,
             rootDirectory.resolve("runtime"),
@@ -61,6 +61,7 @@ public final class StateControllerImplTest {
     runtimeDirectory = tempFolderRule.getRoot().toPath().resolve("runtime");
     snapshotController =
         new StateControllerImpl(
+            1,
             ZeebeRocksDbFactory.newFactory(),
             store,
             runtimeDirectory,
@@ -11,15 +11,21 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.RETURNS_SELF;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.broker.transport.backpressure.NoopRequestLimiter;
 import io.camunda.zeebe.broker.transport.backpressure.RequestLimiter;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchWriter.LogEntryBuilder;
 import io.camunda.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.camunda.zeebe.protocol.impl.encoding.ErrorResponse;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
 import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandRequest;
 import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandResponse;
 import io.camunda.zeebe.protocol.impl.encoding.ExecuteQueryRequest;
@@ -27,11 +33,16 @@ import io.camunda.zeebe.protocol.record.ErrorCode;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.transport.ServerOutput;
+import io.camunda.zeebe.transport.ServerResponse;
+import io.camunda.zeebe.transport.impl.ServerResponseImpl;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.sched.testing.ControlledActorSchedulerRule;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Before;
@@ -40,12 +51,19 @@ import org.junit.Test;
 
 public class CommandApiRequestHandlerTest {
   @Rule public final ControlledActorSchedulerRule scheduler = new ControlledActorSchedulerRule();
-  final CommandApiRequestHandler handler = new CommandApiRequestHandler();
+  private final List<ExecuteCommandBatchResponse> batchResponses = new ArrayList<>();
+  private final CommandBatchResponseCollector batchResponseCollector =
+      new CommandBatchResponseCollector(this::onBatchResponse);
+  final CommandApiRequestHandler handler = new CommandApiRequestHandler(batchResponseCollector);
 
   @Before
   public void setup() {
     scheduler.submitActor(handler);
-    handler.addPartition(0, mock(LogStreamRecordWriter.class), new NoopRequestLimiter<>());
+    handler.addPartition(
+        0,
+        mock(LogStreamRecordWriter.class),
+        mock(LogStreamBatchWriter.class),
+        new NoopRequestLimiter<>());
     scheduler.workUntilDone();
   }
 
@@ -129,7 +147,8 @@ public class CommandApiRequestHandlerTest {
     // given
     final RequestLimiter<Intent> limiter = mock(RequestLimiter.class);
     when(limiter.tryAcquire(anyInt(), anyLong(), any())).thenReturn(false);
-    handler.addPartition(0, mock(LogStreamRecordWriter.class), limiter);
+    handler.addPartition(
+        0, mock(LogStreamRecordWriter.class), mock(LogStreamBatchWriter.class), limiter);
     scheduler.workUntilDone();
 
     final var request =
@@ -154,7 +173,8 @@ public class CommandApiRequestHandlerTest {
     final var logWriter = mock(LogStreamRecordWriter.class);
     when(logWriter.metadataWriter(any())).thenReturn(logWriter);
     when(logWriter.valueWriter(any())).thenReturn(logWriter);
-    handler.addPartition(0, logWriter, new NoopRequestLimiter<>());
+    handler.addPartition(
+        0, logWriter, mock(LogStreamBatchWriter.class), new NoopRequestLimiter<>());
     scheduler.workUntilDone();
 
     final var request =
@@ -169,6 +189,177 @@ public class CommandApiRequestHandlerTest {
     verify(logWriter).reset();
   }
 
+  @Test
+  public void shouldWriteBatchToLog() {
+    // given
+    final var batchWriter = mockBatchWriter(true, 1L);
+    handler.addPartition(
+        0, mock(LogStreamRecordWriter.class), batchWriter, new NoopRequestLimiter<>());
+    scheduler.workUntilDone();
+
+    // when
+    handleRequest(newBatchRequest(3));
+
+    // then
+    verify(batchWriter, times(3)).event();
+    verify(batchWriter).tryWrite();
+    assertThat(batchResponses).isEmpty();
+  }
+
+  @Test
+  public void shouldSplitBatchIfCommandsDontFitIntoOneLogBatch() {
+    // given
+    final var batchWriter = mockBatchWriter(false, 1L);
+    handler.addPartition(
+        0, mock(LogStreamRecordWriter.class), batchWriter, new NoopRequestLimiter<>());
+    scheduler.workUntilDone();
+
+    // when
+    handleRequest(newBatchRequest(3));
+
+    // then
+    verify(batchWriter, times(3)).event();
+    verify(batchWriter, times(3)).tryWrite();
+  }
+
+  @Test
+  public void shouldSendBatchResponseWhenAllCommandsAreResponded() {
+    // given
+    handler.addPartition(
+        0,
+        mock(LogStreamRecordWriter.class),
+        mockBatchWriter(true, 1L),
+        new NoopRequestLimiter<>());
+    scheduler.workUntilDone();
+    handleRequest(newBatchRequest(2));
+
+    // when
+    respondToCommand(Long.MIN_VALUE + 1, 2L);
+    final var responsesBeforeLastCommand = new ArrayList<>(batchResponses);
+    respondToCommand(Long.MIN_VALUE, 1L);
+
+    // then
+    assertThat(responsesBeforeLastCommand).isEmpty();
+    assertThat(batchResponses).hasSize(1);
+    assertThat(batchResponses.get(0).getResponses())
+        .extracting(this::readCommandResponse)
+        .extracting(ExecuteCommandResponse::getKey)
+        .containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldRespondWithErrorsIfBatchCommandsAreNotAccepted() {
+    // given
+    final RequestLimiter<Intent> limiter = mock(RequestLimiter.class);
+    when(limiter.tryAcquire(anyInt(), anyLong(), any())).thenReturn(true, false);
+    final var batchWriter = mockBatchWriter(true, 1L);
+    handler.addPartition(0, mock(LogStreamRecordWriter.class), batchWriter, limiter);
+    scheduler.workUntilDone();
+    handleRequest(newBatchRequest(2));
+
+    // when
+    respondToCommand(Long.MIN_VALUE, 1L);
+
+    // then
+    verify(batchWriter).event();
+    assertThat(batchResponses).hasSize(1);
+    final List<DirectBuffer> responses = batchResponses.get(0).getResponses();
+    assertThat(readCommandResponse(responses.get(0)).getKey()).isEqualTo(1L);
+    assertThat(readErrorResponse(responses.get(1)).getErrorCode())
+        .isEqualTo(ErrorCode.RESOURCE_EXHAUSTED);
+  }
+
+  @Test
+  public void shouldRespondWithErrorsIfBatchCommandsAreNotWritten() {
+    // given
+    final RequestLimiter<Intent> limiter = mock(RequestLimiter.class);
+    when(limiter.tryAcquire(anyInt(), anyLong(), any())).thenReturn(true);
+    handler.addPartition(0, mock(LogStreamRecordWriter.class), mockBatchWriter(true, -1L), limiter);
+    scheduler.workUntilDone();
+
+    // when
+    handleRequest(newBatchRequest(2));
+
+    // then
+    verify(limiter).onIgnore(0, Long.MIN_VALUE);
+    verify(limiter).onIgnore(0, Long.MIN_VALUE + 1);
+    assertThat(batchResponses).hasSize(1);
+    assertThat(batchResponses.get(0).getResponses())
+        .extracting(this::readErrorResponse)
+        .extracting(ErrorResponse::getErrorCode)
+        .containsExactly(ErrorCode.INTERNAL_ERROR, ErrorCode.INTERNAL_ERROR);
+  }
+
+  @Test
+  public void shouldRejectBatchIfNotLeader() {
+    // given
+    handler.removePartition(0);
+    scheduler.workUntilDone();
+
+    // when
+    final var responseFuture = handleRequest(newBatchRequest(2));
+
+    // then
+    assertThat(responseFuture)
+        .succeedsWithin(Duration.ofMinutes(1))
+        .matches(Either::isLeft)
+        .extracting(Either::getLeft)
+        .extracting(ErrorResponse::getErrorCode)
+        .isEqualTo(ErrorCode.PARTITION_LEADER_MISMATCH);
+  }
+
+  private LogStreamBatchWriter mockBatchWriter(
+      final boolean canWriteAdditionalEvent, final long position) {
+    final var batchWriter = mock(LogStreamBatchWriter.class);
+    final var logEntryBuilder = mock(LogEntryBuilder.class, RETURNS_SELF);
+    when(batchWriter.event()).thenReturn(logEntryBuilder);
+    when(batchWriter.canWriteAdditionalEvent(anyInt())).thenReturn(canWriteAdditionalEvent);
+    when(batchWriter.tryWrite()).thenReturn(position);
+    return batchWriter;
+  }
+
+  private ExecuteCommandBatchRequest newBatchRequest(final int size) {
+    final var batchRequest = new ExecuteCommandBatchRequest().setPartitionId(0);
+    for (int i = 0; i < size; i++) {
+      final var request =
+          new BrokerPublishMessageRequest("test", String.valueOf(i))
+              .setMessageId(String.valueOf(i))
+              .setTimeToLive(0);
+      request.serializeValue();
+      batchRequest.addCommand(request);
+    }
+    return batchRequest;
+  }
+
+  private void respondToCommand(final long requestId, final long key) {
+    final var response = new ExecuteCommandResponse();
+    response.setKey(key);
+    response.setPartitionId(0);
+    response.setValueType(ValueType.MESSAGE);
+    batchResponseCollector.sendResponse(
+        new ServerResponseImpl().setPartitionId(0).setRequestId(requestId).writer(response));
+  }
+
+  private void onBatchResponse(final ServerResponse serverResponse) {
+    final var buffer = new UnsafeBuffer(new byte[serverResponse.getLength()]);
+    serverResponse.write(buffer, 0);
+    final var response = new ExecuteCommandBatchResponse();
+    response.wrap(buffer, 0, buffer.capacity());
+    batchResponses.add(response);
+  }
+
+  private ExecuteCommandResponse readCommandResponse(final DirectBuffer buffer) {
+    final var response = new ExecuteCommandResponse();
+    response.wrap(buffer, 0, buffer.capacity());
+    return response;
+  }
+
+  private ErrorResponse readErrorResponse(final DirectBuffer buffer) {
+    final var response = new ErrorResponse();
+    response.wrap(buffer, 0, buffer.capacity());
+    return response;
+  }
+
   private CompletableFuture<Either<ErrorResponse, ExecuteCommandResponse>> handleRequest(
       final BufferWriter request) {
     final var future = new CompletableFuture<Either<ErrorResponse, ExecuteCommandResponse>>();
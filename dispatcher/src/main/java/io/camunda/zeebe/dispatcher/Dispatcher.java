@@ -11,6 +11,8 @@ import static io.camunda.zeebe.dispatcher.impl.PositionUtil.partitionId;
 import static io.camunda.zeebe.dispatcher.impl.PositionUtil.partitionOffset;
 import static io.camunda.zeebe.dispatcher.impl.PositionUtil.position;
 import static io.camunda.zeebe.dispatcher.impl.log.LogBufferAppender.RESULT_PADDING_AT_END_OF_PARTITION;
+import static io.camunda.zeebe.dispatcher.impl.log.LogBufferAppender.claimedFragmentIndex;
+import static io.camunda.zeebe.dispatcher.impl.log.LogBufferAppender.claimedTail;
 
 import io.camunda.zeebe.dispatcher.impl.log.LogBuffer;
 import io.camunda.zeebe.dispatcher.impl.log.LogBufferAppender;
@@ -20,7 +22,6 @@ import io.camunda.zeebe.util.sched.ActorCondition;
 import io.camunda.zeebe.util.sched.FutureUtil;
 import io.camunda.zeebe.util.sched.future.ActorFuture;
 import java.util.Arrays;
-import java.util.function.BiFunction;
 import org.slf4j.Logger;
 
 /** Component for sending and receiving messages between different threads. */
@@ -35,7 +36,6 @@ public class Dispatcher extends Actor {
 
   private final AtomicPosition publisherLimit;
   private final AtomicPosition publisherPosition;
-  private long recordPosition;
   private final String[] defaultSubscriptionNames;
   private final int maxFragmentLength;
   private final String name;
@@ -60,7 +60,7 @@ public class Dispatcher extends Actor {
     this.logAppender = logAppender;
     this.publisherLimit = publisherLimit;
     this.publisherPosition = publisherPosition;
-    recordPosition = initialPosition;
+    logBuffer.getPartition(0).setStartPositionOrdered(initialPosition);
     this.name = name;
 
     this.logWindowLength = logWindowLength;
@@ -144,7 +144,6 @@ public class Dispatcher extends Actor {
         (partition, activePartitionId) ->
             logAppender.claim(
                 partition, activePartitionId, claim, length, streamId, onClaimComplete),
-        1,
         LogBufferAppender.claimedFragmentLength(length));
   }
 
@@ -165,17 +164,11 @@ public class Dispatcher extends Actor {
         (partition, activePartitionId) ->
             logAppender.claim(
                 partition, activePartitionId, batch, fragmentCount, batchLength, onClaimComplete),
-        fragmentCount,
         LogBufferAppender.claimedBatchLength(fragmentCount, batchLength));
   }
 
-  private synchronized long offer(
-      final BiFunction<LogBufferPartition, Integer, Integer> claimer,
-      final int fragmentCount,
-      final int length) {
-    long newPosition = -1;
-
-    if (!isClosed) {
+  private long offer(final Claimer claimer, final int length) {
+    while (!isClosed) {
       final long limit = publisherLimit.get();
 
       final int activePartitionId = logBuffer.getActivePartitionIdVolatile();
@@ -184,45 +177,42 @@ public class Dispatcher extends Actor {
       final int partitionOffset = partition.getTailCounterVolatile();
       final long position = position(activePartitionId, partitionOffset);
 
-      if (position < limit) {
-        final int newOffset;
+      if (position >= limit) {
+        return -1;
+      }
 
-        if (length < maxFragmentLength) {
-          newOffset = claimer.apply(partition, activePartitionId);
-        } else {
-          throw new IllegalArgumentException(
-              String.format(ERROR_MESSAGE_CLAIM_FAILED, length, maxFragmentLength));
-        }
+      if (length >= maxFragmentLength) {
+        throw new IllegalArgumentException(
+            String.format(ERROR_MESSAGE_CLAIM_FAILED, length, maxFragmentLength));
+      }
 
-        newPosition = updatePublisherPosition(activePartitionId, newOffset);
+      final long claimResult = claimer.claim(partition, activePartitionId);
 
-        // if successful, replace internal publisher position with simple counter and return it
-        if (newPosition > 0) {
-          newPosition = recordPosition;
-          recordPosition += fragmentCount;
-        }
+      if (claimResult == RESULT_PADDING_AT_END_OF_PARTITION) {
+        // the subscriptions can skip the rest of the partition now
         signalSubscriptions();
       }
-    }
 
-    return newPosition;
-  }
-
-  private long updatePublisherPosition(final int activePartitionId, final int newOffset) {
-    long newPosition = -1;
+      if (claimResult < 0) {
+        // the partition is filled, activate the next one - or help another producer doing so - and
+        // retry there; this doesn't wait for the producer which filled the partition
+        if (!logBuffer.activateNextPartition(activePartitionId)) {
+          return -1;
+        }
+        continue;
+      }
 
-    if (newOffset > 0) {
-      newPosition = position(activePartitionId, newOffset);
-    } else if (newOffset == RESULT_PADDING_AT_END_OF_PARTITION) {
-      logBuffer.onActivePartitionFilled(activePartitionId);
-      newPosition = -2;
-    }
+      final long newPosition = position(activePartitionId, claimedTail(claimResult));
+      if (publisherPosition.proposeMaxOrdered(newPosition)) {
+        LOG.trace("Updated publisher position to {}", newPosition);
+      }
+      signalSubscriptions();
 
-    if (publisherPosition.proposeMaxOrdered(newPosition)) {
-      LOG.trace("Updated publisher position to {}", newPosition);
+      // replace internal publisher position with the position of the record
+      return partition.getStartPositionVolatile() + claimedFragmentIndex(claimResult);
     }
 
-    return newPosition;
+    return -1;
   }
 
   public int updatePublisherLimit() {
@@ -401,4 +391,9 @@ public class Dispatcher extends Actor {
   public String toString() {
     return "Dispatcher [" + name + "]";
   }
+
+  @FunctionalInterface
+  private interface Claimer {
+    long claim(LogBufferPartition partition, int activePartitionId);
+  }
 }
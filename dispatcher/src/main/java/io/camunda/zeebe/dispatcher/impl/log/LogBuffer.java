@@ -10,7 +10,6 @@ package io.camunda.zeebe.dispatcher.impl.log;
 import static io.camunda.zeebe.dispatcher.impl.log.LogBufferDescriptor.LOG_ACTIVE_PARTITION_ID_OFFSET;
 import static io.camunda.zeebe.dispatcher.impl.log.LogBufferDescriptor.LOG_MAX_FRAME_LENGTH_OFFSET;
 import static io.camunda.zeebe.dispatcher.impl.log.LogBufferDescriptor.LOG_META_DATA_LENGTH;
-import static io.camunda.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_NEEDS_CLEANING;
 import static io.camunda.zeebe.dispatcher.impl.log.LogBufferDescriptor.logMetadataOffset;
 
 import io.camunda.zeebe.dispatcher.Loggers;
@@ -35,6 +34,9 @@ public class LogBuffer {
     rawBuffer = allocatedBuffer;
 
     partitions = new PartitionBuilder().slicePartitions(partitionSize, rawBuffer);
+    for (int i = 0; i < partitions.length; i++) {
+      partitions[i].reset(i);
+    }
 
     metadataBuffer =
         new UnsafeBuffer(
@@ -59,30 +61,64 @@ public class LogBuffer {
     return metadataBuffer.getInt(LOG_MAX_FRAME_LENGTH_OFFSET);
   }
 
-  public void onActivePartitionFilled(final int activePartitionId) {
-    final int nextPartitionId = 1 + activePartitionId;
-    final int nextNextPartitionId = 1 + nextPartitionId;
-    final LogBufferPartition nextNextPartition =
-        partitions[(nextNextPartitionId) % getPartitionCount()];
-
-    nextNextPartition.setStatusOrdered(PARTITION_NEEDS_CLEANING);
-    metadataBuffer.putIntOrdered(LOG_ACTIVE_PARTITION_ID_OFFSET, nextPartitionId);
+  /**
+   * Activates the partition which follows the given, filled partition. This can be called by all
+   * producers which found the partition filled, concurrently, so none of them has to wait for
+   * another one to complete the rotation. Each step is a compare-and-set which succeeds only once
+   * per rotation, and fails if the partitions were rotated further in the meantime:
+   *
+   * <ol>
+   *   <li>set the start position of the next partition, which follows from the start position and
+   *       fragment count of the filled partition, as these can't change anymore
+   *   <li>advance the active partition id
+   * </ol>
+   *
+   * The partition after the next one is cleaned afterwards by {@link #cleanPartitions()}.
+   *
+   * @return false if the next partition is not cleaned yet, so it can't be activated; otherwise,
+   *     the claim can be retried in the active partition
+   */
+  public boolean activateNextPartition(final int filledPartitionId) {
+    final LogBufferPartition filledPartition = getPartition(filledPartitionId);
+    final int nextPartitionId = filledPartitionId + 1;
+    final LogBufferPartition nextPartition = getPartition(nextPartitionId);
+
+    if (!filledPartition.isFilled(filledPartitionId)
+        || !nextPartition.isCleanedFor(nextPartitionId)) {
+      // the partitions were rotated already, or the next partition is not cleaned yet
+      return getActivePartitionIdVolatile() != filledPartitionId;
+    }
 
-    LOG.trace(
-        "Partition {} is filled, mark partition {} as active",
-        (activePartitionId % getPartitionCount()),
-        (nextPartitionId % getPartitionCount()));
+    // if another producer set it already, this producer may read an outdated start position or
+    // fragment count, but then it can't set the start position anymore
+    final long nextStartPosition =
+        filledPartition.getStartPositionVolatile() + filledPartition.getFragmentCountVolatile();
+    nextPartition.compareAndSetStartPosition(nextPartitionId, nextStartPosition);
+
+    if (metadataBuffer.compareAndSetInt(
+        LOG_ACTIVE_PARTITION_ID_OFFSET, filledPartitionId, nextPartitionId)) {
+      LOG.trace(
+          "Partition {} is filled, mark partition {} as active",
+          (filledPartitionId % getPartitionCount()),
+          (nextPartitionId % getPartitionCount()));
+    }
+    return true;
   }
 
+  /**
+   * Cleans the partition after the active one, if it is not cleaned for the id under which it is
+   * activated next. It contains the oldest fragments, two partitions behind the active one, which
+   * the publisher limit ensures are consumed by the subscriptions already.
+   */
   public void cleanPartitions() {
-    for (int i = 0; i < LogBufferDescriptor.PARTITION_COUNT; i++) {
-      final LogBufferPartition partition = partitions[i];
-
-      if (partition.getStatusVolatile() == PARTITION_NEEDS_CLEANING) {
-        LOG.trace("Clean partition {}", i);
-
-        partition.clean();
-      }
+    final int nextPartitionId = getActivePartitionIdVolatile() + 1;
+    final LogBufferPartition nextPartition = getPartition(nextPartitionId);
+
+    // the next partition can't be activated before it is cleaned, so the active partition id
+    // can't advance beyond it while it is cleaned
+    if (!nextPartition.isCleanedFor(nextPartitionId)) {
+      LOG.trace("Clean partition {}", nextPartitionId % getPartitionCount());
+      nextPartition.clean(nextPartitionId);
     }
   }
 
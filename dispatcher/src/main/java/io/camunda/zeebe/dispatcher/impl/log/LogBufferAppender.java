@@ -17,6 +17,8 @@ import static io.camunda.zeebe.dispatcher.impl.log.DataFrameDescriptor.lengthOff
 import static io.camunda.zeebe.dispatcher.impl.log.DataFrameDescriptor.messageOffset;
 import static io.camunda.zeebe.dispatcher.impl.log.DataFrameDescriptor.streamIdOffset;
 import static io.camunda.zeebe.dispatcher.impl.log.DataFrameDescriptor.typeOffset;
+import static io.camunda.zeebe.dispatcher.impl.log.LogBufferPartition.fragmentCount;
+import static io.camunda.zeebe.dispatcher.impl.log.LogBufferPartition.tailOffset;
 import static org.agrona.BitUtil.align;
 import static org.agrona.UnsafeAccess.UNSAFE;
 
@@ -45,7 +47,8 @@ public class LogBufferAppender {
     final int alignedFrameLength = alignedLength(framedLength);
 
     // move the tail of the partition
-    final int frameOffset = partition.getAndAddTail(alignedFrameLength);
+    final int frameOffset =
+        tailOffset(partition.getAndAddTail(activePartitionId, alignedFrameLength, 1));
 
     int newTail = frameOffset + alignedFrameLength;
 
@@ -68,7 +71,14 @@ public class LogBufferAppender {
     return newTail;
   }
 
-  public int claim(
+  /**
+   * Claims a fragment in the given partition. Can be called concurrently by multiple producers.
+   *
+   * @return the claim result if the fragment was claimed, see {@link #claimedTail(long)} and {@link
+   *     #claimedFragmentIndex(long)}; otherwise, {@link #RESULT_END_OF_PARTITION} or {@link
+   *     #RESULT_PADDING_AT_END_OF_PARTITION}
+   */
+  public long claim(
       final LogBufferPartition partition,
       final int activePartitionId,
       final ClaimedFragment claim,
@@ -80,9 +90,10 @@ public class LogBufferAppender {
     final int alignedFrameLength = alignedLength(framedMessageLength);
 
     // move the tail of the partition
-    final int frameOffset = partition.getAndAddTail(alignedFrameLength);
+    final long tailCounter = partition.getAndAddTail(activePartitionId, alignedFrameLength, 1);
+    final int frameOffset = tailOffset(tailCounter);
 
-    int newTail = frameOffset + alignedFrameLength;
+    final int newTail = frameOffset + alignedFrameLength;
 
     if (newTail <= (partitionSize - HEADER_LENGTH)) {
       final UnsafeBuffer buffer = partition.getDataBuffer();
@@ -95,18 +106,25 @@ public class LogBufferAppender {
 
       claim.wrap(buffer, frameOffset, framedMessageLength, onComplete);
       // Do not commit the message
+      return claimResult(fragmentCount(tailCounter), newTail);
     } else {
-      newTail = onEndOfPartition(partition, frameOffset, activePartitionId);
+      return onEndOfPartition(partition, frameOffset, activePartitionId);
     }
-
-    return newTail;
   }
 
   public static int claimedFragmentLength(final int length) {
     return framedLength(length);
   }
 
-  public int claim(
+  /**
+   * Claims a batch of fragments in the given partition. Can be called concurrently by multiple
+   * producers.
+   *
+   * @return the claim result if the batch was claimed, see {@link #claimedTail(long)} and {@link
+   *     #claimedFragmentIndex(long)}; otherwise, {@link #RESULT_END_OF_PARTITION} or {@link
+   *     #RESULT_PADDING_AT_END_OF_PARTITION}
+   */
+  public long claim(
       final LogBufferPartition partition,
       final int activePartitionId,
       final ClaimedFragmentBatch batch,
@@ -117,20 +135,20 @@ public class LogBufferAppender {
     final int alignedFrameLength = claimedBatchLength(fragmentCount, batchLength);
 
     // move the tail of the partition
-    final int frameOffset = partition.getAndAddTail(alignedFrameLength);
+    final long tailCounter =
+        partition.getAndAddTail(activePartitionId, alignedFrameLength, fragmentCount);
+    final int frameOffset = tailOffset(tailCounter);
 
-    int newTail = frameOffset + alignedFrameLength;
+    final int newTail = frameOffset + alignedFrameLength;
 
     if (newTail <= (partitionSize - HEADER_LENGTH)) {
       final UnsafeBuffer buffer = partition.getDataBuffer();
       // all fragment data are written using the claimed batch
       batch.wrap(buffer, activePartitionId, frameOffset, alignedFrameLength, onComplete);
-
+      return claimResult(fragmentCount(tailCounter), newTail);
     } else {
-      newTail = onEndOfPartition(partition, frameOffset, activePartitionId);
+      return onEndOfPartition(partition, frameOffset, activePartitionId);
     }
-
-    return newTail;
   }
 
   public static int claimedBatchLength(final int fragmentCount, final int batchLength) {
@@ -140,6 +158,20 @@ public class LogBufferAppender {
     return align(framedMessageLength, FRAME_ALIGNMENT);
   }
 
+  /** @return the new tail of the partition after a successful claim */
+  public static int claimedTail(final long claimResult) {
+    return (int) claimResult;
+  }
+
+  /** @return the index of the first claimed fragment in the partition after a successful claim */
+  public static int claimedFragmentIndex(final long claimResult) {
+    return (int) (claimResult >>> 32);
+  }
+
+  private static long claimResult(final int fragmentIndex, final int newTail) {
+    return ((long) fragmentIndex << 32) | newTail;
+  }
+
   protected int onEndOfPartition(
       final LogBufferPartition partition, final int partitionOffset, final int activePartitionId) {
     int newTail = RESULT_END_OF_PARTITION;
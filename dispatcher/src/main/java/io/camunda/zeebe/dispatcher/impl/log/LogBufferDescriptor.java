@@ -42,17 +42,11 @@ public final class LogBufferDescriptor {
   // ----------------------------------------------------------
   // Partition Metadata constants
 
-  /** A Partition which is clean or in use. */
-  public static final int PARTITION_CLEAN = 0;
-
-  /** A Partition is dirty and requires cleaning. */
-  public static final int PARTITION_NEEDS_CLEANING = 1;
-
   /** Offset within the Partition meta data where the tail value is stored. */
   public static final int PARTITION_TAIL_COUNTER_OFFSET;
 
-  /** Offset within the Partition meta data where current status is stored */
-  public static final int PARTITION_STATUS_OFFSET;
+  /** Offset within the Partition meta data where the position of its first fragment is stored */
+  public static final int PARTITION_START_POSITION_OFFSET;
 
   /** Total length of the Partition meta data buffer in bytes. */
   public static final int PARTITION_META_DATA_LENGTH;
@@ -94,7 +88,7 @@ public final class LogBufferDescriptor {
     PARTITION_TAIL_COUNTER_OFFSET = offset;
 
     offset += (CACHE_LINE_LENGTH * 2);
-    PARTITION_STATUS_OFFSET = offset;
+    PARTITION_START_POSITION_OFFSET = offset;
 
     offset += (CACHE_LINE_LENGTH * 2);
     PARTITION_META_DATA_LENGTH = offset;
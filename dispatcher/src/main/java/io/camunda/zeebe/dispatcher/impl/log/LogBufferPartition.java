@@ -7,15 +7,35 @@
  */
 package io.camunda.zeebe.dispatcher.impl.log;
 
-import static io.camunda.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_CLEAN;
-import static io.camunda.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_NEEDS_CLEANING;
-import static io.camunda.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_STATUS_OFFSET;
+import static io.camunda.zeebe.dispatcher.impl.log.DataFrameDescriptor.HEADER_LENGTH;
+import static io.camunda.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_START_POSITION_OFFSET;
 import static io.camunda.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_TAIL_COUNTER_OFFSET;
 
 import org.agrona.concurrent.UnsafeBuffer;
 
 public class LogBufferPartition {
 
+  /*
+   * The tail counter consists of the generation of the partition, the number of fragments which
+   * are claimed in the partition and the tail offset. The generation is derived from the id under
+   * which the partition is active, so a producer which read an outdated partition id can't claim
+   * in the partition after it was reused.
+   *
+   *   0                   1                   2                   3
+   *   0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1
+   *  +-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+
+   *  |   Gen   |                  Fragment Count                     |
+   *  +---------+-----------------------------------------------------+
+   *  |                          Tail Offset                          |
+   *  +---------------------------------------------------------------+
+   */
+  private static final int TAIL_OFFSET_BITS = 32;
+  private static final int FRAGMENT_COUNT_BITS = 27;
+  private static final long TAIL_OFFSET_MASK = (1L << TAIL_OFFSET_BITS) - 1;
+  private static final long FRAGMENT_COUNT_MASK = (1L << FRAGMENT_COUNT_BITS) - 1;
+  private static final int GENERATION_SHIFT = TAIL_OFFSET_BITS + FRAGMENT_COUNT_BITS;
+  private static final long GENERATION_MASK = (1L << (Long.SIZE - GENERATION_SHIFT)) - 1;
+
   /** The size of the partition */
   protected final int partitionSize;
 
@@ -42,10 +62,37 @@ public class LogBufferPartition {
     dataBuffer.setMemory(0, partitionSize, (byte) 0);
   }
 
-  public void clean() {
+  /**
+   * Cleans the partition, so that it can be activated under the given id.
+   *
+   * @param partitionId the id under which the partition is activated next
+   */
+  public void clean(final int partitionId) {
     dataBuffer.setMemory(0, partitionSize, (byte) 0);
-    metadataBuffer.putInt(PARTITION_TAIL_COUNTER_OFFSET, 0);
-    setStatusOrdered(PARTITION_CLEAN);
+    reset(partitionId);
+  }
+
+  /**
+   * Resets the tail of the partition and sets the generation of the given id. A partition can only
+   * be claimed by producers which found it active under this id. The start position is unset until
+   * the partition is activated, see {@link #compareAndSetStartPosition(int, long)}.
+   */
+  void reset(final int partitionId) {
+    metadataBuffer.putLongOrdered(PARTITION_START_POSITION_OFFSET, unsetStartPosition(partitionId));
+    metadataBuffer.putLongOrdered(PARTITION_TAIL_COUNTER_OFFSET, tailCounter(partitionId, 0, 0));
+  }
+
+  /** @return true if the partition is cleaned for, or active under the given id */
+  public boolean isCleanedFor(final int partitionId) {
+    final long tailCounter = metadataBuffer.getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET);
+    return generation(tailCounter) == (partitionId & GENERATION_MASK);
+  }
+
+  /** @return true if the partition is active under the given id and no more frame fits into it */
+  public boolean isFilled(final int partitionId) {
+    final long tailCounter = metadataBuffer.getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET);
+    return generation(tailCounter) == (partitionId & GENERATION_MASK)
+        && tailOffset(tailCounter) >= partitionSize;
   }
 
   public UnsafeBuffer getDataBuffer() {
@@ -53,27 +100,101 @@ public class LogBufferPartition {
   }
 
   public int getTailCounterVolatile() {
-    return metadataBuffer.getIntVolatile(PARTITION_TAIL_COUNTER_OFFSET);
+    return tailOffset(metadataBuffer.getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET));
   }
 
-  public int getAndAddTail(final int frameLength) {
-    return metadataBuffer.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, frameLength);
+  public int getFragmentCountVolatile() {
+    return fragmentCount(metadataBuffer.getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET));
   }
 
-  public int getPartitionSize() {
-    return partitionSize;
+  public long getStartPositionVolatile() {
+    return metadataBuffer.getLongVolatile(PARTITION_START_POSITION_OFFSET);
+  }
+
+  public void setStartPositionOrdered(final long startPosition) {
+    metadataBuffer.putLongOrdered(PARTITION_START_POSITION_OFFSET, startPosition);
   }
 
-  public void setStatusOrdered(final int status) {
-    metadataBuffer.putIntOrdered(PARTITION_STATUS_OFFSET, status);
+  /**
+   * Sets the start position of the partition, if it is cleaned for the given id and its start
+   * position is not set yet. A producer which read an outdated partition id can't overwrite the
+   * start position after the partition was cleaned for another id, as the unset start position
+   * differs for each id.
+   *
+   * @return true if the start position was set by this call
+   */
+  public boolean compareAndSetStartPosition(final int partitionId, final long startPosition) {
+    return metadataBuffer.compareAndSetLong(
+        PARTITION_START_POSITION_OFFSET, unsetStartPosition(partitionId), startPosition);
+  }
+
+  /**
+   * Moves the tail by the given frame length and adds the given number of fragments, if the frame
+   * fits into the partition. Otherwise, the tail is moved to the end of the partition, so that no
+   * further frame can be claimed. Multiple producers can claim concurrently, each claim is applied
+   * with a single compare-and-set of the tail counter.
+   *
+   * @param partitionId the id under which the producer found the partition active
+   * @return the tail counter before the claim, see {@link #tailOffset(long)} and {@link
+   *     #fragmentCount(long)}; the tail offset is the end of the partition if it was filled or is
+   *     not active under the given id anymore
+   */
+  public long getAndAddTail(final int partitionId, final int frameLength, final int fragmentCount) {
+    final long generation = partitionId & GENERATION_MASK;
+
+    long tailCounter;
+    long newTailCounter;
+    do {
+      tailCounter = metadataBuffer.getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET);
+      if (generation(tailCounter) != generation) {
+        return tailCounter(partitionId, 0, partitionSize);
+      }
+
+      final int tailOffset = tailOffset(tailCounter);
+      if (tailOffset >= partitionSize) {
+        return tailCounter;
+      }
+
+      final long newTailOffset = (long) tailOffset + frameLength;
+      if (newTailOffset <= partitionSize - HEADER_LENGTH) {
+        newTailCounter =
+            tailCounter(
+                partitionId, fragmentCount(tailCounter) + fragmentCount, (int) newTailOffset);
+      } else {
+        newTailCounter = tailCounter(partitionId, fragmentCount(tailCounter), partitionSize);
+      }
+    } while (!metadataBuffer.compareAndSetLong(
+        PARTITION_TAIL_COUNTER_OFFSET, tailCounter, newTailCounter));
+
+    return tailCounter;
+  }
+
+  public static int tailOffset(final long tailCounter) {
+    return (int) (tailCounter & TAIL_OFFSET_MASK);
   }
 
-  public int getStatusVolatile() {
-    return metadataBuffer.getIntVolatile(PARTITION_STATUS_OFFSET);
+  public static int fragmentCount(final long tailCounter) {
+    return (int) ((tailCounter >>> TAIL_OFFSET_BITS) & FRAGMENT_COUNT_MASK);
   }
 
-  public boolean needsCleaning() {
-    return getStatusVolatile() == PARTITION_NEEDS_CLEANING;
+  static long tailCounter(final int partitionId, final int fragmentCount, final int tailOffset) {
+    final long generation = partitionId & GENERATION_MASK;
+    return generation << GENERATION_SHIFT
+        | (fragmentCount & FRAGMENT_COUNT_MASK) << TAIL_OFFSET_BITS
+        | (tailOffset & TAIL_OFFSET_MASK);
+  }
+
+  private static long generation(final long tailCounter) {
+    return tailCounter >>> GENERATION_SHIFT;
+  }
+
+  private static long unsetStartPosition(final int partitionId) {
+    // positions are not negative, and the unset start position is distinct for each id
+    return -1L - partitionId;
+  }
+
+  public int getPartitionSize() {
+    return partitionSize;
   }
 
   public int getUnderlyingBufferOffset() {
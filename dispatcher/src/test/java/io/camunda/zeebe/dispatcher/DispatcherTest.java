@@ -10,10 +10,13 @@ package io.camunda.zeebe.dispatcher;
 import static io.camunda.zeebe.dispatcher.impl.PositionUtil.position;
 import static io.camunda.zeebe.dispatcher.impl.log.DataFrameDescriptor.FRAME_ALIGNMENT;
 import static io.camunda.zeebe.dispatcher.impl.log.DataFrameDescriptor.HEADER_LENGTH;
+import static io.camunda.zeebe.dispatcher.impl.log.LogBufferAppender.RESULT_END_OF_PARTITION;
+import static io.camunda.zeebe.dispatcher.impl.log.LogBufferAppender.RESULT_PADDING_AT_END_OF_PARTITION;
 import static org.agrona.BitUtil.align;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -107,6 +110,10 @@ public final class DispatcherTest {
             return subscriptionSpy;
           }
         };
+
+    verify(logBufferPartition0).setStartPositionOrdered(INITIAL_POSITION);
+    when(logBufferPartition0.getStartPositionVolatile()).thenReturn(INITIAL_POSITION);
+    clearInvocations(logBuffer, logBufferPartition0);
   }
 
   @Test
@@ -148,7 +155,7 @@ public final class DispatcherTest {
             eq(A_MSG_PAYLOAD_LENGTH),
             eq(A_STREAM_ID),
             any()))
-        .thenReturn(A_FRAGMENT_LENGTH);
+        .thenReturn(claimResult(0, A_FRAGMENT_LENGTH));
 
     // if
     final long newPosition =
@@ -274,7 +281,7 @@ public final class DispatcherTest {
             eq(A_MSG_PAYLOAD_LENGTH),
             eq(A_STREAM_ID),
             any()))
-        .thenReturn(A_FRAGMENT_LENGTH);
+        .thenReturn(claimResult(0, A_FRAGMENT_LENGTH), claimResult(1, 2 * A_FRAGMENT_LENGTH));
 
     // when
     long newPosition =
@@ -301,7 +308,8 @@ public final class DispatcherTest {
             eq(fragmentCount),
             eq(A_MSG_PAYLOAD_LENGTH),
             any()))
-        .thenReturn(A_FRAGMENT_LENGTH);
+        .thenReturn(
+            claimResult(0, A_FRAGMENT_LENGTH), claimResult(fragmentCount, 2 * A_FRAGMENT_LENGTH));
 
     // when
     long newPosition =
@@ -313,4 +321,106 @@ public final class DispatcherTest {
         dispatcher.claimFragmentBatch(claimedFragmentBatch, fragmentCount, A_MSG_PAYLOAD_LENGTH);
     assertThat(newPosition).isEqualTo(INITIAL_POSITION + fragmentCount);
   }
+
+  @Test
+  public void shouldRetryClaimInNextPartitionIfFilledByOtherProducer() {
+    // given
+    when(logBuffer.getActivePartitionIdVolatile()).thenReturn(0, 1);
+    when(logBuffer.activateNextPartition(0)).thenReturn(true);
+    when(publisherLimit.get()).thenReturn(position(1, A_FRAGMENT_LENGTH));
+    when(logAppender.claim(
+            eq(logBufferPartition0),
+            eq(0),
+            eq(claimedFragment),
+            eq(A_MSG_PAYLOAD_LENGTH),
+            eq(A_STREAM_ID),
+            any()))
+        .thenReturn((long) RESULT_END_OF_PARTITION);
+    when(logAppender.claim(
+            eq(logBufferPartition1),
+            eq(1),
+            eq(claimedFragment),
+            eq(A_MSG_PAYLOAD_LENGTH),
+            eq(A_STREAM_ID),
+            any()))
+        .thenReturn(claimResult(0, A_FRAGMENT_LENGTH));
+    when(logBufferPartition1.getStartPositionVolatile()).thenReturn(INITIAL_POSITION + 10);
+
+    // when
+    final long newPosition =
+        dispatcher.claimSingleFragment(claimedFragment, A_MSG_PAYLOAD_LENGTH, A_STREAM_ID);
+
+    // then
+    assertThat(newPosition).isEqualTo(INITIAL_POSITION + 10);
+    verify(logBuffer).activateNextPartition(0);
+    verify(publisherPosition).proposeMaxOrdered(position(1, A_FRAGMENT_LENGTH));
+  }
+
+  @Test
+  public void shouldRetryClaimInNextPartitionAfterPadding() {
+    // given
+    when(logBuffer.getActivePartitionIdVolatile()).thenReturn(0, 1);
+    when(logBuffer.activateNextPartition(0)).thenReturn(true);
+    when(publisherLimit.get()).thenReturn(position(1, A_FRAGMENT_LENGTH));
+    when(logAppender.claim(
+            eq(logBufferPartition0),
+            eq(0),
+            eq(claimedFragment),
+            eq(A_MSG_PAYLOAD_LENGTH),
+            eq(A_STREAM_ID),
+            any()))
+        .thenReturn((long) RESULT_PADDING_AT_END_OF_PARTITION);
+    when(logAppender.claim(
+            eq(logBufferPartition1),
+            eq(1),
+            eq(claimedFragment),
+            eq(A_MSG_PAYLOAD_LENGTH),
+            eq(A_STREAM_ID),
+            any()))
+        .thenReturn(claimResult(0, A_FRAGMENT_LENGTH));
+    when(logBufferPartition1.getStartPositionVolatile()).thenReturn(INITIAL_POSITION + 10);
+
+    // when
+    final long newPosition =
+        dispatcher.claimSingleFragment(claimedFragment, A_MSG_PAYLOAD_LENGTH, A_STREAM_ID);
+
+    // then
+    assertThat(newPosition).isEqualTo(INITIAL_POSITION + 10);
+    verify(logBuffer).activateNextPartition(0);
+  }
+
+  @Test
+  public void shouldNotClaimIfNextPartitionIsNotCleaned() {
+    // given
+    when(logBuffer.getActivePartitionIdVolatile()).thenReturn(1);
+    when(logBuffer.activateNextPartition(1)).thenReturn(false);
+    when(publisherLimit.get()).thenReturn(position(1, A_FRAGMENT_LENGTH));
+    when(logAppender.claim(
+            eq(logBufferPartition1),
+            eq(1),
+            eq(claimedFragment),
+            eq(A_MSG_PAYLOAD_LENGTH),
+            eq(A_STREAM_ID),
+            any()))
+        .thenReturn((long) RESULT_END_OF_PARTITION);
+
+    // when
+    final long newPosition =
+        dispatcher.claimSingleFragment(claimedFragment, A_MSG_PAYLOAD_LENGTH, A_STREAM_ID);
+
+    // then
+    assertThat(newPosition).isEqualTo(-1);
+    verify(logAppender)
+        .claim(
+            eq(logBufferPartition1),
+            eq(1),
+            eq(claimedFragment),
+            eq(A_MSG_PAYLOAD_LENGTH),
+            eq(A_STREAM_ID),
+            any());
+  }
+
+  private static long claimResult(final int fragmentIndex, final int newTail) {
+    return ((long) fragmentIndex << 32) | newTail;
+  }
 }
@@ -13,10 +13,15 @@ import static io.camunda.zeebe.dispatcher.impl.log.DataFrameDescriptor.TYPE_PADD
 import static io.camunda.zeebe.dispatcher.impl.log.DataFrameDescriptor.framedLength;
 import static io.camunda.zeebe.dispatcher.impl.log.DataFrameDescriptor.lengthOffset;
 import static io.camunda.zeebe.dispatcher.impl.log.DataFrameDescriptor.typeOffset;
+import static io.camunda.zeebe.dispatcher.impl.log.LogBufferAppender.claimedFragmentIndex;
+import static io.camunda.zeebe.dispatcher.impl.log.LogBufferAppender.claimedTail;
 import static io.camunda.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_TAIL_COUNTER_OFFSET;
+import static io.camunda.zeebe.dispatcher.impl.log.LogBufferPartition.tailCounter;
 import static org.agrona.BitUtil.align;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -77,12 +82,10 @@ public final class LogBufferAppenderClaimBatchTest {
     // given
     final int currentTail = 0;
 
-    when(metadataBufferMock.getAndAddInt(
-            PARTITION_TAIL_COUNTER_OFFSET, SINGLE_BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    givenTail(currentTail);
 
     // when
-    final int newTail =
+    final long claimResult =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
@@ -92,13 +95,13 @@ public final class LogBufferAppenderClaimBatchTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(currentTail + SINGLE_BATCH_FRAGMENT_LENGTH);
+    assertThat(claimedTail(claimResult)).isEqualTo(currentTail + SINGLE_BATCH_FRAGMENT_LENGTH);
+    assertThat(claimedFragmentIndex(claimResult)).isZero();
 
     verify(claimedBatchMock)
         .wrap(dataBufferMock, PARTITION_ID, currentTail, SINGLE_BATCH_FRAGMENT_LENGTH, DO_NOTHING);
 
-    verify(metadataBufferMock)
-        .getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, SINGLE_BATCH_FRAGMENT_LENGTH);
+    verifyTailMoved(currentTail, 1, currentTail + SINGLE_BATCH_FRAGMENT_LENGTH);
     verifyNoMoreInteractions(metadataBufferMock);
   }
 
@@ -107,11 +110,10 @@ public final class LogBufferAppenderClaimBatchTest {
     // given
     final int currentTail = 0;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    givenTail(currentTail);
 
     // when
-    final int newTail =
+    final long claimResult =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
@@ -121,12 +123,13 @@ public final class LogBufferAppenderClaimBatchTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(currentTail + BATCH_FRAGMENT_LENGTH);
+    assertThat(claimedTail(claimResult)).isEqualTo(currentTail + BATCH_FRAGMENT_LENGTH);
+    assertThat(claimedFragmentIndex(claimResult)).isZero();
 
     verify(claimedBatchMock)
         .wrap(dataBufferMock, PARTITION_ID, currentTail, BATCH_FRAGMENT_LENGTH, DO_NOTHING);
 
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH);
+    verifyTailMoved(currentTail, BATCH_FRAGMENT_COUNT, currentTail + BATCH_FRAGMENT_LENGTH);
     verifyNoMoreInteractions(metadataBufferMock);
   }
 
@@ -135,11 +138,10 @@ public final class LogBufferAppenderClaimBatchTest {
     // given
     final int currentTail = PARTITION_LENGTH - HEADER_LENGTH - BATCH_FRAGMENT_LENGTH;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    givenTail(currentTail);
 
     // when
-    final int newTail =
+    final long claimResult =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
@@ -149,12 +151,13 @@ public final class LogBufferAppenderClaimBatchTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(currentTail + BATCH_FRAGMENT_LENGTH);
+    assertThat(claimedTail(claimResult)).isEqualTo(currentTail + BATCH_FRAGMENT_LENGTH);
+    assertThat(claimedFragmentIndex(claimResult)).isZero();
 
     verify(claimedBatchMock)
         .wrap(dataBufferMock, PARTITION_ID, currentTail, BATCH_FRAGMENT_LENGTH, DO_NOTHING);
 
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH);
+    verifyTailMoved(currentTail, BATCH_FRAGMENT_COUNT, currentTail + BATCH_FRAGMENT_LENGTH);
     verifyNoMoreInteractions(metadataBufferMock);
   }
 
@@ -164,10 +167,9 @@ public final class LogBufferAppenderClaimBatchTest {
     final int currentTail = PARTITION_LENGTH - HEADER_LENGTH - BATCH_FRAGMENT_LENGTH + 1;
 
     // when
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    givenTail(currentTail);
 
-    final int newTail =
+    final long claimResult =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
@@ -177,10 +179,10 @@ public final class LogBufferAppenderClaimBatchTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(-2);
+    assertThat(claimResult).isEqualTo(-2);
 
-    // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH);
+    // the tail is moved to the end of the partition
+    verifyTailMoved(currentTail, 0, PARTITION_LENGTH);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the buffer is filled with padding
@@ -200,11 +202,10 @@ public final class LogBufferAppenderClaimBatchTest {
     // given
     final int currentTail = PARTITION_LENGTH - HEADER_LENGTH;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    givenTail(currentTail);
 
     // when
-    final int newTail =
+    final long claimResult =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
@@ -214,10 +215,10 @@ public final class LogBufferAppenderClaimBatchTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(-2);
+    assertThat(claimResult).isEqualTo(-2);
 
-    // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH);
+    // the tail is moved to the end of the partition
+    verifyTailMoved(currentTail, 0, PARTITION_LENGTH);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the buffer is filled with padding
@@ -237,11 +238,10 @@ public final class LogBufferAppenderClaimBatchTest {
     // given
     final int currentTail = PARTITION_LENGTH - HEADER_LENGTH + 1;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    givenTail(currentTail);
 
     // when
-    final int newTail =
+    final long claimResult =
         logBufferAppender.claim(
             logBufferPartition,
             PARTITION_ID,
@@ -251,13 +251,31 @@ public final class LogBufferAppenderClaimBatchTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(-1);
+    assertThat(claimResult).isEqualTo(-1);
 
-    // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, BATCH_FRAGMENT_LENGTH);
+    // the tail is moved to the end of the partition
+    verifyTailMoved(currentTail, 0, PARTITION_LENGTH);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and no message / padding is written
     verify(dataBufferMock, times(0)).putIntOrdered(anyInt(), anyInt());
   }
+
+  private void givenTail(final int currentTail) {
+    final long tailCounter = tailCounter(PARTITION_ID, 0, currentTail);
+    when(metadataBufferMock.getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET)).thenReturn(tailCounter);
+    when(metadataBufferMock.compareAndSetLong(
+            eq(PARTITION_TAIL_COUNTER_OFFSET), eq(tailCounter), anyLong()))
+        .thenReturn(true);
+  }
+
+  private void verifyTailMoved(
+      final int currentTail, final int claimedFragments, final int newTail) {
+    verify(metadataBufferMock).getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET);
+    verify(metadataBufferMock)
+        .compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            tailCounter(PARTITION_ID, 0, currentTail),
+            tailCounter(PARTITION_ID, claimedFragments, newTail));
+  }
 }
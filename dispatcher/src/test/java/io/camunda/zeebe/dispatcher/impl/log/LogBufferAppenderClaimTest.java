@@ -15,10 +15,15 @@ import static io.camunda.zeebe.dispatcher.impl.log.DataFrameDescriptor.framedLen
 import static io.camunda.zeebe.dispatcher.impl.log.DataFrameDescriptor.lengthOffset;
 import static io.camunda.zeebe.dispatcher.impl.log.DataFrameDescriptor.streamIdOffset;
 import static io.camunda.zeebe.dispatcher.impl.log.DataFrameDescriptor.typeOffset;
+import static io.camunda.zeebe.dispatcher.impl.log.LogBufferAppender.claimedFragmentIndex;
+import static io.camunda.zeebe.dispatcher.impl.log.LogBufferAppender.claimedTail;
 import static io.camunda.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_TAIL_COUNTER_OFFSET;
+import static io.camunda.zeebe.dispatcher.impl.log.LogBufferPartition.tailCounter;
 import static org.agrona.BitUtil.align;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -68,11 +73,10 @@ public final class LogBufferAppenderClaimTest {
     // that the message + next message header fit into the buffer and there is more space
     final int currentTail = 0;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    givenTail(currentTail);
 
     // if
-    final int newTail =
+    final long claimResult =
         logBufferAppender.claim(
             logBufferPartition,
             A_PARTITION_ID,
@@ -82,10 +86,11 @@ public final class LogBufferAppenderClaimTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(currentTail + A_FRAGMENT_LENGTH);
+    assertThat(claimedTail(claimResult)).isEqualTo(currentTail + A_FRAGMENT_LENGTH);
+    assertThat(claimedFragmentIndex(claimResult)).isZero();
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verifyTailMoved(currentTail, 1, currentTail + A_FRAGMENT_LENGTH);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // the negative header was written and the claimed fragment now wraps the buffer section
@@ -106,11 +111,10 @@ public final class LogBufferAppenderClaimTest {
     // that the message + next message header EXACTLY fit into the buffer
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH - A_FRAGMENT_LENGTH;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    givenTail(currentTail);
 
     // if
-    final int newTail =
+    final long claimResult =
         logBufferAppender.claim(
             logBufferPartition,
             A_PARTITION_ID,
@@ -120,10 +124,11 @@ public final class LogBufferAppenderClaimTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(currentTail + A_FRAGMENT_LENGTH);
+    assertThat(claimedTail(claimResult)).isEqualTo(currentTail + A_FRAGMENT_LENGTH);
+    assertThat(claimedFragmentIndex(claimResult)).isZero();
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verifyTailMoved(currentTail, 1, currentTail + A_FRAGMENT_LENGTH);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // the negative header was written and the claimed fragment now wraps the buffer section
@@ -144,12 +149,11 @@ public final class LogBufferAppenderClaimTest {
     // that the message + next message header do NOT fit into the buffer
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH - A_FRAGMENT_LENGTH + 1;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    givenTail(currentTail);
 
     // if        throw new RuntimeException("File " + bufferFileName + " does not exist");
 
-    final int newTail =
+    final long claimResult =
         logBufferAppender.claim(
             logBufferPartition,
             A_PARTITION_ID,
@@ -159,10 +163,10 @@ public final class LogBufferAppenderClaimTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(-2);
+    assertThat(claimResult).isEqualTo(-2);
 
-    // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    // the tail is moved to the end of the partition
+    verifyTailMoved(currentTail, 0, A_PARTITION_LENGTH);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the buffer is filled with padding
@@ -184,11 +188,10 @@ public final class LogBufferAppenderClaimTest {
     // header fits the buffer)
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    givenTail(currentTail);
 
     // if
-    final int newTail =
+    final long claimResult =
         logBufferAppender.claim(
             logBufferPartition,
             A_PARTITION_ID,
@@ -198,10 +201,10 @@ public final class LogBufferAppenderClaimTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(-2);
+    assertThat(claimResult).isEqualTo(-2);
 
-    // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    // the tail is moved to the end of the partition
+    verifyTailMoved(currentTail, 0, A_PARTITION_LENGTH);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the buffer is filled with padding
@@ -222,11 +225,10 @@ public final class LogBufferAppenderClaimTest {
     // that the tail is beyond the trip point
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH + 1;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    givenTail(currentTail);
 
     // if
-    final int newTail =
+    final long claimResult =
         logBufferAppender.claim(
             logBufferPartition,
             A_PARTITION_ID,
@@ -236,13 +238,128 @@ public final class LogBufferAppenderClaimTest {
             DO_NOTHING);
 
     // then
-    assertThat(newTail).isEqualTo(-1);
+    assertThat(claimResult).isEqualTo(-1);
 
-    // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    // the tail is moved to the end of the partition
+    verifyTailMoved(currentTail, 0, A_PARTITION_LENGTH);
+    verifyNoMoreInteractions(metadataBufferMock);
+
+    // and no message / padding is written
+    verify(dataBufferMock, times(0)).putIntOrdered(anyInt(), anyInt());
+  }
+
+  @Test
+  public void shouldReturnIndexOfClaimedFragment() {
+    // given
+    // that fragments were claimed in the partition before
+    final int currentTail = 3 * A_FRAGMENT_LENGTH;
+    final long tailCounter = tailCounter(A_PARTITION_ID, 3, currentTail);
+
+    when(metadataBufferMock.getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET)).thenReturn(tailCounter);
+    when(metadataBufferMock.compareAndSetLong(
+            eq(PARTITION_TAIL_COUNTER_OFFSET), eq(tailCounter), anyLong()))
+        .thenReturn(true);
+
+    // if
+    final long claimResult =
+        logBufferAppender.claim(
+            logBufferPartition,
+            A_PARTITION_ID,
+            claimedFragmentMock,
+            A_MSG_PAYLOAD_LENGTH,
+            A_STREAM_ID,
+            DO_NOTHING);
+
+    // then
+    assertThat(claimedTail(claimResult)).isEqualTo(currentTail + A_FRAGMENT_LENGTH);
+    assertThat(claimedFragmentIndex(claimResult)).isEqualTo(3);
+
+    // the tail is moved by the aligned message length and the fragment is counted
+    verify(metadataBufferMock)
+        .compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            tailCounter,
+            tailCounter(A_PARTITION_ID, 4, currentTail + A_FRAGMENT_LENGTH));
+  }
+
+  @Test
+  public void shouldRetryClaimIfTailWasMovedConcurrently() {
+    // given
+    // that another producer moves the tail between reading and updating it
+    final long tailCounter = tailCounter(A_PARTITION_ID, 0, 0);
+    final long movedTailCounter = tailCounter(A_PARTITION_ID, 1, A_FRAGMENT_LENGTH);
+
+    when(metadataBufferMock.getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET))
+        .thenReturn(tailCounter, movedTailCounter);
+    when(metadataBufferMock.compareAndSetLong(
+            eq(PARTITION_TAIL_COUNTER_OFFSET), eq(tailCounter), anyLong()))
+        .thenReturn(false);
+    when(metadataBufferMock.compareAndSetLong(
+            eq(PARTITION_TAIL_COUNTER_OFFSET), eq(movedTailCounter), anyLong()))
+        .thenReturn(true);
+
+    // if
+    final long claimResult =
+        logBufferAppender.claim(
+            logBufferPartition,
+            A_PARTITION_ID,
+            claimedFragmentMock,
+            A_MSG_PAYLOAD_LENGTH,
+            A_STREAM_ID,
+            DO_NOTHING);
+
+    // then
+    assertThat(claimedTail(claimResult)).isEqualTo(2 * A_FRAGMENT_LENGTH);
+    assertThat(claimedFragmentIndex(claimResult)).isEqualTo(1);
+
+    verify(claimedFragmentMock)
+        .wrap(dataBufferMock, A_FRAGMENT_LENGTH, A_MSG_PAYLOAD_LENGTH + HEADER_LENGTH, DO_NOTHING);
+  }
+
+  @Test
+  public void shouldRejectIfPartitionIsNotActiveUnderId() {
+    // given
+    // that the partition was reused under another id
+    final long tailCounter = tailCounter(A_PARTITION_ID + 3, 0, 0);
+
+    when(metadataBufferMock.getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET)).thenReturn(tailCounter);
+
+    // if
+    final long claimResult =
+        logBufferAppender.claim(
+            logBufferPartition,
+            A_PARTITION_ID,
+            claimedFragmentMock,
+            A_MSG_PAYLOAD_LENGTH,
+            A_STREAM_ID,
+            DO_NOTHING);
+
+    // then
+    assertThat(claimResult).isEqualTo(-1);
+
+    // the tail is not moved
+    verify(metadataBufferMock).getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and no message / padding is written
     verify(dataBufferMock, times(0)).putIntOrdered(anyInt(), anyInt());
   }
+
+  private void givenTail(final int currentTail) {
+    final long tailCounter = tailCounter(A_PARTITION_ID, 0, currentTail);
+    when(metadataBufferMock.getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET)).thenReturn(tailCounter);
+    when(metadataBufferMock.compareAndSetLong(
+            eq(PARTITION_TAIL_COUNTER_OFFSET), eq(tailCounter), anyLong()))
+        .thenReturn(true);
+  }
+
+  private void verifyTailMoved(
+      final int currentTail, final int claimedFragments, final int newTail) {
+    verify(metadataBufferMock).getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET);
+    verify(metadataBufferMock)
+        .compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            tailCounter(A_PARTITION_ID, 0, currentTail),
+            tailCounter(A_PARTITION_ID, claimedFragments, newTail));
+  }
 }
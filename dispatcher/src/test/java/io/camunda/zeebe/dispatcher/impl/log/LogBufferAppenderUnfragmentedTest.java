@@ -17,8 +17,11 @@ import static io.camunda.zeebe.dispatcher.impl.log.DataFrameDescriptor.messageOf
 import static io.camunda.zeebe.dispatcher.impl.log.DataFrameDescriptor.streamIdOffset;
 import static io.camunda.zeebe.dispatcher.impl.log.DataFrameDescriptor.typeOffset;
 import static io.camunda.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_TAIL_COUNTER_OFFSET;
+import static io.camunda.zeebe.dispatcher.impl.log.LogBufferPartition.tailCounter;
 import static org.agrona.BitUtil.align;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
@@ -66,8 +69,7 @@ public final class LogBufferAppenderUnfragmentedTest {
     // that the message + next message header fit into the buffer and there is more space
     final int currentTail = 0;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    givenTail(currentTail);
 
     // if
     final int newTail =
@@ -78,7 +80,7 @@ public final class LogBufferAppenderUnfragmentedTest {
     assertThat(newTail).isEqualTo(currentTail + A_FRAGMENT_LENGTH);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verifyTailMoved(currentTail, 1, currentTail + A_FRAGMENT_LENGTH);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the message is appended to the buffer
@@ -102,8 +104,7 @@ public final class LogBufferAppenderUnfragmentedTest {
     // that the message + next message header EXACTLY fit into the buffer
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH - A_FRAGMENT_LENGTH;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    givenTail(currentTail);
 
     // if
     final int newTail =
@@ -114,7 +115,7 @@ public final class LogBufferAppenderUnfragmentedTest {
     assertThat(newTail).isEqualTo(currentTail + A_FRAGMENT_LENGTH);
 
     // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    verifyTailMoved(currentTail, 1, currentTail + A_FRAGMENT_LENGTH);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the message is appended to the buffer
@@ -135,8 +136,7 @@ public final class LogBufferAppenderUnfragmentedTest {
     // that the message + next message header do NOT fit into the buffer
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH - A_FRAGMENT_LENGTH + 1;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    givenTail(currentTail);
 
     // if
     final int newTail =
@@ -146,8 +146,8 @@ public final class LogBufferAppenderUnfragmentedTest {
     // then
     assertThat(newTail).isEqualTo(-2);
 
-    // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    // the tail is moved to the end of the partition
+    verifyTailMoved(currentTail, 0, A_PARTITION_LENGTH);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the buffer is filled with padding
@@ -169,8 +169,7 @@ public final class LogBufferAppenderUnfragmentedTest {
     // header fits the buffer)
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    givenTail(currentTail);
 
     // if
     final int newTail =
@@ -180,8 +179,8 @@ public final class LogBufferAppenderUnfragmentedTest {
     // then
     assertThat(newTail).isEqualTo(-2);
 
-    // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    // the tail is moved to the end of the partition
+    verifyTailMoved(currentTail, 0, A_PARTITION_LENGTH);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and the buffer is filled with padding
@@ -202,8 +201,7 @@ public final class LogBufferAppenderUnfragmentedTest {
     // that the tail is beyond the trip point
     final int currentTail = A_PARTITION_LENGTH - HEADER_LENGTH + 1;
 
-    when(metadataBufferMock.getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH))
-        .thenReturn(currentTail);
+    givenTail(currentTail);
 
     // if
     final int newTail =
@@ -213,11 +211,29 @@ public final class LogBufferAppenderUnfragmentedTest {
     // then
     assertThat(newTail).isEqualTo(-1);
 
-    // the tail is moved by the aligned message length
-    verify(metadataBufferMock).getAndAddInt(PARTITION_TAIL_COUNTER_OFFSET, A_FRAGMENT_LENGTH);
+    // the tail is moved to the end of the partition
+    verifyTailMoved(currentTail, 0, A_PARTITION_LENGTH);
     verifyNoMoreInteractions(metadataBufferMock);
 
     // and no message / padding is written
     verify(dataBufferMock, times(0)).putIntOrdered(anyInt(), anyInt());
   }
+
+  private void givenTail(final int currentTail) {
+    final long tailCounter = tailCounter(A_PARTITION_ID, 0, currentTail);
+    when(metadataBufferMock.getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET)).thenReturn(tailCounter);
+    when(metadataBufferMock.compareAndSetLong(
+            eq(PARTITION_TAIL_COUNTER_OFFSET), eq(tailCounter), anyLong()))
+        .thenReturn(true);
+  }
+
+  private void verifyTailMoved(
+      final int currentTail, final int claimedFragments, final int newTail) {
+    verify(metadataBufferMock).getLongVolatile(PARTITION_TAIL_COUNTER_OFFSET);
+    verify(metadataBufferMock)
+        .compareAndSetLong(
+            PARTITION_TAIL_COUNTER_OFFSET,
+            tailCounter(A_PARTITION_ID, 0, currentTail),
+            tailCounter(A_PARTITION_ID, claimedFragments, newTail));
+  }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.dispatcher.impl.log;
+
+import static io.camunda.zeebe.dispatcher.impl.log.LogBufferDescriptor.PARTITION_MIN_LENGTH;
+import static io.camunda.zeebe.dispatcher.impl.log.LogBufferDescriptor.requiredCapacity;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.util.allocation.BufferAllocators;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class LogBufferTest {
+
+  private static final int PARTITION_SIZE = PARTITION_MIN_LENGTH;
+  private static final long INITIAL_POSITION = 100L;
+
+  private LogBuffer logBuffer;
+
+  @Before
+  public void setup() {
+    logBuffer =
+        new LogBuffer(
+            BufferAllocators.allocateDirect(requiredCapacity(PARTITION_SIZE)), PARTITION_SIZE);
+    logBuffer.getPartition(0).setStartPositionOrdered(INITIAL_POSITION);
+  }
+
+  @After
+  public void tearDown() {
+    logBuffer.close();
+  }
+
+  @Test
+  public void shouldActivateNextPartitionIfFilled() {
+    // given
+    fill(0, 3);
+
+    // when
+    final boolean activated = logBuffer.activateNextPartition(0);
+
+    // then
+    assertThat(activated).isTrue();
+    assertThat(logBuffer.getActivePartitionIdVolatile()).isEqualTo(1);
+    assertThat(logBuffer.getPartition(1).getStartPositionVolatile())
+        .isEqualTo(INITIAL_POSITION + 3);
+  }
+
+  @Test
+  public void shouldNotActivateNextPartitionIfNotFilled() {
+    // given
+    logBuffer.getPartition(0).getAndAddTail(0, 64, 1);
+
+    // when
+    final boolean activated = logBuffer.activateNextPartition(0);
+
+    // then
+    assertThat(activated).isFalse();
+    assertThat(logBuffer.getActivePartitionIdVolatile()).isZero();
+  }
+
+  @Test
+  public void shouldNotActivateNextPartitionIfNotCleaned() {
+    // given
+    fill(0, 1);
+    logBuffer.activateNextPartition(0);
+    fill(1, 2);
+    logBuffer.activateNextPartition(1);
+    fill(2, 3);
+
+    // when
+    final boolean activated = logBuffer.activateNextPartition(2);
+
+    // then
+    assertThat(activated).isFalse();
+    assertThat(logBuffer.getActivePartitionIdVolatile()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldActivateNextPartitionOnceCleaned() {
+    // given
+    fill(0, 1);
+    logBuffer.activateNextPartition(0);
+    fill(1, 2);
+    logBuffer.activateNextPartition(1);
+    fill(2, 3);
+
+    // when
+    logBuffer.cleanPartitions();
+    final boolean activated = logBuffer.activateNextPartition(2);
+
+    // then
+    assertThat(activated).isTrue();
+    assertThat(logBuffer.getActivePartitionIdVolatile()).isEqualTo(3);
+    assertThat(logBuffer.getPartition(3).getStartPositionVolatile())
+        .isEqualTo(INITIAL_POSITION + 6);
+  }
+
+  @Test
+  public void shouldIgnoreActivationByOutdatedProducer() {
+    // given
+    fill(0, 1);
+    logBuffer.activateNextPartition(0);
+    fill(1, 2);
+    logBuffer.activateNextPartition(1);
+    fill(2, 3);
+    logBuffer.cleanPartitions();
+    logBuffer.activateNextPartition(2);
+
+    // when
+    final boolean activated = logBuffer.activateNextPartition(0);
+
+    // then
+    assertThat(activated).isTrue();
+    assertThat(logBuffer.getActivePartitionIdVolatile()).isEqualTo(3);
+    assertThat(logBuffer.getPartition(1).getStartPositionVolatile())
+        .isEqualTo(INITIAL_POSITION + 1);
+    assertThat(logBuffer.getPartition(3).getStartPositionVolatile())
+        .isEqualTo(INITIAL_POSITION + 6);
+  }
+
+  @Test
+  public void shouldNotCleanActiveOrPreviousPartition() {
+    // given
+    fill(0, 1);
+    logBuffer.activateNextPartition(0);
+    logBuffer.getPartition(1).getAndAddTail(1, 64, 1);
+
+    // when
+    logBuffer.cleanPartitions();
+
+    // then
+    assertThat(logBuffer.getPartition(0).isFilled(0)).isTrue();
+    assertThat(logBuffer.getPartition(1).getFragmentCountVolatile()).isOne();
+  }
+
+  private void fill(final int partitionId, final int fragmentCount) {
+    final LogBufferPartition partition = logBuffer.getPartition(partitionId);
+    partition.getAndAddTail(partitionId, 64, fragmentCount);
+    partition.getAndAddTail(partitionId, PARTITION_SIZE, 0);
+    assertThat(partition.isFilled(partitionId)).isTrue();
+  }
+}
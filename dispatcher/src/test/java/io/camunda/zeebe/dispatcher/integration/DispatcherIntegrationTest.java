@@ -22,6 +22,7 @@ import io.camunda.zeebe.dispatcher.Subscription;
 import io.camunda.zeebe.util.ByteValue;
 import io.camunda.zeebe.util.sched.testing.ActorSchedulerRule;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -99,6 +100,70 @@ public final class DispatcherIntegrationTest {
     assertThat(consumer.counters).contains(1, 2);
   }
 
+  @Test
+  public void shouldAssignContiguousPositionsToConcurrentProducers() throws Exception {
+    // given
+    final int producerCount = 4;
+    final int fragmentsPerProducer = 50_000;
+    final int totalWork = producerCount * fragmentsPerProducer;
+
+    // a small buffer to roll over the partitions many times
+    final Dispatcher dispatcher =
+        Dispatchers.create("default")
+            .actorSchedulingService(actorSchedulerRule.get())
+            .bufferSize((int) ByteValue.ofKilobytes(64))
+            .build();
+
+    final Subscription subscription = dispatcher.openSubscription("test");
+    final List<Long> positions = new ArrayList<>();
+    final FragmentHandler positionCollector =
+        (buffer, offset, length, streamId, isMarkedFailed) -> {
+          positions.add(buffer.getLong(offset));
+          return FragmentHandler.CONSUME_FRAGMENT_RESULT;
+        };
+
+    final Thread consumerThread =
+        new Thread(
+            () -> {
+              while (positions.size() < totalWork) {
+                subscription.poll(positionCollector, Integer.MAX_VALUE);
+              }
+            });
+    consumerThread.start();
+
+    // when
+    final List<Thread> producerThreads = new ArrayList<>();
+    for (int i = 0; i < producerCount; i++) {
+      final Thread producerThread =
+          new Thread(
+              () -> {
+                final ClaimedFragment claimedFragment = new ClaimedFragment();
+                for (int j = 0; j < fragmentsPerProducer; j++) {
+                  long position;
+                  while ((position = dispatcher.claimSingleFragment(claimedFragment, 59)) <= 0) {
+                    // spin
+                  }
+                  claimedFragment.getBuffer().putLong(claimedFragment.getOffset(), position);
+                  claimedFragment.commit();
+                }
+              });
+      producerThread.start();
+      producerThreads.add(producerThread);
+    }
+
+    for (final Thread producerThread : producerThreads) {
+      producerThread.join();
+    }
+    consumerThread.join();
+    dispatcher.close();
+
+    // then
+    assertThat(positions).hasSize(totalWork);
+    for (int i = 0; i < totalWork; i++) {
+      assertThat(positions.get(i)).isEqualTo(1L + i);
+    }
+  }
+
   @Test
   public void testPeekBlock() throws Exception {
     final int totalWork = 10000000;
@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.metrics;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
+import java.util.concurrent.TimeUnit;
 
 public final class ReplayMetrics {
 
@@ -41,8 +42,56 @@ public final class ReplayMetrics {
           .labelNames(LABEL_NAME_PARTITION)
           .register();
 
+  private static final Gauge TARGET_POSITION =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("replay_target_position")
+          .help("The position of the last record on the log when the replay started.")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  private static final Gauge REMAINING_RECORDS =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("replay_remaining_records")
+          .help("Number of records which are left to replay until the target position is reached.")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  private static final Gauge REMAINING_BYTES =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("replay_remaining_bytes")
+          .help(
+              "Estimated size of the records which are left to replay until the target position is reached, based on the average size of the replayed records.")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  private static final Gauge ESTIMATED_TIME_REMAINING =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("replay_estimated_time_remaining")
+          .help(
+              "Estimated time (in seconds) until the target position is replayed, based on the replay throughput so far.")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  private static final Gauge RECOVERY_DURATION =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("replay_recovery_duration")
+          .help("Time (in seconds) the replay needed to reach the target position.")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
   private final String partitionIdLabel;
 
+  private long targetPosition;
+  private long startNanos;
+  private long replayedRecords;
+  private long replayedBytes;
+  private boolean targetReached = true;
+
   public ReplayMetrics(final int partitionId) {
     partitionIdLabel = String.valueOf(partitionId);
   }
@@ -58,4 +107,88 @@ public final class ReplayMetrics {
   public void setLastSourcePosition(final long position) {
     LAST_SOURCE_POSITION.labels(partitionIdLabel).set(position);
   }
+
+  /**
+   * Starts to track the progress of the replay towards the given target position, i.e. the end of
+   * the log when the replay started.
+   *
+   * @param startPosition the position after which the replay starts, e.g. the snapshot position
+   * @param targetPosition the position of the last record on the log
+   */
+  public void startReplay(final long startPosition, final long targetPosition) {
+    this.targetPosition = targetPosition;
+    startNanos = System.nanoTime();
+    replayedRecords = 0;
+    replayedBytes = 0;
+    targetReached = false;
+
+    TARGET_POSITION.labels(partitionIdLabel).set(targetPosition);
+    REMAINING_RECORDS.labels(partitionIdLabel).set(Math.max(0, targetPosition - startPosition));
+    REMAINING_BYTES.labels(partitionIdLabel).set(0);
+    ESTIMATED_TIME_REMAINING.labels(partitionIdLabel).set(0);
+    RECOVERY_DURATION.labels(partitionIdLabel).set(0);
+
+    if (targetPosition <= startPosition) {
+      onTargetReached();
+    }
+  }
+
+  /**
+   * Updates the replay progress, after the given records were replayed.
+   *
+   * @param lastPosition the position of the last replayed record
+   * @param records the number of the replayed records
+   * @param bytes the size of the replayed records
+   */
+  public void replayed(final long lastPosition, final long records, final long bytes) {
+    if (targetReached) {
+      return;
+    }
+
+    replayedRecords += records;
+    replayedBytes += bytes;
+
+    final var remainingRecords = targetPosition - lastPosition;
+    if (remainingRecords <= 0) {
+      onTargetReached();
+      return;
+    }
+
+    final var elapsedNanos = Math.max(1, System.nanoTime() - startNanos);
+    REMAINING_RECORDS.labels(partitionIdLabel).set(remainingRecords);
+    if (replayedRecords > 0) {
+      REMAINING_BYTES
+          .labels(partitionIdLabel)
+          .set((double) remainingRecords * replayedBytes / replayedRecords);
+      ESTIMATED_TIME_REMAINING
+          .labels(partitionIdLabel)
+          .set(
+              (double) remainingRecords
+                  * elapsedNanos
+                  / replayedRecords
+                  / TimeUnit.SECONDS.toNanos(1));
+    }
+  }
+
+  /**
+   * Marks the replay as finished, even if the target position was not reached, e.g. because the
+   * last records on the log are not committed yet.
+   */
+  public void finishReplay() {
+    if (!targetReached) {
+      onTargetReached();
+    }
+  }
+
+  private void onTargetReached() {
+    targetReached = true;
+
+    final var elapsedNanos = System.nanoTime() - startNanos;
+    REMAINING_RECORDS.labels(partitionIdLabel).set(0);
+    REMAINING_BYTES.labels(partitionIdLabel).set(0);
+    ESTIMATED_TIME_REMAINING.labels(partitionIdLabel).set(0);
+    RECOVERY_DURATION
+        .labels(partitionIdLabel)
+        .set((double) elapsedNanos / TimeUnit.SECONDS.toNanos(1));
+  }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+public final class ScheduledCommandMetrics {
+
+  private static final Counter TRIGGERED_ENTITIES =
+      Counter.build()
+          .namespace("zeebe")
+          .name("scheduled_commands_total")
+          .help("Number of commands written by scheduled tasks, like triggering due timers")
+          .labelNames("partition", "task")
+          .register();
+
+  private static final Counter DEFERRED_RUNS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("scheduled_task_deferred_runs_total")
+          .help(
+              "Number of runs of scheduled tasks which reached the maximum number of commands and "
+                  + "deferred the remaining due entities to a subsequent run")
+          .labelNames("partition", "task")
+          .register();
+
+  private static final Gauge BACKLOG =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("scheduled_task_backlog")
+          .help(
+              "Lower bound of due entities which a scheduled task has not triggered yet; while the task reaches its per-run limit, this is the limit")
+          .labelNames("partition", "task")
+          .register();
+
+  private final Counter.Child triggeredEntities;
+  private final Counter.Child deferredRuns;
+  private final Gauge.Child backlog;
+
+  public ScheduledCommandMetrics(final int partitionId, final String task) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    triggeredEntities = TRIGGERED_ENTITIES.labels(partitionIdLabel, task);
+    deferredRuns = DEFERRED_RUNS.labels(partitionIdLabel, task);
+    backlog = BACKLOG.labels(partitionIdLabel, task);
+  }
+
+  public void entitiesTriggered(final int count) {
+    triggeredEntities.inc(count);
+  }
+
+  public void runDeferred() {
+    deferredRuns.inc();
+  }
+
+  public void setBacklog(final long count) {
+    backlog.set(count);
+  }
+}
@@ -55,6 +55,15 @@ public final class StreamProcessorMetrics {
           .labelNames(LABEL_NAME_RECORD_TYPE, LABEL_NAME_PARTITION)
           .register();
 
+  private static final Histogram BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_batch_size")
+          .help("Number of commands which were processed and committed in a single transaction")
+          .labelNames(LABEL_NAME_PARTITION)
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128)
+          .register();
+
   private static final Gauge STARTUP_RECOVERY_TIME =
       Gauge.build()
           .namespace(NAMESPACE)
@@ -102,6 +111,10 @@ public final class StreamProcessorMetrics {
     event(LABEL_SKIPPED);
   }
 
+  public void batchCommitted(final int commandCount) {
+    BATCH_SIZE.labels(partitionIdLabel).observe(commandCount);
+  }
+
   public Gauge.Timer startRecoveryTimer() {
     return STARTUP_RECOVERY_TIME.labels(partitionIdLabel).startTimer();
   }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.processing.job;
 
 import io.camunda.zeebe.engine.processing.scheduled.DueDateChecker;
+import io.camunda.zeebe.engine.processing.scheduled.ScheduledCommandLimiter;
 import io.camunda.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
 import io.camunda.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
 import io.camunda.zeebe.engine.state.immutable.JobState;
@@ -20,21 +21,26 @@ public final class JobBackoffChecker implements StreamProcessorLifecycleAware {
   static final long BACKOFF_RESOLUTION = Duration.ofMillis(100).toMillis();
 
   private final DueDateChecker backOffDueDateChecker;
+  private final ScheduledCommandLimiter limiter = new ScheduledCommandLimiter("jobBackoff");
 
   public JobBackoffChecker(final JobState jobState) {
     backOffDueDateChecker =
         new DueDateChecker(
             BACKOFF_RESOLUTION,
+            limiter,
             typedCommandWriter ->
                 jobState.findBackedOffJobs(
                     ActorClock.currentTimeMillis(),
-                    (key, record) -> {
-                      typedCommandWriter.reset();
-                      typedCommandWriter.appendFollowUpCommand(
-                          key, JobIntent.RECUR_AFTER_BACKOFF, record);
+                    (key, record) ->
+                        limiter.trigger(
+                            key,
+                            () -> {
+                              typedCommandWriter.reset();
+                              typedCommandWriter.appendFollowUpCommand(
+                                  key, JobIntent.RECUR_AFTER_BACKOFF, record);
 
-                      return typedCommandWriter.flush() >= 0;
-                    }));
+                              return typedCommandWriter.flush() >= 0;
+                            })));
   }
 
   public void scheduleBackOff(final long dueDate) {
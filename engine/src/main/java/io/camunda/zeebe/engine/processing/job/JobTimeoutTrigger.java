@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.processing.job;
 
 import static io.camunda.zeebe.util.sched.clock.ActorClock.currentTimeMillis;
 
+import io.camunda.zeebe.engine.processing.scheduled.ScheduledCommandLimiter;
 import io.camunda.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
 import io.camunda.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
@@ -20,8 +21,10 @@ import java.time.Duration;
 public final class JobTimeoutTrigger implements StreamProcessorLifecycleAware {
   public static final Duration TIME_OUT_POLLING_INTERVAL = Duration.ofSeconds(30);
   private final JobState state;
+  private final ScheduledCommandLimiter limiter = new ScheduledCommandLimiter("jobTimeout");
 
   private ScheduledTimer timer;
+  private ScheduledTimer deferredRun;
   private TypedCommandWriter writer;
   private ReadonlyProcessingContext processingContext;
 
@@ -37,6 +40,7 @@ public final class JobTimeoutTrigger implements StreamProcessorLifecycleAware {
             .getActor()
             .runAtFixedRate(TIME_OUT_POLLING_INTERVAL, this::deactivateTimedOutJobs);
     writer = processingContext.getLogStreamWriter();
+    limiter.onRecovered(processingContext);
   }
 
   @Override
@@ -69,17 +73,42 @@ public final class JobTimeoutTrigger implements StreamProcessorLifecycleAware {
       timer.cancel();
       timer = null;
     }
+    if (deferredRun != null) {
+      deferredRun.cancel();
+      deferredRun = null;
+    }
+    limiter.reset();
   }
 
   void deactivateTimedOutJobs() {
+    if (deferredRun != null) {
+      // the remaining jobs are timed out by the deferred run
+      return;
+    }
+
     final long now = currentTimeMillis();
+    limiter.startRun();
     state.forEachTimedOutEntry(
         now,
-        (key, record) -> {
-          writer.reset();
-          writer.appendFollowUpCommand(key, JobIntent.TIME_OUT, record);
+        (key, record) ->
+            limiter.trigger(
+                key,
+                () -> {
+                  writer.reset();
+                  writer.appendFollowUpCommand(key, JobIntent.TIME_OUT, record);
+
+                  return writer.flush() >= 0;
+                }));
+
+    if (limiter.finishRun()) {
+      // yield to the actor, such that the written commands and other work are processed before the
+      // remaining jobs are timed out
+      deferredRun = processingContext.getActor().runDelayed(Duration.ZERO, this::runDeferred);
+    }
+  }
 
-          return writer.flush() >= 0;
-        });
+  private void runDeferred() {
+    deferredRun = null;
+    deactivateTimedOutJobs();
   }
 }
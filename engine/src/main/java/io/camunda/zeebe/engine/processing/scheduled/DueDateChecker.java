@@ -25,11 +25,22 @@ public final class DueDateChecker implements StreamProcessorLifecycleAware {
   private ScheduledTimer scheduledTimer;
   private long nextDueDate = -1L;
   private final long timerResolution;
+  private final ScheduledCommandLimiter limiter;
   private final Function<TypedCommandWriter, Long> nextDueDateSupplier;
 
+  /**
+   * @param timerResolution the time span in which due entities are triggered together
+   * @param limiter limits the commands which are written in one run; the function must write the
+   *     command of each due entity through it
+   * @param nextDueDateFunction triggers the due entities and returns the next due date, or -1 if
+   *     there is none
+   */
   public DueDateChecker(
-      final long timerResolution, final Function<TypedCommandWriter, Long> nextDueDateFunction) {
+      final long timerResolution,
+      final ScheduledCommandLimiter limiter,
+      final Function<TypedCommandWriter, Long> nextDueDateFunction) {
     this.timerResolution = timerResolution;
+    this.limiter = limiter;
     nextDueDateSupplier = nextDueDateFunction;
   }
 
@@ -57,11 +68,18 @@ public final class DueDateChecker implements StreamProcessorLifecycleAware {
   }
 
   private void triggerEntities() {
+    limiter.startRun();
     nextDueDate = nextDueDateSupplier.apply(streamWriter);
 
     // reschedule the runnable if there are timers left
 
-    if (nextDueDate > 0) {
+    if (limiter.finishRun()) {
+      // yield to the actor, such that the written commands and other work are processed before the
+      // remaining due entities are triggered
+      nextDueDate = ActorClock.currentTimeMillis();
+      scheduledTimer = actor.runDelayed(Duration.ZERO, this::triggerEntities);
+
+    } else if (nextDueDate > 0) {
       final Duration duration = Duration.ofMillis(nextDueDate - ActorClock.currentTimeMillis());
       scheduledTimer = actor.runDelayed(duration, this::triggerEntities);
 
@@ -74,6 +92,7 @@ public final class DueDateChecker implements StreamProcessorLifecycleAware {
   public void onRecovered(final ReadonlyProcessingContext processingContext) {
     actor = processingContext.getActor();
     streamWriter = processingContext.getLogStreamWriter();
+    limiter.onRecovered(processingContext);
     // check if timers are due after restart
     triggerEntities();
   }
@@ -84,6 +103,7 @@ public final class DueDateChecker implements StreamProcessorLifecycleAware {
       scheduledTimer.cancel();
       scheduledTimer = null;
     }
+    limiter.reset();
   }
 
   @Override
@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.scheduled;
+
+import io.camunda.zeebe.engine.metrics.ScheduledCommandMetrics;
+import io.camunda.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
+import java.util.function.BooleanSupplier;
+import org.agrona.collections.LongHashSet;
+
+/**
+ * Limits the number of commands which a scheduled task writes in one run, e.g. when thousands of
+ * timers are due at the same time. A task wraps each run with {@link #startRun()} and {@link
+ * #finishRun()}, and writes the command of each due entity through {@link #trigger(long,
+ * BooleanSupplier)}. If the limit is reached, the task should yield to the actor and continue in a
+ * subsequent run, such that the written commands and other work are processed in between.
+ *
+ * <p>The due entities stay in the state until their commands are processed. In order to make
+ * progress, the entities which were triggered since the limit was reached first are skipped until a
+ * run completes without reaching the limit.
+ *
+ * <p>A run stops iterating as soon as the limit is reached, so the remaining due entities are not
+ * counted. While the task keeps reaching the limit, its backlog is reported as the limit, i.e. as a
+ * lower bound of at least one more full run.
+ */
+public final class ScheduledCommandLimiter {
+
+  private final String task;
+  private final LongHashSet triggeredKeys = new LongHashSet();
+
+  private ScheduledCommandMetrics metrics;
+  private int maxCommandsPerRun = Integer.MAX_VALUE;
+
+  private int triggeredInRun;
+  private boolean limitReached;
+
+  /** @param task the name of the scheduled task, which is used as metrics label */
+  public ScheduledCommandLimiter(final String task) {
+    this.task = task;
+  }
+
+  public void onRecovered(final ReadonlyProcessingContext context) {
+    maxCommandsPerRun = context.getMaxScheduledCommandsPerRun();
+    metrics = new ScheduledCommandMetrics(context.getLogStream().getPartitionId(), task);
+    reset();
+  }
+
+  public void startRun() {
+    triggeredInRun = 0;
+    limitReached = false;
+  }
+
+  /**
+   * Writes the command for the given due entity, unless the limit of this run is reached or the
+   * entity was triggered already by a previous run.
+   *
+   * @param key the key of the due entity
+   * @param commandWriter writes the command of the entity, and returns false if it could not be
+   *     written
+   * @return true if the iteration over the due entities should continue, false otherwise
+   */
+  public boolean trigger(final long key, final BooleanSupplier commandWriter) {
+    if (triggeredKeys.contains(key)) {
+      return true;
+    }
+
+    if (triggeredInRun >= maxCommandsPerRun) {
+      limitReached = true;
+      return false;
+    }
+
+    if (!commandWriter.getAsBoolean()) {
+      return false;
+    }
+
+    triggeredInRun += 1;
+    triggeredKeys.add(key);
+    return true;
+  }
+
+  /** @return true if the limit was reached, i.e. the task should continue in a subsequent run */
+  public boolean finishRun() {
+    if (limitReached) {
+      metrics.runDeferred();
+      metrics.setBacklog(maxCommandsPerRun);
+    } else {
+      reset();
+    }
+
+    metrics.entitiesTriggered(triggeredInRun);
+    return limitReached;
+  }
+
+  public void reset() {
+    triggeredKeys.clear();
+    if (metrics != null) {
+      metrics.setBacklog(0);
+    }
+  }
+}
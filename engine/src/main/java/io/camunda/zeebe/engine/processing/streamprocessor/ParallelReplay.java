@@ -0,0 +1,429 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.streamprocessor;
+
+import static io.camunda.zeebe.engine.processing.streamprocessor.TypedEventRegistry.EVENT_REGISTRY;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbTransaction;
+import io.camunda.zeebe.engine.metrics.IncidentMetrics;
+import io.camunda.zeebe.engine.state.EventApplier;
+import io.camunda.zeebe.engine.state.ZeebeDbState;
+import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchReader.Batch;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRelated;
+import io.camunda.zeebe.util.ReflectUtil;
+import io.camunda.zeebe.util.sched.Actor;
+import io.camunda.zeebe.util.sched.ActorSchedulingService;
+import io.camunda.zeebe.util.sched.future.ActorFuture;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.LongArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Applies the events of independent process instances concurrently during the replay.
+ *
+ * <p>Consecutive batches are collected into a segment, whose events are distributed to a fixed
+ * number of lanes by their process instance key. The events of a child process instance go to the
+ * lane of its parent, as they change the state of the parent's call activity. Each lane is an
+ * actor, which applies its events in order, with its own state and transaction. Afterwards, the
+ * changes of all lanes are merged into the given transaction, which is committed by the caller as
+ * if the segment was replayed sequentially.
+ *
+ * <p>This relies on the following invariant: the event appliers of the {@link
+ * #PROCESS_INSTANCE_VALUE_TYPES} only change state which is keyed by the process instance of the
+ * event, or by one of its element instances, jobs, variables, incidents or timers. Besides that,
+ * they only read state which isn't changed within a segment, like the deployed processes. Hence,
+ * two lanes never write the same key, and a lane never reads a key written by another lane, such
+ * that merging the changes of the lanes results in the same state as applying the events in order.
+ * An event applier which breaks this invariant, e.g. by changing a counter shared by all process
+ * instances, requires removing its value type from the {@link #PROCESS_INSTANCE_VALUE_TYPES}.
+ *
+ * <p>Other events, e.g. of deployments, messages or job batches, may read or change state shared by
+ * many process instances. A batch containing such an event can't be added to a segment and is
+ * replayed sequentially by the caller instead, which also acts as a barrier between segments.
+ *
+ * <p>The state of the lanes doesn't update any metrics, as the events may be applied again
+ * sequentially if applying them concurrently fails. Instead, the metrics which are updated by the
+ * event appliers are updated when the changes of the lanes are merged.
+ */
+final class ParallelReplay implements AutoCloseable {
+
+  /** The maximum number of records of a segment, which bounds the memory used by it. */
+  static final int MAX_SEGMENT_RECORDS = 1_000;
+
+  private static final long NO_LANE = -1L;
+  private static final Set<ValueType> PROCESS_INSTANCE_VALUE_TYPES =
+      EnumSet.of(
+          ValueType.PROCESS_INSTANCE,
+          ValueType.PROCESS_INSTANCE_CREATION,
+          ValueType.PROCESS_INSTANCE_RESULT,
+          ValueType.JOB,
+          ValueType.VARIABLE,
+          ValueType.INCIDENT,
+          ValueType.TIMER);
+
+  private final RecordMetadata metadata = new RecordMetadata();
+  private final Predicate<LoggedEvent> shouldApply;
+  private final Lane[] lanes;
+  private final IncidentMetrics incidentMetrics;
+
+  // the records of the segment, in order
+  private final LongArrayList positions = new LongArrayList();
+  private final LongArrayList sourcePositions = new LongArrayList();
+  private final LongArrayList keys = new LongArrayList();
+  private final List<ReplayedEvent> events = new ArrayList<>();
+  private final Long2LongHashMap laneByProcessInstanceKey = new Long2LongHashMap(NO_LANE);
+  private long bytes;
+
+  // the records of the batch which is added, before it is known whether it fits into the segment
+  private final LongArrayList batchPositions = new LongArrayList();
+  private final LongArrayList batchSourcePositions = new LongArrayList();
+  private final LongArrayList batchKeys = new LongArrayList();
+  private final List<ReplayedEvent> batchEvents = new ArrayList<>();
+  private final Long2LongHashMap batchLaneByProcessInstanceKey = new Long2LongHashMap(NO_LANE);
+
+  ParallelReplay(
+      final int parallelism,
+      final ActorSchedulingService actorSchedulingService,
+      final ZeebeDb zeebeDb,
+      final int partitionId,
+      final Function<MutableZeebeState, EventApplier> eventApplierFactory,
+      final Predicate<LoggedEvent> shouldApply) {
+    this.shouldApply = shouldApply;
+    incidentMetrics = new IncidentMetrics(partitionId);
+
+    lanes = new Lane[parallelism];
+    for (int i = 0; i < parallelism; i++) {
+      final TransactionContext transactionContext = zeebeDb.createContext();
+      final var state = new ZeebeDbState(partitionId, zeebeDb, transactionContext, false);
+      lanes[i] = new Lane(partitionId, i, transactionContext, eventApplierFactory.apply(state));
+      actorSchedulingService.submitActor(lanes[i]);
+    }
+  }
+
+  /**
+   * Adds the records of the given batch to the segment, if all of its events can be distributed to
+   * lanes. Otherwise, the segment is left unchanged and the batch has to be replayed sequentially,
+   * after the segment.
+   *
+   * @return true if the batch was added to the segment
+   */
+  boolean tryAdd(final Batch batch) {
+    batchPositions.clear();
+    batchSourcePositions.clear();
+    batchKeys.clear();
+    batchEvents.clear();
+    batchLaneByProcessInstanceKey.clear();
+    long batchBytes = 0;
+
+    while (batch.hasNext()) {
+      final var event = batch.next();
+      batchBytes += event.getLength();
+      batchPositions.addLong(event.getPosition());
+      batchSourcePositions.addLong(event.getSourceEventPosition());
+      batchKeys.addLong(event.getKey());
+
+      if (shouldApply.test(event) && !addEvent(event)) {
+        return false;
+      }
+    }
+
+    for (int i = 0; i < batchPositions.size(); i++) {
+      positions.addLong(batchPositions.getLong(i));
+      sourcePositions.addLong(batchSourcePositions.getLong(i));
+      keys.addLong(batchKeys.getLong(i));
+    }
+    for (final var batchEvent : batchEvents) {
+      events.add(batchEvent);
+      lanes[batchEvent.lane].events.add(batchEvent);
+    }
+    batchLaneByProcessInstanceKey.longForEach(laneByProcessInstanceKey::put);
+    bytes += batchBytes;
+    return true;
+  }
+
+  boolean isEmpty() {
+    return positions.isEmpty();
+  }
+
+  boolean isFull() {
+    return positions.size() >= MAX_SEGMENT_RECORDS;
+  }
+
+  /** @return the number of records of the segment, including commands */
+  int getRecordCount() {
+    return positions.size();
+  }
+
+  /** @return the size of all records of the segment, in bytes */
+  long getBytes() {
+    return bytes;
+  }
+
+  /** @return the position of the last record of the segment */
+  long getLastPosition() {
+    return positions.getLong(positions.size() - 1);
+  }
+
+  /** @return the position of the last event of the segment which is applied, or -1 if none */
+  long getLastAppliedPosition() {
+    return events.isEmpty() ? -1L : events.get(events.size() - 1).position;
+  }
+
+  /**
+   * Applies the events of the segment to the state of their lanes, concurrently. Can be called only
+   * once per segment, and the segment must not be changed until all returned futures are completed.
+   *
+   * @return a future per lane which has events to apply, which is completed when they are applied
+   */
+  List<ActorFuture<Void>> applyEvents() {
+    final var lanesApplied = new ArrayList<ActorFuture<Void>>(lanes.length);
+    for (final var lane : lanes) {
+      if (!lane.events.isEmpty()) {
+        lanesApplied.add(lane.applyEvents());
+      }
+    }
+    return lanesApplied;
+  }
+
+  /**
+   * Adds the changes of all lanes, which were made by {@link #applyEvents()}, to the given
+   * transaction. The lanes don't share any state, so the order in which they are merged doesn't
+   * matter.
+   */
+  void mergeInto(final ZeebeDbTransaction transaction) throws Exception {
+    for (final var lane : lanes) {
+      if (!lane.events.isEmpty()) {
+        transaction.merge(lane.transactionContext.getCurrentTransaction());
+      }
+    }
+
+    for (final var event : events) {
+      if (event.intent == IncidentIntent.CREATED) {
+        incidentMetrics.incidentCreated();
+      } else if (event.intent == IncidentIntent.RESOLVED) {
+        incidentMetrics.incidentResolved();
+      }
+    }
+  }
+
+  /**
+   * Applies the events of the segment in order with the given event applier, e.g. if applying them
+   * concurrently failed.
+   */
+  void applyEventsSequentially(final EventApplier eventApplier) {
+    for (final var event : events) {
+      eventApplier.applyState(event.key, event.intent, event.value);
+    }
+  }
+
+  /** Passes all records of the segment in order to the given consumer, including commands. */
+  void forEachRecord(final RecordConsumer consumer) {
+    for (int i = 0; i < positions.size(); i++) {
+      consumer.accept(positions.getLong(i), sourcePositions.getLong(i), keys.getLong(i));
+    }
+  }
+
+  /** Discards the segment and the changes of the lanes, such that the next segment can be added. */
+  void reset() throws Exception {
+    for (final var lane : lanes) {
+      if (!lane.events.isEmpty()) {
+        lane.transactionContext.getCurrentTransaction().rollback();
+        lane.events.clear();
+      }
+    }
+
+    positions.clear();
+    sourcePositions.clear();
+    keys.clear();
+    events.clear();
+    laneByProcessInstanceKey.clear();
+    bytes = 0;
+  }
+
+  @Override
+  public void close() {
+    for (final var lane : lanes) {
+      lane.closeAsync();
+    }
+  }
+
+  private boolean addEvent(final LoggedEvent event) {
+    metadata.reset();
+    event.readMetadata(metadata);
+
+    final var valueType = metadata.getValueType();
+    if (!PROCESS_INSTANCE_VALUE_TYPES.contains(valueType)) {
+      return false;
+    }
+
+    final var value = readValue(event, valueType);
+    final var lane = assignLane(value);
+    if (lane == NO_LANE) {
+      return false;
+    }
+
+    batchEvents.add(
+        new ReplayedEvent(
+            (int) lane, event.getPosition(), event.getKey(), metadata.getIntent(), value));
+    return true;
+  }
+
+  private UnifiedRecordValue readValue(final LoggedEvent event, final ValueType valueType) {
+    // a value references the buffer it is read from, which is reused by the reader of the batches
+    final var valueLength = event.getValueLength();
+    final var valueBuffer = new UnsafeBuffer(new byte[valueLength]);
+    event.getValueBuffer().getBytes(event.getValueOffset(), valueBuffer, 0, valueLength);
+
+    final UnifiedRecordValue value = ReflectUtil.newInstance(EVENT_REGISTRY.get(valueType));
+    value.wrap(valueBuffer, 0, valueLength);
+    return value;
+  }
+
+  /**
+   * Returns the lane of the process instance of the given value. A process instance stays on the
+   * same lane for the whole segment, and shares it with its parent process instance. If this is not
+   * possible, because the process instance and its parent were assigned to different lanes before,
+   * it returns {@link #NO_LANE}.
+   */
+  private long assignLane(final UnifiedRecordValue value) {
+    final var processInstanceKey = ((ProcessInstanceRelated) value).getProcessInstanceKey();
+    if (processInstanceKey <= 0) {
+      // e.g. a timer of a timer start event, which is not related to a process instance yet
+      return NO_LANE;
+    }
+
+    final var parentProcessInstanceKey =
+        value instanceof ProcessInstanceRecord
+            ? ((ProcessInstanceRecord) value).getParentProcessInstanceKey()
+            : -1L;
+    final var lane = getLane(processInstanceKey);
+    if (parentProcessInstanceKey <= 0) {
+      return lane != NO_LANE ? lane : assignDefaultLane(processInstanceKey, processInstanceKey);
+    }
+
+    final var parentLane = getLane(parentProcessInstanceKey);
+    if (lane == NO_LANE && parentLane == NO_LANE) {
+      assignDefaultLane(processInstanceKey, parentProcessInstanceKey);
+      return assignDefaultLane(parentProcessInstanceKey, parentProcessInstanceKey);
+    } else if (lane == NO_LANE) {
+      batchLaneByProcessInstanceKey.put(processInstanceKey, parentLane);
+      return parentLane;
+    } else if (parentLane == NO_LANE) {
+      batchLaneByProcessInstanceKey.put(parentProcessInstanceKey, lane);
+      return lane;
+    } else {
+      return lane == parentLane ? lane : NO_LANE;
+    }
+  }
+
+  private long getLane(final long processInstanceKey) {
+    final var lane = batchLaneByProcessInstanceKey.get(processInstanceKey);
+    return lane != NO_LANE ? lane : laneByProcessInstanceKey.get(processInstanceKey);
+  }
+
+  private long assignDefaultLane(final long processInstanceKey, final long hashKey) {
+    final long lane = Math.floorMod(hashKey, lanes.length);
+    batchLaneByProcessInstanceKey.put(processInstanceKey, lane);
+    return lane;
+  }
+
+  @FunctionalInterface
+  interface RecordConsumer {
+    void accept(long position, long sourcePosition, long key);
+  }
+
+  private static final class Lane extends Actor {
+    private final int partitionId;
+    private final String name;
+    private final TransactionContext transactionContext;
+    private final EventApplier eventApplier;
+    private final List<ReplayedEvent> events = new ArrayList<>();
+
+    private Lane(
+        final int partitionId,
+        final int index,
+        final TransactionContext transactionContext,
+        final EventApplier eventApplier) {
+      this.partitionId = partitionId;
+      name = "ReplayLane-" + partitionId + "-" + index;
+      this.transactionContext = transactionContext;
+      this.eventApplier = eventApplier;
+    }
+
+    @Override
+    protected Map<String, String> createContext() {
+      final var context = super.createContext();
+      context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+      return context;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    private ActorFuture<Void> applyEvents() {
+      return actor.call(this::applyEventsInTransaction);
+    }
+
+    private void applyEventsInTransaction() {
+      try {
+        transactionContext
+            .getCurrentTransaction()
+            .run(
+                () -> {
+                  for (final var event : events) {
+                    eventApplier.applyState(event.key, event.intent, event.value);
+                  }
+                });
+      } catch (final RuntimeException e) {
+        throw e;
+      } catch (final Exception e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+
+  private static final class ReplayedEvent {
+    private final int lane;
+    private final long position;
+    private final long key;
+    private final Intent intent;
+    private final UnifiedRecordValue value;
+
+    private ReplayedEvent(
+        final int lane,
+        final long position,
+        final long key,
+        final Intent intent,
+        final UnifiedRecordValue value) {
+      this.lane = lane;
+      this.position = position;
+      this.key = key;
+      this.intent = intent;
+      this.value = value;
+    }
+  }
+}
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.processing.streamprocessor;
 
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.TypedStreamWriterProxy;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.EventApplyingStateWriter;
@@ -23,7 +24,11 @@ import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.util.sched.ActorControl;
+import io.camunda.zeebe.util.sched.ActorSchedulingService;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 
 public final class ProcessingContext implements ReadonlyProcessingContext {
 
@@ -31,8 +36,10 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
 
   private final TypedStreamWriterProxy streamWriterProxy = new TypedStreamWriterProxy();
   private final NoopTypedStreamWriter noopTypedStreamWriter = new NoopTypedStreamWriter();
+  private final List<TypedStreamWriter> inFlightLogStreamWriters = new ArrayList<>();
 
   private ActorControl actor;
+  private ActorSchedulingService actorSchedulingService;
   private LogStream logStream;
   private LogStreamReader logStreamReader;
   private TypedStreamWriter logStreamWriter = noopTypedStreamWriter;
@@ -44,12 +51,18 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
   private ZeebeDbState zeebeState;
   private TransactionContext transactionContext;
   private EventApplier eventApplier;
+  private ZeebeDb zeebeDb;
+  private Function<MutableZeebeState, EventApplier> eventApplierFactory;
 
   private BooleanSupplier abortCondition;
   private StreamProcessorListener streamProcessorListener = NOOP_LISTENER;
 
   private int maxFragmentSize;
   private StreamProcessorMode streamProcessorMode = StreamProcessorMode.PROCESSING;
+  private boolean pipelinedProcessing;
+  private int maxCommandsInBatch = 1;
+  private int replayParallelism = 1;
+  private int maxScheduledCommandsPerRun = Integer.MAX_VALUE;
 
   public ProcessingContext() {
     streamWriterProxy.wrap(logStreamWriter);
@@ -60,6 +73,12 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return this;
   }
 
+  public ProcessingContext actorSchedulingService(
+      final ActorSchedulingService actorSchedulingService) {
+    this.actorSchedulingService = actorSchedulingService;
+    return this;
+  }
+
   public ProcessingContext logStream(final LogStream logStream) {
     this.logStream = logStream;
     return this;
@@ -100,6 +119,11 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return this;
   }
 
+  public ProcessingContext inFlightLogStreamWriter(final TypedStreamWriter logStreamWriter) {
+    inFlightLogStreamWriters.add(logStreamWriter);
+    return this;
+  }
+
   public ProcessingContext commandResponseWriter(
       final CommandResponseWriter commandResponseWriter) {
     this.commandResponseWriter = commandResponseWriter;
@@ -112,6 +136,18 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return commandResponseWriter;
   }
 
+  public TypedResponseWriterImpl getTypedResponseWriter() {
+    return typedResponseWriter;
+  }
+
+  /**
+   * @return the writers which keep the follow-up records of commands which are processed while they
+   *     can't be written yet, if processing is pipelined
+   */
+  public List<TypedStreamWriter> getInFlightLogStreamWriters() {
+    return inFlightLogStreamWriters;
+  }
+
   public ProcessingContext listener(final StreamProcessorListener streamProcessorListener) {
     this.streamProcessorListener = streamProcessorListener;
     return this;
@@ -127,11 +163,42 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return this;
   }
 
+  public ProcessingContext zeebeDb(final ZeebeDb zeebeDb) {
+    this.zeebeDb = zeebeDb;
+    return this;
+  }
+
+  public ProcessingContext eventApplierFactory(
+      final Function<MutableZeebeState, EventApplier> eventApplierFactory) {
+    this.eventApplierFactory = eventApplierFactory;
+    return this;
+  }
+
   public ProcessingContext processorMode(final StreamProcessorMode streamProcessorMode) {
     this.streamProcessorMode = streamProcessorMode;
     return this;
   }
 
+  public ProcessingContext pipelinedProcessing(final boolean pipelinedProcessing) {
+    this.pipelinedProcessing = pipelinedProcessing;
+    return this;
+  }
+
+  public ProcessingContext maxCommandsInBatch(final int maxCommandsInBatch) {
+    this.maxCommandsInBatch = maxCommandsInBatch;
+    return this;
+  }
+
+  public ProcessingContext replayParallelism(final int replayParallelism) {
+    this.replayParallelism = replayParallelism;
+    return this;
+  }
+
+  public ProcessingContext maxScheduledCommandsPerRun(final int maxScheduledCommandsPerRun) {
+    this.maxScheduledCommandsPerRun = maxScheduledCommandsPerRun;
+    return this;
+  }
+
   public KeyGeneratorControls getKeyGeneratorControls() {
     return zeebeState.getKeyGeneratorControls();
   }
@@ -203,6 +270,14 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return eventApplier;
   }
 
+  public ZeebeDb getZeebeDb() {
+    return zeebeDb;
+  }
+
+  public Function<MutableZeebeState, EventApplier> getEventApplierFactory() {
+    return eventApplierFactory;
+  }
+
   public StreamProcessorListener getStreamProcessorListener() {
     return streamProcessorListener;
   }
@@ -215,7 +290,41 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     streamWriterProxy.wrap(noopTypedStreamWriter);
   }
 
+  /**
+   * Replaces the writer which is used to write records to the stream, e.g. by the processors.
+   *
+   * @param logStreamWriter the writer to use from now on
+   * @return the replaced writer
+   */
+  public TypedStreamWriter swapLogStreamWriter(final TypedStreamWriter logStreamWriter) {
+    final var replacedWriter = this.logStreamWriter;
+    this.logStreamWriter = logStreamWriter;
+    streamWriterProxy.wrap(logStreamWriter);
+    return replacedWriter;
+  }
+
   public StreamProcessorMode getProcessorMode() {
     return streamProcessorMode;
   }
+
+  public boolean isPipelinedProcessing() {
+    return pipelinedProcessing;
+  }
+
+  public int getMaxCommandsInBatch() {
+    return maxCommandsInBatch;
+  }
+
+  public ActorSchedulingService getActorSchedulingService() {
+    return actorSchedulingService;
+  }
+
+  public int getReplayParallelism() {
+    return replayParallelism;
+  }
+
+  @Override
+  public int getMaxScheduledCommandsPerRun() {
+    return maxScheduledCommandsPerRun;
+  }
 }
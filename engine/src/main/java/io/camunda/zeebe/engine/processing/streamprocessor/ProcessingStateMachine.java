@@ -11,11 +11,12 @@ import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.engine.metrics.StreamProcessorMetrics;
 import io.camunda.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
-import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriterImpl;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
 import io.camunda.zeebe.engine.state.mutable.MutableLastProcessedPositionState;
 import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
 import io.camunda.zeebe.logstreams.impl.Loggers;
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
@@ -34,7 +35,11 @@ import io.camunda.zeebe.util.sched.clock.ActorClock;
 import io.camunda.zeebe.util.sched.future.ActorFuture;
 import io.prometheus.client.Histogram;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.function.BooleanSupplier;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
 import org.slf4j.Logger;
 
 /**
@@ -75,9 +80,39 @@ import org.slf4j.Logger;
  *                                       +-----+
  *
  * </pre>
+ *
+ * <p>By default, each of writeEvent(), updateState() and executeSideEffects() is run via a retry
+ * strategy, which schedules it and its continuation as separate actor jobs, and the next command is
+ * only read once the previous one was written, committed and its side effects were executed.
+ *
+ * <p>If processing is pipelined, these steps are run right away in the job which processed the
+ * command. If its follow-up records can't be written right away, e.g. the dispatcher is full
+ * because the log storage appender lags behind, the command is kept in flight and the next command
+ * is processed in the same transaction while the write is retried. Its follow-up records are kept
+ * in a writer of the in-flight command, and its response is copied, such that they are written and
+ * sent in order once the dispatcher accepts them. The transaction is only committed when no command
+ * is in flight anymore. At most {@link #MAX_COMMANDS_IN_FLIGHT} commands are kept in flight, and a
+ * command with other side effects than its response is completed before the next one is processed,
+ * as these can depend on the state of its processor. If the follow-up records of an in-flight
+ * command can't be written, the commands processed after it are rolled back to their save points
+ * and read again from the log, and the error is handled for the failed command as usual.
+ *
+ * <p>If more than one command may be processed in a transaction, committing the transaction in
+ * updateState() is skipped as long as the next record on the log is a command and the batch is not
+ * full, such that the commit is paid once per batch. The follow-up records and side effects of each
+ * command are still written and executed right away. The batch is committed when its last command
+ * is processed, or when there is nothing else to process. As the follow-up records of the batched
+ * commands are written already, an error only rolls back the current command to a save point which
+ * is set before processing it; the batched commands are then committed before the error is handled
+ * as usual. If the transaction of a batch can't be committed, the batch can't be rolled back
+ * either, as the follow-up records and responses of its commands were written already. The stream
+ * processor fails instead, such that the state is rebuilt from the log on replay.
  */
 public final class ProcessingStateMachine {
 
+  /** The maximum number of commands which are processed while they can't be written yet. */
+  static final int MAX_COMMANDS_IN_FLIGHT = 8;
+
   private static final Logger LOG = Loggers.PROCESSOR_LOGGER;
   private static final String ERROR_MESSAGE_WRITE_EVENT_ABORTED =
       "Expected to write one or more follow up events for event '{} {}' without errors, but exception was thrown.";
@@ -97,9 +132,16 @@ public final class ProcessingStateMachine {
       "Expected to process event '%s' without errors, but exception occurred with message '%s'.";
   private static final String NOTIFY_PROCESSED_LISTENER_ERROR_MESSAGE =
       "Expected to invoke processed listener for record {} successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_COMMIT_BATCH_FAILED =
+      "Expected to commit the transaction of the batched commands successfully, but exception was thrown. The follow-up records of the batched commands were written already, so their changes are recovered on replay.";
+  private static final String ERROR_MESSAGE_COMMIT_BATCH_RETRY =
+      "Expected to commit the transaction of {} processed commands successfully, but caught recoverable exception. Retry.";
   private static final String NOTIFY_SKIPPED_LISTENER_ERROR_MESSAGE =
       "Expected to invoke skipped listener for record '{} {}' successfully, but exception was thrown.";
 
+  private static final String ERROR_MESSAGE_WRITE_IN_FLIGHT_COMMAND_ABORTED =
+      "Expected to write the follow up events of the in-flight command '{} {}' without errors, but exception was thrown. The commands processed after it are rolled back.";
+
   private static final Duration PROCESSING_RETRY_DELAY = Duration.ofMillis(250);
 
   private static final MetadataFilter PROCESSING_FILTER =
@@ -115,7 +157,8 @@ public final class ProcessingStateMachine {
   private final MutableZeebeState zeebeState;
   private final MutableLastProcessedPositionState lastProcessedPositionState;
   private final RecordMetadata metadata = new RecordMetadata();
-  private final TypedResponseWriter responseWriter;
+  private final ProcessingContext context;
+  private final TypedResponseWriterImpl responseWriter;
   private final ActorControl actor;
   private final LogStream logStream;
   private final LogStreamReader logStreamReader;
@@ -132,6 +175,11 @@ public final class ProcessingStateMachine {
   private final TypedEventImpl typedEvent;
   private final StreamProcessorMetrics metrics;
   private final StreamProcessorListener streamProcessorListener;
+  private final boolean pipelinedProcessing;
+  private final int maxCommandsInBatch;
+  // processed commands of which the follow-up records are not written yet, oldest first
+  private final Deque<InFlightCommand> inFlightCommands = new ArrayDeque<>();
+  private final Deque<InFlightCommand> freeInFlightCommands = new ArrayDeque<>();
 
   // current iteration
   private SideEffectProducer sideEffectProducer;
@@ -147,9 +195,18 @@ public final class ProcessingStateMachine {
   private Histogram.Timer processingTimer;
   private boolean reachedEnd = true;
 
+  // commands of which the changes are kept in the current transaction, to be committed in a batch
+  private int batchedCommands;
+  private long batchedProcessedPosition;
+  private long batchedWrittenPosition;
+  private boolean savePointSet;
+  private boolean batchCommitPending;
+  private boolean inFlightWriteRetryScheduled;
+
   public ProcessingStateMachine(
       final ProcessingContext context, final BooleanSupplier shouldProcessNext) {
 
+    this.context = context;
     actor = context.getActor();
     recordProcessorMap = context.getRecordProcessorMap();
     recordValues = context.getRecordValues();
@@ -168,10 +225,19 @@ public final class ProcessingStateMachine {
 
     final int partitionId = logStream.getPartitionId();
     typedEvent = new TypedEventImpl(partitionId);
-    responseWriter = context.getWriters().response();
+    responseWriter = context.getTypedResponseWriter();
 
     metrics = new StreamProcessorMetrics(partitionId);
     streamProcessorListener = context.getStreamProcessorListener();
+    pipelinedProcessing = context.isPipelinedProcessing();
+    maxCommandsInBatch = context.getMaxCommandsInBatch();
+    for (final TypedStreamWriter writer : context.getInFlightLogStreamWriters()) {
+      freeInFlightCommands.add(
+          new InFlightCommand(
+              partitionId,
+              writer,
+              new TypedResponseWriterImpl(context.getCommandResponseWriter(), partitionId)));
+    }
   }
 
   private void skipRecord() {
@@ -190,6 +256,17 @@ public final class ProcessingStateMachine {
   }
 
   private void tryToReadNextEvent() {
+    if (currentProcessor == null && !inFlightCommands.isEmpty()) {
+      try {
+        if (writeInFlightCommands() && !commitBatchedCommands()) {
+          return;
+        }
+      } catch (final Exception e) {
+        onInFlightCommandFailed(e);
+        return;
+      }
+    }
+
     final var hasNext = logStreamReader.hasNext();
 
     if (currentEvent != null) {
@@ -197,11 +274,15 @@ public final class ProcessingStateMachine {
       // reached the end of the log if:
       //  * the last record was an event or rejection
       //  * and there is no next record on the log
+      //  * and no command is in flight
       final var previousEvent = currentEvent;
-      reachedEnd = commandFilter.applies(previousEvent) && !hasNext;
+      reachedEnd = commandFilter.applies(previousEvent) && !hasNext && inFlightCommands.isEmpty();
     }
 
-    if (shouldProcessNext.getAsBoolean() && hasNext && currentProcessor == null) {
+    if (shouldProcessNext.getAsBoolean()
+        && hasNext
+        && currentProcessor == null
+        && canProcessWhileInFlight()) {
       currentEvent = logStreamReader.next();
 
       if (eventFilter.applies(currentEvent)) {
@@ -209,6 +290,11 @@ public final class ProcessingStateMachine {
       } else {
         skipRecord();
       }
+    } else if (currentProcessor == null && !inFlightCommands.isEmpty()) {
+      retryWritingInFlightCommands();
+    } else if (currentProcessor == null && batchedCommands > 0) {
+      // nothing else to process right now, so don't hold back the batched commands any longer
+      commitBatchedCommands();
     }
   }
 
@@ -249,7 +335,11 @@ public final class ProcessingStateMachine {
 
       metrics.commandsProcessed();
 
-      writeEvent();
+      if (pipelinedProcessing) {
+        completeProcessingPipelined();
+      } else {
+        writeEvent();
+      }
     } catch (final RecoverableException recoverableException) {
       // recoverable
       LOG.error(
@@ -257,7 +347,12 @@ public final class ProcessingStateMachine {
       actor.runDelayed(PROCESSING_RETRY_DELAY, () -> processEvent(currentEvent));
     } catch (final Exception e) {
       LOG.error(ERROR_MESSAGE_PROCESSING_FAILED_SKIP_EVENT, event, metadata, e);
-      onError(e, this::writeEvent);
+      if (inFlightCommands.isEmpty()) {
+        onError(e, this::writeEvent);
+      } else {
+        // handling the error commits the commands processed before, so they must be written first
+        awaitInFlightCommands(() -> onError(e, this::writeEvent));
+      }
     }
   }
 
@@ -277,6 +372,14 @@ public final class ProcessingStateMachine {
 
   private void processInTransaction(final TypedEventImpl typedRecord) throws Exception {
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
+    if (batchedCommands > 0) {
+      // the save points of the previous commands can't be released before the batch is committed,
+      // so there are at most maxCommandsInBatch - 1 save points per transaction, plus one for each
+      // command in flight
+      zeebeDbTransaction.setSavePoint();
+      savePointSet = true;
+    }
+
     zeebeDbTransaction.run(
         () -> {
           final long position = typedRecord.getPosition();
@@ -310,6 +413,13 @@ public final class ProcessingStateMachine {
   }
 
   private void onError(final Throwable processingException, final Runnable nextStep) {
+    if (batchedCommands > 0 && !savePointSet) {
+      // the changes of the current command can't be separated from the batch, i.e. committing the
+      // batch failed
+      failOnBatchCommitError(processingException);
+      return;
+    }
+
     onErrorRetries++;
     if (onErrorRetries > 1) {
       onErrorHandlingLoop = true;
@@ -317,7 +427,7 @@ public final class ProcessingStateMachine {
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
-              zeebeDbTransaction.rollback();
+              rollbackTransaction();
               return true;
             },
             abortCondition);
@@ -325,7 +435,10 @@ public final class ProcessingStateMachine {
     actor.runOnCompletion(
         retryFuture,
         (bool, throwable) -> {
-          if (throwable != null) {
+          if (throwable != null && batchCommitPending) {
+            failOnBatchCommitError(throwable);
+            return;
+          } else if (throwable != null) {
             LOG.error(ERROR_MESSAGE_ROLLBACK_ABORTED, currentEvent, metadata, throwable);
           }
           try {
@@ -338,6 +451,25 @@ public final class ProcessingStateMachine {
         });
   }
 
+  private void rollbackTransaction() throws Exception {
+    if (savePointSet) {
+      // the follow-up records of the batched commands are written already, so only the changes of
+      // the current command are discarded, and the batch is committed before handling the error
+      zeebeDbTransaction.rollbackToSavePoint();
+      savePointSet = false;
+      batchCommitPending = true;
+    }
+
+    if (batchCommitPending) {
+      zeebeDbTransaction.commit();
+      batchCommitPending = false;
+      onBatchCommitted();
+    } else {
+      zeebeDbTransaction.rollback();
+      batchedCommands = 0;
+    }
+  }
+
   private void errorHandlingInTransaction(final Throwable processingException) throws Exception {
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
     zeebeDbTransaction.run(
@@ -367,20 +499,322 @@ public final class ProcessingStateMachine {
         typedEvent, RejectionType.PROCESSING_ERROR, errorMessage);
   }
 
-  private void writeEvent() {
+  private void completeProcessingPipelined() {
+    if (inFlightCommands.isEmpty()) {
+      try {
+        if (flushFollowUpRecords()) {
+          onFollowUpRecordsWritten();
+          completeWrittenCommand();
+          return;
+        }
+      } catch (final Exception e) {
+        LOG.error(ERROR_MESSAGE_WRITE_EVENT_ABORTED, currentEvent, metadata, e);
+        onError(e, this::writeEvent);
+        return;
+      }
+    }
+
+    // the follow-up records can't be written right now, or the ones of the commands in flight have
+    // to be written first; either way, the next command can be processed in the meantime
+    addToInFlightCommands();
+    actor.submit(this::readNextEvent);
+  }
+
+  private void completeWrittenCommand() {
+    if (shouldBatchNextCommand()) {
+      addToBatch();
+    } else {
+      try {
+        commitTransaction();
+      } catch (final RecoverableException e) {
+        updateState();
+        return;
+      } catch (final Exception e) {
+        LOG.error(ERROR_MESSAGE_UPDATE_STATE_FAILED, currentEvent, metadata, e);
+        onError(e, this::updateState);
+        return;
+      }
+    }
+
+    try {
+      if (!sideEffectProducer.flush()) {
+        executeSideEffects();
+        return;
+      }
+    } catch (final Exception e) {
+      LOG.error(ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentEvent, metadata, e);
+    }
+    onSideEffectsExecuted();
+  }
+
+  private boolean canProcessWhileInFlight() {
+    return inFlightCommands.isEmpty()
+        || (!freeInFlightCommands.isEmpty() && !inFlightCommands.peekLast().hasOtherSideEffects());
+  }
+
+  private void addToInFlightCommands() {
+    final var command = freeInFlightCommands.removeFirst();
+    command.wrap(currentEvent, savePointSet, processingTimer);
+
+    // the follow-up records stay in the writer, and the next command is processed with the one of
+    // the in-flight command instead
+    command.streamWriter = context.swapLogStreamWriter(command.streamWriter);
+    if (sideEffectProducer == responseWriter) {
+      command.responseWriter.copyStagedResponse(responseWriter);
+      command.sideEffectProducer = command.responseWriter;
+    } else {
+      command.sideEffectProducer = sideEffectProducer;
+    }
+
+    if (batchedCommands == 0) {
+      batchedProcessedPosition = lastSuccessfulProcessedEventPosition;
+      batchedWrittenPosition = lastWrittenPosition;
+    }
+    batchedCommands++;
+    savePointSet = false;
+    inFlightCommands.addLast(command);
+    currentProcessor = null;
+  }
+
+  /**
+   * Writes the follow-up records of the in-flight commands in order, and executes their side
+   * effects afterwards.
+   *
+   * <p>Throws if the follow-up records of the oldest in-flight command can't be written.
+   *
+   * @return true if all in-flight commands are written, false if they can't be written right now
+   */
+  private boolean writeInFlightCommands() {
+    while (!inFlightCommands.isEmpty()) {
+      final var command = inFlightCommands.peekFirst();
+      if (!command.written) {
+        final long position = command.streamWriter.flush();
+        if (position < 0) {
+          return false;
+        }
+        onInFlightCommandWritten(command, position);
+      }
+
+      if (!executeSideEffects(command)) {
+        return false;
+      }
+
+      inFlightCommands.removeFirst();
+      notifyProcessedListener(command.record);
+      command.processingTimer.close();
+      releaseInFlightCommand(command);
+    }
+    return true;
+  }
+
+  private void onInFlightCommandWritten(final InFlightCommand command, final long position) {
+    // only overwrite position if events were flushed
+    if (position > 0) {
+      writtenPosition = position;
+    }
+    metrics.recordsWritten(writtenPosition - batchedWrittenPosition);
+
+    batchedProcessedPosition = command.getPosition();
+    batchedWrittenPosition = writtenPosition;
+    command.written = true;
+  }
+
+  private boolean executeSideEffects(final InFlightCommand command) {
+    try {
+      return command.sideEffectProducer.flush();
+    } catch (final Exception e) {
+      LOG.error(ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, command.record, command.metadata, e);
+      return true;
+    }
+  }
+
+  private void retryWritingInFlightCommands() {
+    // retried in a separate job instead of blocking the actor until they are written, such that new
+    // commands are still picked up
+    if (!inFlightWriteRetryScheduled) {
+      inFlightWriteRetryScheduled = true;
+      actor.submit(
+          () -> {
+            inFlightWriteRetryScheduled = false;
+            tryToReadNextEvent();
+          });
+    }
+  }
+
+  private void awaitInFlightCommands(final Runnable onWritten) {
     final ActorFuture<Boolean> retryFuture =
-        writeRetryStrategy.runWithRetry(
-            () -> {
-              final long position = logStreamWriter.flush();
+        writeRetryStrategy.runWithRetry(this::writeInFlightCommands, abortCondition);
 
-              // only overwrite position if events were flushed
-              if (position > 0) {
-                writtenPosition = position;
-              }
+    actor.runOnCompletion(
+        retryFuture,
+        (written, throwable) -> {
+          if (throwable != null) {
+            onInFlightCommandFailed(throwable);
+          } else if (written) {
+            onWritten.run();
+          }
+        });
+  }
 
-              return position >= 0;
-            },
-            abortCondition);
+  /**
+   * Rolls back the oldest in-flight command, of which the follow-up records can't be written, and
+   * all commands which were processed after it. The error is handled for the failed command as for
+   * any other command, while the other commands are read again from the log afterwards.
+   */
+  private void onInFlightCommandFailed(final Throwable error) {
+    final var failedCommand = inFlightCommands.removeFirst();
+    LOG.error(
+        ERROR_MESSAGE_WRITE_IN_FLIGHT_COMMAND_ABORTED,
+        failedCommand.record,
+        failedCommand.metadata,
+        error);
+
+    int savePointsToRollBack = currentProcessor != null && savePointSet ? 1 : 0;
+    batchedCommands -= inFlightCommands.size() + 1;
+    while (!inFlightCommands.isEmpty()) {
+      final var command = inFlightCommands.removeLast();
+      savePointsToRollBack += command.savePointSet ? 1 : 0;
+      releaseInFlightCommand(command);
+    }
+
+    // if the failed command is the first one of the transaction, the transaction is rolled back as
+    // a whole when handling the error
+    savePointSet = failedCommand.savePointSet;
+    if (savePointSet) {
+      try {
+        zeebeDbTransaction = transactionContext.getCurrentTransaction();
+        for (int i = 0; i < savePointsToRollBack; i++) {
+          zeebeDbTransaction.rollbackToSavePoint();
+        }
+      } catch (final Exception e) {
+        failOnBatchCommitError(e);
+        return;
+      }
+    }
+
+    final long failedPosition = failedCommand.getPosition();
+    processingTimer = failedCommand.processingTimer;
+    releaseInFlightCommand(failedCommand);
+
+    logStreamReader.seek(failedPosition);
+    currentEvent = logStreamReader.next();
+    metadata.reset();
+    currentEvent.readMetadata(metadata);
+    currentProcessor = chooseNextProcessor(currentEvent);
+    typedEvent.wrap(
+        currentEvent,
+        metadata,
+        recordValues.readRecordValue(currentEvent, metadata.getValueType()));
+    sideEffectProducer = responseWriter;
+
+    onError(error, this::writeEvent);
+  }
+
+  private void releaseInFlightCommand(final InFlightCommand command) {
+    command.reset();
+    freeInFlightCommands.addLast(command);
+  }
+
+  private boolean flushFollowUpRecords() {
+    final long position = logStreamWriter.flush();
+
+    // only overwrite position if events were flushed
+    if (position > 0) {
+      writtenPosition = position;
+    }
+
+    return position >= 0;
+  }
+
+  private void onFollowUpRecordsWritten() {
+    // We write various type of records. The positions are always increasing and
+    // incremented by 1 for one record (even in a batch), so we can count the amount
+    // of written events via the lastWritten and now written position.
+    final var previousWrittenPosition =
+        batchedCommands > 0 ? batchedWrittenPosition : lastWrittenPosition;
+    final var amount = writtenPosition - previousWrittenPosition;
+    metrics.recordsWritten(amount);
+  }
+
+  private boolean shouldBatchNextCommand() {
+    return batchedCommands + 1 < maxCommandsInBatch
+        && shouldProcessNext.getAsBoolean()
+        && logStreamReader.hasNext()
+        && eventFilter.applies(logStreamReader.peekNext());
+  }
+
+  private void addToBatch() {
+    batchedCommands++;
+    batchedProcessedPosition = typedEvent.getPosition();
+    batchedWrittenPosition = writtenPosition;
+    savePointSet = false;
+  }
+
+  private void commitTransaction() throws Exception {
+    savePointSet = false;
+    zeebeDbTransaction.commit();
+    metrics.batchCommitted(batchedCommands + 1);
+    batchedCommands = 0;
+
+    lastSuccessfulProcessedEventPosition = currentEvent.getPosition();
+    metrics.setLastProcessedPosition(lastSuccessfulProcessedEventPosition);
+    lastWrittenPosition = writtenPosition;
+  }
+
+  /** @return true if the batched commands are committed */
+  private boolean commitBatchedCommands() {
+    try {
+      zeebeDbTransaction.commit();
+      onBatchCommitted();
+      return true;
+    } catch (final RecoverableException e) {
+      LOG.error(ERROR_MESSAGE_COMMIT_BATCH_RETRY, batchedCommands, e);
+      actor.runDelayed(PROCESSING_RETRY_DELAY, this::readNextEvent);
+    } catch (final Exception e) {
+      failOnBatchCommitError(e);
+    }
+    return false;
+  }
+
+  /**
+   * Fails the stream processor, as the changes of the batched commands are lost while their
+   * follow-up records were written and their side effects executed. Rolling back and continuing
+   * would process the next commands on a state which diverges from the log.
+   */
+  private void failOnBatchCommitError(final Throwable error) {
+    final var failure =
+        new ProcessingException(ERROR_MESSAGE_COMMIT_BATCH_FAILED, currentEvent, metadata, error);
+    // the exception is thrown in a separate job, such that it is not handled as a processing error
+    // by the current one; the actor hands it to the stream processor, which fails
+    actor.run(
+        () -> {
+          throw failure;
+        });
+  }
+
+  private void onBatchCommitted() {
+    metrics.batchCommitted(batchedCommands);
+    batchedCommands = 0;
+
+    lastSuccessfulProcessedEventPosition = batchedProcessedPosition;
+    metrics.setLastProcessedPosition(lastSuccessfulProcessedEventPosition);
+    lastWrittenPosition = batchedWrittenPosition;
+  }
+
+  private void onSideEffectsExecuted() {
+    notifyProcessedListener(typedEvent);
+
+    // observe the processing duration
+    processingTimer.close();
+
+    // continue with next event
+    currentProcessor = null;
+    actor.submit(this::readNextEvent);
+  }
+
+  private void writeEvent() {
+    final ActorFuture<Boolean> retryFuture =
+        writeRetryStrategy.runWithRetry(this::flushFollowUpRecords, abortCondition);
 
     actor.runOnCompletion(
         retryFuture,
@@ -389,12 +823,13 @@ public final class ProcessingStateMachine {
             LOG.error(ERROR_MESSAGE_WRITE_EVENT_ABORTED, currentEvent, metadata, t);
             onError(t, this::writeEvent);
           } else {
-            // We write various type of records. The positions are always increasing and
-            // incremented by 1 for one record (even in a batch), so we can count the amount
-            // of written events via the lastWritten and now written position.
-            final var amount = writtenPosition - lastWrittenPosition;
-            metrics.recordsWritten(amount);
-            updateState();
+            onFollowUpRecordsWritten();
+            if (shouldBatchNextCommand()) {
+              addToBatch();
+              executeSideEffects();
+            } else {
+              updateState();
+            }
           }
         });
   }
@@ -403,10 +838,7 @@ public final class ProcessingStateMachine {
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
-              zeebeDbTransaction.commit();
-              lastSuccessfulProcessedEventPosition = currentEvent.getPosition();
-              metrics.setLastProcessedPosition(lastSuccessfulProcessedEventPosition);
-              lastWrittenPosition = writtenPosition;
+              commitTransaction();
               return true;
             },
             abortCondition);
@@ -434,14 +866,7 @@ public final class ProcessingStateMachine {
             LOG.error(ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentEvent, metadata, throwable);
           }
 
-          notifyProcessedListener(typedEvent);
-
-          // observe the processing duration
-          processingTimer.close();
-
-          // continue with next event
-          currentProcessor = null;
-          actor.submit(this::readNextEvent);
+          onSideEffectsExecuted();
         });
   }
 
@@ -490,4 +915,59 @@ public final class ProcessingStateMachine {
 
     actor.submit(this::readNextEvent);
   }
+
+  /** A processed command, of which the follow-up records are not written yet. */
+  private static final class InFlightCommand {
+    private final MutableDirectBuffer eventBuffer = new ExpandableArrayBuffer();
+    private final LoggedEventImpl event = new LoggedEventImpl();
+    private final RecordMetadata metadata = new RecordMetadata();
+    private final RecordValues recordValues = new RecordValues();
+    private final TypedEventImpl record;
+    private final TypedResponseWriterImpl responseWriter;
+    private TypedStreamWriter streamWriter;
+    private SideEffectProducer sideEffectProducer;
+    private Histogram.Timer processingTimer;
+    private boolean savePointSet;
+    private boolean written;
+
+    private InFlightCommand(
+        final int partitionId,
+        final TypedStreamWriter streamWriter,
+        final TypedResponseWriterImpl responseWriter) {
+      record = new TypedEventImpl(partitionId);
+      this.streamWriter = streamWriter;
+      this.responseWriter = responseWriter;
+    }
+
+    private void wrap(
+        final LoggedEvent command,
+        final boolean savePointSet,
+        final Histogram.Timer processingTimer) {
+      // the command is copied, as the buffer of the reader is reused when reading the next ones
+      command.write(eventBuffer, 0);
+      event.wrap(eventBuffer, 0);
+      metadata.reset();
+      event.readMetadata(metadata);
+      record.wrap(event, metadata, recordValues.readRecordValue(event, metadata.getValueType()));
+
+      this.savePointSet = savePointSet;
+      this.processingTimer = processingTimer;
+    }
+
+    private long getPosition() {
+      return event.getPosition();
+    }
+
+    private boolean hasOtherSideEffects() {
+      return sideEffectProducer != responseWriter;
+    }
+
+    private void reset() {
+      streamWriter.reset();
+      responseWriter.reset();
+      sideEffectProducer = null;
+      processingTimer = null;
+      written = false;
+    }
+  }
 }
@@ -57,4 +57,10 @@ public interface ReadonlyProcessingContext {
 
   /** @return the consumer of events to apply their state changes */
   EventApplier getEventApplier();
+
+  /**
+   * @return the maximum number of commands which a scheduled task, like the timer checker, writes
+   *     before it yields to the actor
+   */
+  int getMaxScheduledCommandsPerRun();
 }
@@ -20,6 +20,7 @@ import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamBatchReader;
 import io.camunda.zeebe.logstreams.log.LogStreamBatchReader.Batch;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
@@ -30,10 +31,17 @@ import io.camunda.zeebe.util.retry.RetryStrategy;
 import io.camunda.zeebe.util.sched.ActorControl;
 import io.camunda.zeebe.util.sched.future.ActorFuture;
 import io.camunda.zeebe.util.sched.future.CompletableActorFuture;
+import io.prometheus.client.Histogram;
 import java.util.function.BooleanSupplier;
 import org.slf4j.Logger;
 
-/** Represents the state machine to replay events and rebuild the state. */
+/**
+ * Represents the state machine to replay events and rebuild the state.
+ *
+ * <p>By default, the events are replayed sequentially, one batch per transaction. If the replay
+ * parallelism is greater than one, consecutive batches of independent process instances are
+ * replayed concurrently in a single transaction instead, see {@link ParallelReplay}.
+ */
 public final class ReplayStateMachine implements LogRecordAwaiter {
 
   private static final Logger LOG = Loggers.PROCESSOR_LOGGER;
@@ -59,6 +67,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private final EventFilter eventFilter =
       new MetadataEventFilter(new RecordProtocolVersionFilter().and(REPLAY_FILTER));
 
+  private final LogStreamReader logStreamReader;
   private final LogStreamBatchReader logStreamBatchReader;
   private final EventApplier eventApplier;
 
@@ -73,6 +82,9 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private long snapshotPosition;
   private long lastReadRecordPosition = StreamProcessor.UNSET_POSITION;
   private long lastReplayedEventPosition = StreamProcessor.UNSET_POSITION;
+  // records of the current batch or segment, which are passed to the metrics once it is replayed
+  private long replayedRecordCount;
+  private long replayedBytes;
 
   private ActorFuture<LastProcessingPositions> recoveryFuture;
   private ZeebeDbTransaction zeebeDbTransaction;
@@ -83,6 +95,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private State currentState = State.AWAIT_RECORD;
   private final BooleanSupplier shouldPause;
   private final ReplayMetrics replayMetrics;
+  private final ParallelReplay parallelReplay;
 
   public ReplayStateMachine(
       final ProcessingContext context, final BooleanSupplier shouldReplayNext) {
@@ -101,8 +114,22 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     replayStrategy = new RecoverableRetryStrategy(actor);
     streamProcessorMode = context.getProcessorMode();
     logStream = context.getLogStream();
-    logStreamBatchReader = new LogStreamBatchReaderImpl(context.getLogStreamReader());
+    logStreamReader = context.getLogStreamReader();
+    logStreamBatchReader = new LogStreamBatchReaderImpl(logStreamReader);
     replayMetrics = new ReplayMetrics(logStream.getPartitionId());
+
+    if (context.getReplayParallelism() > 1) {
+      parallelReplay =
+          new ParallelReplay(
+              context.getReplayParallelism(),
+              context.getActorSchedulingService(),
+              context.getZeebeDb(),
+              logStream.getPartitionId(),
+              context.getEventApplierFactory(),
+              this::shouldApply);
+    } else {
+      parallelReplay = null;
+    }
   }
 
   /**
@@ -118,6 +145,8 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     lastSourceEventPosition =
         snapshotPosition > 0 ? snapshotPosition : StreamProcessor.UNSET_POSITION;
 
+    // the end of the log is the target of the replay, which is reported by the metrics
+    replayMetrics.startReplay(snapshotPosition, logStreamReader.seekToEnd());
     // start after snapshot
     logStreamBatchReader.seekToNextBatch(snapshotPosition);
 
@@ -155,25 +184,11 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
         currentState = State.REPLAY_EVENT;
 
         final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
-        final var batch = logStreamBatchReader.next();
-        replayStrategy
-            .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
-            .onComplete(
-                (success, failure) -> {
-                  if (failure != null) {
-                    throw new RuntimeException(failure);
-                  } else {
-                    // observe the replay duration
-                    replayDurationTimer.close();
-                    // the position should be visible only after the batch is replayed successfully
-                    lastSourceEventPosition =
-                        Math.max(lastSourceEventPosition, batchSourceEventPosition);
-                    replayMetrics.setLastSourcePosition(lastSourceEventPosition);
-                    actor.submit(this::replayNextEvent);
-
-                    notifyReplayListener();
-                  }
-                });
+        if (parallelReplay != null) {
+          replayNextSegment(replayDurationTimer);
+        } else {
+          replayBatch(logStreamBatchReader.next(), replayDurationTimer);
+        }
 
       } else if (streamProcessorMode == StreamProcessorMode.PROCESSING) {
         onRecordsReplayed();
@@ -191,6 +206,112 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
   }
 
+  private void replayBatch(final Batch batch, final Histogram.Timer replayDurationTimer) {
+    replayStrategy
+        .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
+        .onComplete((success, failure) -> onReplayed(replayDurationTimer, failure));
+  }
+
+  /**
+   * Collects the next batches into a segment, which is replayed concurrently. A batch which can't
+   * be replayed concurrently ends the segment; if it is the first batch, it is replayed on its own.
+   */
+  private void replayNextSegment(final Histogram.Timer replayDurationTimer) {
+    while (logStreamBatchReader.hasNext() && !parallelReplay.isFull()) {
+      final var batch = logStreamBatchReader.next();
+      if (parallelReplay.tryAdd(batch)) {
+        continue;
+      }
+
+      if (parallelReplay.isEmpty()) {
+        batch.head();
+        replayBatch(batch, replayDurationTimer);
+        return;
+      }
+
+      // read the batch again after the segment is replayed
+      logStreamBatchReader.seekToNextBatch(parallelReplay.getLastPosition());
+      break;
+    }
+
+    actor.runOnCompletion(
+        parallelReplay.applyEvents(),
+        applyFailure -> {
+          if (applyFailure != null) {
+            LOG.warn(
+                "Failed to replay events concurrently, replaying them sequentially instead",
+                applyFailure);
+          }
+
+          replayStrategy
+              .runWithRetry(() -> tryToReplaySegment(applyFailure == null), abortCondition)
+              .onComplete(
+                  (success, failure) -> {
+                    if (failure == null) {
+                      replayedRecordCount = parallelReplay.getRecordCount();
+                      replayedBytes = parallelReplay.getBytes();
+                      resetSegment();
+                    }
+                    onReplayed(replayDurationTimer, failure);
+                  });
+        });
+  }
+
+  private void onReplayed(final Histogram.Timer replayDurationTimer, final Throwable failure) {
+    if (failure != null) {
+      throw new RuntimeException(failure);
+    } else {
+      // observe the replay duration
+      replayDurationTimer.close();
+      // the position should be visible only after the batch is replayed successfully
+      lastSourceEventPosition = Math.max(lastSourceEventPosition, batchSourceEventPosition);
+      replayMetrics.setLastSourcePosition(lastSourceEventPosition);
+      replayMetrics.replayed(lastReadRecordPosition, replayedRecordCount, replayedBytes);
+      actor.submit(this::replayNextEvent);
+
+      notifyReplayListener();
+    }
+  }
+
+  private boolean tryToReplaySegment(final boolean eventsApplied) throws Exception {
+    final boolean onRetry = zeebeDbTransaction != null;
+    if (onRetry) {
+      zeebeDbTransaction.rollback();
+    }
+
+    zeebeDbTransaction = transactionContext.getCurrentTransaction();
+    zeebeDbTransaction.run(
+        () -> {
+          if (eventsApplied) {
+            parallelReplay.mergeInto(zeebeDbTransaction);
+          } else {
+            parallelReplay.applyEventsSequentially(eventApplier);
+          }
+          parallelReplay.forEachRecord(this::onRecordReplayed);
+
+          if (batchSourceEventPosition > snapshotPosition) {
+            lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
+          }
+        });
+
+    zeebeDbTransaction.commit();
+    zeebeDbTransaction = null;
+
+    final var lastAppliedPosition = parallelReplay.getLastAppliedPosition();
+    if (lastAppliedPosition > 0) {
+      lastReplayedEventPosition = lastAppliedPosition;
+    }
+    return true;
+  }
+
+  private void resetSegment() {
+    try {
+      parallelReplay.reset();
+    } catch (final Exception e) {
+      throw new IllegalStateException("Expected to discard the replayed segment, but failed", e);
+    }
+  }
+
   private boolean tryToReplayBatch(final Batch batch) throws Exception {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
@@ -198,6 +319,8 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
       // reading the whole batch from the beginning again
       batch.head();
     }
+    replayedRecordCount = 0;
+    replayedBytes = 0;
 
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
     zeebeDbTransaction.run(
@@ -216,15 +339,23 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   }
 
   private void replayEvent(final LoggedEvent currentEvent) {
-    if (eventFilter.applies(currentEvent)
-        && currentEvent.getSourceEventPosition() > snapshotPosition) {
+    replayedRecordCount++;
+    replayedBytes += currentEvent.getLength();
+
+    if (shouldApply(currentEvent)) {
       readMetadata(currentEvent);
       final var currentTypedEvent = readRecordValue(currentEvent);
 
       applyCurrentEvent(currentTypedEvent);
     }
 
-    onRecordReplayed(currentEvent);
+    onRecordReplayed(
+        currentEvent.getPosition(), currentEvent.getSourceEventPosition(), currentEvent.getKey());
+  }
+
+  private boolean shouldApply(final LoggedEvent currentEvent) {
+    return eventFilter.applies(currentEvent)
+        && currentEvent.getSourceEventPosition() > snapshotPosition;
   }
 
   /**
@@ -245,6 +376,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
         new LastProcessingPositions(lastProcessedPosition, lastWrittenPosition);
 
     LOG.info(LOG_STMT_REPLAY_FINISHED, lastProcessingPositions);
+    replayMetrics.finishReplay();
     recoveryFuture.complete(lastProcessingPositions);
   }
 
@@ -254,11 +386,9 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
    *
    * <p>It will schedule the next replay iteration.
    */
-  private void onRecordReplayed(final LoggedEvent currentEvent) {
+  private void onRecordReplayed(
+      final long currentPosition, final long sourceEventPosition, final long currentRecordKey) {
     replayMetrics.event();
-    final var sourceEventPosition = currentEvent.getSourceEventPosition();
-    final var currentPosition = currentEvent.getPosition();
-    final var currentRecordKey = currentEvent.getKey();
 
     // positions should always increase
     // if this is not the case we have some inconsistency in our log
@@ -327,6 +457,9 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
 
   public void close() {
     logStream.removeRecordAvailableListener(this);
+    if (parallelReplay != null) {
+      parallelReplay.close();
+    }
   }
 
   private enum State {
@@ -87,6 +87,7 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
             .getProcessingContext()
             .eventCache(new RecordValues())
             .actor(actor)
+            .actorSchedulingService(actorSchedulingService)
             .abortCondition(this::isClosed);
     logStream = processingContext.getLogStream();
     partitionId = logStream.getPartitionId();
@@ -114,6 +115,13 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
   protected void onActorStarting() {
     actor.runOnCompletionBlockingCurrentPhase(
         logStream.newLogStreamBatchWriter(), this::onRetrievingWriter);
+
+    if (processingContext.isPipelinedProcessing()) {
+      for (int i = 0; i < ProcessingStateMachine.MAX_COMMANDS_IN_FLIGHT; i++) {
+        actor.runOnCompletionBlockingCurrentPhase(
+            logStream.newLogStreamBatchWriter(), this::onRetrievingInFlightWriter);
+      }
+    }
   }
 
   @Override
@@ -241,6 +249,17 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
     }
   }
 
+  private void onRetrievingInFlightWriter(
+      final LogStreamBatchWriter batchWriter, final Throwable errorOnReceivingWriter) {
+    if (errorOnReceivingWriter == null) {
+      processingContext.inFlightLogStreamWriter(new TypedStreamWriterImpl(batchWriter));
+    } else {
+      LOG.error(
+          "Unexpected error on retrieving batch writer from log stream.", errorOnReceivingWriter);
+      actor.close();
+    }
+  }
+
   private void onRetrievingReader(
       final LogStreamReader reader, final Throwable errorOnReceivingReader) {
     if (errorOnReceivingReader == null) {
@@ -299,6 +318,8 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
     processingContext.transactionContext(transactionContext);
     processingContext.zeebeState(zeebeState);
     processingContext.eventApplier(eventApplierFactory.apply(zeebeState));
+    processingContext.zeebeDb(zeebeDb);
+    processingContext.eventApplierFactory(eventApplierFactory);
 
     return zeebeState;
   }
@@ -81,6 +81,45 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  /**
+   * Processes the next commands while the follow-up records of the previous ones can't be written
+   * yet, see {@link ProcessingStateMachine}. Disabled by default.
+   */
+  public StreamProcessorBuilder pipelinedProcessing(final boolean pipelinedProcessing) {
+    processingContext.pipelinedProcessing(pipelinedProcessing);
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of consecutive commands which are processed in a single state
+   * transaction, see {@link ProcessingStateMachine}. Defaults to 1, i.e. each command is committed
+   * on its own.
+   */
+  public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
+    processingContext.maxCommandsInBatch(maxCommandsInBatch);
+    return this;
+  }
+
+  /**
+   * Sets the number of lanes in which the events of independent process instances are replayed
+   * concurrently, see {@link ParallelReplay}. Defaults to 1, i.e. all events are replayed
+   * sequentially.
+   */
+  public StreamProcessorBuilder replayParallelism(final int replayParallelism) {
+    processingContext.replayParallelism(replayParallelism);
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of commands which a scheduled task, e.g. triggering due timers or
+   * timing out jobs, writes in one run. If more entities are due, the task yields to the actor and
+   * continues in a subsequent run, such that other work is not blocked. Defaults to no limit.
+   */
+  public StreamProcessorBuilder maxScheduledCommandsPerRun(final int maxScheduledCommandsPerRun) {
+    processingContext.maxScheduledCommandsPerRun(maxScheduledCommandsPerRun);
+    return this;
+  }
+
   public TypedRecordProcessorFactory getTypedRecordProcessorFactory() {
     return typedRecordProcessorFactory;
   }
@@ -123,5 +162,23 @@ public final class StreamProcessorBuilder {
         processingContext.getWriters().response(), "No command response writer provided.");
     Objects.requireNonNull(zeebeDb, "No database provided.");
     Objects.requireNonNull(eventApplierFactory, "No factory for the event supplier provided.");
+    if (processingContext.getMaxCommandsInBatch() < 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected to process at least one command per batch, but got %d.",
+              processingContext.getMaxCommandsInBatch()));
+    }
+    if (processingContext.getReplayParallelism() < 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected to replay events in at least one lane, but got %d.",
+              processingContext.getReplayParallelism()));
+    }
+    if (processingContext.getMaxScheduledCommandsPerRun() < 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected to write at least one scheduled command per run, but got %d.",
+              processingContext.getMaxScheduledCommandsPerRun()));
+    }
   }
 }
@@ -14,8 +14,12 @@ import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.nio.charset.StandardCharsets;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class TypedResponseWriterImpl implements TypedResponseWriter, SideEffectProducer {
@@ -23,9 +27,20 @@ public final class TypedResponseWriterImpl implements TypedResponseWriter, SideE
   private final CommandResponseWriter writer;
   private final int partitionId;
   private final UnsafeBuffer stringWrapper = new UnsafeBuffer(0, 0);
+  private final MutableDirectBuffer copiedRejectionReason = new ExpandableArrayBuffer();
+  private final MutableDirectBuffer copiedValue = new ExpandableArrayBuffer();
+  private final DirectBufferWriter copiedValueWriter = new DirectBufferWriter();
+  private RecordType recordType;
+  private Intent intent;
+  private long key;
+  private RejectionType rejectionType;
+  private DirectBuffer rejectionReason;
+  private ValueType valueType;
+  private BufferWriter value;
   private long requestId;
   private int requestStreamId;
   private boolean isResponseStaged;
+  private boolean isResponseCopied;
 
   public TypedResponseWriterImpl(final CommandResponseWriter writer, final int partitionId) {
     this.writer = writer;
@@ -111,11 +126,47 @@ public final class TypedResponseWriterImpl implements TypedResponseWriter, SideE
   @Override
   public boolean flush() {
     if (isResponseStaged) {
+      if (isResponseCopied) {
+        // the shared writer may hold the response of another writer in the meantime
+        applyStagedResponse();
+      }
       writer.tryWriteResponse(requestStreamId, requestId);
     }
     return true;
   }
 
+  /**
+   * Stages the response which is staged by the given writer, if any. The rejection reason and the
+   * value of the response are copied, such that they are kept if the given writer or the value are
+   * reused before this writer is flushed.
+   *
+   * @param other the writer to copy the staged response from
+   */
+  public void copyStagedResponse(final TypedResponseWriterImpl other) {
+    isResponseStaged = other.isResponseStaged;
+    isResponseCopied = isResponseStaged;
+    if (!isResponseStaged) {
+      return;
+    }
+
+    recordType = other.recordType;
+    intent = other.intent;
+    key = other.key;
+    rejectionType = other.rejectionType;
+    valueType = other.valueType;
+    requestId = other.requestId;
+    requestStreamId = other.requestStreamId;
+
+    final int rejectionReasonLength = other.rejectionReason.capacity();
+    copiedRejectionReason.putBytes(0, other.rejectionReason, 0, rejectionReasonLength);
+    rejectionReason = stringWrapper;
+    stringWrapper.wrap(copiedRejectionReason, 0, rejectionReasonLength);
+
+    final int valueLength = other.value.getLength();
+    other.value.write(copiedValue, 0);
+    value = copiedValueWriter.wrap(copiedValue, 0, valueLength);
+  }
+
   private void stage(
       final RecordType type,
       final Intent intent,
@@ -126,22 +177,35 @@ public final class TypedResponseWriterImpl implements TypedResponseWriter, SideE
       final long requestId,
       final int requestStreamId,
       final UnpackedObject value) {
+    recordType = type;
+    this.intent = intent;
+    this.key = key;
+    this.rejectionType = rejectionType;
+    this.rejectionReason = rejectionReason;
+    this.valueType = valueType;
+    this.value = value;
+    this.requestId = requestId;
+    this.requestStreamId = requestStreamId;
+    isResponseStaged = true;
+    isResponseCopied = false;
+
+    applyStagedResponse();
+  }
+
+  private void applyStagedResponse() {
     writer
         .partitionId(partitionId)
         .key(key)
         .intent(intent)
-        .recordType(type)
+        .recordType(recordType)
         .valueType(valueType)
         .rejectionType(rejectionType)
         .rejectionReason(rejectionReason)
         .valueWriter(value);
-
-    this.requestId = requestId;
-    this.requestStreamId = requestStreamId;
-    isResponseStaged = true;
   }
 
   public void reset() {
     isResponseStaged = false;
+    isResponseCopied = false;
   }
 }
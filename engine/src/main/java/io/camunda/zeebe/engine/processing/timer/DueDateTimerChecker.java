@@ -8,9 +8,12 @@
 package io.camunda.zeebe.engine.processing.timer;
 
 import io.camunda.zeebe.engine.processing.scheduled.DueDateChecker;
+import io.camunda.zeebe.engine.processing.scheduled.ScheduledCommandLimiter;
 import io.camunda.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
 import io.camunda.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
+import io.camunda.zeebe.engine.state.instance.TimerInstance;
 import io.camunda.zeebe.protocol.impl.record.value.timer.TimerRecord;
 import io.camunda.zeebe.protocol.record.intent.TimerIntent;
 import io.camunda.zeebe.util.sched.clock.ActorClock;
@@ -20,6 +23,7 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
 
   private static final long TIMER_RESOLUTION = Duration.ofMillis(100).toMillis();
   private final DueDateChecker dueDateChecker;
+  private final ScheduledCommandLimiter limiter = new ScheduledCommandLimiter("timer");
 
   private final TimerRecord timerRecord = new TimerRecord();
 
@@ -27,25 +31,13 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
     dueDateChecker =
         new DueDateChecker(
             TIMER_RESOLUTION,
+            limiter,
             typedCommandWriter ->
                 timerInstanceState.findTimersWithDueDateBefore(
                     ActorClock.currentTimeMillis(),
-                    timer -> {
-                      timerRecord.reset();
-                      timerRecord
-                          .setElementInstanceKey(timer.getElementInstanceKey())
-                          .setProcessInstanceKey(timer.getProcessInstanceKey())
-                          .setDueDate(timer.getDueDate())
-                          .setTargetElementId(timer.getHandlerNodeId())
-                          .setRepetitions(timer.getRepetitions())
-                          .setProcessDefinitionKey(timer.getProcessDefinitionKey());
-
-                      typedCommandWriter.reset();
-                      typedCommandWriter.appendFollowUpCommand(
-                          timer.getKey(), TimerIntent.TRIGGER, timerRecord);
-
-                      return typedCommandWriter.flush() > 0;
-                    }));
+                    timer ->
+                        limiter.trigger(
+                            timer.getKey(), () -> writeTrigger(typedCommandWriter, timer))));
   }
 
   public void scheduleTimer(final long dueDate) {
@@ -76,4 +68,21 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
   public void onResumed() {
     dueDateChecker.onResumed();
   }
+
+  private boolean writeTrigger(
+      final TypedCommandWriter typedCommandWriter, final TimerInstance timer) {
+    timerRecord.reset();
+    timerRecord
+        .setElementInstanceKey(timer.getElementInstanceKey())
+        .setProcessInstanceKey(timer.getProcessInstanceKey())
+        .setDueDate(timer.getDueDate())
+        .setTargetElementId(timer.getHandlerNodeId())
+        .setRepetitions(timer.getRepetitions())
+        .setProcessDefinitionKey(timer.getProcessDefinitionKey());
+
+    typedCommandWriter.reset();
+    typedCommandWriter.appendFollowUpCommand(timer.getKey(), TimerIntent.TRIGGER, timerRecord);
+
+    return typedCommandWriter.flush() > 0;
+  }
 }
@@ -0,0 +1,239 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.TreeSet;
+import org.agrona.collections.Long2ObjectHashMap;
+
+/**
+ * An in-memory index of due dates, which finds the entries that are due without scanning all of
+ * them. Entries are identified by a unique key, and can carry an additional value, e.g. the key of
+ * the element instance a timer belongs to.
+ *
+ * <p>The index is a hierarchical timer wheel with a resolution of one millisecond. Each level has
+ * 64 slots, and a slot of level {@code n} covers 64^n milliseconds. An entry is kept on the level
+ * of the highest 6-bit group in which its due date differs from the current time, so the entries of
+ * a level are always due before the entries of the next level. When the time advances, only the
+ * slots which were passed are moved to a lower level, such that each entry is moved at most once
+ * per level. Entries which are due are kept sorted by their due date until they are removed.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class HierarchicalTimerWheel {
+
+  private static final int SLOT_BITS = 6;
+  private static final int SLOTS = 1 << SLOT_BITS;
+  private static final int SLOT_MASK = SLOTS - 1;
+  // eleven levels cover all 63 bits of a non-negative due date
+  private static final int LEVELS = 11;
+  private static final int DUE_LEVEL = -1;
+
+  private static final Comparator<Entry> DUE_DATE_ORDER =
+      Comparator.<Entry>comparingLong(entry -> entry.dueDate).thenComparingLong(entry -> entry.key);
+
+  private final Long2ObjectHashMap<Entry> entries = new Long2ObjectHashMap<>();
+  private final Entry[][] slots = new Entry[LEVELS][SLOTS];
+  private final long[] occupiedSlots = new long[LEVELS];
+  private final TreeSet<Entry> dueEntries = new TreeSet<>(DUE_DATE_ORDER);
+  private long currentTime;
+
+  /** Adds an entry with the given key, or replaces the entry if the key is already indexed. */
+  public void add(final long key, final long value, final long dueDate) {
+    remove(key);
+
+    final var entry = new Entry(key, value, dueDate);
+    entries.put(key, entry);
+    place(entry);
+  }
+
+  public void remove(final long key) {
+    final var entry = entries.remove(key);
+    if (entry != null) {
+      unlink(entry);
+    }
+  }
+
+  /** Removes the entry with the given key, but only if it carries the given value. */
+  public void remove(final long key, final long value) {
+    final var entry = entries.get(key);
+    if (entry != null && entry.value == value) {
+      entries.remove(key);
+      unlink(entry);
+    }
+  }
+
+  public void clear() {
+    entries.clear();
+    for (int level = 0; level < LEVELS; level++) {
+      Arrays.fill(slots[level], null);
+      occupiedSlots[level] = 0;
+    }
+    dueEntries.clear();
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Visits the entries which are due at the given time, in the order of their due dates, until the
+   * visitor returns false. Visited entries stay in the index until they are removed.
+   *
+   * @return the due date of the entry which was not consumed by the visitor, or the due date of the
+   *     next entry which is not due yet, or -1 if there is none
+   */
+  public long visitDueEntries(final long timestamp, final DueEntryVisitor visitor) {
+    advanceTo(timestamp);
+
+    // the visitor may remove the visited entry, so the next entry is looked up afterwards
+    var entry = dueEntries.isEmpty() ? null : dueEntries.first();
+    while (entry != null) {
+      if (entry.dueDate > timestamp || !visitor.visit(entry.key, entry.value)) {
+        // an entry can be due later than the given time, if the time was advanced further before
+        return entry.dueDate;
+      }
+      entry = dueEntries.higher(entry);
+    }
+
+    return findNextDueDate();
+  }
+
+  private long findNextDueDate() {
+    for (int level = 0; level < LEVELS; level++) {
+      final long occupied = occupiedSlots[level];
+      if (occupied != 0) {
+        // the lowest occupied slot of the lowest level contains the earliest entries
+        final int slot = Long.numberOfTrailingZeros(occupied);
+        long nextDueDate = Long.MAX_VALUE;
+        for (var entry = slots[level][slot]; entry != null; entry = entry.next) {
+          nextDueDate = Math.min(nextDueDate, entry.dueDate);
+        }
+        return nextDueDate;
+      }
+    }
+    return -1L;
+  }
+
+  private void advanceTo(final long timestamp) {
+    if (timestamp <= currentTime) {
+      return;
+    }
+
+    Entry passedEntries = null;
+    for (int level = 0; level < LEVELS; level++) {
+      long passedSlots = occupiedSlots[level];
+      if (passedSlots == 0) {
+        continue;
+      }
+
+      if (prefix(timestamp, level) == prefix(currentTime, level)) {
+        // only the slots up to the one of the new time are passed
+        final int slot = slot(timestamp, level);
+        passedSlots &= slot == SLOT_MASK ? -1L : (1L << (slot + 1)) - 1;
+      }
+      occupiedSlots[level] &= ~passedSlots;
+
+      while (passedSlots != 0) {
+        final int slot = Long.numberOfTrailingZeros(passedSlots);
+        passedSlots &= passedSlots - 1;
+
+        var entry = slots[level][slot];
+        slots[level][slot] = null;
+        while (entry != null) {
+          final var next = entry.next;
+          entry.next = passedEntries;
+          passedEntries = entry;
+          entry = next;
+        }
+      }
+    }
+
+    currentTime = timestamp;
+    while (passedEntries != null) {
+      final var next = passedEntries.next;
+      place(passedEntries);
+      passedEntries = next;
+    }
+  }
+
+  private void place(final Entry entry) {
+    final long dueDate = Math.max(0, entry.dueDate);
+    if (dueDate <= currentTime) {
+      entry.level = DUE_LEVEL;
+      dueEntries.add(entry);
+      return;
+    }
+
+    final int level =
+        (Long.SIZE - 1 - Long.numberOfLeadingZeros(dueDate ^ currentTime)) / SLOT_BITS;
+    final int slot = slot(dueDate, level);
+    final var head = slots[level][slot];
+    entry.level = level;
+    entry.slot = slot;
+    entry.previous = null;
+    entry.next = head;
+    if (head != null) {
+      head.previous = entry;
+    }
+    slots[level][slot] = entry;
+    occupiedSlots[level] |= 1L << slot;
+  }
+
+  private void unlink(final Entry entry) {
+    if (entry.level == DUE_LEVEL) {
+      dueEntries.remove(entry);
+      return;
+    }
+
+    if (entry.previous != null) {
+      entry.previous.next = entry.next;
+    } else {
+      slots[entry.level][entry.slot] = entry.next;
+      if (entry.next == null) {
+        occupiedSlots[entry.level] &= ~(1L << entry.slot);
+      }
+    }
+    if (entry.next != null) {
+      entry.next.previous = entry.previous;
+    }
+  }
+
+  private static int slot(final long time, final int level) {
+    return (int) (time >>> (SLOT_BITS * level)) & SLOT_MASK;
+  }
+
+  /** @return the bits of the given time above the slots of the given level */
+  private static long prefix(final long time, final int level) {
+    final int shift = SLOT_BITS * (level + 1);
+    return shift >= Long.SIZE ? 0 : time >>> shift;
+  }
+
+  @FunctionalInterface
+  public interface DueEntryVisitor {
+    boolean visit(long key, long value);
+  }
+
+  private static final class Entry {
+    private final long key;
+    private final long value;
+    private final long dueDate;
+
+    private int level;
+    private int slot;
+    private Entry previous;
+    private Entry next;
+
+    private Entry(final long key, final long value, final long dueDate) {
+      this.key = key;
+      this.value = value;
+      this.dueDate = dueDate;
+    }
+  }
+}
@@ -11,6 +11,8 @@ import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.metrics.BlacklistMetrics;
+import io.camunda.zeebe.engine.metrics.IncidentMetrics;
 import io.camunda.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
 import io.camunda.zeebe.engine.state.deployment.DbDecisionState;
 import io.camunda.zeebe.engine.state.deployment.DbDeploymentState;
@@ -57,14 +59,14 @@ public class ZeebeDbState implements MutableZeebeState {
   private final DbKeyGenerator keyGenerator;
 
   private final MutableProcessState processState;
-  private final MutableTimerInstanceState timerInstanceState;
+  private final DbTimerInstanceState timerInstanceState;
   private final MutableElementInstanceState elementInstanceState;
   private final MutableEventScopeInstanceState eventScopeInstanceState;
   private final MutableVariableState variableState;
 
   private final MutableDeploymentState deploymentState;
-  private final MutableJobState jobState;
-  private final MutableMessageState messageState;
+  private final DbJobState jobState;
+  private final DbMessageState messageState;
   private final DbMessageSubscriptionState messageSubscriptionState;
   private final MutableMessageStartEventSubscriptionState messageStartEventSubscriptionState;
   private final DbProcessMessageSubscriptionState processMessageSubscriptionState;
@@ -85,6 +87,18 @@ public class ZeebeDbState implements MutableZeebeState {
       final int partitionId,
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext) {
+    this(partitionId, zeebeDb, transactionContext, true);
+  }
+
+  /**
+   * @param recordMetrics false if the state should not update any metrics, e.g. if events are
+   *     applied to it in addition to the state of the partition
+   */
+  public ZeebeDbState(
+      final int partitionId,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final boolean recordMetrics) {
     this.partitionId = partitionId;
     this.zeebeDb = zeebeDb;
     keyGenerator = new DbKeyGenerator(partitionId, zeebeDb, transactionContext);
@@ -103,8 +117,12 @@ public class ZeebeDbState implements MutableZeebeState {
         new DbMessageStartEventSubscriptionState(zeebeDb, transactionContext);
     processMessageSubscriptionState =
         new DbProcessMessageSubscriptionState(zeebeDb, transactionContext);
-    incidentState = new DbIncidentState(zeebeDb, transactionContext, partitionId);
-    blackListState = new DbBlackListState(zeebeDb, transactionContext, partitionId);
+    incidentState =
+        new DbIncidentState(
+            zeebeDb, transactionContext, recordMetrics ? new IncidentMetrics(partitionId) : null);
+    blackListState =
+        new DbBlackListState(
+            zeebeDb, transactionContext, recordMetrics ? new BlacklistMetrics(partitionId) : null);
     lastProcessedPositionState = new DbLastProcessedPositionState(zeebeDb, transactionContext);
     decisionState = new DbDecisionState(zeebeDb, transactionContext);
 
@@ -115,6 +133,9 @@ public class ZeebeDbState implements MutableZeebeState {
   public void onRecovered(final ReadonlyProcessingContext context) {
     messageSubscriptionState.onRecovered(context);
     processMessageSubscriptionState.onRecovered(context);
+    timerInstanceState.onRecovered(context);
+    jobState.onRecovered(context);
+    messageState.onRecovered(context);
   }
 
   @Override
@@ -48,6 +48,14 @@ public final class DbIncidentState implements MutableIncidentState {
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
       final int partitionId) {
+    this(zeebeDb, transactionContext, new IncidentMetrics(partitionId));
+  }
+
+  /** @param metrics the metrics to update, or null if no metrics should be updated */
+  public DbIncidentState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final IncidentMetrics metrics) {
     incidentKey = new DbLong();
     incidentColumnFamily =
         zeebeDb.createColumnFamily(
@@ -66,7 +74,7 @@ public final class DbIncidentState implements MutableIncidentState {
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.INCIDENT_JOBS, transactionContext, jobKey, incidentKeyValue);
 
-    metrics = new IncidentMetrics(partitionId);
+    this.metrics = metrics;
   }
 
   @Override
@@ -84,7 +92,9 @@ public final class DbIncidentState implements MutableIncidentState {
       processInstanceIncidentColumnFamily.put(elementInstanceKey, incidentKeyValue);
     }
 
-    metrics.incidentCreated();
+    if (metrics != null) {
+      metrics.incidentCreated();
+    }
   }
 
   @Override
@@ -113,7 +123,9 @@ public final class DbIncidentState implements MutableIncidentState {
         processInstanceIncidentColumnFamily.delete(elementInstanceKey);
       }
 
-      metrics.incidentResolved();
+      if (metrics != null) {
+        metrics.incidentResolved();
+      }
     }
   }
 
@@ -16,6 +16,9 @@ import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.engine.Loggers;
 import io.camunda.zeebe.engine.metrics.JobMetrics;
+import io.camunda.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
+import io.camunda.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
+import io.camunda.zeebe.engine.state.HierarchicalTimerWheel;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.mutable.MutableJobState;
@@ -28,7 +31,7 @@ import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
 
-public final class DbJobState implements JobState, MutableJobState {
+public final class DbJobState implements JobState, MutableJobState, StreamProcessorLifecycleAware {
 
   private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
 
@@ -59,6 +62,13 @@ public final class DbJobState implements JobState, MutableJobState {
   private final DbCompositeKey<DbLong, DbLong> backoffJobKey;
   private final ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> backoffColumnFamily;
   private long nextBackOffDueDate;
+  private final TransactionContext transactionContext;
+  // in-memory indexes of the deadlines and backoff due dates, which are built after the state is
+  // recovered; until then, the due dates are looked up in the column families. They reflect only
+  // committed changes, such that they stay in sync with the column families if a transaction is
+  // rolled back
+  private HierarchicalTimerWheel deadlineIndex;
+  private HierarchicalTimerWheel backoffIndex;
 
   private final JobMetrics metrics;
 
@@ -68,6 +78,7 @@ public final class DbJobState implements JobState, MutableJobState {
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
       final int partitionId) {
+    this.transactionContext = transactionContext;
     jobKey = new DbLong();
     jobsColumnFamily =
         zeebeDb.createColumnFamily(
@@ -126,6 +137,16 @@ public final class DbJobState implements JobState, MutableJobState {
 
     deadlineKey.wrapLong(deadline);
     deadlinesColumnFamily.put(deadlineJobKey, DbNil.INSTANCE);
+
+    if (deadlineIndex != null) {
+      updateIndexOnCommit(() -> deadlineIndex.add(key, deadline, deadline));
+    }
+  }
+
+  @Override
+  public void onRecovered(final ReadonlyProcessingContext context) {
+    deadlineIndex = buildIndex(deadlinesColumnFamily);
+    backoffIndex = buildIndex(backoffColumnFamily);
   }
 
   @Override
@@ -134,6 +155,10 @@ public final class DbJobState implements JobState, MutableJobState {
     jobKey.wrapLong(key);
     backoffKey.wrapLong(record.getRecurringTime());
     backoffColumnFamily.delete(backoffJobKey);
+
+    if (backoffIndex != null) {
+      updateIndexOnCommit(() -> backoffIndex.remove(key));
+    }
   }
 
   @Override
@@ -145,7 +170,7 @@ public final class DbJobState implements JobState, MutableJobState {
     EnsureUtil.ensureGreaterThan("deadline", deadline, 0);
 
     createJob(key, record, type);
-    removeJobDeadline(deadline);
+    removeJobDeadline(key, deadline);
   }
 
   @Override
@@ -182,7 +207,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
     makeJobNotActivatable(type);
 
-    removeJobDeadline(deadline);
+    removeJobDeadline(key, deadline);
   }
 
   @Override
@@ -192,6 +217,10 @@ public final class DbJobState implements JobState, MutableJobState {
         jobKey.wrapLong(key);
         backoffKey.wrapLong(updatedValue.getRecurringTime());
         backoffColumnFamily.put(backoffJobKey, DbNil.INSTANCE);
+        if (backoffIndex != null) {
+          final long recurringTime = updatedValue.getRecurringTime();
+          updateIndexOnCommit(() -> backoffIndex.add(key, recurringTime, recurringTime));
+        }
         updateJob(key, updatedValue, State.FAILED);
       } else {
         updateJob(key, updatedValue, State.ACTIVATABLE);
@@ -237,7 +266,7 @@ public final class DbJobState implements JobState, MutableJobState {
     }
 
     if (deadline > 0) {
-      removeJobDeadline(deadline);
+      removeJobDeadline(key, deadline);
     }
   }
 
@@ -248,6 +277,23 @@ public final class DbJobState implements JobState, MutableJobState {
   @Override
   public void forEachTimedOutEntry(
       final long upperBound, final BiFunction<Long, JobRecord, Boolean> callback) {
+    if (deadlineIndex != null) {
+      // the upper bound is exclusive, while the index visits the entries due at the given time
+      deadlineIndex.visitDueEntries(
+          upperBound - 1,
+          (key, deadline) -> {
+            jobKey.wrapLong(key);
+            deadlineKey.wrapLong(deadline);
+            if (!deadlinesColumnFamily.exists(deadlineJobKey)) {
+              // the deadline is removed by a transaction which is not committed yet
+              return true;
+            }
+
+            return visitJob(key, callback::apply, () -> removeJobDeadline(key, deadline));
+          });
+      return;
+    }
+
     deadlinesColumnFamily.whileTrue(
         (key, value) -> {
           final long deadline = key.getFirst().getValue();
@@ -312,6 +358,29 @@ public final class DbJobState implements JobState, MutableJobState {
 
   @Override
   public long findBackedOffJobs(final long timestamp, final BiPredicate<Long, JobRecord> callback) {
+    if (backoffIndex != null) {
+      return backoffIndex.visitDueEntries(
+          timestamp,
+          (key, recurringTime) -> {
+            jobKey.wrapLong(key);
+            backoffKey.wrapLong(recurringTime);
+            if (!backoffColumnFamily.exists(backoffJobKey)) {
+              // the backoff is removed by a transaction which is not committed yet
+              return true;
+            }
+
+            return visitJob(
+                key,
+                callback,
+                () -> {
+                  jobKey.wrapLong(key);
+                  backoffKey.wrapLong(recurringTime);
+                  backoffColumnFamily.delete(backoffJobKey);
+                  updateIndexOnCommit(() -> backoffIndex.remove(key));
+                });
+          });
+    }
+
     nextBackOffDueDate = -1L;
     backoffColumnFamily.whileTrue(
         (key, value) -> {
@@ -342,6 +411,23 @@ public final class DbJobState implements JobState, MutableJobState {
     return callback.test(jobKey, job);
   }
 
+  /** Indexes the due dates of a column family which is keyed by due date and job key. */
+  private static HierarchicalTimerWheel buildIndex(
+      final ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> dueDateColumnFamily) {
+    final var index = new HierarchicalTimerWheel();
+    dueDateColumnFamily.forEach(
+        (key, nil) -> {
+          final long dueDate = key.getFirst().getValue();
+          index.add(key.getSecond().getValue(), dueDate, dueDate);
+        });
+    return index;
+  }
+
+  private void updateIndexOnCommit(final Runnable indexUpdate) {
+    transactionContext.runInTransaction(
+        () -> transactionContext.getCurrentTransaction().addCommitListener(indexUpdate));
+  }
+
   private void notifyJobAvailable(final DirectBuffer jobType) {
     if (onJobsAvailableCallback != null) {
       onJobsAvailableCallback.accept(BufferUtil.bufferAsString(jobType));
@@ -379,8 +465,14 @@ public final class DbJobState implements JobState, MutableJobState {
     activatableColumnFamily.delete(typeJobKey);
   }
 
-  private void removeJobDeadline(final long deadline) {
+  private void removeJobDeadline(final long key, final long deadline) {
+    jobKey.wrapLong(key);
     deadlineKey.wrapLong(deadline);
     deadlinesColumnFamily.delete(deadlineJobKey);
+
+    if (deadlineIndex != null) {
+      // the record may carry another deadline than the indexed one, e.g. if the job was canceled
+      updateIndexOnCommit(() -> deadlineIndex.remove(key, deadline));
+    }
   }
 }
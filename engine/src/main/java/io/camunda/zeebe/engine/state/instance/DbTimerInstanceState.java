@@ -13,11 +13,15 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
+import io.camunda.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
+import io.camunda.zeebe.engine.state.HierarchicalTimerWheel;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
 import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
 import java.util.function.Consumer;
 
-public final class DbTimerInstanceState implements MutableTimerInstanceState {
+public final class DbTimerInstanceState
+    implements MutableTimerInstanceState, StreamProcessorLifecycleAware {
 
   private final ColumnFamily<DbCompositeKey<DbLong, DbLong>, TimerInstance>
       timerInstanceColumnFamily;
@@ -31,10 +35,16 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
   private final DbLong dueDateKey;
   private final DbCompositeKey<DbLong, DbCompositeKey<DbLong, DbLong>> dueDateCompositeKey;
 
+  private final TransactionContext transactionContext;
+  // an in-memory index of the due dates, which is built after the state is recovered; until then,
+  // the due dates are looked up in the column family. It reflects only committed changes, such
+  // that it stays in sync with the column family if a transaction is rolled back
+  private HierarchicalTimerWheel dueDateIndex;
   private long nextDueDate;
 
   public DbTimerInstanceState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this.transactionContext = transactionContext;
     timerInstance = new TimerInstance();
     timerKey = new DbLong();
     elementInstanceKey = new DbLong();
@@ -53,6 +63,18 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
             DbNil.INSTANCE);
   }
 
+  @Override
+  public void onRecovered(final ReadonlyProcessingContext context) {
+    final var index = new HierarchicalTimerWheel();
+    dueDateColumnFamily.forEach(
+        (key, nil) ->
+            index.add(
+                key.getSecond().getSecond().getValue(),
+                key.getSecond().getFirst().getValue(),
+                key.getFirst().getValue()));
+    dueDateIndex = index;
+  }
+
   @Override
   public void put(final TimerInstance timer) {
     timerKey.wrapLong(timer.getKey());
@@ -62,10 +84,30 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDateKey.wrapLong(timer.getDueDate());
     dueDateColumnFamily.put(dueDateCompositeKey, DbNil.INSTANCE);
+
+    if (dueDateIndex != null) {
+      final long key = timer.getKey();
+      final long elementInstanceKey = timer.getElementInstanceKey();
+      final long dueDate = timer.getDueDate();
+      updateIndexOnCommit(() -> dueDateIndex.add(key, elementInstanceKey, dueDate));
+    }
   }
 
   @Override
   public long findTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
+    if (dueDateIndex != null) {
+      return dueDateIndex.visitDueEntries(
+          timestamp,
+          (timerKey, elementInstanceKey) -> {
+            final var timer = get(elementInstanceKey, timerKey);
+            if (timer == null) {
+              // the timer is removed by a transaction which is not committed yet
+              return true;
+            }
+            return consumer.visit(timer);
+          });
+    }
+
     nextDueDate = -1L;
 
     dueDateColumnFamily.whileTrue(
@@ -116,5 +158,15 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDateKey.wrapLong(timer.getDueDate());
     dueDateColumnFamily.delete(dueDateCompositeKey);
+
+    if (dueDateIndex != null) {
+      final long key = timer.getKey();
+      updateIndexOnCommit(() -> dueDateIndex.remove(key));
+    }
+  }
+
+  private void updateIndexOnCommit(final Runnable indexUpdate) {
+    transactionContext.runInTransaction(
+        () -> transactionContext.getCurrentTransaction().addCommitListener(indexUpdate));
   }
 }
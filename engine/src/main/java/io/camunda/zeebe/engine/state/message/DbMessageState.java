@@ -17,12 +17,15 @@ import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
+import io.camunda.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
+import io.camunda.zeebe.engine.state.HierarchicalTimerWheel;
 import io.camunda.zeebe.engine.state.ZbColumnFamilies;
 import io.camunda.zeebe.engine.state.mutable.MutableMessageState;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
 import org.agrona.DirectBuffer;
 
-public final class DbMessageState implements MutableMessageState {
+public final class DbMessageState implements MutableMessageState, StreamProcessorLifecycleAware {
 
   /**
    * <pre>message key -> message
@@ -97,8 +100,15 @@ public final class DbMessageState implements MutableMessageState {
 
   private final ColumnFamily<DbLong, DbString> processInstanceCorrelationKeyColumnFamiliy;
 
+  private final TransactionContext transactionContext;
+  // an in-memory index of the deadlines, which is built after the state is recovered; until then,
+  // the deadlines are looked up in the column family. It reflects only committed changes, such
+  // that it stays in sync with the column family if a transaction is rolled back
+  private HierarchicalTimerWheel deadlineIndex;
+
   public DbMessageState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this.transactionContext = transactionContext;
     messageKey = new DbLong();
     message = new StoredMessage();
     messageColumnFamily =
@@ -160,6 +170,17 @@ public final class DbMessageState implements MutableMessageState {
             correlationKey);
   }
 
+  @Override
+  public void onRecovered(final ReadonlyProcessingContext context) {
+    final var index = new HierarchicalTimerWheel();
+    deadlineColumnFamily.forEach(
+        (key, nil) -> {
+          final long messageDeadline = key.getFirst().getValue();
+          index.add(key.getSecond().getValue(), messageDeadline, messageDeadline);
+        });
+    deadlineIndex = index;
+  }
+
   @Override
   public void put(final long key, final MessageRecord record) {
     messageKey.wrapLong(key);
@@ -173,6 +194,11 @@ public final class DbMessageState implements MutableMessageState {
     deadline.wrapLong(record.getDeadline());
     deadlineColumnFamily.put(deadlineMessageKey, DbNil.INSTANCE);
 
+    if (deadlineIndex != null) {
+      final long messageDeadline = record.getDeadline();
+      updateIndexOnCommit(() -> deadlineIndex.add(key, messageDeadline, messageDeadline));
+    }
+
     final DirectBuffer messageId = record.getMessageIdBuffer();
     if (messageId.capacity() > 0) {
       this.messageId.wrapBuffer(messageId);
@@ -300,6 +326,22 @@ public final class DbMessageState implements MutableMessageState {
 
   @Override
   public void visitMessagesWithDeadlineBefore(final long timestamp, final MessageVisitor visitor) {
+    if (deadlineIndex != null) {
+      deadlineIndex.visitDueEntries(
+          timestamp,
+          (key, messageDeadline) -> {
+            messageKey.wrapLong(key);
+            deadline.wrapLong(messageDeadline);
+            if (!deadlineColumnFamily.exists(deadlineMessageKey)) {
+              // the message is removed by a transaction which is not committed yet
+              return true;
+            }
+
+            return visitor.visit(getMessage(key));
+          });
+      return;
+    }
+
     deadlineColumnFamily.whileTrue(
         ((compositeKey, zbNil) -> {
           final long deadline = compositeKey.getFirst().getValue();
@@ -346,10 +388,19 @@ public final class DbMessageState implements MutableMessageState {
     deadline.wrapLong(storedMessage.getMessage().getDeadline());
     deadlineColumnFamily.delete(deadlineMessageKey);
 
+    if (deadlineIndex != null) {
+      updateIndexOnCommit(() -> deadlineIndex.remove(key));
+    }
+
     correlatedMessageColumnFamily.whileEqualPrefix(
         messageKey,
         ((compositeKey, zbNil) -> {
           correlatedMessageColumnFamily.delete(compositeKey);
         }));
   }
+
+  private void updateIndexOnCommit(final Runnable indexUpdate) {
+    transactionContext.runInTransaction(
+        () -> transactionContext.getCurrentTransaction().addCommitListener(indexUpdate));
+  }
 }
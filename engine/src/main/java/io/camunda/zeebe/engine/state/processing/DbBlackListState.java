@@ -39,11 +39,19 @@ public final class DbBlackListState implements MutableBlackListState {
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
       final int partitionId) {
+    this(zeebeDb, transactionContext, new BlacklistMetrics(partitionId));
+  }
+
+  /** @param blacklistMetrics the metrics to update, or null if no metrics should be updated */
+  public DbBlackListState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final BlacklistMetrics blacklistMetrics) {
     processInstanceKey = new DbLong();
     blackListColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.BLACKLIST, transactionContext, processInstanceKey, DbNil.INSTANCE);
-    blacklistMetrics = new BlacklistMetrics(partitionId);
+    this.blacklistMetrics = blacklistMetrics;
   }
 
   private void blacklist(final long key) {
@@ -52,7 +60,9 @@ public final class DbBlackListState implements MutableBlackListState {
 
       processInstanceKey.wrapLong(key);
       blackListColumnFamily.put(processInstanceKey, DbNil.INSTANCE);
-      blacklistMetrics.countBlacklistedInstance();
+      if (blacklistMetrics != null) {
+        blacklistMetrics.countBlacklistedInstance();
+      }
     }
   }
 
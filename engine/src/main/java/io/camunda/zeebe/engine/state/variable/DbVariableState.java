@@ -17,7 +17,9 @@ import io.camunda.zeebe.engine.state.ZbColumnFamilies;
 import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
@@ -52,6 +54,8 @@ public class DbVariableState implements MutableVariableState {
   // collecting variables
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
+  // keys to look up several variables at once, which are reused as they are needed
+  private final List<DbCompositeKey<DbLong, DbString>> variableKeys = new ArrayList<>();
 
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
@@ -228,16 +232,12 @@ public class DbVariableState implements MutableVariableState {
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+    long currentScope = scopeKey;
+    do {
+      collectVariablesLocal(currentScope, names);
 
-          variablesToCollect.remove(name.getBuffer());
-        },
-        variablesToCollect::isEmpty);
+      currentScope = getParentScopeKey(currentScope);
+    } while (!variablesToCollect.isEmpty() && currentScope >= 0);
 
     writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
 
@@ -295,6 +295,39 @@ public class DbVariableState implements MutableVariableState {
     return variablesColumnFamily.get(scopeKeyVariableNameKey);
   }
 
+  /**
+   * Writes the variables of the given scope which are yet to be collected to the result document,
+   * looking them up all at once instead of iterating over all variables of the scope.
+   */
+  private void collectVariablesLocal(final long scopeKey, final Collection<DirectBuffer> names) {
+    int keyCount = 0;
+    for (final DirectBuffer name : names) {
+      if (variablesToCollect.contains(name)) {
+        final var key = getVariableKey(keyCount++);
+        key.getFirst().wrapLong(scopeKey);
+        key.getSecond().wrapBuffer(name);
+      }
+    }
+
+    variablesColumnFamily.multiGet(
+        variableKeys.subList(0, keyCount),
+        (key, variable) -> {
+          final DirectBuffer name = key.getSecond().getBuffer();
+          // a name may be given more than once, but must only be written once
+          if (variable != null && variablesToCollect.remove(name)) {
+            writer.writeString(name);
+            writer.writeRaw(variable.getValue());
+          }
+        });
+  }
+
+  private DbCompositeKey<DbLong, DbString> getVariableKey(final int index) {
+    while (variableKeys.size() <= index) {
+      variableKeys.add(new DbCompositeKey<>(new DbLong(), new DbString()));
+    }
+    return variableKeys.get(index);
+  }
+
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
    * the scope hierarchy.
@@ -8,7 +8,11 @@
 package io.camunda.zeebe.engine.processing.job;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -16,12 +20,15 @@ import io.camunda.zeebe.engine.processing.streamprocessor.ProcessingContext;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
 import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.engine.util.ZeebeStateRule;
+import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.util.sched.ActorControl;
+import java.time.Duration;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -33,6 +40,8 @@ public final class JobTimeoutTriggerTest {
   @Mock private ActorControl someActor;
 
   @Mock private TypedStreamWriter typedStreamWriter;
+  @Mock private LogStream logStream;
+  private ProcessingContext processingContext;
   private JobTimeoutTrigger jobTimeoutTrigger;
 
   @Before
@@ -42,8 +51,11 @@ public final class JobTimeoutTriggerTest {
     final MutableJobState jobState = stateRule.getZeebeState().getJobState();
     jobTimeoutTrigger = new JobTimeoutTrigger(jobState);
 
-    final ProcessingContext processingContext =
-        new ProcessingContext().actor(someActor).logStreamWriter(typedStreamWriter);
+    processingContext =
+        new ProcessingContext()
+            .actor(someActor)
+            .logStream(logStream)
+            .logStreamWriter(typedStreamWriter);
     processingContext.enableLogStreamWriter();
     jobTimeoutTrigger.onRecovered(processingContext);
 
@@ -85,4 +97,35 @@ public final class JobTimeoutTriggerTest {
     inOrder.verify(typedStreamWriter).flush();
     inOrder.verifyNoMoreInteractions();
   }
+
+  @Test
+  public void shouldDeferRemainingJobsIfLimitIsReached() {
+    // given
+    processingContext.maxScheduledCommandsPerRun(2);
+    jobTimeoutTrigger.onRecovered(processingContext);
+
+    // when
+    jobTimeoutTrigger.deactivateTimedOutJobs();
+
+    // then
+    verify(typedStreamWriter)
+        .appendFollowUpCommand(eq(0L), eq(JobIntent.TIME_OUT), any(JobRecord.class));
+    verify(typedStreamWriter)
+        .appendFollowUpCommand(eq(1L), eq(JobIntent.TIME_OUT), any(JobRecord.class));
+    verify(typedStreamWriter, never())
+        .appendFollowUpCommand(eq(2L), eq(JobIntent.TIME_OUT), any(JobRecord.class));
+
+    final ArgumentCaptor<Runnable> deferredRun = ArgumentCaptor.forClass(Runnable.class);
+    verify(someActor).runDelayed(eq(Duration.ZERO), deferredRun.capture());
+
+    // when
+    deferredRun.getValue().run();
+
+    // then
+    verify(typedStreamWriter)
+        .appendFollowUpCommand(eq(2L), eq(JobIntent.TIME_OUT), any(JobRecord.class));
+    verify(typedStreamWriter, times(3))
+        .appendFollowUpCommand(anyLong(), eq(JobIntent.TIME_OUT), any(JobRecord.class));
+    verify(someActor).runDelayed(eq(Duration.ZERO), any(Runnable.class));
+  }
 }
@@ -0,0 +1,381 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.streamprocessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.DbKey;
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionOperation;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.db.ZeebeDbTransaction;
+import io.camunda.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.ZbColumnFamilies;
+import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
+import io.camunda.zeebe.engine.util.Records;
+import io.camunda.zeebe.engine.util.StreamProcessorRule;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.ErrorIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.test.util.TestUtil;
+import io.camunda.zeebe.util.sched.ActorControl;
+import io.prometheus.client.CollectorRegistry;
+import java.io.File;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.awaitility.Awaitility;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.verification.VerificationWithTimeout;
+
+public final class BatchedStreamProcessorTest {
+
+  private static final VerificationWithTimeout TIMEOUT = timeout(2_000L);
+  private static final int PARTITION_ID = 0;
+  private static final int MAX_COMMANDS_IN_BATCH = 3;
+
+  private static final JobRecord JOB_RECORD = Records.job(1).setType("test");
+
+  private final FailingCommitDbFactory dbFactory = new FailingCommitDbFactory();
+
+  @Rule
+  public final StreamProcessorRule streamProcessorRule =
+      new StreamProcessorRule(PARTITION_ID, 1, dbFactory, new TemporaryFolder())
+          .withMaxCommandsInBatch(MAX_COMMANDS_IN_BATCH);
+
+  private ActorControl processingContextActor;
+
+  @Test
+  public void shouldProcessCommandsInBatch() {
+    // given
+    final StreamProcessor streamProcessor = startProcessorCreatingJobs(-1);
+    final double batchCount = getBatchSizeSample("count");
+    final double batchSum = getBatchSizeSample("sum");
+
+    // when
+    final long lastPosition = writeCommandsWhilePaused(3);
+
+    // then
+    verify(streamProcessorRule.getMockStreamProcessorListener(), TIMEOUT.times(3))
+        .onProcessed(any());
+    Awaitility.await()
+        .untilAsserted(
+            () ->
+                assertThat(streamProcessor.getLastProcessedPositionAsync().join())
+                    .isEqualTo(lastPosition));
+    assertThat(getBatchSizeSample("count") - batchCount).isEqualTo(1);
+    assertThat(getBatchSizeSample("sum") - batchSum).isEqualTo(3);
+    assertJobsExist(1, 2, 3);
+  }
+
+  @Test
+  public void shouldLimitBatchSize() {
+    // given
+    final StreamProcessor streamProcessor = startProcessorCreatingJobs(-1);
+    final double batchCount = getBatchSizeSample("count");
+    final double batchSum = getBatchSizeSample("sum");
+
+    // when
+    final long lastPosition = writeCommandsWhilePaused(MAX_COMMANDS_IN_BATCH + 1);
+
+    // then
+    Awaitility.await()
+        .untilAsserted(
+            () ->
+                assertThat(streamProcessor.getLastProcessedPositionAsync().join())
+                    .isEqualTo(lastPosition));
+    assertThat(getBatchSizeSample("count") - batchCount).isEqualTo(2);
+    assertThat(getBatchSizeSample("sum") - batchSum).isEqualTo(MAX_COMMANDS_IN_BATCH + 1);
+  }
+
+  @Test
+  public void shouldOnlyRollbackFailingCommandOfBatch() {
+    // given
+    final StreamProcessor streamProcessor = startProcessorCreatingJobs(2);
+
+    // when
+    final long lastPosition = writeCommandsWhilePaused(3);
+
+    // then
+    verify(streamProcessorRule.getMockStreamProcessorListener(), TIMEOUT.times(3))
+        .onProcessed(any());
+    Awaitility.await()
+        .untilAsserted(
+            () ->
+                assertThat(streamProcessor.getLastProcessedPositionAsync().join())
+                    .isEqualTo(lastPosition));
+    assertJobsExist(1, 3);
+    processingContextActor
+        .call(
+            () -> assertThat(streamProcessorRule.getZeebeState().getJobState().getJob(2)).isNull())
+        .join();
+
+    final var errorEvent =
+        TestUtil.doRepeatedly(
+                () ->
+                    streamProcessorRule
+                        .events()
+                        .onlyErrorRecords()
+                        .withIntent(ErrorIntent.CREATED)
+                        .findFirst())
+            .until(Optional::isPresent)
+            .orElseThrow();
+    assertThat(errorEvent.getKey()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldFailIfBatchCannotBeCommitted() {
+    // given
+    final StreamProcessor streamProcessor = startProcessorCreatingJobs(-1);
+    dbFactory.failCommits();
+
+    // when
+    writeCommandsWhilePaused(3);
+
+    // then - the follow-up records of the batched commands are written already, so the batch must
+    // not be rolled back while processing continues
+    Awaitility.await().until(streamProcessor::isFailed);
+    verify(streamProcessorRule.getMockStreamProcessorListener(), times(2)).onProcessed(any());
+  }
+
+  @Test
+  public void shouldFailIfBatchCannotBeCommittedAfterCommandFailed() {
+    // given
+    final StreamProcessor streamProcessor = startProcessorCreatingJobs(3);
+    dbFactory.failCommits();
+
+    // when
+    writeCommandsWhilePaused(3);
+
+    // then
+    Awaitility.await().until(streamProcessor::isFailed);
+    verify(streamProcessorRule.getMockStreamProcessorListener(), times(2)).onProcessed(any());
+    assertThat(streamProcessorRule.events().onlyErrorRecords().exists()).isFalse();
+  }
+
+  private StreamProcessor startProcessorCreatingJobs(final long failingKey) {
+    return streamProcessorRule.startTypedStreamProcessor(
+        (builder, processingContext) -> {
+          processingContextActor = processingContext.getActor();
+          final MutableZeebeState state = processingContext.getZeebeState();
+          return builder.onCommand(
+              ValueType.PROCESS_INSTANCE,
+              ProcessInstanceIntent.ACTIVATE_ELEMENT,
+              new TypedRecordProcessor<>() {
+                @Override
+                public void processRecord(
+                    final long position,
+                    final TypedRecord<UnifiedRecordValue> record,
+                    final TypedResponseWriter responseWriter,
+                    final TypedStreamWriter streamWriter,
+                    final Consumer<SideEffectProducer> sideEffect) {
+                  state.getJobState().create(record.getKey(), JOB_RECORD);
+                  if (record.getKey() == failingKey) {
+                    throw new RuntimeException("expected");
+                  }
+                }
+              });
+        });
+  }
+
+  private long writeCommandsWhilePaused(final int count) {
+    streamProcessorRule.pauseProcessing(PARTITION_ID);
+
+    long position = -1;
+    for (int key = 1; key <= count; key++) {
+      position =
+          streamProcessorRule.writeCommand(
+              key, ProcessInstanceIntent.ACTIVATE_ELEMENT, Records.processInstance(key));
+    }
+    TestUtil.waitUntil(
+        () ->
+            streamProcessorRule
+                    .events()
+                    .onlyProcessInstanceRecords()
+                    .withIntent(ProcessInstanceIntent.ACTIVATE_ELEMENT)
+                    .count()
+                == count);
+
+    streamProcessorRule.resumeProcessing(PARTITION_ID);
+    return position;
+  }
+
+  private void assertJobsExist(final long... keys) {
+    processingContextActor
+        .call(
+            () -> {
+              for (final long key : keys) {
+                assertThat(streamProcessorRule.getZeebeState().getJobState().getJob(key))
+                    .describedAs("job %d", key)
+                    .isNotNull();
+              }
+            })
+        .join();
+  }
+
+  private static double getBatchSizeSample(final String suffix) {
+    final Double value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_stream_processor_batch_size_" + suffix,
+            new String[] {"partition"},
+            new String[] {String.valueOf(PARTITION_ID)});
+    return value == null ? 0 : value;
+  }
+
+  /**
+   * Creates the default database, but lets the transactions of the stream processor fail to commit
+   * once {@link #failCommits()} was called. The column families still use the actual transaction.
+   */
+  private static final class FailingCommitDbFactory implements ZeebeDbFactory<ZbColumnFamilies> {
+
+    private final ZeebeDbFactory<ZbColumnFamilies> delegate =
+        DefaultZeebeDbFactory.defaultFactory();
+    private volatile boolean failCommits;
+
+    void failCommits() {
+      failCommits = true;
+    }
+
+    @Override
+    public ZeebeDb<ZbColumnFamilies> createDb(final File pathName) {
+      return new FailingCommitDb(delegate.createDb(pathName));
+    }
+
+    private final class FailingCommitDb implements ZeebeDb<ZbColumnFamilies> {
+
+      private final ZeebeDb<ZbColumnFamilies> db;
+
+      private FailingCommitDb(final ZeebeDb<ZbColumnFamilies> db) {
+        this.db = db;
+      }
+
+      @Override
+      public <KeyType extends DbKey, ValueType extends DbValue>
+          ColumnFamily<KeyType, ValueType> createColumnFamily(
+              final ZbColumnFamilies columnFamily,
+              final TransactionContext context,
+              final KeyType keyInstance,
+              final ValueType valueInstance) {
+        return db.createColumnFamily(columnFamily, unwrap(context), keyInstance, valueInstance);
+      }
+
+      @Override
+      public void createSnapshot(final File snapshotDir) {
+        db.createSnapshot(snapshotDir);
+      }
+
+      @Override
+      public Optional<String> getProperty(final String propertyName) {
+        return db.getProperty(propertyName);
+      }
+
+      @Override
+      public TransactionContext createContext() {
+        return new FailingCommitContext(db.createContext());
+      }
+
+      @Override
+      public boolean isEmpty(final ZbColumnFamilies column, final TransactionContext context) {
+        return db.isEmpty(column, unwrap(context));
+      }
+
+      @Override
+      public void close() throws Exception {
+        db.close();
+      }
+
+      private TransactionContext unwrap(final TransactionContext context) {
+        return context instanceof FailingCommitContext
+            ? ((FailingCommitContext) context).context
+            : context;
+      }
+    }
+
+    private final class FailingCommitContext implements TransactionContext {
+
+      private final TransactionContext context;
+
+      private FailingCommitContext(final TransactionContext context) {
+        this.context = context;
+      }
+
+      @Override
+      public void runInTransaction(final TransactionOperation operations) {
+        context.runInTransaction(operations);
+      }
+
+      @Override
+      public ZeebeDbTransaction getCurrentTransaction() {
+        return new FailingCommitTransaction(context.getCurrentTransaction());
+      }
+    }
+
+    private final class FailingCommitTransaction implements ZeebeDbTransaction {
+
+      private final ZeebeDbTransaction transaction;
+
+      private FailingCommitTransaction(final ZeebeDbTransaction transaction) {
+        this.transaction = transaction;
+      }
+
+      @Override
+      public void run(final TransactionOperation operations) throws Exception {
+        transaction.run(operations);
+      }
+
+      @Override
+      public void commit() throws Exception {
+        if (failCommits) {
+          throw new IllegalStateException("expected");
+        }
+        transaction.commit();
+      }
+
+      @Override
+      public void rollback() throws Exception {
+        transaction.rollback();
+      }
+
+      @Override
+      public void setSavePoint() throws Exception {
+        transaction.setSavePoint();
+      }
+
+      @Override
+      public void rollbackToSavePoint() throws Exception {
+        transaction.rollbackToSavePoint();
+      }
+
+      @Override
+      public void merge(final ZeebeDbTransaction other) throws Exception {
+        transaction.merge(
+            other instanceof FailingCommitTransaction
+                ? ((FailingCommitTransaction) other).transaction
+                : other);
+      }
+
+      @Override
+      public void addCommitListener(final Runnable listener) {
+        transaction.addCommitListener(listener);
+      }
+    }
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.streamprocessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.processing.streamprocessor.StreamProcessor.Phase;
+import io.camunda.zeebe.engine.state.ZbColumnFamilies;
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.api.SoftAssertions;
+import org.awaitility.Awaitility;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ParallelReplayTest {
+
+  private static final String PARENT_PROCESS_ID = "parent";
+  private static final String CHILD_PROCESS_ID = "child";
+  private static final int PROCESS_INSTANCES = 30;
+
+  private long lastProcessedPosition = -1L;
+
+  @Rule
+  public final EngineRule engine =
+      EngineRule.singlePartition()
+          .withOnProcessedCallback(record -> lastProcessedPosition = record.getPosition())
+          .withOnSkippedCallback(record -> lastProcessedPosition = record.getPosition());
+
+  @Before
+  public void setup() {
+    engine
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess(CHILD_PROCESS_ID)
+                .startEvent()
+                .serviceTask("child-task", t -> t.zeebeJobType("child"))
+                .endEvent()
+                .done())
+        .withXmlResource(
+            Bpmn.createExecutableProcess(PARENT_PROCESS_ID)
+                .startEvent()
+                .callActivity("call", c -> c.zeebeProcessId(CHILD_PROCESS_ID))
+                .serviceTask("task", t -> t.zeebeJobType("task"))
+                .boundaryEvent("timer", b -> b.cancelActivity(false).timerWithDuration("PT1H"))
+                .endEvent()
+                .moveToActivity("task")
+                .endEvent()
+                .done())
+        .deploy();
+
+    for (int i = 0; i < PROCESS_INSTANCES; i++) {
+      engine.processInstance().ofBpmnProcessId(PARENT_PROCESS_ID).withVariable("index", i).create();
+    }
+    awaitJobs("child", PROCESS_INSTANCES);
+  }
+
+  @Test
+  public void shouldRestoreSameStateAsSequentialReplay() {
+    // given
+    activateJobs("child", PROCESS_INSTANCES * 2 / 3)
+        .forEach(key -> engine.job().withKey(key).withVariable("result", key).complete());
+    awaitJobs("task", PROCESS_INSTANCES * 2 / 3);
+
+    final var taskJobKeys = activateJobs("task", PROCESS_INSTANCES / 3);
+    taskJobKeys
+        .subList(0, PROCESS_INSTANCES / 6)
+        .forEach(key -> engine.job().withKey(key).complete());
+    taskJobKeys
+        .subList(PROCESS_INSTANCES / 6, taskJobKeys.size())
+        .forEach(key -> engine.job().withKey(key).withRetries(0).fail());
+
+    awaitProcessed(
+        RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+            .withBpmnProcessId(PARENT_PROCESS_ID)
+            .withElementType(BpmnElementType.PROCESS)
+            .limit(PROCESS_INSTANCES / 6)
+            .getLast());
+    awaitProcessed(
+        RecordingExporter.incidentRecords(IncidentIntent.CREATED)
+            .limit(taskJobKeys.size() - PROCESS_INSTANCES / 6)
+            .getLast());
+
+    // when
+    final var sequentialReplayState = restart(1);
+    final var parallelReplayState = restart(4);
+
+    // then
+    final var softly = new SoftAssertions();
+    sequentialReplayState.entrySet().stream()
+        .filter(entry -> entry.getKey() != ZbColumnFamilies.DEFAULT)
+        .forEach(
+            entry ->
+                softly
+                    .assertThat(parallelReplayState.get(entry.getKey()))
+                    .describedAs(
+                        "The state column '%s' has different entries after parallel replay",
+                        entry.getKey())
+                    .containsExactlyInAnyOrderEntriesOf(entry.getValue()));
+    softly.assertAll();
+  }
+
+  @Test
+  public void shouldContinueProcessingAfterParallelReplay() {
+    // given
+    activateJobs("child", PROCESS_INSTANCES / 2)
+        .forEach(key -> engine.job().withKey(key).complete());
+    awaitJobs("task", PROCESS_INSTANCES / 2);
+
+    // when
+    restart(4);
+    activateJobs("child", PROCESS_INSTANCES - PROCESS_INSTANCES / 2)
+        .forEach(key -> engine.job().withKey(key).complete());
+
+    // then
+    awaitJobs("task", PROCESS_INSTANCES);
+  }
+
+  private void awaitJobs(final String type, final int count) {
+    assertThat(RecordingExporter.jobRecords(JobIntent.CREATED).withType(type).limit(count).count())
+        .isEqualTo(count);
+  }
+
+  private List<Long> activateJobs(final String type, final int count) {
+    final var jobKeys =
+        engine
+            .jobs()
+            .withType(type)
+            .withMaxJobsToActivate(count)
+            .activate()
+            .getValue()
+            .getJobKeys();
+    assertThat(jobKeys).hasSize(count);
+    return jobKeys;
+  }
+
+  private void awaitProcessed(final Record<?> record) {
+    Awaitility.await("await until the last record is processed")
+        .untilAsserted(
+            () -> assertThat(lastProcessedPosition).isGreaterThanOrEqualTo(record.getPosition()));
+  }
+
+  private Map<ZbColumnFamilies, Map<Object, Object>> restart(final int replayParallelism) {
+    engine.stop();
+    engine.withReplayParallelism(replayParallelism);
+    engine.start();
+
+    Awaitility.await("await until the state is replayed")
+        .untilAsserted(
+            () ->
+                assertThat(engine.getStreamProcessor(1).getCurrentPhase().join())
+                    .isEqualTo(Phase.PROCESSING));
+    return engine.collectState();
+  }
+}
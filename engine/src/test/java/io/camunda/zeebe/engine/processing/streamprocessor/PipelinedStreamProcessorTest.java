@@ -0,0 +1,571 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.streamprocessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
+import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
+import io.camunda.zeebe.engine.util.Records;
+import io.camunda.zeebe.engine.util.StreamProcessorRule;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.impl.record.value.error.ErrorRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.ErrorIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.test.util.TestUtil;
+import io.camunda.zeebe.util.sched.ActorControl;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.awaitility.Awaitility;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.verification.VerificationWithTimeout;
+
+public final class PipelinedStreamProcessorTest {
+
+  private static final VerificationWithTimeout TIMEOUT = timeout(2_000L);
+
+  private static final ProcessInstanceRecord PROCESS_INSTANCE_RECORD = Records.processInstance(1);
+  private static final JobRecord JOB_RECORD = Records.job(1).setType("test");
+
+  private final WriteControl writeControl = new WriteControl();
+
+  @Rule
+  public final StreamProcessorRule streamProcessorRule =
+      new StreamProcessorRule()
+          .withPipelinedProcessing(true)
+          .withBatchWriterDecorator(writeControl::decorate);
+
+  private ActorControl processingContextActor;
+
+  @Test
+  public void shouldProcessRecordsInOrder() {
+    // given
+    final TypedRecordProcessor<?> typedRecordProcessor = mock(TypedRecordProcessor.class);
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, state) ->
+            processors.onCommand(
+                ValueType.PROCESS_INSTANCE,
+                ProcessInstanceIntent.ACTIVATE_ELEMENT,
+                typedRecordProcessor));
+
+    // when
+    final long firstPosition =
+        streamProcessorRule.writeCommand(
+            ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+    final long secondPosition =
+        streamProcessorRule.writeCommand(
+            ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+
+    // then
+    final InOrder inOrder = inOrder(typedRecordProcessor);
+    inOrder
+        .verify(typedRecordProcessor, TIMEOUT)
+        .processRecord(eq(firstPosition), any(), any(), any(), any());
+    inOrder
+        .verify(typedRecordProcessor, TIMEOUT)
+        .processRecord(eq(secondPosition), any(), any(), any(), any());
+
+    Awaitility.await()
+        .untilAsserted(
+            () ->
+                assertThat(streamProcessorRule.getLastSuccessfulProcessedRecordPosition())
+                    .isEqualTo(secondPosition));
+  }
+
+  @Test
+  public void shouldWriteFollowUpEvents() {
+    // given
+    final StreamProcessor streamProcessor =
+        streamProcessorRule.startTypedStreamProcessor(
+            (processors, state) ->
+                processors.onCommand(
+                    ValueType.PROCESS_INSTANCE,
+                    ProcessInstanceIntent.ACTIVATE_ELEMENT,
+                    new TypedRecordProcessor<>() {
+                      @Override
+                      public void processRecord(
+                          final long position,
+                          final TypedRecord<UnifiedRecordValue> record,
+                          final TypedResponseWriter responseWriter,
+                          final TypedStreamWriter streamWriter,
+                          final Consumer<SideEffectProducer> sideEffect) {
+                        streamWriter.appendFollowUpEvent(
+                            record.getKey(),
+                            ProcessInstanceIntent.ELEMENT_ACTIVATING,
+                            record.getValue());
+                      }
+                    }));
+
+    // when
+    final long firstPosition =
+        streamProcessorRule.writeCommand(
+            ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+    final long secondPosition =
+        streamProcessorRule.writeCommand(
+            ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+
+    // then
+    final List<Record<ProcessInstanceRecord>> activatingEvents =
+        TestUtil.doRepeatedly(
+                () ->
+                    streamProcessorRule
+                        .events()
+                        .onlyProcessInstanceRecords()
+                        .withIntent(ProcessInstanceIntent.ELEMENT_ACTIVATING)
+                        .collect(Collectors.toList()))
+            .until(events -> events.size() == 2);
+    assertThat(activatingEvents)
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(firstPosition, secondPosition);
+
+    assertThat(streamProcessor.getLastWrittenPositionAsync().join())
+        .isEqualTo(activatingEvents.get(1).getPosition());
+    assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(secondPosition);
+  }
+
+  @Test
+  public void shouldRepeatExecuteSideEffects() throws Exception {
+    // given
+    final CountDownLatch processLatch = new CountDownLatch(2);
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, state) ->
+            processors.onCommand(
+                ValueType.PROCESS_INSTANCE,
+                ProcessInstanceIntent.ACTIVATE_ELEMENT,
+                new TypedRecordProcessor<>() {
+                  @Override
+                  public void processRecord(
+                      final long position,
+                      final TypedRecord<UnifiedRecordValue> record,
+                      final TypedResponseWriter responseWriter,
+                      final TypedStreamWriter streamWriter,
+                      final Consumer<SideEffectProducer> sideEffect) {
+                    sideEffect.accept(
+                        () -> {
+                          processLatch.countDown();
+                          return processLatch.getCount() < 1;
+                        });
+                  }
+                }));
+
+    // when
+    streamProcessorRule.writeCommand(
+        ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+
+    // then
+    assertThat(processLatch.await(5, TimeUnit.SECONDS)).isTrue();
+    verify(streamProcessorRule.getMockStreamProcessorListener(), TIMEOUT).onProcessed(any());
+  }
+
+  @Test
+  public void shouldNotUpdateStateOnExceptionInProcessing() {
+    // given
+    final long jobKey = 1L;
+    streamProcessorRule.startTypedStreamProcessor(
+        (builder, processingContext) -> {
+          processingContextActor = processingContext.getActor();
+          final MutableZeebeState state = processingContext.getZeebeState();
+          return builder.onCommand(
+              ValueType.PROCESS_INSTANCE,
+              ProcessInstanceIntent.ACTIVATE_ELEMENT,
+              new TypedRecordProcessor<>() {
+                @Override
+                public void processRecord(
+                    final long position,
+                    final TypedRecord<UnifiedRecordValue> record,
+                    final TypedResponseWriter responseWriter,
+                    final TypedStreamWriter streamWriter,
+                    final Consumer<SideEffectProducer> sideEffect) {
+                  state.getJobState().create(jobKey, JOB_RECORD);
+                  throw new RuntimeException("expected");
+                }
+              });
+        });
+
+    // when
+    streamProcessorRule.writeCommand(
+        ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+    streamProcessorRule.writeCommand(
+        ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+
+    // then
+    verify(streamProcessorRule.getMockStreamProcessorListener(), TIMEOUT.times(2))
+        .onProcessed(any());
+    processingContextActor
+        .call(
+            () ->
+                assertThat(streamProcessorRule.getZeebeState().getJobState().getJob(jobKey))
+                    .isNull())
+        .join();
+  }
+
+  @Test
+  public void shouldUpdateStateAfterProcessing() {
+    // given
+    final long jobKey = 1L;
+    streamProcessorRule.startTypedStreamProcessor(
+        (builder, processingContext) -> {
+          processingContextActor = processingContext.getActor();
+          final MutableZeebeState state = processingContext.getZeebeState();
+          return builder.onCommand(
+              ValueType.PROCESS_INSTANCE,
+              ProcessInstanceIntent.ACTIVATE_ELEMENT,
+              new TypedRecordProcessor<>() {
+                @Override
+                public void processRecord(
+                    final long position,
+                    final TypedRecord<UnifiedRecordValue> record,
+                    final TypedResponseWriter responseWriter,
+                    final TypedStreamWriter streamWriter,
+                    final Consumer<SideEffectProducer> sideEffect) {
+                  state.getJobState().create(jobKey, JOB_RECORD);
+                }
+              });
+        });
+
+    // when
+    streamProcessorRule.writeCommand(
+        ProcessInstanceIntent.ACTIVATE_ELEMENT, PROCESS_INSTANCE_RECORD);
+
+    // then
+    verify(streamProcessorRule.getMockStreamProcessorListener(), TIMEOUT).onProcessed(any());
+    processingContextActor
+        .call(
+            () ->
+                assertThat(streamProcessorRule.getZeebeState().getJobState().getJob(jobKey))
+                    .isNotNull())
+        .join();
+  }
+
+  @Test
+  public void shouldProcessNextCommandWhileFollowUpRecordsCantBeWritten() {
+    // given
+    final List<Long> processedPositions = new CopyOnWriteArrayList<>();
+    final StreamProcessor streamProcessor = startProcessorCreatingJobs(processedPositions);
+    writeControl.blockWrites();
+
+    // when
+    final long firstPosition =
+        streamProcessorRule.writeCommand(
+            1, ProcessInstanceIntent.ACTIVATE_ELEMENT, Records.processInstance(1));
+    final long secondPosition =
+        streamProcessorRule.writeCommand(
+            2, ProcessInstanceIntent.ACTIVATE_ELEMENT, Records.processInstance(2));
+
+    // then
+    Awaitility.await().until(() -> processedPositions.size() == 2);
+    assertThat(processedPositions).containsExactly(firstPosition, secondPosition);
+    assertThat(
+            streamProcessorRule
+                .events()
+                .onlyProcessInstanceRecords()
+                .withIntent(ProcessInstanceIntent.ELEMENT_ACTIVATING)
+                .exists())
+        .isFalse();
+
+    writeControl.unblockWrites();
+    assertThat(awaitActivatingEvents(2))
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(firstPosition, secondPosition);
+    Awaitility.await()
+        .untilAsserted(
+            () ->
+                assertThat(streamProcessor.getLastProcessedPositionAsync().join())
+                    .isEqualTo(secondPosition));
+    assertJobsExist(1, 2);
+  }
+
+  @Test
+  public void shouldSendResponsesOnceFollowUpRecordsAreWritten() {
+    // given
+    final List<Long> processedPositions = new CopyOnWriteArrayList<>();
+    startProcessorCreatingJobs(processedPositions);
+    writeControl.blockWrites();
+
+    // when
+    streamProcessorRule.writeCommand(
+        1, 1, ProcessInstanceIntent.ACTIVATE_ELEMENT, Records.processInstance(1));
+    streamProcessorRule.writeCommand(
+        1, 2, ProcessInstanceIntent.ACTIVATE_ELEMENT, Records.processInstance(2));
+
+    // then
+    final CommandResponseWriter responseWriter = streamProcessorRule.getCommandResponseWriter();
+    Awaitility.await().until(() -> processedPositions.size() == 2);
+    verify(responseWriter, never()).tryWriteResponse(anyInt(), anyLong());
+
+    writeControl.unblockWrites();
+    final InOrder inOrder = inOrder(responseWriter);
+    inOrder.verify(responseWriter, TIMEOUT).tryWriteResponse(1, 1);
+    inOrder.verify(responseWriter, TIMEOUT).tryWriteResponse(1, 2);
+  }
+
+  @Test
+  public void shouldRollbackCommandsProcessedAfterFailedInFlightCommand() {
+    // given
+    final List<Long> processedPositions = new CopyOnWriteArrayList<>();
+    final StreamProcessor streamProcessor = startProcessorCreatingJobs(processedPositions);
+    writeControl.blockWrites();
+
+    final long firstPosition =
+        streamProcessorRule.writeCommand(
+            1, ProcessInstanceIntent.ACTIVATE_ELEMENT, Records.processInstance(1));
+    final long secondPosition =
+        streamProcessorRule.writeCommand(
+            2, ProcessInstanceIntent.ACTIVATE_ELEMENT, Records.processInstance(2));
+    Awaitility.await().until(() -> processedPositions.size() == 2);
+
+    // when
+    writeControl.failWriteOf(firstPosition);
+    writeControl.unblockWrites();
+
+    // then - the second command was processed on top of the failed one, so it is processed again
+    Awaitility.await().until(() -> processedPositions.size() == 3);
+    assertThat(processedPositions).containsExactly(firstPosition, secondPosition, secondPosition);
+    assertThat(awaitErrorEvent().getKey()).isEqualTo(1);
+    assertThat(awaitActivatingEvents(1))
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(secondPosition);
+    assertThat(
+            streamProcessorRule
+                .events()
+                .onlyProcessInstanceRecords()
+                .onlyRejections()
+                .map(Record::getSourceRecordPosition))
+        .containsExactly(firstPosition);
+    Awaitility.await()
+        .untilAsserted(
+            () ->
+                assertThat(streamProcessor.getLastProcessedPositionAsync().join())
+                    .isEqualTo(secondPosition));
+    assertJobsExist(2);
+    assertJobsNotExist(1);
+  }
+
+  @Test
+  public void shouldKeepCommandsProcessedBeforeFailedInFlightCommand() {
+    // given
+    final List<Long> processedPositions = new CopyOnWriteArrayList<>();
+    final StreamProcessor streamProcessor = startProcessorCreatingJobs(processedPositions);
+    writeControl.blockWrites();
+
+    final long firstPosition =
+        streamProcessorRule.writeCommand(
+            1, ProcessInstanceIntent.ACTIVATE_ELEMENT, Records.processInstance(1));
+    final long secondPosition =
+        streamProcessorRule.writeCommand(
+            2, ProcessInstanceIntent.ACTIVATE_ELEMENT, Records.processInstance(2));
+    Awaitility.await().until(() -> processedPositions.size() == 2);
+
+    // when
+    writeControl.failWriteOf(secondPosition);
+    writeControl.unblockWrites();
+
+    // then
+    assertThat(awaitErrorEvent().getKey()).isEqualTo(2);
+    verify(streamProcessorRule.getMockStreamProcessorListener(), TIMEOUT.times(2))
+        .onProcessed(any());
+    assertThat(processedPositions).containsExactly(firstPosition, secondPosition);
+    assertThat(awaitActivatingEvents(1))
+        .extracting(Record::getSourceRecordPosition)
+        .containsExactly(firstPosition);
+    assertThat(
+            streamProcessorRule
+                .events()
+                .onlyProcessInstanceRecords()
+                .onlyRejections()
+                .map(Record::getSourceRecordPosition))
+        .containsExactly(secondPosition);
+    Awaitility.await()
+        .untilAsserted(
+            () ->
+                assertThat(streamProcessor.getLastProcessedPositionAsync().join())
+                    .isEqualTo(secondPosition));
+    assertJobsExist(1);
+    assertJobsNotExist(2);
+  }
+
+  private StreamProcessor startProcessorCreatingJobs(final List<Long> processedPositions) {
+    return streamProcessorRule.startTypedStreamProcessor(
+        (builder, processingContext) -> {
+          processingContextActor = processingContext.getActor();
+          final MutableZeebeState state = processingContext.getZeebeState();
+          return builder.onCommand(
+              ValueType.PROCESS_INSTANCE,
+              ProcessInstanceIntent.ACTIVATE_ELEMENT,
+              new TypedRecordProcessor<>() {
+                @Override
+                public void processRecord(
+                    final long position,
+                    final TypedRecord<UnifiedRecordValue> record,
+                    final TypedResponseWriter responseWriter,
+                    final TypedStreamWriter streamWriter,
+                    final Consumer<SideEffectProducer> sideEffect) {
+                  processedPositions.add(position);
+                  state.getJobState().create(record.getKey(), JOB_RECORD);
+                  streamWriter.appendFollowUpEvent(
+                      record.getKey(), ProcessInstanceIntent.ELEMENT_ACTIVATING, record.getValue());
+                  responseWriter.writeEventOnCommand(
+                      record.getKey(),
+                      ProcessInstanceIntent.ELEMENT_ACTIVATING,
+                      record.getValue(),
+                      record);
+                }
+              });
+        });
+  }
+
+  private List<Record<ProcessInstanceRecord>> awaitActivatingEvents(final int count) {
+    return TestUtil.doRepeatedly(
+            () ->
+                streamProcessorRule
+                    .events()
+                    .onlyProcessInstanceRecords()
+                    .withIntent(ProcessInstanceIntent.ELEMENT_ACTIVATING)
+                    .collect(Collectors.toList()))
+        .until(events -> events.size() == count);
+  }
+
+  private Record<ErrorRecord> awaitErrorEvent() {
+    return TestUtil.doRepeatedly(
+            () ->
+                streamProcessorRule
+                    .events()
+                    .onlyErrorRecords()
+                    .withIntent(ErrorIntent.CREATED)
+                    .findFirst())
+        .until(Optional::isPresent)
+        .orElseThrow();
+  }
+
+  private void assertJobsExist(final long... keys) {
+    processingContextActor
+        .call(
+            () -> {
+              for (final long key : keys) {
+                assertThat(streamProcessorRule.getZeebeState().getJobState().getJob(key))
+                    .describedAs("job %d", key)
+                    .isNotNull();
+              }
+            })
+        .join();
+  }
+
+  private void assertJobsNotExist(final long... keys) {
+    processingContextActor
+        .call(
+            () -> {
+              for (final long key : keys) {
+                assertThat(streamProcessorRule.getZeebeState().getJobState().getJob(key))
+                    .describedAs("job %d", key)
+                    .isNull();
+              }
+            })
+        .join();
+  }
+
+  /**
+   * Lets the batch writers of the stream processor hold back all writes, or fail the write of the
+   * follow-up records of a specific command once.
+   */
+  private static final class WriteControl {
+
+    private volatile boolean writesBlocked;
+    private volatile long failingSourcePosition = -1;
+
+    LogStreamBatchWriter decorate(final LogStreamBatchWriter batchWriter) {
+      return new ControlledBatchWriter(batchWriter);
+    }
+
+    void blockWrites() {
+      writesBlocked = true;
+    }
+
+    void unblockWrites() {
+      writesBlocked = false;
+    }
+
+    void failWriteOf(final long commandPosition) {
+      failingSourcePosition = commandPosition;
+    }
+
+    private final class ControlledBatchWriter implements LogStreamBatchWriter {
+
+      private final LogStreamBatchWriter delegate;
+      private long sourcePosition = -1;
+
+      private ControlledBatchWriter(final LogStreamBatchWriter delegate) {
+        this.delegate = delegate;
+      }
+
+      @Override
+      public LogStreamBatchWriter sourceRecordPosition(final long position) {
+        sourcePosition = position;
+        delegate.sourceRecordPosition(position);
+        return this;
+      }
+
+      @Override
+      public LogEntryBuilder event() {
+        return delegate.event();
+      }
+
+      @Override
+      public int getMaxFragmentLength() {
+        return delegate.getMaxFragmentLength();
+      }
+
+      @Override
+      public boolean canWriteAdditionalEvent(final int length) {
+        return delegate.canWriteAdditionalEvent(length);
+      }
+
+      @Override
+      public void reset() {
+        sourcePosition = -1;
+        delegate.reset();
+      }
+
+      @Override
+      public long tryWrite() {
+        if (writesBlocked) {
+          return -1;
+        }
+
+        if (sourcePosition >= 0 && sourcePosition == failingSourcePosition) {
+          failingSourcePosition = -1;
+          throw new IllegalStateException("expected");
+        }
+        return delegate.tryWrite();
+      }
+    }
+  }
+}
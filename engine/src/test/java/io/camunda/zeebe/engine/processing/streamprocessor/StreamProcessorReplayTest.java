@@ -28,6 +28,7 @@ import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.prometheus.client.CollectorRegistry;
 import org.awaitility.Awaitility;
 import org.junit.Rule;
 import org.junit.Test;
@@ -201,6 +202,36 @@ public final class StreamProcessorReplayTest {
     assertThat(keyGenerator.nextKey()).isEqualTo(keyOfThisPartition + 1);
   }
 
+  @Test
+  public void shouldReportReplayProgress() {
+    // given
+    final long lastPosition =
+        streamProcessorRule.writeBatch(
+            command().processInstance(ACTIVATE_ELEMENT, RECORD),
+            event().processInstance(ELEMENT_ACTIVATING, RECORD).causedBy(0),
+            event().processInstance(ELEMENT_ACTIVATING, RECORD).causedBy(0));
+
+    // when
+    startStreamProcessor(typedRecordProcessor, eventApplier);
+
+    // then
+    verify(typedRecordProcessor, TIMEOUT.times(EXPECTED_ON_RECOVERED_INVOCATIONS))
+        .onRecovered(any());
+
+    assertThat(getReplayMetric("target_position")).isEqualTo(lastPosition);
+    assertThat(getReplayMetric("remaining_records")).isZero();
+    assertThat(getReplayMetric("remaining_bytes")).isZero();
+    assertThat(getReplayMetric("estimated_time_remaining")).isZero();
+    assertThat(getReplayMetric("recovery_duration")).isPositive();
+  }
+
+  private static double getReplayMetric(final String name) {
+    final Double value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_replay_" + name, new String[] {"partition"}, new String[] {"0"});
+    return value == null ? 0 : value;
+  }
+
   private void startStreamProcessor(
       final TypedRecordProcessor<?> typedRecordProcessor, final EventApplier eventApplier) {
     streamProcessorRule
@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.timer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.TimerIntent;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import io.prometheus.client.CollectorRegistry;
+import java.time.Duration;
+import java.util.stream.Collectors;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ScheduledCommandLimitTest {
+
+  private static final int MAX_COMMANDS_PER_RUN = 3;
+  private static final int INSTANCES = 10;
+
+  @Rule
+  public final EngineRule engine =
+      EngineRule.singlePartition().withMaxScheduledCommandsPerRun(MAX_COMMANDS_PER_RUN);
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Test
+  public void shouldTriggerAllDueTimers() {
+    // given
+    engine
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess("process")
+                .startEvent()
+                .intermediateCatchEvent("timer", e -> e.timerWithDuration("PT1M"))
+                .endEvent()
+                .done())
+        .deploy();
+
+    for (int i = 0; i < INSTANCES; i++) {
+      engine.processInstance().ofBpmnProcessId("process").create();
+    }
+    assertThat(RecordingExporter.timerRecords(TimerIntent.CREATED).limit(INSTANCES).count())
+        .isEqualTo(INSTANCES);
+    final double deferredRuns = getDeferredRuns("timer");
+
+    // when
+    engine.increaseTime(Duration.ofMinutes(1));
+
+    // then
+    assertThat(
+            RecordingExporter.timerRecords(TimerIntent.TRIGGERED)
+                .limit(INSTANCES)
+                .map(r -> r.getValue().getElementInstanceKey())
+                .collect(Collectors.toSet()))
+        .hasSize(INSTANCES);
+    assertThat(getDeferredRuns("timer")).isGreaterThan(deferredRuns);
+  }
+
+  @Test
+  public void shouldTimeOutAllJobs() {
+    // given
+    engine
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess("process")
+                .startEvent()
+                .serviceTask("task", t -> t.zeebeJobType("test"))
+                .endEvent()
+                .done())
+        .deploy();
+
+    for (int i = 0; i < INSTANCES; i++) {
+      engine.processInstance().ofBpmnProcessId("process").create();
+    }
+    assertThat(RecordingExporter.jobRecords(JobIntent.CREATED).limit(INSTANCES).count())
+        .isEqualTo(INSTANCES);
+    engine
+        .jobs()
+        .withType("test")
+        .withTimeout(Duration.ofMinutes(1).toMillis())
+        .withMaxJobsToActivate(INSTANCES)
+        .activate();
+
+    // when
+    engine.increaseTime(Duration.ofMinutes(2));
+
+    // then
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.TIMED_OUT)
+                .limit(INSTANCES)
+                .map(r -> r.getKey())
+                .collect(Collectors.toSet()))
+        .hasSize(INSTANCES);
+  }
+
+  private static double getDeferredRuns(final String task) {
+    final Double value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_scheduled_task_deferred_runs_total",
+            new String[] {"partition", "task"},
+            new String[] {"1", task});
+    return value == null ? 0 : value;
+  }
+}
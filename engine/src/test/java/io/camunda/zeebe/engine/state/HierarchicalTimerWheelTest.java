@@ -0,0 +1,262 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.junit.Test;
+
+public final class HierarchicalTimerWheelTest {
+
+  private static final long NOW = 1_640_995_200_000L;
+
+  private final HierarchicalTimerWheel wheel = new HierarchicalTimerWheel();
+
+  @Test
+  public void shouldVisitDueEntriesInOrder() {
+    // given
+    wheel.add(1L, 10L, NOW + 300);
+    wheel.add(2L, 20L, NOW + 100);
+    wheel.add(3L, 30L, NOW + 200);
+    wheel.add(4L, 40L, NOW + 400);
+
+    // when
+    final List<Long> visited = new ArrayList<>();
+    final long nextDueDate =
+        wheel.visitDueEntries(
+            NOW + 300,
+            (key, value) -> {
+              visited.add(value);
+              return true;
+            });
+
+    // then
+    assertThat(visited).containsExactly(20L, 30L, 10L);
+    assertThat(nextDueDate).isEqualTo(NOW + 400);
+  }
+
+  @Test
+  public void shouldVisitEntriesWhichAreDueAlready() {
+    // given
+    wheel.visitDueEntries(NOW, (key, value) -> true);
+
+    // when
+    wheel.add(1L, 10L, NOW - 1_000);
+    wheel.add(2L, 20L, -1L);
+
+    // then
+    final List<Long> visited = new ArrayList<>();
+    wheel.visitDueEntries(NOW, (key, value) -> visited.add(key));
+    assertThat(visited).containsExactly(2L, 1L);
+  }
+
+  @Test
+  public void shouldNotVisitRemovedEntries() {
+    // given
+    wheel.add(1L, 10L, NOW + 100);
+    wheel.add(2L, 20L, NOW + 200);
+    wheel.add(3L, 30L, NOW + Duration.ofDays(30).toMillis());
+
+    // when
+    wheel.remove(1L);
+    wheel.remove(3L);
+
+    // then
+    final List<Long> visited = new ArrayList<>();
+    final long nextDueDate =
+        wheel.visitDueEntries(
+            NOW + Duration.ofDays(365).toMillis(), (key, value) -> visited.add(key));
+    assertThat(visited).containsExactly(2L);
+    assertThat(nextDueDate).isEqualTo(-1L);
+    assertThat(wheel.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldOnlyRemoveEntryWithGivenValue() {
+    // given
+    wheel.add(1L, 10L, NOW + 100);
+    wheel.add(2L, 20L, NOW + 200);
+
+    // when
+    wheel.remove(1L, 11L);
+    wheel.remove(2L, 20L);
+
+    // then
+    final List<Long> visited = new ArrayList<>();
+    wheel.visitDueEntries(NOW + 200, (key, value) -> visited.add(key));
+    assertThat(visited).containsExactly(1L);
+    assertThat(wheel.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReplaceEntryWithSameKey() {
+    // given
+    wheel.add(1L, 10L, NOW + 100);
+
+    // when
+    wheel.add(1L, 11L, NOW + 500);
+
+    // then
+    final List<Long> visited = new ArrayList<>();
+    assertThat(wheel.visitDueEntries(NOW + 100, (key, value) -> visited.add(value)))
+        .isEqualTo(NOW + 500);
+    assertThat(visited).isEmpty();
+
+    wheel.visitDueEntries(NOW + 500, (key, value) -> visited.add(value));
+    assertThat(visited).containsExactly(11L);
+  }
+
+  @Test
+  public void shouldStopVisitingIfEntryIsNotConsumed() {
+    // given
+    wheel.add(1L, 10L, NOW + 100);
+    wheel.add(2L, 20L, NOW + 200);
+
+    // when
+    final List<Long> visited = new ArrayList<>();
+    final long nextDueDate =
+        wheel.visitDueEntries(
+            NOW + 200,
+            (key, value) -> {
+              visited.add(key);
+              return false;
+            });
+
+    // then
+    assertThat(visited).containsExactly(1L);
+    assertThat(nextDueDate).isEqualTo(NOW + 100);
+  }
+
+  @Test
+  public void shouldKeepVisitedEntriesUntilRemoved() {
+    // given
+    wheel.add(1L, 10L, NOW + 100);
+    wheel.add(2L, 20L, NOW + 200);
+    wheel.visitDueEntries(NOW + 150, (key, value) -> true);
+
+    // when
+    final List<Long> visited = new ArrayList<>();
+    wheel.visitDueEntries(NOW + 150, (key, value) -> visited.add(key));
+    wheel.remove(1L);
+    wheel.visitDueEntries(NOW + 200, (key, value) -> visited.add(key));
+
+    // then
+    assertThat(visited).containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldAllowVisitorToRemoveEntries() {
+    // given
+    wheel.add(1L, 10L, NOW + 100);
+    wheel.add(2L, 20L, NOW + 200);
+    wheel.add(3L, 30L, NOW + 300);
+
+    // when
+    final List<Long> visited = new ArrayList<>();
+    wheel.visitDueEntries(
+        NOW + 300,
+        (key, value) -> {
+          visited.add(key);
+          wheel.remove(key);
+          return true;
+        });
+
+    // then
+    assertThat(visited).containsExactly(1L, 2L, 3L);
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  public void shouldNotVisitEntriesWhichAreDueAfterEarlierTimestamp() {
+    // given
+    wheel.add(1L, 10L, NOW + 100);
+    wheel.add(2L, 20L, NOW + 200);
+    wheel.visitDueEntries(NOW + 200, (key, value) -> true);
+
+    // when
+    final List<Long> visited = new ArrayList<>();
+    final long nextDueDate = wheel.visitDueEntries(NOW + 150, (key, value) -> visited.add(key));
+
+    // then
+    assertThat(visited).containsExactly(1L);
+    assertThat(nextDueDate).isEqualTo(NOW + 200);
+  }
+
+  @Test
+  public void shouldBehaveLikeSortedIndex() {
+    // given
+    final var random = new Random(42);
+    final var expectedIndex = new TreeMap<Long, Long>();
+    long time = NOW;
+
+    for (int round = 0; round < 1_000; round++) {
+      // when
+      for (int i = 0; i < 20; i++) {
+        final long key = random.nextInt(2_000);
+        if (random.nextInt(4) == 0) {
+          wheel.remove(key);
+          expectedIndex.remove(key);
+        } else {
+          final long dueDate = time + randomDelay(random);
+          wheel.add(key, key, dueDate);
+          expectedIndex.put(key, dueDate);
+        }
+      }
+      time += random.nextInt(60_000);
+
+      // then
+      final var visitedKeys = new ArrayList<Long>();
+      final long nextDueDate =
+          wheel.visitDueEntries(
+              time,
+              (key, value) -> {
+                visitedKeys.add(key);
+                wheel.remove(key);
+                return true;
+              });
+
+      final var dueEntries =
+          new TreeSet<long[]>(
+              (a, b) -> a[1] != b[1] ? Long.compare(a[1], b[1]) : Long.compare(a[0], b[0]));
+      long expectedNextDueDate = -1L;
+      for (final var entry : expectedIndex.entrySet()) {
+        if (entry.getValue() <= time) {
+          dueEntries.add(new long[] {entry.getKey(), entry.getValue()});
+        } else if (expectedNextDueDate < 0 || entry.getValue() < expectedNextDueDate) {
+          expectedNextDueDate = entry.getValue();
+        }
+      }
+      final var expectedKeys = new ArrayList<Long>();
+      dueEntries.forEach(entry -> expectedKeys.add(entry[0]));
+      expectedKeys.forEach(expectedIndex::remove);
+
+      assertThat(visitedKeys).describedAs("round %d", round).isEqualTo(expectedKeys);
+      assertThat(nextDueDate).describedAs("round %d", round).isEqualTo(expectedNextDueDate);
+      assertThat(wheel.size()).isEqualTo(expectedIndex.size());
+    }
+  }
+
+  private static long randomDelay(final Random random) {
+    switch (random.nextInt(4)) {
+      case 0:
+        return random.nextInt(1_000) - 500;
+      case 1:
+        return random.nextInt(120_000);
+      case 2:
+        return random.nextInt((int) Duration.ofDays(1).toMillis());
+      default:
+        return (long) random.nextInt(Integer.MAX_VALUE) * 1_000;
+    }
+  }
+}
@@ -11,6 +11,7 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.immutable.JobState.State;
 import io.camunda.zeebe.engine.state.mutable.MutableJobState;
@@ -425,6 +426,57 @@ public final class JobStateTest {
     refuteListedAsBackOff(jobKey, jobRecord.getRecurringTime() + 1 + retryBackoff);
   }
 
+  @Test
+  public void shouldFindBackedOffJobsAfterRecovery() {
+    // given
+    final long firstKey = 1L;
+    final long secondKey = 2L;
+    final long retryBackoff = 100;
+    final JobRecord firstJobRecord =
+        newJobRecord().setRetries(1).setRetryBackoff(retryBackoff).setRecurringTime(1000L);
+    final JobRecord secondJobRecord =
+        newJobRecord().setRetries(1).setRetryBackoff(retryBackoff).setRecurringTime(2000L);
+    jobState.create(firstKey, firstJobRecord);
+    jobState.activate(firstKey, firstJobRecord);
+    jobState.fail(firstKey, firstJobRecord);
+
+    // when
+    zeebeState.onRecovered(null);
+
+    jobState.create(secondKey, secondJobRecord);
+    jobState.activate(secondKey, secondJobRecord);
+    jobState.fail(secondKey, secondJobRecord);
+
+    // then
+    assertListedAsBackOff(firstKey, 1000L);
+    refuteListedAsBackOff(secondKey, 1000L);
+    assertListedAsBackOff(secondKey, 2000L);
+
+    jobState.recurAfterBackoff(firstKey, firstJobRecord);
+    refuteListedAsBackOff(firstKey, 2000L);
+  }
+
+  @Test
+  public void shouldFindBackedOffJobIfRecurIsRolledBack() throws Exception {
+    // given
+    final long key = 1L;
+    final JobRecord jobRecord =
+        newJobRecord().setRetries(1).setRetryBackoff(100).setRecurringTime(1000L);
+    zeebeState.onRecovered(null);
+    jobState.create(key, jobRecord);
+    jobState.activate(key, jobRecord);
+    jobState.fail(key, jobRecord);
+
+    // when
+    final ZeebeDbTransaction transaction =
+        stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(() -> jobState.recurAfterBackoff(key, jobRecord));
+    transaction.rollback();
+
+    // then
+    assertListedAsBackOff(key, 1000L);
+  }
+
   @Test
   public void shouldFailJobWithNoRetriesLeft() {
     // given
@@ -528,6 +580,57 @@ public final class JobStateTest {
     assertThat(timedOutKeys).containsExactly(2L);
   }
 
+  @Test
+  public void shouldFindTimedOutJobsAfterRecovery() {
+    // given
+    final JobRecord firstJobRecord = newJobRecord().setDeadline(1000L);
+    final JobRecord secondJobRecord = newJobRecord().setDeadline(2000L);
+    createAndActivateJobRecord(1, firstJobRecord);
+
+    // when
+    zeebeState.onRecovered(null);
+    createAndActivateJobRecord(2, secondJobRecord);
+
+    // then
+    assertThat(getTimedOutKeys(1500L)).containsExactly(1L);
+    assertThat(getTimedOutKeys(2000L)).containsExactly(1L);
+    assertThat(getTimedOutKeys(2001L)).containsExactly(1L, 2L);
+
+    jobState.timeout(1, firstJobRecord);
+    assertThat(getTimedOutKeys(2001L)).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldFindTimedOutJobIfTimeOutIsRolledBack() throws Exception {
+    // given
+    final JobRecord jobRecord = newJobRecord().setDeadline(1000L);
+    zeebeState.onRecovered(null);
+    createAndActivateJobRecord(1, jobRecord);
+
+    // when
+    final ZeebeDbTransaction transaction =
+        stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(() -> jobState.timeout(1, jobRecord));
+    transaction.rollback();
+
+    // then
+    assertThat(getTimedOutKeys(1001L)).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldNotFindTimedOutJobIfCanceledAfterRecovery() {
+    // given
+    final JobRecord jobRecord = newJobRecord().setDeadline(1000L);
+    zeebeState.onRecovered(null);
+    createAndActivateJobRecord(1, jobRecord);
+
+    // when
+    jobState.cancel(1, jobRecord);
+
+    // then
+    assertThat(getTimedOutKeys(1001L)).isEmpty();
+  }
+
   @Test
   public void shouldDoNothingIfNotTimedOutJobs() {
     // given
@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.state.instance;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
 import io.camunda.zeebe.engine.util.ZeebeStateRule;
@@ -249,4 +250,142 @@ public final class TimerInstanceStateTest {
     assertThat(keys).hasSize(2);
     assertThat(keys).containsExactly(1L, 2L);
   }
+
+  @Test
+  public void shouldFindTimersWithDueDateAfterRecovery() {
+    // given
+    final TimerInstance timer1 = new TimerInstance();
+    timer1.setElementInstanceKey(1L);
+    timer1.setKey(11L);
+    timer1.setDueDate(1000L);
+    state.put(timer1);
+
+    final TimerInstance timer2 = new TimerInstance();
+    timer2.setElementInstanceKey(2L);
+    timer2.setKey(12L);
+    timer2.setDueDate(3000L);
+    state.put(timer2);
+
+    // when
+    stateRule.getZeebeState().onRecovered(null);
+
+    final TimerInstance timer3 = new TimerInstance();
+    timer3.setElementInstanceKey(3L);
+    timer3.setKey(13L);
+    timer3.setDueDate(2000L);
+    state.put(timer3);
+    state.remove(timer1);
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.findTimersWithDueDateBefore(2000L, t -> keys.add(t.getElementInstanceKey()));
+
+    assertThat(keys).containsExactly(3L);
+    assertThat(nextDueDate).isEqualTo(3000L);
+  }
+
+  @Test
+  public void shouldFindTimerIfRemovalIsRolledBack() throws Exception {
+    // given
+    stateRule.getZeebeState().onRecovered(null);
+
+    final TimerInstance timer = new TimerInstance();
+    timer.setElementInstanceKey(1L);
+    timer.setKey(11L);
+    timer.setDueDate(1000L);
+    state.put(timer);
+
+    // when
+    final ZeebeDbTransaction transaction =
+        stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(() -> state.remove(timer));
+    transaction.rollback();
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    state.findTimersWithDueDateBefore(1000L, t -> keys.add(t.getKey()));
+
+    assertThat(keys).containsExactly(11L);
+  }
+
+  @Test
+  public void shouldFindTimerIfRemovalIsRolledBackToSavePoint() throws Exception {
+    // given
+    stateRule.getZeebeState().onRecovered(null);
+
+    final TimerInstance timer = new TimerInstance();
+    timer.setElementInstanceKey(1L);
+    timer.setKey(11L);
+    timer.setDueDate(1000L);
+    state.put(timer);
+
+    // when
+    final ZeebeDbTransaction transaction =
+        stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.setSavePoint();
+    transaction.run(() -> state.remove(timer));
+    transaction.rollbackToSavePoint();
+    transaction.commit();
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    state.findTimersWithDueDateBefore(1000L, t -> keys.add(t.getKey()));
+
+    assertThat(keys).containsExactly(11L);
+  }
+
+  @Test
+  public void shouldNotFindRemovedTimerBeforeRemovalIsCommitted() throws Exception {
+    // given
+    stateRule.getZeebeState().onRecovered(null);
+
+    final TimerInstance timer = new TimerInstance();
+    timer.setElementInstanceKey(1L);
+    timer.setKey(11L);
+    timer.setDueDate(1000L);
+    state.put(timer);
+
+    final ZeebeDbTransaction transaction =
+        stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(() -> state.remove(timer));
+
+    // when
+    final List<Long> keysBeforeCommit = new ArrayList<>();
+    state.findTimersWithDueDateBefore(1000L, t -> keysBeforeCommit.add(t.getKey()));
+    transaction.commit();
+
+    final List<Long> keysAfterCommit = new ArrayList<>();
+    final long nextDueDate =
+        state.findTimersWithDueDateBefore(1000L, t -> keysAfterCommit.add(t.getKey()));
+
+    // then
+    assertThat(keysBeforeCommit).isEmpty();
+    assertThat(keysAfterCommit).isEmpty();
+    assertThat(nextDueDate).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldNotFindTimerIfPutIsRolledBack() throws Exception {
+    // given
+    stateRule.getZeebeState().onRecovered(null);
+
+    final TimerInstance timer = new TimerInstance();
+    timer.setElementInstanceKey(1L);
+    timer.setKey(11L);
+    timer.setDueDate(1000L);
+
+    // when
+    final ZeebeDbTransaction transaction =
+        stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(() -> state.put(timer));
+    transaction.rollback();
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate = state.findTimersWithDueDateBefore(1000L, t -> keys.add(t.getKey()));
+
+    assertThat(keys).isEmpty();
+    assertThat(nextDueDate).isEqualTo(-1L);
+  }
 }
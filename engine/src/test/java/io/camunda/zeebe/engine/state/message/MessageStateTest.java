@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.state.message;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.engine.state.mutable.MutableMessageState;
 import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
 import io.camunda.zeebe.engine.util.ZeebeStateRule;
@@ -236,6 +237,39 @@ public final class MessageStateTest {
     assertThat(readMessage).containsExactly(1L, 2L);
   }
 
+  @Test
+  public void shouldVisitMessagesBeforeTimeAfterRecovery() {
+    // given
+    messageState.put(1L, createMessage("name", "correlationKey", "{}", "nr1", 1234));
+
+    // when
+    zeebeState.onRecovered(null);
+    messageState.put(2L, createMessage("name", "correlationKey", "{}", "nr2", 2000));
+
+    // then
+    assertThat(visitMessageKeysWithDeadlineBefore(1_999)).containsExactly(1L);
+    assertThat(visitMessageKeysWithDeadlineBefore(2_000)).containsExactly(1L, 2L);
+
+    messageState.remove(1L);
+    assertThat(visitMessageKeysWithDeadlineBefore(2_000)).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldVisitMessageIfRemoveIsRolledBack() throws Exception {
+    // given
+    zeebeState.onRecovered(null);
+    messageState.put(1L, createMessage("name", "correlationKey", "{}", "nr1", 1234));
+
+    // when
+    final ZeebeDbTransaction transaction =
+        stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(() -> messageState.remove(1L));
+    transaction.rollback();
+
+    // then
+    assertThat(visitMessageKeysWithDeadlineBefore(2_000)).containsExactly(1L);
+  }
+
   @Test
   public void shouldRemoveMessage() {
     // given
@@ -450,6 +484,13 @@ public final class MessageStateTest {
     assertThat(messageState.getProcessInstanceCorrelationKey(2L)).isEqualTo(wrapString("key-2"));
   }
 
+  private List<Long> visitMessageKeysWithDeadlineBefore(final long timestamp) {
+    final List<Long> messageKeys = new ArrayList<>();
+    messageState.visitMessagesWithDeadlineBefore(
+        timestamp, message -> messageKeys.add(message.getMessageKey()));
+    return messageKeys;
+  }
+
   private MessageRecord createMessage(final String name, final String correlationKey) {
     return new MessageRecord()
         .setName(name)
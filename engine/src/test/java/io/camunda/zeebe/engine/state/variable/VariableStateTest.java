@@ -222,6 +222,25 @@ public final class VariableStateTest {
     assertEquality(variablesDocument, "{'a': 1, 'c': 3}");
   }
 
+  @Test
+  public void shouldCollectVariablesByNameFromNearestScope() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(parent, wrapString("b"), asMsgPack("2"));
+    setVariableLocal(child, wrapString("a"), asMsgPack("3"));
+
+    // when
+    final DirectBuffer variablesDocument =
+        variableState.getVariablesAsDocument(
+            child, Arrays.asList(wrapString("a"), wrapString("b")));
+
+    // then
+    assertEquality(variablesDocument, "{'a': 3, 'b': 2}");
+  }
+
   @Test
   public void shouldCollectOnlyExistingVariablesByName() {
     // given
@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.util;
+
+import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LogStreamRecordWriter;
+import io.camunda.zeebe.util.health.FailureListener;
+import io.camunda.zeebe.util.health.HealthReport;
+import io.camunda.zeebe.util.sched.future.ActorFuture;
+import io.camunda.zeebe.util.sched.future.CompletableActorFuture;
+import java.util.function.UnaryOperator;
+
+/**
+ * Delegates to the given log stream, but decorates the batch writers it creates. Allows tests to
+ * control when the follow-up records of the stream processor are written. Must be used from within
+ * an actor, like the stream processor.
+ */
+final class BatchWriterDecoratingLogStream implements LogStream {
+
+  private final LogStream delegate;
+  private final UnaryOperator<LogStreamBatchWriter> batchWriterDecorator;
+
+  BatchWriterDecoratingLogStream(
+      final LogStream delegate, final UnaryOperator<LogStreamBatchWriter> batchWriterDecorator) {
+    this.delegate = delegate;
+    this.batchWriterDecorator = batchWriterDecorator;
+  }
+
+  @Override
+  public int getPartitionId() {
+    return delegate.getPartitionId();
+  }
+
+  @Override
+  public String getLogName() {
+    return delegate.getLogName();
+  }
+
+  @Override
+  public ActorFuture<LogStreamReader> newLogStreamReader() {
+    return delegate.newLogStreamReader();
+  }
+
+  @Override
+  public ActorFuture<LogStreamRecordWriter> newLogStreamRecordWriter() {
+    return delegate.newLogStreamRecordWriter();
+  }
+
+  @Override
+  public ActorFuture<LogStreamBatchWriter> newLogStreamBatchWriter() {
+    final var decoratedWriterFuture = new CompletableActorFuture<LogStreamBatchWriter>();
+    delegate
+        .newLogStreamBatchWriter()
+        .onComplete(
+            (batchWriter, error) -> {
+              if (error == null) {
+                decoratedWriterFuture.complete(batchWriterDecorator.apply(batchWriter));
+              } else {
+                decoratedWriterFuture.completeExceptionally(error);
+              }
+            });
+    return decoratedWriterFuture;
+  }
+
+  @Override
+  public void registerRecordAvailableListener(final LogRecordAwaiter recordAwaiter) {
+    delegate.registerRecordAvailableListener(recordAwaiter);
+  }
+
+  @Override
+  public void removeRecordAvailableListener(final LogRecordAwaiter recordAwaiter) {
+    delegate.removeRecordAvailableListener(recordAwaiter);
+  }
+
+  @Override
+  public ActorFuture<Void> closeAsync() {
+    return delegate.closeAsync();
+  }
+
+  @Override
+  public void close() throws Exception {
+    delegate.close();
+  }
+
+  @Override
+  public HealthReport getHealthReport() {
+    return delegate.getHealthReport();
+  }
+
+  @Override
+  public void addFailureListener(final FailureListener failureListener) {
+    delegate.addFailureListener(failureListener);
+  }
+
+  @Override
+  public void removeFailureListener(final FailureListener failureListener) {
+    delegate.removeFailureListener(failureListener);
+  }
+}
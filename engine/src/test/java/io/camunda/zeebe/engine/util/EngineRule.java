@@ -180,6 +180,16 @@ public final class EngineRule extends ExternalResource {
     return this;
   }
 
+  public EngineRule withReplayParallelism(final int replayParallelism) {
+    environmentRule.withReplayParallelism(replayParallelism);
+    return this;
+  }
+
+  public EngineRule withMaxScheduledCommandsPerRun(final int maxScheduledCommandsPerRun) {
+    environmentRule.withMaxScheduledCommandsPerRun(maxScheduledCommandsPerRun);
+    return this;
+  }
+
   private void startProcessors() {
     final DeploymentRecord deploymentRecord = new DeploymentRecord();
     final UnsafeBuffer deploymentBuffer = new UnsafeBuffer(new byte[deploymentRecord.getLength()]);
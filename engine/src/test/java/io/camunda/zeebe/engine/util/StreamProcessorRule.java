@@ -20,6 +20,7 @@ import io.camunda.zeebe.engine.state.EventApplier;
 import io.camunda.zeebe.engine.state.mutable.MutableZeebeState;
 import io.camunda.zeebe.engine.util.StreamProcessingComposite.StreamProcessorTestFactory;
 import io.camunda.zeebe.engine.util.TestStreams.FluentLogWriter;
+import io.camunda.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.camunda.zeebe.logstreams.log.LogStreamRecordWriter;
 import io.camunda.zeebe.logstreams.util.SynchronousLogStream;
 import io.camunda.zeebe.msgpack.UnpackedObject;
@@ -65,6 +66,11 @@ public final class StreamProcessorRule implements TestRule {
   private StreamProcessingComposite streamProcessingComposite;
   private ListLogStorage sharedStorage = null;
   private StreamProcessorMode streamProcessorMode = StreamProcessorMode.PROCESSING;
+  private boolean pipelinedProcessing;
+  private int maxCommandsInBatch = 1;
+  private int replayParallelism = 1;
+  private int maxScheduledCommandsPerRun = Integer.MAX_VALUE;
+  private UnaryOperator<LogStreamBatchWriter> batchWriterDecorator = UnaryOperator.identity();
 
   public StreamProcessorRule() {
     this(new TemporaryFolder());
@@ -132,6 +138,36 @@ public final class StreamProcessorRule implements TestRule {
     return this;
   }
 
+  public StreamProcessorRule withPipelinedProcessing(final boolean pipelinedProcessing) {
+    this.pipelinedProcessing = pipelinedProcessing;
+    return this;
+  }
+
+  public StreamProcessorRule withMaxCommandsInBatch(final int maxCommandsInBatch) {
+    this.maxCommandsInBatch = maxCommandsInBatch;
+    return this;
+  }
+
+  public StreamProcessorRule withBatchWriterDecorator(
+      final UnaryOperator<LogStreamBatchWriter> batchWriterDecorator) {
+    this.batchWriterDecorator = batchWriterDecorator;
+    return this;
+  }
+
+  public StreamProcessorRule withReplayParallelism(final int replayParallelism) {
+    this.replayParallelism = replayParallelism;
+    if (streams != null) {
+      // applies to stream processors which are started afterwards, e.g. after a restart
+      streams.withReplayParallelism(replayParallelism);
+    }
+    return this;
+  }
+
+  public StreamProcessorRule withMaxScheduledCommandsPerRun(final int maxScheduledCommandsPerRun) {
+    this.maxScheduledCommandsPerRun = maxScheduledCommandsPerRun;
+    return this;
+  }
+
   public LogStreamRecordWriter getLogStreamRecordWriter(final int partitionId) {
     return streamProcessingComposite.getLogStreamRecordWriter(partitionId);
   }
@@ -315,6 +351,11 @@ public final class StreamProcessorRule implements TestRule {
     protected void before() {
       streams = new TestStreams(tempFolder, closeables, actorSchedulerRule.get());
       streams.withStreamProcessorMode(streamProcessorMode);
+      streams.withPipelinedProcessing(pipelinedProcessing);
+      streams.withMaxCommandsInBatch(maxCommandsInBatch);
+      streams.withBatchWriterDecorator(batchWriterDecorator);
+      streams.withReplayParallelism(replayParallelism);
+      streams.withMaxScheduledCommandsPerRun(maxScheduledCommandsPerRun);
 
       int partitionId = startPartitionId;
       for (int i = 0; i < partitionCount; i++) {
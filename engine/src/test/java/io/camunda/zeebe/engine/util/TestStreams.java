@@ -59,6 +59,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.junit.rules.TemporaryFolder;
@@ -84,6 +85,11 @@ public final class TestStreams {
 
   private Function<MutableZeebeState, EventApplier> eventApplierFactory = EventAppliers::new;
   private StreamProcessorMode streamProcessorMode = StreamProcessorMode.PROCESSING;
+  private boolean pipelinedProcessing;
+  private int maxCommandsInBatch = 1;
+  private int replayParallelism = 1;
+  private int maxScheduledCommandsPerRun = Integer.MAX_VALUE;
+  private UnaryOperator<LogStreamBatchWriter> batchWriterDecorator = UnaryOperator.identity();
 
   public TestStreams(
       final TemporaryFolder dataDirectory,
@@ -116,6 +122,27 @@ public final class TestStreams {
     this.streamProcessorMode = streamProcessorMode;
   }
 
+  public void withPipelinedProcessing(final boolean pipelinedProcessing) {
+    this.pipelinedProcessing = pipelinedProcessing;
+  }
+
+  public void withMaxCommandsInBatch(final int maxCommandsInBatch) {
+    this.maxCommandsInBatch = maxCommandsInBatch;
+  }
+
+  public void withBatchWriterDecorator(
+      final UnaryOperator<LogStreamBatchWriter> batchWriterDecorator) {
+    this.batchWriterDecorator = batchWriterDecorator;
+  }
+
+  public void withReplayParallelism(final int replayParallelism) {
+    this.replayParallelism = replayParallelism;
+  }
+
+  public void withMaxScheduledCommandsPerRun(final int maxScheduledCommandsPerRun) {
+    this.maxScheduledCommandsPerRun = maxScheduledCommandsPerRun;
+  }
+
   public CommandResponseWriter getMockedResponseWriter() {
     return mockCommandResponseWriter;
   }
@@ -265,7 +292,9 @@ public final class TestStreams {
 
     final StreamProcessor streamProcessor =
         StreamProcessor.builder()
-            .logStream(stream.getAsyncLogStream())
+            .logStream(
+                new BatchWriterDecoratingLogStream(
+                    stream.getAsyncLogStream(), batchWriterDecorator))
             .zeebeDb(zeebeDb)
             .actorSchedulingService(actorScheduler)
             .commandResponseWriter(mockCommandResponseWriter)
@@ -273,6 +302,10 @@ public final class TestStreams {
             .streamProcessorFactory(wrappedFactory)
             .eventApplierFactory(eventApplierFactory)
             .streamProcessorMode(streamProcessorMode)
+            .pipelinedProcessing(pipelinedProcessing)
+            .maxCommandsInBatch(maxCommandsInBatch)
+            .replayParallelism(replayParallelism)
+            .maxScheduledCommandsPerRun(maxScheduledCommandsPerRun)
             .build();
     final var openFuture = streamProcessor.openAsync(false);
 
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.util;
 
+import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.camunda.zeebe.engine.state.KeyGenerator;
@@ -22,6 +23,7 @@ public final class ZeebeStateRule extends ExternalResource {
   private final TemporaryFolder tempFolder = new TemporaryFolder();
   private final int partition;
   private ZeebeDb<ZbColumnFamilies> db;
+  private TransactionContext transactionContext;
   private MutableZeebeState zeebeState;
 
   public ZeebeStateRule() {
@@ -37,7 +39,8 @@ public final class ZeebeStateRule extends ExternalResource {
     tempFolder.create();
     db = createNewDb();
 
-    zeebeState = new ZeebeDbState(partition, db, db.createContext());
+    transactionContext = db.createContext();
+    zeebeState = new ZeebeDbState(partition, db, transactionContext);
   }
 
   @Override
@@ -54,6 +57,10 @@ public final class ZeebeStateRule extends ExternalResource {
     return zeebeState;
   }
 
+  public TransactionContext getTransactionContext() {
+    return transactionContext;
+  }
+
   public KeyGenerator getKeyGenerator() {
     return zeebeState.getKeyGenerator();
   }
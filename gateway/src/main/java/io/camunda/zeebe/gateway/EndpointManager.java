@@ -9,13 +9,23 @@ package io.camunda.zeebe.gateway;
 
 import io.atomix.utils.net.Address;
 import io.camunda.zeebe.gateway.ResponseMapper.BrokerResponseMapper;
+import io.camunda.zeebe.gateway.cmd.NoTopologyAvailableException;
 import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
 import io.camunda.zeebe.gateway.impl.broker.BrokerClient;
+import io.camunda.zeebe.gateway.impl.broker.CommandBatchSender;
+import io.camunda.zeebe.gateway.impl.broker.LoadAwareDispatchStrategy;
+import io.camunda.zeebe.gateway.impl.broker.RequestDispatchStrategy;
 import io.camunda.zeebe.gateway.impl.broker.RequestRetryHandler;
+import io.camunda.zeebe.gateway.impl.broker.RoutingKeyDispatchStrategy;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerExecuteCommand;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.JobStreamHandler;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo;
@@ -24,10 +34,14 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeployProcessRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeployProcessResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobRequest;
@@ -37,18 +51,24 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBr
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.TopologyResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
+import io.camunda.zeebe.protocol.impl.SubscriptionUtil;
 import io.camunda.zeebe.util.VersionUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -59,14 +79,23 @@ public final class EndpointManager {
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
   private final ActivateJobsHandler activateJobsHandler;
+  private final JobStreamHandler jobStreamHandler;
+  private final RequestDispatchStrategy defaultDispatchStrategy;
   private final RequestRetryHandler requestRetryHandler;
+  private final CommandBatchSender commandBatchSender;
 
   public EndpointManager(
-      final BrokerClient brokerClient, final ActivateJobsHandler activateJobsHandler) {
+      final BrokerClient brokerClient,
+      final ActivateJobsHandler activateJobsHandler,
+      final JobStreamHandler jobStreamHandler) {
     this.brokerClient = brokerClient;
     topologyManager = brokerClient.getTopologyManager();
     this.activateJobsHandler = activateJobsHandler;
-    requestRetryHandler = new RequestRetryHandler(brokerClient, topologyManager);
+    this.jobStreamHandler = jobStreamHandler;
+    defaultDispatchStrategy = new LoadAwareDispatchStrategy(topologyManager);
+    requestRetryHandler =
+        new RequestRetryHandler(brokerClient, topologyManager, defaultDispatchStrategy);
+    commandBatchSender = new CommandBatchSender(brokerClient, requestRetryHandler);
   }
 
   private void addBrokerInfo(
@@ -149,6 +178,11 @@ public final class EndpointManager {
     activateJobsHandler.activateJobs(request, responseObserver);
   }
 
+  public StreamObserver<StreamActivatedJobsRequest> streamActivatedJobs(
+      final ServerStreamObserver<ActivateJobsResponse> responseObserver) {
+    return jobStreamHandler.openStream(responseObserver);
+  }
+
   public void cancelProcessInstance(
       final CancelProcessInstanceRequest request,
       final ServerStreamObserver<CancelProcessInstanceResponse> responseObserver) {
@@ -169,6 +203,27 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final ServerStreamObserver<CompleteJobsResponse> responseObserver) {
+    final List<BrokerCompleteJobRequest> brokerRequests;
+
+    try {
+      brokerRequests =
+          toBrokerRequests(request.getRequestsList(), RequestMapper::toCompleteJobRequest);
+    } catch (final Exception e) {
+      responseObserver.onError(e);
+      return;
+    }
+
+    // the partition of a job is encoded in its key
+    commandBatchSender.sendToPartitions(
+        brokerRequests,
+        BrokerExecuteCommand::getPartitionId,
+        results ->
+            consumeBatchResponse(ResponseMapper.toCompleteJobsResponse(results), responseObserver));
+  }
+
   public void createProcessInstance(
       final CreateProcessInstanceRequest request,
       final ServerStreamObserver<CreateProcessInstanceResponse> responseObserver) {
@@ -176,25 +231,52 @@ public final class EndpointManager {
         request,
         RequestMapper::toCreateProcessInstanceRequest,
         ResponseMapper::toCreateProcessInstanceResponse,
-        responseObserver);
+        responseObserver,
+        dispatchStrategyFor(request.getRoutingKey()));
+  }
+
+  public void createProcessInstances(
+      final CreateProcessInstancesRequest request,
+      final ServerStreamObserver<CreateProcessInstancesResponse> responseObserver) {
+    final List<BrokerCreateProcessInstanceRequest> brokerRequests;
+
+    try {
+      brokerRequests =
+          toBrokerRequests(
+              request.getRequestsList(), RequestMapper::toCreateProcessInstanceRequest);
+    } catch (final Exception e) {
+      responseObserver.onError(e);
+      return;
+    }
+
+    commandBatchSender.sendToAnyPartition(
+        brokerRequests,
+        results ->
+            consumeBatchResponse(
+                ResponseMapper.toCreateProcessInstancesResponse(results), responseObserver),
+        responseObserver::onError);
   }
 
   public void createProcessInstanceWithResult(
       final CreateProcessInstanceWithResultRequest request,
       final ServerStreamObserver<CreateProcessInstanceWithResultResponse> responseObserver) {
+    final RequestDispatchStrategy dispatchStrategy =
+        dispatchStrategyFor(request.getRequest().getRoutingKey());
     if (request.getRequestTimeout() > 0) {
       sendRequestWithRetryPartitions(
           request,
           RequestMapper::toCreateProcessInstanceWithResultRequest,
           ResponseMapper::toCreateProcessInstanceWithResultResponse,
           responseObserver,
+          dispatchStrategy,
           Duration.ofMillis(request.getRequestTimeout()));
     } else {
       sendRequestWithRetryPartitions(
           request,
           RequestMapper::toCreateProcessInstanceWithResultRequest,
           ResponseMapper::toCreateProcessInstanceWithResultResponse,
-          responseObserver);
+          responseObserver,
+          dispatchStrategy);
     }
   }
 
@@ -239,6 +321,37 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void publishMessages(
+      final PublishMessagesRequest request,
+      final ServerStreamObserver<PublishMessagesResponse> responseObserver) {
+    final List<BrokerPublishMessageRequest> brokerRequests;
+
+    try {
+      brokerRequests =
+          toBrokerRequests(request.getRequestsList(), RequestMapper::toPublishMessageRequest);
+    } catch (final Exception e) {
+      responseObserver.onError(e);
+      return;
+    }
+
+    final BrokerClusterState topology = topologyManager.getTopology();
+    if (topology == null || topology.getPartitionsCount() == 0) {
+      responseObserver.onError(new NoTopologyAvailableException());
+      return;
+    }
+
+    // messages are published on the partition of their correlation key, like single messages
+    final int partitionsCount = topology.getPartitionsCount();
+    commandBatchSender.sendToPartitions(
+        brokerRequests,
+        brokerRequest ->
+            SubscriptionUtil.getSubscriptionPartitionId(
+                brokerRequest.getCorrelationKey(), partitionsCount),
+        results ->
+            consumeBatchResponse(
+                ResponseMapper.toPublishMessagesResponse(results), responseObserver));
+  }
+
   public void resolveIncident(
       final ResolveIncidentRequest request,
       final ServerStreamObserver<ResolveIncidentResponse> responseObserver) {
@@ -333,7 +446,8 @@ public final class EndpointManager {
       final GrpcRequestT grpcRequest,
       final Function<GrpcRequestT, BrokerRequest<BrokerResponseT>> requestMapper,
       final BrokerResponseMapper<BrokerResponseT, GrpcResponseT> responseMapper,
-      final ServerStreamObserver<GrpcResponseT> streamObserver) {
+      final ServerStreamObserver<GrpcResponseT> streamObserver,
+      final RequestDispatchStrategy dispatchStrategy) {
     final BrokerRequest<BrokerResponseT> brokerRequest;
 
     try {
@@ -345,6 +459,7 @@ public final class EndpointManager {
 
     requestRetryHandler.sendRequest(
         brokerRequest,
+        dispatchStrategy,
         (key, response) -> consumeResponse(responseMapper, streamObserver, key, response),
         streamObserver::onError);
   }
@@ -354,6 +469,7 @@ public final class EndpointManager {
       final Function<GrpcRequestT, BrokerRequest<BrokerResponseT>> requestMapper,
       final BrokerResponseMapper<BrokerResponseT, GrpcResponseT> responseMapper,
       final ServerStreamObserver<GrpcResponseT> streamObserver,
+      final RequestDispatchStrategy dispatchStrategy,
       final Duration timeout) {
     final BrokerRequest<BrokerResponseT> brokerRequest;
 
@@ -366,11 +482,40 @@ public final class EndpointManager {
 
     requestRetryHandler.sendRequest(
         brokerRequest,
+        dispatchStrategy,
         (key, response) -> consumeResponse(responseMapper, streamObserver, key, response),
         streamObserver::onError,
         timeout);
   }
 
+  /**
+   * Requests with a routing key are sent to the partition of the key first, like messages with the
+   * same correlation key, so that correlated process instances and messages are on the same
+   * partition.
+   */
+  private RequestDispatchStrategy dispatchStrategyFor(final String routingKey) {
+    if (routingKey.isEmpty()) {
+      return defaultDispatchStrategy;
+    }
+    return new RoutingKeyDispatchStrategy(topologyManager, BufferUtil.wrapString(routingKey));
+  }
+
+  private <GrpcRequestT, BrokerRequestT> List<BrokerRequestT> toBrokerRequests(
+      final List<GrpcRequestT> grpcRequests,
+      final Function<GrpcRequestT, BrokerRequestT> requestMapper) {
+    final List<BrokerRequestT> brokerRequests = new ArrayList<>(grpcRequests.size());
+    for (final GrpcRequestT grpcRequest : grpcRequests) {
+      brokerRequests.add(requestMapper.apply(grpcRequest));
+    }
+    return brokerRequests;
+  }
+
+  private <GrpcResponseT> void consumeBatchResponse(
+      final GrpcResponseT grpcResponse, final ServerStreamObserver<GrpcResponseT> streamObserver) {
+    streamObserver.onNext(grpcResponse);
+    streamObserver.onCompleted();
+  }
+
   private <BrokerResponseT, GrpcResponseT> void consumeResponse(
       final BrokerResponseMapper<BrokerResponseT, GrpcResponseT> responseMapper,
       final ServerStreamObserver<GrpcResponseT> streamObserver,
@@ -19,6 +19,7 @@ import io.camunda.zeebe.gateway.impl.configuration.GatewayCfg;
 import io.camunda.zeebe.gateway.impl.configuration.NetworkCfg;
 import io.camunda.zeebe.gateway.impl.configuration.SecurityCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.JobStreamHandler;
 import io.camunda.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.job.RoundRobinActivateJobsHandler;
 import io.camunda.zeebe.gateway.interceptors.impl.ContextInjectingInterceptor;
@@ -120,7 +121,12 @@ public final class Gateway {
       activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient);
     }
 
-    final EndpointManager endpointManager = new EndpointManager(brokerClient, activateJobsHandler);
+    final JobStreamHandler jobStreamHandler =
+        new JobStreamHandler(brokerClient, JobStreamHandler.DEFAULT_PROBE_INTERVAL);
+    actorSchedulingService.submitActor(jobStreamHandler);
+
+    final EndpointManager endpointManager =
+        new EndpointManager(brokerClient, activateJobsHandler, jobStreamHandler);
     final GatewayGrpcService gatewayGrpcService = new GatewayGrpcService(endpointManager);
     final ServerBuilder<?> serverBuilder = serverBuilderFactory.apply(gatewayCfg);
 
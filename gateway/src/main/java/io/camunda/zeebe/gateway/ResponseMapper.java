@@ -10,15 +10,25 @@ package io.camunda.zeebe.gateway;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsArray;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
+import com.google.rpc.Status;
+import io.camunda.zeebe.gateway.grpc.GrpcErrorMapper;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchCommandError;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeployProcessResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
@@ -33,11 +43,15 @@ import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstan
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceResultRecord;
 import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
+import io.camunda.zeebe.util.Either;
 import java.util.Iterator;
+import java.util.List;
 import org.agrona.DirectBuffer;
 
 public final class ResponseMapper {
 
+  private static final GrpcErrorMapper ERROR_MAPPER = new GrpcErrorMapper();
+
   public static DeployProcessResponse toDeployProcessResponse(
       final long key, final DeploymentRecord brokerResponse) {
     final DeployProcessResponse.Builder responseBuilder =
@@ -150,6 +164,57 @@ public final class ResponseMapper {
     return ResolveIncidentResponse.getDefaultInstance();
   }
 
+  public static CompleteJobsResponse toCompleteJobsResponse(
+      final List<Either<Throwable, BrokerResponse<JobRecord>>> results) {
+    final CompleteJobsResponse.Builder responseBuilder = CompleteJobsResponse.newBuilder();
+    for (final var result : results) {
+      final CompleteJobResult.Builder resultBuilder = responseBuilder.addResultsBuilder();
+      result.ifRightOrLeft(
+          response ->
+              resultBuilder.setResponse(
+                  toCompleteJobResponse(response.getKey(), response.getResponse())),
+          error -> resultBuilder.setError(toBatchCommandError(error)));
+    }
+    return responseBuilder.build();
+  }
+
+  public static PublishMessagesResponse toPublishMessagesResponse(
+      final List<Either<Throwable, BrokerResponse<Void>>> results) {
+    final PublishMessagesResponse.Builder responseBuilder = PublishMessagesResponse.newBuilder();
+    for (final var result : results) {
+      final PublishMessageResult.Builder resultBuilder = responseBuilder.addResultsBuilder();
+      result.ifRightOrLeft(
+          response ->
+              resultBuilder.setResponse(
+                  toPublishMessageResponse(response.getKey(), response.getResponse())),
+          error -> resultBuilder.setError(toBatchCommandError(error)));
+    }
+    return responseBuilder.build();
+  }
+
+  public static CreateProcessInstancesResponse toCreateProcessInstancesResponse(
+      final List<Either<Throwable, BrokerResponse<ProcessInstanceCreationRecord>>> results) {
+    final CreateProcessInstancesResponse.Builder responseBuilder =
+        CreateProcessInstancesResponse.newBuilder();
+    for (final var result : results) {
+      final CreateProcessInstanceResult.Builder resultBuilder = responseBuilder.addResultsBuilder();
+      result.ifRightOrLeft(
+          response ->
+              resultBuilder.setResponse(
+                  toCreateProcessInstanceResponse(response.getKey(), response.getResponse())),
+          error -> resultBuilder.setError(toBatchCommandError(error)));
+    }
+    return responseBuilder.build();
+  }
+
+  private static BatchCommandError toBatchCommandError(final Throwable error) {
+    final Status status = ERROR_MAPPER.mapErrorToStatus(error);
+    return BatchCommandError.newBuilder()
+        .setCode(status.getCode())
+        .setMessage(status.getMessage())
+        .build();
+  }
+
   private static String bufferAsJson(final DirectBuffer customHeaders) {
     return MsgPackConverter.convertToJson(bufferAsArray(customHeaders));
   }
@@ -40,6 +40,14 @@ public final class GrpcErrorMapper {
     return StatusProto.toStatusRuntimeException(mapErrorToStatus(error, logger));
   }
 
+  /**
+   * Maps the error to the status with which a request would fail, e.g. to report the errors of
+   * single commands of a batch without failing the whole request.
+   */
+  public Status mapErrorToStatus(final Throwable error) {
+    return mapErrorToStatus(error, Loggers.GATEWAY_LOGGER);
+  }
+
   private Status mapErrorToStatus(final Throwable error, final Logger logger) {
     return mapErrorToStatus(error, error, logger);
   }
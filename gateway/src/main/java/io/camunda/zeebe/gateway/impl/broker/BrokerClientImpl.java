@@ -25,7 +25,9 @@ import io.camunda.zeebe.util.exception.UncheckedExecutionException;
 import io.camunda.zeebe.util.sched.ActorScheduler;
 import io.camunda.zeebe.util.sched.clock.ActorClock;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -42,7 +44,7 @@ public final class BrokerClientImpl implements BrokerClient {
   private final boolean ownsActorScheduler;
   private final BrokerRequestManager requestManager;
   private boolean isClosed;
-  private Subscription jobAvailableSubscription;
+  private final List<Subscription> jobAvailableSubscriptions = new CopyOnWriteArrayList<>();
   private final ClusterEventService eventService;
 
   public BrokerClientImpl(
@@ -103,7 +105,7 @@ public final class BrokerClientImpl implements BrokerClient {
         new BrokerRequestManager(
             atomixTransportAdapter,
             topologyManager,
-            new RoundRobinDispatchStrategy(topologyManager),
+            new LoadAwareDispatchStrategy(topologyManager),
             clusterCfg.getRequestTimeout());
     actorScheduler.submitActor(requestManager);
   }
@@ -121,9 +123,8 @@ public final class BrokerClientImpl implements BrokerClient {
     doAndLogException(topologyManager::close);
     LOG.debug("topology manager closed");
 
-    if (jobAvailableSubscription != null) {
-      jobAvailableSubscription.close();
-    }
+    jobAvailableSubscriptions.forEach(Subscription::close);
+    jobAvailableSubscriptions.clear();
 
     if (ownsActorScheduler) {
       try {
@@ -187,7 +188,7 @@ public final class BrokerClientImpl implements BrokerClient {
   @Override
   public void subscribeJobAvailableNotification(
       final String topic, final Consumer<String> handler) {
-    jobAvailableSubscription =
+    final Subscription jobAvailableSubscription =
         eventService
             .subscribe(
                 topic,
@@ -196,6 +197,7 @@ public final class BrokerClientImpl implements BrokerClient {
                   return CompletableFuture.completedFuture(null);
                 })
             .join();
+    jobAvailableSubscriptions.add(jobAvailableSubscription);
   }
 
   private void doAndLogException(final Runnable r) {
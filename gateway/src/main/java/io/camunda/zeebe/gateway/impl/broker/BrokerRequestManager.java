@@ -161,6 +161,7 @@ final class BrokerRequestManager extends Actor {
   private <T> void registerFailure(
       final BrokerRequest<T> request, final RequestResult result, final Throwable error) {
     if (result != null && result.getErrorCode() == ErrorCode.RESOURCE_EXHAUSTED) {
+      topologyManager.onPartitionBackpressure(request.getPartitionId());
       return;
     }
     final String code;
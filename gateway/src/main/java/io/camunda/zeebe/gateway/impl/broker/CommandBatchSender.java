@@ -0,0 +1,160 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.broker;
+
+import io.camunda.zeebe.gateway.cmd.BrokerErrorException;
+import io.camunda.zeebe.gateway.cmd.BrokerRejectionException;
+import io.camunda.zeebe.gateway.cmd.IllegalBrokerResponseException;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCommandBatchRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerExecuteCommand;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.util.Either;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Sends multiple commands with as few requests as possible. The commands are grouped by their
+ * partitions, and the commands of each partition are sent as one {@link BrokerCommandBatchRequest}.
+ * The result of each command is either its response, or the error which a single request of the
+ * command would have failed with.
+ */
+public final class CommandBatchSender {
+
+  private final BrokerClient brokerClient;
+  private final RequestRetryHandler requestRetryHandler;
+
+  public CommandBatchSender(
+      final BrokerClient brokerClient, final RequestRetryHandler requestRetryHandler) {
+    this.brokerClient = brokerClient;
+    this.requestRetryHandler = requestRetryHandler;
+  }
+
+  /**
+   * Sends the commands to the partitions which are returned by the given selector.
+   *
+   * @param resultConsumer invoked with the results of the commands, in the order of the commands
+   */
+  public <T, CommandT extends BrokerExecuteCommand<T>> void sendToPartitions(
+      final List<CommandT> commands,
+      final ToIntFunction<CommandT> partitionSelector,
+      final Consumer<List<Either<Throwable, BrokerResponse<T>>>> resultConsumer) {
+    if (commands.isEmpty()) {
+      resultConsumer.accept(Collections.emptyList());
+      return;
+    }
+
+    final Map<Integer, List<Integer>> commandsByPartition = new LinkedHashMap<>();
+    for (int i = 0; i < commands.size(); i++) {
+      final int partitionId = partitionSelector.applyAsInt(commands.get(i));
+      commandsByPartition.computeIfAbsent(partitionId, p -> new ArrayList<>()).add(i);
+    }
+
+    final var results = new BatchResults<T>(commands.size(), commandsByPartition.size());
+    commandsByPartition.forEach(
+        (partitionId, indexes) -> {
+          final List<CommandT> partitionCommands = new ArrayList<>(indexes.size());
+          indexes.forEach(index -> partitionCommands.add(commands.get(index)));
+
+          final var batchRequest = new BrokerCommandBatchRequest<T>(partitionCommands);
+          batchRequest.setPartitionId(partitionId);
+          brokerClient.sendRequestWithRetry(
+              batchRequest,
+              (key, responses) -> results.complete(indexes, responses, resultConsumer),
+              error -> results.fail(indexes, error, resultConsumer));
+        });
+  }
+
+  /**
+   * Sends all commands to one partition, which is chosen like for a single command that is not
+   * bound to a partition. If the partition is not reachable or exhausted, the commands are sent to
+   * the next partition.
+   *
+   * @param resultConsumer invoked with the results of the commands, in the order of the commands
+   * @param errorConsumer invoked if no partition accepted the commands
+   */
+  public <T> void sendToAnyPartition(
+      final List<? extends BrokerExecuteCommand<T>> commands,
+      final Consumer<List<Either<Throwable, BrokerResponse<T>>>> resultConsumer,
+      final Consumer<Throwable> errorConsumer) {
+    if (commands.isEmpty()) {
+      resultConsumer.accept(Collections.emptyList());
+      return;
+    }
+
+    final List<Integer> indexes = new ArrayList<>(commands.size());
+    for (int i = 0; i < commands.size(); i++) {
+      indexes.add(i);
+    }
+
+    final var results = new BatchResults<T>(commands.size(), 1);
+    requestRetryHandler.sendRequest(
+        new BrokerCommandBatchRequest<>(commands),
+        (key, responses) -> results.complete(indexes, responses, resultConsumer),
+        errorConsumer);
+  }
+
+  /**
+   * Collects the results of the batches, which may be completed concurrently. Each batch sets the
+   * results of distinct commands, and the last completed batch passes the results on.
+   */
+  private static final class BatchResults<T> {
+
+    private final List<Either<Throwable, BrokerResponse<T>>> results;
+    private final AtomicInteger pendingBatches;
+
+    private BatchResults(final int commandCount, final int batchCount) {
+      results = new ArrayList<>(Collections.nCopies(commandCount, null));
+      pendingBatches = new AtomicInteger(batchCount);
+    }
+
+    private void complete(
+        final List<Integer> indexes,
+        final List<BrokerResponse<T>> responses,
+        final Consumer<List<Either<Throwable, BrokerResponse<T>>>> resultConsumer) {
+      for (int i = 0; i < indexes.size(); i++) {
+        results.set(indexes.get(i), toResult(responses.get(i)));
+      }
+      onBatchCompleted(resultConsumer);
+    }
+
+    private void fail(
+        final List<Integer> indexes,
+        final Throwable error,
+        final Consumer<List<Either<Throwable, BrokerResponse<T>>>> resultConsumer) {
+      indexes.forEach(index -> results.set(index, Either.left(error)));
+      onBatchCompleted(resultConsumer);
+    }
+
+    private void onBatchCompleted(
+        final Consumer<List<Either<Throwable, BrokerResponse<T>>>> resultConsumer) {
+      if (pendingBatches.decrementAndGet() == 0) {
+        resultConsumer.accept(results);
+      }
+    }
+
+    private Either<Throwable, BrokerResponse<T>> toResult(final BrokerResponse<T> response) {
+      if (response.isResponse()) {
+        return Either.right(response);
+      } else if (response.isRejection()) {
+        return Either.left(new BrokerRejectionException(response.getRejection()));
+      } else if (response.isError()) {
+        return Either.left(new BrokerErrorException(response.getError()));
+      } else {
+        return Either.left(
+            new IllegalBrokerResponseException(
+                "Expected broker response to be either response, rejection, or error, but is neither of them"));
+      }
+    }
+  }
+}
@@ -12,6 +12,7 @@ import static io.camunda.zeebe.protocol.Protocol.START_PARTITION_ID;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import java.util.Iterator;
+import java.util.List;
 import java.util.PrimitiveIterator.OfInt;
 import java.util.stream.IntStream;
 
@@ -34,6 +35,16 @@ public final class PartitionIdIterator implements Iterator<Integer> {
             .iterator();
   }
 
+  /** Iterates over the given partitions in the given order. */
+  public PartitionIdIterator(
+      final List<Integer> partitionIds, final BrokerTopologyManager topologyManager) {
+    iterator =
+        partitionIds.stream()
+            .mapToInt(Integer::intValue)
+            .filter(p -> hasLeader(topologyManager, p))
+            .iterator();
+  }
+
   private boolean hasLeader(final BrokerTopologyManager topologyManager, final int p) {
     final var topology = topologyManager.getTopology();
     return topology != null && topology.getLeaderForPartition(p) != BrokerClusterState.NODE_ID_NULL;
@@ -26,17 +26,26 @@ import java.util.function.Function;
  * When a requests to a partition fails, request will be retried with a different partition until
  * all partitions are tried. The request is retried only for specific errors such as connection
  * errors or resource exhausted errors. The request is not retried for time outs.
+ *
+ * <p>The first partition is determined by the given {@link RequestDispatchStrategy}; the following
+ * partitions are tried in the order of their ids.
  */
 public final class RequestRetryHandler {
 
   private final BrokerClient brokerClient;
-  private final RequestDispatchStrategy roundRobinDispatchStrategy;
+  private final RequestDispatchStrategy defaultDispatchStrategy;
   private final BrokerTopologyManager topologyManager;
 
+  /**
+   * @param defaultDispatchStrategy determines the first partition to try for requests which are
+   *     sent without a dispatch strategy
+   */
   public RequestRetryHandler(
-      final BrokerClient brokerClient, final BrokerTopologyManager topologyManager) {
+      final BrokerClient brokerClient,
+      final BrokerTopologyManager topologyManager,
+      final RequestDispatchStrategy defaultDispatchStrategy) {
     this.brokerClient = brokerClient;
-    roundRobinDispatchStrategy = new RoundRobinDispatchStrategy(topologyManager);
+    this.defaultDispatchStrategy = defaultDispatchStrategy;
     this.topologyManager = topologyManager;
   }
 
@@ -44,25 +53,46 @@ public final class RequestRetryHandler {
       final BrokerRequest<BrokerResponseT> request,
       final BrokerResponseConsumer<BrokerResponseT> responseConsumer,
       final Consumer<Throwable> throwableConsumer) {
+    sendRequest(request, defaultDispatchStrategy, responseConsumer, throwableConsumer);
+  }
+
+  public <BrokerResponseT> void sendRequest(
+      final BrokerRequest<BrokerResponseT> request,
+      final RequestDispatchStrategy dispatchStrategy,
+      final BrokerResponseConsumer<BrokerResponseT> responseConsumer,
+      final Consumer<Throwable> throwableConsumer) {
     final Function<
             BrokerRequest<BrokerResponseT>, CompletableFuture<BrokerResponse<BrokerResponseT>>>
         requestSender = brokerClient::sendRequest;
-    sendRequestInternal(request, requestSender, responseConsumer, throwableConsumer);
+    sendRequestInternal(
+        request, dispatchStrategy, requestSender, responseConsumer, throwableConsumer);
+  }
+
+  public <BrokerResponseT> void sendRequest(
+      final BrokerRequest<BrokerResponseT> request,
+      final BrokerResponseConsumer<BrokerResponseT> responseConsumer,
+      final Consumer<Throwable> throwableConsumer,
+      final Duration requestTimeout) {
+    sendRequest(
+        request, defaultDispatchStrategy, responseConsumer, throwableConsumer, requestTimeout);
   }
 
   public <BrokerResponseT> void sendRequest(
       final BrokerRequest<BrokerResponseT> request,
+      final RequestDispatchStrategy dispatchStrategy,
       final BrokerResponseConsumer<BrokerResponseT> responseConsumer,
       final Consumer<Throwable> throwableConsumer,
       final Duration requestTimeout) {
     final Function<
             BrokerRequest<BrokerResponseT>, CompletableFuture<BrokerResponse<BrokerResponseT>>>
         requestSender = r -> brokerClient.sendRequest(r, requestTimeout);
-    sendRequestInternal(request, requestSender, responseConsumer, throwableConsumer);
+    sendRequestInternal(
+        request, dispatchStrategy, requestSender, responseConsumer, throwableConsumer);
   }
 
   private <BrokerResponseT> void sendRequestInternal(
       final BrokerRequest<BrokerResponseT> request,
+      final RequestDispatchStrategy dispatchStrategy,
       final Function<
               BrokerRequest<BrokerResponseT>, CompletableFuture<BrokerResponse<BrokerResponseT>>>
           requestSender,
@@ -77,7 +107,7 @@ public final class RequestRetryHandler {
     sendRequestWithRetry(
         request,
         requestSender,
-        partitionIdIteratorForType(topology.getPartitionsCount()),
+        partitionIdIteratorForType(dispatchStrategy, topology.getPartitionsCount()),
         responseConsumer,
         throwableConsumer,
         new ArrayList<>());
@@ -139,8 +169,9 @@ public final class RequestRetryHandler {
     return false;
   }
 
-  private PartitionIdIterator partitionIdIteratorForType(final int partitionsCount) {
-    final int nextPartitionId = roundRobinDispatchStrategy.determinePartition();
+  private PartitionIdIterator partitionIdIteratorForType(
+      final RequestDispatchStrategy dispatchStrategy, final int partitionsCount) {
+    final int nextPartitionId = dispatchStrategy.determinePartition();
     return new PartitionIdIterator(nextPartitionId, partitionsCount, topologyManager);
   }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.broker;
+
+import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import io.camunda.zeebe.protocol.impl.SubscriptionUtil;
+import org.agrona.DirectBuffer;
+
+/**
+ * Returns the partition of the given routing key. The partition is determined like the partition of
+ * a message by its correlation key, so that requests with the same routing key, and the messages
+ * which are correlated with the same key, end up on the same partition.
+ */
+public final class RoutingKeyDispatchStrategy implements RequestDispatchStrategy {
+
+  private final BrokerTopologyManager topologyManager;
+  private final DirectBuffer routingKey;
+
+  public RoutingKeyDispatchStrategy(
+      final BrokerTopologyManager topologyManager, final DirectBuffer routingKey) {
+    this.topologyManager = topologyManager;
+    this.routingKey = routingKey;
+  }
+
+  @Override
+  public int determinePartition() {
+    final BrokerClusterState topology = topologyManager.getTopology();
+
+    if (topology == null || topology.getPartitionsCount() == 0) {
+      return BrokerClusterState.PARTITION_ID_NULL;
+    }
+
+    return SubscriptionUtil.getSubscriptionPartitionId(routingKey, topology.getPartitionsCount());
+  }
+}
@@ -10,4 +10,13 @@ package io.camunda.zeebe.gateway.impl.broker.cluster;
 public interface BrokerTopologyManager {
 
   BrokerClusterState getTopology();
+
+  /**
+   * Records that the leader of the given partition rejected a request because of backpressure, so
+   * that requests which are not bound to a partition can prefer other partitions for a while.
+   */
+  void onPartitionBackpressure(int partitionId);
+
+  /** @return true if the given partition signaled backpressure recently */
+  boolean isPartitionBackpressured(int partitionId);
 }
@@ -16,8 +16,11 @@ import io.atomix.cluster.Member;
 import io.camunda.zeebe.gateway.Loggers;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.util.sched.Actor;
+import io.camunda.zeebe.util.sched.clock.ActorClock;
 import java.time.Duration;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
@@ -26,10 +29,12 @@ public final class BrokerTopologyManagerImpl extends Actor
     implements BrokerTopologyManager, ClusterMembershipEventListener {
 
   private static final Logger LOG = Loggers.GATEWAY_LOGGER;
+  private static final Duration BACKPRESSURE_COOL_DOWN = Duration.ofSeconds(1);
 
   protected final AtomicReference<BrokerClusterStateImpl> topology;
   private final Supplier<Set<Member>> membersSupplier;
   private final GatewayTopologyMetrics topologyMetrics = new GatewayTopologyMetrics();
+  private final Map<Integer, Long> lastBackpressureByPartition = new ConcurrentHashMap<>();
 
   public BrokerTopologyManagerImpl(final Supplier<Set<Member>> membersSupplier) {
     this.membersSupplier = membersSupplier;
@@ -46,6 +51,18 @@ public final class BrokerTopologyManagerImpl extends Actor
     this.topology.set(topology);
   }
 
+  @Override
+  public void onPartitionBackpressure(final int partitionId) {
+    lastBackpressureByPartition.put(partitionId, ActorClock.currentTimeMillis());
+  }
+
+  @Override
+  public boolean isPartitionBackpressured(final int partitionId) {
+    final Long lastBackpressure = lastBackpressureByPartition.get(partitionId);
+    return lastBackpressure != null
+        && ActorClock.currentTimeMillis() - lastBackpressure < BACKPRESSURE_COOL_DOWN.toMillis();
+  }
+
   private void checkForMissingEvents() {
     final Set<Member> members = membersSupplier.get();
     if (members == null || members.isEmpty()) {
@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.broker.request;
+
+import io.camunda.zeebe.gateway.cmd.IllegalBrokerResponseException;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseDecoder;
+import io.camunda.zeebe.transport.RequestType;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Sends multiple commands as one request to a partition, which writes the commands to its log as
+ * one batch. The response contains the response of each command, in the order of the commands. The
+ * request fails as a whole only if the partition could not accept the batch, e.g. because it is not
+ * the leader.
+ */
+public final class BrokerCommandBatchRequest<T> extends BrokerRequest<List<BrokerResponse<T>>> {
+
+  private final ExecuteCommandBatchRequest request = new ExecuteCommandBatchRequest();
+  private final ExecuteCommandBatchResponse response = new ExecuteCommandBatchResponse();
+  private final List<? extends BrokerExecuteCommand<T>> commands;
+  private final String type;
+
+  public BrokerCommandBatchRequest(final List<? extends BrokerExecuteCommand<T>> commands) {
+    super(
+        ExecuteCommandBatchResponseDecoder.SCHEMA_ID,
+        ExecuteCommandBatchResponseDecoder.TEMPLATE_ID);
+    if (commands.isEmpty()) {
+      throw new IllegalArgumentException("Expected at least one command, but got none");
+    }
+
+    this.commands = commands;
+    commands.forEach(request::addCommand);
+    type = commands.get(0).getType() + "#BATCH";
+  }
+
+  public List<? extends BrokerExecuteCommand<T>> getCommands() {
+    return commands;
+  }
+
+  @Override
+  public int getPartitionId() {
+    return request.getPartitionId();
+  }
+
+  @Override
+  public void setPartitionId(final int partitionId) {
+    request.setPartitionId(partitionId);
+    commands.forEach(command -> command.setPartitionId(partitionId));
+  }
+
+  @Override
+  public boolean addressesSpecificPartition() {
+    return getPartitionId() != ExecuteCommandBatchRequestEncoder.partitionIdNullValue();
+  }
+
+  @Override
+  public boolean requiresPartitionId() {
+    return true;
+  }
+
+  @Override
+  public BufferWriter getRequestWriter() {
+    // the values are written by the commands of the batch
+    return null;
+  }
+
+  @Override
+  public void serializeValue() {
+    commands.forEach(BrokerExecuteCommand::serializeValue);
+  }
+
+  @Override
+  protected void setSerializedValue(final DirectBuffer buffer) {
+    throw new UnsupportedOperationException(
+        "Expected the commands of the batch to serialize their values, but the batch was asked");
+  }
+
+  @Override
+  protected void wrapResponse(final DirectBuffer buffer) {
+    response.wrap(buffer, 0, buffer.capacity());
+  }
+
+  @Override
+  protected BrokerResponse<List<BrokerResponse<T>>> readResponse() {
+    final List<DirectBuffer> commandResponses = response.getResponses();
+    if (commandResponses.size() != commands.size()) {
+      throw new IllegalBrokerResponseException(
+          String.format(
+              "Expected a response for each of the %d commands of the batch, but got %d responses",
+              commands.size(), commandResponses.size()));
+    }
+
+    final List<BrokerResponse<T>> responses = new ArrayList<>(commands.size());
+    for (int i = 0; i < commands.size(); i++) {
+      responses.add(commands.get(i).getResponse(commandResponses.get(i)));
+    }
+    return new BrokerResponse<>(responses, getPartitionId(), -1);
+  }
+
+  @Override
+  protected List<BrokerResponse<T>> toResponseDto(final DirectBuffer buffer) {
+    throw new UnsupportedOperationException(
+        "Expected to read the responses of the commands of the batch, but got a single value");
+  }
+
+  @Override
+  public String getType() {
+    return type;
+  }
+
+  @Override
+  public RequestType getRequestType() {
+    return RequestType.COMMAND;
+  }
+
+  @Override
+  public int getLength() {
+    return request.getLength();
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    request.write(buffer, offset);
+  }
+}
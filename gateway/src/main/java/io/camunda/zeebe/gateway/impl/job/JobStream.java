@@ -0,0 +1,144 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import io.camunda.zeebe.gateway.Loggers;
+import io.camunda.zeebe.gateway.RequestMapper;
+import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import org.slf4j.Logger;
+
+/**
+ * A stream of activated jobs of one type to a worker. The worker grants credits for the number of
+ * jobs it is able to handle. The credits are reserved when jobs are activated for the stream, and
+ * the credits which were not used up by activated jobs are returned when the activation completes.
+ */
+public final class JobStream {
+
+  private static final Logger LOG = Loggers.GATEWAY_LOGGER;
+
+  private final ActivateJobsRequest activateJobsRequest;
+  private final ServerStreamObserver<ActivateJobsResponse> responseObserver;
+  private long credits;
+  private boolean isActivating;
+  private boolean isClosed;
+
+  public JobStream(
+      final StreamActivatedJobsRequest request,
+      final ServerStreamObserver<ActivateJobsResponse> responseObserver) {
+    activateJobsRequest =
+        ActivateJobsRequest.newBuilder()
+            .setType(request.getType())
+            .setWorker(request.getWorker())
+            .setTimeout(request.getTimeout())
+            .addAllFetchVariable(request.getFetchVariableList())
+            .build();
+    this.responseObserver = responseObserver;
+  }
+
+  public String getType() {
+    return activateJobsRequest.getType();
+  }
+
+  public String getWorker() {
+    return activateJobsRequest.getWorker();
+  }
+
+  public void addCredits(final int credits) {
+    this.credits += credits;
+  }
+
+  /**
+   * @return true if jobs can be activated for the stream, i.e. it is open, has credits left and no
+   *     activation is in progress
+   */
+  public boolean canActivateJobs() {
+    return !isClosed() && credits > 0 && !isActivating;
+  }
+
+  /**
+   * Starts an activation of jobs for the stream, which reserves the available credits.
+   *
+   * @return the maximum number of jobs to activate
+   */
+  public int startActivation() {
+    final int maxJobsToActivate = (int) Math.min(credits, Integer.MAX_VALUE);
+    credits -= maxJobsToActivate;
+    isActivating = true;
+    return maxJobsToActivate;
+  }
+
+  /**
+   * Completes the activation of jobs for the stream.
+   *
+   * @param unusedCredits the reserved credits which were not used up by activated jobs
+   */
+  public void completeActivation(final int unusedCredits) {
+    credits += unusedCredits;
+    isActivating = false;
+  }
+
+  /**
+   * @param maxJobsToActivate the maximum number of jobs to activate
+   * @return a new request to activate jobs for the stream
+   */
+  public BrokerActivateJobsRequest newActivateJobsRequest(final int maxJobsToActivate) {
+    return RequestMapper.toActivateJobsRequest(
+        activateJobsRequest.toBuilder().setMaxJobsToActivate(maxJobsToActivate).build());
+  }
+
+  public void onResponse(final ActivateJobsResponse response) {
+    if (isClosed()) {
+      LOG.debug(
+          "Expected to stream {} jobs of type '{}' to worker '{}', but the stream is closed; the jobs will be activated again after their timeout",
+          response.getJobsCount(),
+          getType(),
+          getWorker());
+      return;
+    }
+
+    try {
+      responseObserver.onNext(response);
+    } catch (final Exception e) {
+      LOG.warn("Failed to send jobs to worker '{}'", getWorker(), e);
+    }
+  }
+
+  public void onError(final Throwable error) {
+    if (isClosed()) {
+      return;
+    }
+    isClosed = true;
+
+    try {
+      responseObserver.onError(error);
+    } catch (final Exception e) {
+      LOG.warn("Failed to send error to worker '{}'", getWorker(), e);
+    }
+  }
+
+  public void complete() {
+    if (isClosed()) {
+      return;
+    }
+    isClosed = true;
+
+    try {
+      responseObserver.onCompleted();
+    } catch (final Exception e) {
+      LOG.warn("Failed to complete job stream of worker '{}'", getWorker(), e);
+    }
+  }
+
+  public boolean isClosed() {
+    return isClosed || responseObserver.isCancelled();
+  }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import com.google.rpc.Code;
+import com.google.rpc.Status;
+import io.camunda.zeebe.gateway.Loggers;
+import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
+import io.camunda.zeebe.gateway.impl.broker.BrokerClient;
+import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import io.camunda.zeebe.util.sched.Actor;
+import io.grpc.protobuf.StatusProto;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+
+/**
+ * Streams activated jobs to the workers which opened a job stream. Instead of polling, a worker
+ * grants credits for the number of jobs it is able to handle, and the handler activates jobs on its
+ * behalf whenever jobs of its type become available, i.e. when a broker sends a jobs available
+ * notification. The handler never activates more jobs than the worker has credits for, and it
+ * doesn't send empty responses. A periodic probe activates jobs for streams with credits left, in
+ * case a notification was missed.
+ */
+public final class JobStreamHandler extends Actor {
+
+  public static final Duration DEFAULT_PROBE_INTERVAL = Duration.ofSeconds(10);
+
+  private static final String JOBS_AVAILABLE_TOPIC = "jobsAvailable";
+  private static final Logger LOG = Loggers.GATEWAY_LOGGER;
+  private static final String ERROR_MSG_NEGATIVE_CREDITS =
+      "Expected to receive a non-negative amount of credits, but got %d";
+
+  private final BrokerClient brokerClient;
+  private final RoundRobinActivateJobsHandler activateJobsHandler;
+  private final Duration probeInterval;
+
+  // jobType -> open streams; only accessed by the actor
+  private final Map<String, List<JobStream>> streams = new HashMap<>();
+
+  public JobStreamHandler(final BrokerClient brokerClient, final Duration probeInterval) {
+    this.brokerClient = brokerClient;
+    this.probeInterval = probeInterval;
+    activateJobsHandler = new RoundRobinActivateJobsHandler(brokerClient);
+  }
+
+  @Override
+  public String getName() {
+    return "GatewayJobStreamHandler";
+  }
+
+  @Override
+  protected void onActorStarted() {
+    brokerClient.subscribeJobAvailableNotification(JOBS_AVAILABLE_TOPIC, this::onNotification);
+    actor.runAtFixedRate(probeInterval, this::probe);
+  }
+
+  @Override
+  protected void onActorClosing() {
+    streams.values().forEach(typeStreams -> typeStreams.forEach(JobStream::complete));
+    streams.clear();
+  }
+
+  /**
+   * Opens a job stream to a worker. The stream is registered with the first request of the worker.
+   *
+   * @param responseObserver the observer to stream the activated jobs to
+   * @return the observer of the requests of the worker
+   */
+  public StreamObserver<StreamActivatedJobsRequest> openStream(
+      final ServerStreamObserver<ActivateJobsResponse> responseObserver) {
+    return new JobStreamRequestObserver(responseObserver);
+  }
+
+  private void onRequest(
+      final JobStreamRequestObserver requestObserver, final StreamActivatedJobsRequest request) {
+    JobStream stream = requestObserver.stream;
+    if (stream == null) {
+      stream = new JobStream(request, requestObserver.responseObserver);
+      requestObserver.stream = stream;
+      streams.computeIfAbsent(stream.getType(), type -> new ArrayList<>()).add(stream);
+    }
+
+    if (request.getCredits() < 0) {
+      final Status status =
+          Status.newBuilder()
+              .setCode(Code.INVALID_ARGUMENT_VALUE)
+              .setMessage(String.format(ERROR_MSG_NEGATIVE_CREDITS, request.getCredits()))
+              .build();
+      stream.onError(StatusProto.toStatusException(status));
+    } else {
+      stream.addCredits(request.getCredits());
+    }
+
+    activateJobs(stream);
+  }
+
+  private void onNotification(final String jobType) {
+    LOG.trace("Received jobs available notification for type {}.", jobType);
+    actor.run(
+        () -> {
+          final List<JobStream> typeStreams = streams.get(jobType);
+          if (typeStreams != null) {
+            new ArrayList<>(typeStreams).forEach(this::activateJobs);
+          }
+        });
+  }
+
+  private void probe() {
+    final List<JobStream> openStreams = new ArrayList<>();
+    streams.values().forEach(openStreams::addAll);
+    openStreams.forEach(this::activateJobs);
+  }
+
+  private void activateJobs(final JobStream stream) {
+    if (stream.isClosed()) {
+      closeStream(stream);
+      return;
+    }
+
+    if (!stream.canActivateJobs()) {
+      return;
+    }
+
+    final BrokerClusterState topology = brokerClient.getTopologyManager().getTopology();
+    if (topology == null) {
+      // the stream is activated again by the next notification or probe
+      return;
+    }
+
+    final int maxJobsToActivate = stream.startActivation();
+    final BrokerActivateJobsRequest request = stream.newActivateJobsRequest(maxJobsToActivate);
+    activateJobsHandler.activateJobs(
+        topology.getPartitionsCount(),
+        request,
+        maxJobsToActivate,
+        stream.getType(),
+        response -> actor.run(() -> stream.onResponse(response)),
+        error ->
+            actor.run(
+                () -> {
+                  stream.onError(error);
+                  closeStream(stream);
+                }),
+        (remainingAmount, containedResourceExhaustedResponse) ->
+            actor.run(
+                () -> {
+                  stream.completeActivation(remainingAmount);
+                  if (remainingAmount < maxJobsToActivate) {
+                    // jobs were available, so there may be more of them
+                    activateJobs(stream);
+                  }
+                }));
+  }
+
+  private void closeStream(final JobStream stream) {
+    if (stream == null) {
+      return;
+    }
+
+    final List<JobStream> typeStreams = streams.get(stream.getType());
+    if (typeStreams != null) {
+      typeStreams.remove(stream);
+      if (typeStreams.isEmpty()) {
+        streams.remove(stream.getType());
+      }
+    }
+  }
+
+  private final class JobStreamRequestObserver
+      implements StreamObserver<StreamActivatedJobsRequest> {
+
+    private final ServerStreamObserver<ActivateJobsResponse> responseObserver;
+    // only accessed by the actor
+    private JobStream stream;
+
+    private JobStreamRequestObserver(
+        final ServerStreamObserver<ActivateJobsResponse> responseObserver) {
+      this.responseObserver = responseObserver;
+    }
+
+    @Override
+    public void onNext(final StreamActivatedJobsRequest request) {
+      actor.run(() -> onRequest(this, request));
+    }
+
+    @Override
+    public void onError(final Throwable error) {
+      LOG.debug("Job stream was closed by the worker with an error", error);
+      actor.run(() -> closeStream(stream));
+    }
+
+    @Override
+    public void onCompleted() {
+      actor.run(
+          () -> {
+            if (stream != null) {
+              stream.complete();
+              closeStream(stream);
+            } else {
+              responseObserver.onCompleted();
+            }
+          });
+    }
+  }
+}
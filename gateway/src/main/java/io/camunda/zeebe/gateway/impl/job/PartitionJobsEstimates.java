@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Estimates per job type which partitions have jobs to activate. A partition which activated fewer
+ * jobs than requested is probably drained, until the brokers notify that jobs of the type are
+ * available again. Since the notification doesn't tell the partition, it marks all partitions of
+ * the job type as likely to have jobs.
+ *
+ * <p>The estimates are only a hint for the order in which the partitions are asked, as other
+ * gateways activate jobs too.
+ */
+final class PartitionJobsEstimates {
+
+  private final Map<String, Set<Integer>> drainedPartitionsByJobType = new ConcurrentHashMap<>();
+
+  boolean isLikelyYielding(final String jobType, final int partitionId) {
+    final Set<Integer> drainedPartitions = drainedPartitionsByJobType.get(jobType);
+    return drainedPartitions == null || !drainedPartitions.contains(partitionId);
+  }
+
+  void onJobsActivated(
+      final String jobType,
+      final int partitionId,
+      final int requestedAmount,
+      final int activatedAmount,
+      final boolean truncated) {
+    final Set<Integer> drainedPartitions =
+        drainedPartitionsByJobType.computeIfAbsent(jobType, t -> ConcurrentHashMap.newKeySet());
+    if (activatedAmount < requestedAmount && !truncated) {
+      drainedPartitions.add(partitionId);
+    } else {
+      drainedPartitions.remove(partitionId);
+    }
+  }
+
+  void onJobsAvailable(final String jobType) {
+    drainedPartitionsByJobType.remove(jobType);
+  }
+
+  /**
+   * Moves the drained partitions to the end. The sort is stable, such that the partitions which
+   * likely have jobs keep their round-robin order.
+   */
+  void sortByYield(final String jobType, final List<Integer> partitionIds) {
+    partitionIds.sort(
+        Comparator.comparing((Integer partitionId) -> !isLikelyYielding(jobType, partitionId)));
+  }
+}
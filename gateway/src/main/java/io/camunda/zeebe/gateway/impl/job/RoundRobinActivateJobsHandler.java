@@ -23,7 +23,11 @@ import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.protocol.record.ErrorCode;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -31,17 +35,27 @@ import java.util.function.Consumer;
 /**
  * Iterates in round-robin fashion over partitions to activate jobs. Uses a map from job type to
  * partition-IDs to determine the next partition to use.
+ *
+ * <p>Partitions which were drained by previous activations are asked last, see {@link
+ * PartitionJobsEstimates}. If many jobs are requested, the partitions which likely have jobs are
+ * asked in parallel first.
  */
 public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler {
 
+  private static final String JOBS_AVAILABLE_TOPIC = "jobsAvailable";
+  private static final int MIN_JOBS_PER_PARALLEL_REQUEST = 32;
+
   private final Map<String, RequestDispatchStrategy> jobTypeToNextPartitionId =
       new ConcurrentHashMap<>();
+  private final PartitionJobsEstimates estimates = new PartitionJobsEstimates();
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
 
   public RoundRobinActivateJobsHandler(final BrokerClient brokerClient) {
     this.brokerClient = brokerClient;
     topologyManager = brokerClient.getTopologyManager();
+    brokerClient.subscribeJobAvailableNotification(
+        JOBS_AVAILABLE_TOPIC, estimates::onJobsAvailable);
   }
 
   @Override
@@ -70,14 +84,37 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
       final Consumer<ActivateJobsResponse> onResponse,
       final Consumer<Throwable> onError,
       final BiConsumer<Integer, Boolean> onCompleted) {
-    activateJobs(
-        request,
-        partitionIdIteratorForType(type, partitionsCount),
-        maxJobsToActivate,
-        type,
-        onResponse,
-        onError,
-        onCompleted);
+    final List<Integer> partitionIds = partitionIdsForType(type, partitionsCount);
+
+    int likelyYieldingPartitions = 0;
+    while (likelyYieldingPartitions < partitionIds.size()
+        && estimates.isLikelyYielding(type, partitionIds.get(likelyYieldingPartitions))) {
+      likelyYieldingPartitions++;
+    }
+
+    final int parallelism =
+        Math.min(likelyYieldingPartitions, maxJobsToActivate / MIN_JOBS_PER_PARALLEL_REQUEST);
+    if (parallelism > 1) {
+      new ParallelActivation(
+              request,
+              partitionIds,
+              parallelism,
+              maxJobsToActivate,
+              type,
+              onResponse,
+              onError,
+              onCompleted)
+          .activateJobs();
+    } else {
+      activateJobs(
+          request,
+          new PartitionIdIterator(partitionIds, topologyManager),
+          maxJobsToActivate,
+          type,
+          onResponse,
+          onError,
+          onCompleted);
+    }
   }
 
   private void activateJobs(
@@ -129,6 +166,12 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
                       ResponseMapper.toActivateJobsResponse(
                           response.getKey(), response.getResponse());
                   final int jobsCount = grpcResponse.getJobsCount();
+                  estimates.onJobsActivated(
+                      jobType,
+                      partitionId,
+                      remainingAmount,
+                      jobsCount,
+                      response.getResponse().getTruncated());
                   if (jobsCount > 0) {
                     onResponse.accept(grpcResponse);
                   }
@@ -185,19 +228,159 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
 
   private void logErrorResponse(
       final PartitionIdIterator partitionIdIterator, final String jobType, final Throwable error) {
+    logErrorResponse(partitionIdIterator.getCurrentPartitionId(), jobType, error);
+  }
+
+  private void logErrorResponse(
+      final int partitionId, final String jobType, final Throwable error) {
     Loggers.GATEWAY_LOGGER.warn(
-        "Failed to activate jobs for type {} from partition {}",
-        jobType,
-        partitionIdIterator.getCurrentPartitionId(),
-        error);
+        "Failed to activate jobs for type {} from partition {}", jobType, partitionId, error);
   }
 
-  private PartitionIdIterator partitionIdIteratorForType(
-      final String jobType, final int partitionsCount) {
+  /**
+   * @return the partitions with a leader, in round-robin order for the job type and then sorted by
+   *     their estimated jobs
+   */
+  private List<Integer> partitionIdsForType(final String jobType, final int partitionsCount) {
     final RequestDispatchStrategy nextPartitionSupplier =
         jobTypeToNextPartitionId.computeIfAbsent(
             jobType, t -> new RoundRobinDispatchStrategy(topologyManager));
-    return new PartitionIdIterator(
-        nextPartitionSupplier.determinePartition(), partitionsCount, topologyManager);
+    final PartitionIdIterator partitionIdIterator =
+        new PartitionIdIterator(
+            nextPartitionSupplier.determinePartition(), partitionsCount, topologyManager);
+
+    final List<Integer> partitionIds = new ArrayList<>(partitionsCount);
+    partitionIdIterator.forEachRemaining(partitionIds::add);
+    estimates.sortByYield(jobType, partitionIds);
+    return partitionIds;
+  }
+
+  /**
+   * Activates jobs from the first partitions in parallel, splitting the requested amount between
+   * them. Afterwards, the remaining amount is activated one partition after the other from the
+   * partitions which were not drained by the parallel requests.
+   *
+   * <p>The responses are passed on one at a time, and a rejection is only passed on after all
+   * parallel requests are completed, such that no activated jobs are lost.
+   */
+  private final class ParallelActivation {
+
+    private final BrokerActivateJobsRequest request;
+    private final List<Integer> partitionIds;
+    private final int parallelism;
+    private final String jobType;
+    private final Consumer<ActivateJobsResponse> onResponse;
+    private final Consumer<Throwable> onError;
+    private final BiConsumer<Integer, Boolean> onCompleted;
+
+    private final Set<Integer> drainedPartitionIds = new HashSet<>();
+    private int remainingAmount;
+    private int pendingRequests;
+    private boolean resourceExhaustedWasPresent;
+    private Throwable rejection;
+
+    private ParallelActivation(
+        final BrokerActivateJobsRequest request,
+        final List<Integer> partitionIds,
+        final int parallelism,
+        final int maxJobsToActivate,
+        final String jobType,
+        final Consumer<ActivateJobsResponse> onResponse,
+        final Consumer<Throwable> onError,
+        final BiConsumer<Integer, Boolean> onCompleted) {
+      this.request = request;
+      this.partitionIds = partitionIds;
+      this.parallelism = parallelism;
+      this.jobType = jobType;
+      this.onResponse = onResponse;
+      this.onError = onError;
+      this.onCompleted = onCompleted;
+      remainingAmount = maxJobsToActivate;
+      pendingRequests = parallelism;
+    }
+
+    private void activateJobs() {
+      final int amountPerPartition = remainingAmount / parallelism;
+      final int additionalAmount = remainingAmount % parallelism;
+
+      for (int i = 0; i < parallelism; i++) {
+        final int partitionId = partitionIds.get(i);
+        final int amount = amountPerPartition + (i < additionalAmount ? 1 : 0);
+
+        final BrokerActivateJobsRequest partitionRequest = request.copy();
+        partitionRequest.setPartitionId(partitionId);
+        partitionRequest.setMaxJobsToActivate(amount);
+        brokerClient
+            .sendRequest(partitionRequest)
+            .whenComplete(
+                (response, error) -> {
+                  if (error == null) {
+                    onResponse(
+                        partitionId,
+                        amount,
+                        response.getResponse().getTruncated(),
+                        ResponseMapper.toActivateJobsResponse(
+                            response.getKey(), response.getResponse()));
+                  } else {
+                    onError(partitionId, error);
+                  }
+                });
+      }
+    }
+
+    private synchronized void onResponse(
+        final int partitionId,
+        final int requestedAmount,
+        final boolean truncated,
+        final ActivateJobsResponse grpcResponse) {
+      final int jobsCount = grpcResponse.getJobsCount();
+      estimates.onJobsActivated(jobType, partitionId, requestedAmount, jobsCount, truncated);
+      if (jobsCount > 0) {
+        onResponse.accept(grpcResponse);
+      }
+
+      remainingAmount -= jobsCount;
+      if (jobsCount < requestedAmount && !truncated) {
+        drainedPartitionIds.add(partitionId);
+      }
+      onRequestCompleted();
+    }
+
+    private synchronized void onError(final int partitionId, final Throwable error) {
+      final boolean wasResourceExhausted = wasResourceExhausted(error);
+      if (isRejection(error)) {
+        rejection = rejection == null ? error : rejection;
+      } else if (!wasResourceExhausted) {
+        logErrorResponse(partitionId, jobType, error);
+      }
+
+      resourceExhaustedWasPresent |= wasResourceExhausted;
+      onRequestCompleted();
+    }
+
+    private void onRequestCompleted() {
+      pendingRequests--;
+      if (pendingRequests > 0) {
+        return;
+      }
+
+      if (rejection != null) {
+        onError.accept(rejection);
+        return;
+      }
+
+      final List<Integer> remainingPartitionIds = new ArrayList<>(partitionIds);
+      remainingPartitionIds.removeAll(drainedPartitionIds);
+      RoundRobinActivateJobsHandler.this.activateJobs(
+          request,
+          new PartitionIdIterator(remainingPartitionIds, topologyManager),
+          remainingAmount,
+          jobType,
+          onResponse,
+          onError,
+          onCompleted,
+          false,
+          resourceExhaustedWasPresent);
+    }
   }
 }
@@ -34,6 +34,7 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -178,4 +179,88 @@ public final class ActivateJobsTest extends GatewayTest {
         .isEqualTo(Status.INVALID_ARGUMENT.getCode());
     assertThat(callCounter).hasValue(1);
   }
+
+  @Test
+  public void shouldActivateJobsFromDrainedPartitionsLast() {
+    // given
+    final List<Integer> requestedPartitions = registerJobsOnPartition(3);
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder().setType("test").setMaxJobsToActivate(1).build();
+
+    client.activateJobs(request).next();
+    assertThat(requestedPartitions).containsExactly(1, 2, 3);
+    requestedPartitions.clear();
+
+    // when
+    client.activateJobs(request).next();
+
+    // then
+    assertThat(requestedPartitions).containsExactly(3);
+  }
+
+  @Test
+  public void shouldActivateJobsRoundRobinAfterJobsAvailableNotification() {
+    // given
+    final List<Integer> requestedPartitions = registerJobsOnPartition(3);
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder().setType("test").setMaxJobsToActivate(1).build();
+
+    client.activateJobs(request).next();
+    requestedPartitions.clear();
+
+    // when
+    brokerClient.notifyJobsAvailable("test");
+    client.activateJobs(request).next();
+
+    // then
+    assertThat(requestedPartitions).containsExactly(2, 3);
+  }
+
+  @Test
+  public void shouldActivateManyJobsFromPartitionsInParallel() {
+    // given
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    stub.registerWith(brokerClient);
+    stub.addAvailableJobs("test", 64);
+
+    final ActivateJobsRequest request =
+        ActivateJobsRequest.newBuilder().setType("test").setMaxJobsToActivate(64).build();
+
+    // when
+    final Iterator<ActivateJobsResponse> responses = client.activateJobs(request);
+
+    // then
+    int activatedJobs = 0;
+    while (responses.hasNext()) {
+      activatedJobs += responses.next().getJobsCount();
+    }
+    assertThat(activatedJobs).isEqualTo(64);
+
+    assertThat(brokerClient.getBrokerRequests())
+        .hasSize(2)
+        .extracting(BrokerRequest::getPartitionId)
+        .containsExactlyInAnyOrder(1, 2);
+    assertThat(brokerClient.getBrokerRequests())
+        .extracting(
+            brokerRequest ->
+                ((BrokerActivateJobsRequest) brokerRequest)
+                    .getRequestWriter()
+                    .getMaxJobsToActivate())
+        .containsOnly(32);
+  }
+
+  private List<Integer> registerJobsOnPartition(final int partitionId) {
+    final ActivateJobsStub stub = new ActivateJobsStub();
+    final List<Integer> requestedPartitions = new CopyOnWriteArrayList<>();
+    brokerClient.registerHandler(
+        BrokerActivateJobsRequest.class,
+        (RequestHandler<BrokerActivateJobsRequest, BrokerResponse<JobBatchRecord>>)
+            request -> {
+              requestedPartitions.add(request.getPartitionId());
+              final String type = request.getRequestWriter().getType();
+              stub.addAvailableJobs(type, request.getPartitionId() == partitionId ? 100 : 0);
+              return stub.handle(request);
+            });
+    return requestedPartitions;
+  }
 }
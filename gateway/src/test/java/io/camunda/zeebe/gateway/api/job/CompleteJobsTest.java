@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.google.rpc.Code;
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCommandBatchRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerRejectionResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import java.util.List;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends GatewayTest {
+
+  @Test
+  public void shouldSendOneRequestPerPartition() {
+    // given
+    new CompleteJobStub().registerWith(brokerClient);
+
+    final long jobOnFirstPartition = Protocol.encodePartitionId(1, 10);
+    final long jobOnSecondPartition = Protocol.encodePartitionId(2, 20);
+    final long otherJobOnFirstPartition = Protocol.encodePartitionId(1, 30);
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addRequests(completeJobRequest(jobOnFirstPartition))
+            .addRequests(completeJobRequest(jobOnSecondPartition))
+            .addRequests(
+                completeJobRequest(otherJobOnFirstPartition).toBuilder().setVariables("{\"x\":1}"))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .hasSize(3)
+        .allMatch(CompleteJobResult::hasResponse)
+        .noneMatch(CompleteJobResult::hasError);
+
+    assertThat(brokerClient.getBrokerRequests())
+        .hasSize(2)
+        .allMatch(BrokerCommandBatchRequest.class::isInstance);
+
+    final var firstBatch = (BrokerCommandBatchRequest<?>) brokerClient.getBrokerRequests().get(0);
+    assertThat(firstBatch.getPartitionId()).isEqualTo(1);
+    assertThat(firstBatch.getCommands())
+        .extracting(c -> c.getKey(), c -> c.getIntent(), c -> c.getPartitionId())
+        .containsExactly(
+            tuple(jobOnFirstPartition, JobIntent.COMPLETE, 1),
+            tuple(otherJobOnFirstPartition, JobIntent.COMPLETE, 1));
+
+    final var variables =
+        ((BrokerCompleteJobRequest) firstBatch.getCommands().get(1))
+            .getRequestWriter()
+            .getVariablesBuffer();
+    MsgPackUtil.assertEquality(variables, "{\"x\":1}");
+
+    final var secondBatch = (BrokerCommandBatchRequest<?>) brokerClient.getBrokerRequests().get(1);
+    assertThat(secondBatch.getPartitionId()).isEqualTo(2);
+    assertThat(secondBatch.getCommands())
+        .extracting(c -> c.getKey())
+        .containsExactly(jobOnSecondPartition);
+  }
+
+  @Test
+  public void shouldReturnErrorOfRejectedJobInOrder() {
+    // given
+    final long rejectedJob = Protocol.encodePartitionId(2, 20);
+    final CompleteJobStub stub = new CompleteJobStub();
+    brokerClient.registerHandler(
+        BrokerCompleteJobRequest.class,
+        (BrokerCompleteJobRequest brokerRequest) -> {
+          if (brokerRequest.getKey() == rejectedJob) {
+            return new BrokerRejectionResponse<JobRecord>(
+                new BrokerRejection(
+                    JobIntent.COMPLETE, rejectedJob, RejectionType.NOT_FOUND, "no such job"));
+          }
+          return stub.handle(brokerRequest);
+        });
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addRequests(completeJobRequest(Protocol.encodePartitionId(1, 10)))
+            .addRequests(completeJobRequest(rejectedJob))
+            .addRequests(completeJobRequest(Protocol.encodePartitionId(1, 30)))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    final List<CompleteJobResult> results = response.getResultsList();
+    assertThat(results).hasSize(3);
+    assertThat(results.get(0).hasResponse()).isTrue();
+    assertThat(results.get(2).hasResponse()).isTrue();
+
+    assertThat(results.get(1).hasResponse()).isFalse();
+    assertThat(results.get(1).getError().getCode()).isEqualTo(Code.NOT_FOUND_VALUE);
+    assertThat(results.get(1).getError().getMessage()).contains("no such job");
+  }
+
+  @Test
+  public void shouldReturnEmptyResponseForEmptyRequest() {
+    // when
+    final CompleteJobsResponse response =
+        client.completeJobs(CompleteJobsRequest.getDefaultInstance());
+
+    // then
+    assertThat(response.getResultsList()).isEmpty();
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+
+  private static CompleteJobRequest completeJobRequest(final long jobKey) {
+    return CompleteJobRequest.newBuilder().setJobKey(jobKey).build();
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
+import io.camunda.zeebe.gateway.impl.job.JobStreamHandler;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import io.camunda.zeebe.util.sched.clock.ControlledActorClock;
+import io.camunda.zeebe.util.sched.testing.ActorSchedulerRule;
+import io.grpc.Status.Code;
+import io.grpc.StatusException;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public final class JobStreamTest {
+
+  private static final String TYPE = "test";
+  private static final Duration PROBE_INTERVAL = Duration.ofMinutes(1);
+
+  private final ControlledActorClock actorClock = new ControlledActorClock();
+  @Rule public final ActorSchedulerRule actorSchedulerRule = new ActorSchedulerRule(actorClock);
+
+  private final StubbedBrokerClient brokerClient = new StubbedBrokerClient();
+  private final ServerStreamObserver<ActivateJobsResponse> responseObserver =
+      spy(ServerStreamObserver.class);
+  private ActivateJobsStub stub;
+  private StreamObserver<StreamActivatedJobsRequest> requestObserver;
+
+  @Before
+  public void setup() {
+    final JobStreamHandler handler = new JobStreamHandler(brokerClient, PROBE_INTERVAL);
+    actorSchedulerRule.submitActor(handler).join();
+    stub = spy(new ActivateJobsStub());
+    stub.registerWith(brokerClient);
+    requestObserver = handler.openStream(responseObserver);
+  }
+
+  @Test
+  public void shouldStreamJobsUpToCredits() {
+    // given
+    stub.addAvailableJobs(TYPE, 5);
+
+    // when
+    requestObserver.onNext(newRequest(3));
+
+    // then
+    final ActivateJobsResponse response = awaitResponse();
+    assertThat(response.getJobsCount()).isEqualTo(3);
+    verify(responseObserver, never()).onCompleted();
+  }
+
+  @Test
+  public void shouldStreamJobsWhenCreditsAreGranted() {
+    // given
+    stub.addAvailableJobs(TYPE, 5);
+    requestObserver.onNext(newRequest(0));
+
+    // when
+    requestObserver.onNext(StreamActivatedJobsRequest.newBuilder().setCredits(2).build());
+
+    // then
+    final ActivateJobsResponse response = awaitResponse();
+    assertThat(response.getJobsCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldStreamJobsWhenNotifiedOfAvailableJobs() throws Exception {
+    // given
+    stub.addAvailableJobs(TYPE, 0);
+    requestObserver.onNext(newRequest(2));
+    final int partitionsCount =
+        brokerClient.getTopologyManager().getTopology().getPartitionsCount();
+    verify(stub, timeout(2000).atLeast(partitionsCount)).handle(any());
+
+    // when
+    stub.addAvailableJobs(TYPE, 2);
+    brokerClient.notifyJobsAvailable(TYPE);
+
+    // then
+    final ActivateJobsResponse response = awaitResponse();
+    assertThat(response.getJobsCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotSendEmptyResponses() throws Exception {
+    // given
+    stub.addAvailableJobs(TYPE, 0);
+
+    // when
+    requestObserver.onNext(newRequest(2));
+
+    // then
+    final int partitionsCount =
+        brokerClient.getTopologyManager().getTopology().getPartitionsCount();
+    verify(stub, timeout(2000).atLeast(partitionsCount)).handle(any());
+    verify(responseObserver, never()).onNext(any());
+  }
+
+  @Test
+  public void shouldRejectNegativeCredits() {
+    // when
+    requestObserver.onNext(newRequest(-1));
+
+    // then
+    final ArgumentCaptor<Throwable> errorCaptor = ArgumentCaptor.forClass(Throwable.class);
+    verify(responseObserver, timeout(2000)).onError(errorCaptor.capture());
+    assertThat(errorCaptor.getValue())
+        .isInstanceOfSatisfying(
+            StatusException.class,
+            error -> assertThat(error.getStatus().getCode()).isEqualTo(Code.INVALID_ARGUMENT));
+  }
+
+  @Test
+  public void shouldCompleteStreamWhenWorkerCompletes() {
+    // given
+    requestObserver.onNext(newRequest(0));
+
+    // when
+    requestObserver.onCompleted();
+
+    // then
+    verify(responseObserver, timeout(2000)).onCompleted();
+  }
+
+  private StreamActivatedJobsRequest newRequest(final int credits) {
+    return StreamActivatedJobsRequest.newBuilder()
+        .setType(TYPE)
+        .setWorker("worker")
+        .setTimeout(1000)
+        .setCredits(credits)
+        .build();
+  }
+
+  private ActivateJobsResponse awaitResponse() {
+    final ArgumentCaptor<ActivateJobsResponse> responseCaptor =
+        ArgumentCaptor.forClass(ActivateJobsResponse.class);
+    verify(responseObserver, timeout(2000)).onNext(responseCaptor.capture());
+    return responseCaptor.getValue();
+  }
+}
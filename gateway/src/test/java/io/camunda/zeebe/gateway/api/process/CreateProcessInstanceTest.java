@@ -10,12 +10,17 @@ package io.camunda.zeebe.gateway.api.process;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
+import io.camunda.zeebe.protocol.impl.SubscriptionUtil;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.List;
 import org.junit.Test;
 
 public final class CreateProcessInstanceTest extends GatewayTest {
@@ -48,4 +53,60 @@ public final class CreateProcessInstanceTest extends GatewayTest {
     assertThat(brokerRequestValue.getProcessDefinitionKey())
         .isEqualTo(stub.getProcessDefinitionKey());
   }
+
+  @Test
+  public void shouldRouteByRoutingKey() {
+    // given
+    final CreateProcessInstanceStub stub = new CreateProcessInstanceStub();
+    stub.registerWith(brokerClient);
+
+    final CreateProcessInstanceRequest request =
+        CreateProcessInstanceRequest.newBuilder()
+            .setProcessDefinitionKey(stub.getProcessDefinitionKey())
+            .setRoutingKey("order-123")
+            .build();
+
+    // when
+    client.createProcessInstance(request);
+    client.createProcessInstance(request);
+
+    // then
+    final int expectedPartitionId =
+        SubscriptionUtil.getSubscriptionPartitionId(
+            BufferUtil.wrapString("order-123"),
+            brokerClient.getTopologyManager().getTopology().getPartitionsCount());
+    assertThat(brokerClient.getBrokerRequests())
+        .hasSize(2)
+        .extracting(BrokerRequest::getPartitionId)
+        .containsOnly(expectedPartitionId);
+  }
+
+  @Test
+  public void shouldSkipBackpressuredPartitions() {
+    // given
+    final CreateProcessInstanceStub stub = new CreateProcessInstanceStub();
+    stub.registerWith(brokerClient);
+
+    final BrokerTopologyManager topologyManager = brokerClient.getTopologyManager();
+    final List<Integer> partitions = topologyManager.getTopology().getPartitions();
+    final int availablePartitionId = partitions.get(partitions.size() - 1);
+    partitions.stream()
+        .filter(partitionId -> partitionId != availablePartitionId)
+        .forEach(topologyManager::onPartitionBackpressure);
+
+    final CreateProcessInstanceRequest request =
+        CreateProcessInstanceRequest.newBuilder()
+            .setProcessDefinitionKey(stub.getProcessDefinitionKey())
+            .build();
+
+    // when
+    client.createProcessInstance(request);
+    client.createProcessInstance(request);
+
+    // then
+    assertThat(brokerClient.getBrokerRequests())
+        .hasSize(2)
+        .extracting(BrokerRequest::getPartitionId)
+        .containsOnly(availablePartitionId);
+  }
 }
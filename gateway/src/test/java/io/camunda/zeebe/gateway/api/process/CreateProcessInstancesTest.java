@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.rpc.Code;
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCommandBatchRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerRejection;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerRejectionResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesResponse;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.List;
+import org.junit.Test;
+
+public final class CreateProcessInstancesTest extends GatewayTest {
+
+  @Test
+  public void shouldCreateAllInstancesWithOneRequest() {
+    // given
+    final CreateProcessInstanceStub stub = new CreateProcessInstanceStub();
+    stub.registerWith(brokerClient);
+
+    final CreateProcessInstancesRequest request =
+        CreateProcessInstancesRequest.newBuilder()
+            .addRequests(CreateProcessInstanceRequest.newBuilder().setBpmnProcessId("a"))
+            .addRequests(CreateProcessInstanceRequest.newBuilder().setBpmnProcessId("b"))
+            .addRequests(CreateProcessInstanceRequest.newBuilder().setBpmnProcessId("c"))
+            .build();
+
+    // when
+    final CreateProcessInstancesResponse response = client.createProcessInstances(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .hasSize(3)
+        .allSatisfy(
+            result -> {
+              assertThat(result.getResponse().getProcessInstanceKey())
+                  .isEqualTo(stub.getProcessInstanceKey());
+              assertThat(result.getResponse().getProcessDefinitionKey())
+                  .isEqualTo(stub.getProcessDefinitionKey());
+            });
+
+    final BrokerCommandBatchRequest<?> brokerRequest = brokerClient.getSingleBrokerRequest();
+    assertThat(brokerRequest.getCommands())
+        .extracting(
+            command ->
+                BufferUtil.bufferAsString(
+                    ((BrokerCreateProcessInstanceRequest) command)
+                        .getRequestWriter()
+                        .getBpmnProcessIdBuffer()))
+        .containsExactly("a", "b", "c");
+    assertThat(brokerRequest.getCommands())
+        .allMatch(command -> command.getPartitionId() == brokerRequest.getPartitionId());
+  }
+
+  @Test
+  public void shouldReturnErrorOfRejectedInstanceInOrder() {
+    // given
+    final CreateProcessInstanceStub stub = new CreateProcessInstanceStub();
+    brokerClient.registerHandler(
+        BrokerCreateProcessInstanceRequest.class,
+        (BrokerCreateProcessInstanceRequest brokerRequest) -> {
+          if (BufferUtil.bufferAsString(brokerRequest.getRequestWriter().getBpmnProcessIdBuffer())
+              .equals("unknown")) {
+            return new BrokerRejectionResponse<ProcessInstanceCreationRecord>(
+                new BrokerRejection(
+                    ProcessInstanceCreationIntent.CREATE,
+                    -1,
+                    RejectionType.NOT_FOUND,
+                    "no such process"));
+          }
+          return stub.handle(brokerRequest);
+        });
+
+    final CreateProcessInstancesRequest request =
+        CreateProcessInstancesRequest.newBuilder()
+            .addRequests(CreateProcessInstanceRequest.newBuilder().setBpmnProcessId("unknown"))
+            .addRequests(CreateProcessInstanceRequest.newBuilder().setBpmnProcessId("process"))
+            .build();
+
+    // when
+    final CreateProcessInstancesResponse response = client.createProcessInstances(request);
+
+    // then
+    final List<CreateProcessInstanceResult> results = response.getResultsList();
+    assertThat(results).hasSize(2);
+    assertThat(results.get(0).hasResponse()).isFalse();
+    assertThat(results.get(0).getError().getCode()).isEqualTo(Code.NOT_FOUND_VALUE);
+    assertThat(results.get(0).getError().getMessage()).contains("no such process");
+    assertThat(results.get(1).getResponse().getProcessInstanceKey())
+        .isEqualTo(stub.getProcessInstanceKey());
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCommandBatchRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.SubscriptionUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+public final class PublishMessagesTest extends GatewayTest {
+
+  private static final int PARTITIONS_COUNT = 8;
+
+  @Test
+  public void shouldSendOneRequestPerPartitionOfCorrelationKeys() {
+    // given
+    brokerClient.registerHandler(
+        BrokerPublishMessageRequest.class,
+        (BrokerPublishMessageRequest brokerRequest) ->
+            new BrokerResponse<Void>(
+                null,
+                brokerRequest.getPartitionId(),
+                Protocol.encodePartitionId(brokerRequest.getPartitionId(), 1)));
+
+    final List<String> correlationKeys =
+        IntStream.range(0, 20).mapToObj(i -> "key-" + i).collect(Collectors.toList());
+    final PublishMessagesRequest.Builder requestBuilder = PublishMessagesRequest.newBuilder();
+    correlationKeys.forEach(
+        correlationKey ->
+            requestBuilder.addRequests(
+                PublishMessageRequest.newBuilder()
+                    .setName("message")
+                    .setCorrelationKey(correlationKey)
+                    .setTimeToLive(1000)));
+
+    // when
+    final PublishMessagesResponse response = client.publishMessages(requestBuilder.build());
+
+    // then
+    final List<PublishMessageResult> results = response.getResultsList();
+    assertThat(results).hasSize(correlationKeys.size());
+    for (int i = 0; i < correlationKeys.size(); i++) {
+      // the response of each message is returned in the order of the messages
+      assertThat(Protocol.decodePartitionId(results.get(i).getResponse().getKey()))
+          .isEqualTo(partitionOf(correlationKeys.get(i)));
+    }
+
+    final Set<Integer> expectedPartitions =
+        correlationKeys.stream().map(this::partitionOf).collect(Collectors.toSet());
+    assertThat(brokerClient.getBrokerRequests()).hasSize(expectedPartitions.size());
+
+    final Set<Integer> requestedPartitions = new HashSet<>();
+    brokerClient
+        .getBrokerRequests()
+        .forEach(
+            brokerRequest -> {
+              final var batch = (BrokerCommandBatchRequest<?>) brokerRequest;
+              requestedPartitions.add(batch.getPartitionId());
+              assertThat(batch.getCommands())
+                  .allSatisfy(
+                      command ->
+                          assertThat(
+                                  partitionOf(
+                                      BufferUtil.bufferAsString(
+                                          ((BrokerPublishMessageRequest) command)
+                                              .getCorrelationKey())))
+                              .isEqualTo(batch.getPartitionId()));
+            });
+    assertThat(requestedPartitions).isEqualTo(expectedPartitions);
+  }
+
+  private int partitionOf(final String correlationKey) {
+    return SubscriptionUtil.getSubscriptionPartitionId(
+        BufferUtil.wrapString(correlationKey), PARTITIONS_COUNT);
+  }
+}
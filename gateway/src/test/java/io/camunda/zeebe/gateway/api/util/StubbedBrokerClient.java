@@ -16,6 +16,7 @@ import io.camunda.zeebe.gateway.cmd.IllegalBrokerResponseException;
 import io.camunda.zeebe.gateway.impl.broker.BrokerClient;
 import io.camunda.zeebe.gateway.impl.broker.BrokerResponseConsumer;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCommandBatchRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.camunda.zeebe.protocol.Protocol;
@@ -86,8 +87,7 @@ public final class StubbedBrokerClient implements BrokerClient {
       final Consumer<Throwable> throwableConsumer) {
     brokerRequests.add(request);
     try {
-      final RequestHandler requestHandler = requestHandlers.get(request.getClass());
-      final BrokerResponse<T> response = requestHandler.handle(request);
+      final BrokerResponse<T> response = handle(request);
       try {
         if (response.isResponse()) {
           responseConsumer.accept(response.getKey(), response.getResponse());
@@ -108,6 +108,21 @@ public final class StubbedBrokerClient implements BrokerClient {
     }
   }
 
+  private BrokerResponse handle(final BrokerRequest<?> request) throws Exception {
+    if (request instanceof BrokerCommandBatchRequest) {
+      // the commands of a batch are handled by the handlers of the single commands
+      final List<BrokerResponse<?>> responses = new ArrayList<>();
+      for (final BrokerRequest<?> command :
+          ((BrokerCommandBatchRequest<?>) request).getCommands()) {
+        responses.add(requestHandlers.get(command.getClass()).handle(command));
+      }
+      return new BrokerResponse<>(responses, request.getPartitionId(), -1);
+    }
+
+    final RequestHandler requestHandler = requestHandlers.get(request.getClass());
+    return requestHandler.handle(request);
+  }
+
   @Override
   public BrokerTopologyManager getTopologyManager() {
     return topologyManager;
@@ -116,7 +131,8 @@ public final class StubbedBrokerClient implements BrokerClient {
   @Override
   public void subscribeJobAvailableNotification(
       final String topic, final Consumer<String> handler) {
-    jobsAvailableHandler = handler;
+    jobsAvailableHandler =
+        jobsAvailableHandler == null ? handler : jobsAvailableHandler.andThen(handler);
   }
 
   public <RequestT extends BrokerRequest<?>, ResponseT extends BrokerResponse<?>>
@@ -129,6 +145,10 @@ public final class StubbedBrokerClient implements BrokerClient {
     jobsAvailableHandler.accept(type);
   }
 
+  public List<BrokerRequest> getBrokerRequests() {
+    return brokerRequests;
+  }
+
   public <T extends BrokerRequest<?>> T getSingleBrokerRequest() {
     assertThat(brokerRequests).hasSize(1);
     return (T) brokerRequests.get(0);
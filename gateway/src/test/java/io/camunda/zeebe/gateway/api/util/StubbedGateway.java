@@ -10,6 +10,7 @@ package io.camunda.zeebe.gateway.api.util;
 import io.camunda.zeebe.gateway.EndpointManager;
 import io.camunda.zeebe.gateway.GatewayGrpcService;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.JobStreamHandler;
 import io.camunda.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayBlockingStub;
@@ -44,7 +45,12 @@ public final class StubbedGateway {
       actorScheduler.submitActor((LongPollingActivateJobsHandler) activateJobsHandler);
     }
 
-    final EndpointManager endpointManager = new EndpointManager(brokerClient, activateJobsHandler);
+    final JobStreamHandler jobStreamHandler =
+        new JobStreamHandler(brokerClient, JobStreamHandler.DEFAULT_PROBE_INTERVAL);
+    actorScheduler.submitActor(jobStreamHandler);
+
+    final EndpointManager endpointManager =
+        new EndpointManager(brokerClient, activateJobsHandler, jobStreamHandler);
     final GatewayGrpcService gatewayGrpcService = new GatewayGrpcService(endpointManager);
 
     final InProcessServerBuilder serverBuilder =
@@ -12,10 +12,13 @@ import static io.camunda.zeebe.protocol.Protocol.START_PARTITION_ID;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterStateImpl;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class StubbedTopologyManager implements BrokerTopologyManager {
 
   private final BrokerClusterStateImpl clusterState;
+  private final Set<Integer> backpressuredPartitions = ConcurrentHashMap.newKeySet();
 
   StubbedTopologyManager() {
     this(8);
@@ -36,4 +39,14 @@ public final class StubbedTopologyManager implements BrokerTopologyManager {
   public BrokerClusterState getTopology() {
     return clusterState;
   }
+
+  @Override
+  public void onPartitionBackpressure(final int partitionId) {
+    backpressuredPartitions.add(partitionId);
+  }
+
+  @Override
+  public boolean isPartitionBackpressured(final int partitionId) {
+    return backpressuredPartitions.contains(partitionId);
+  }
 }
@@ -105,6 +105,10 @@ public interface Journal extends AutoCloseable {
    * Depending on the implementation, appends to the journal may not be immediately flushed to the
    * persistent storage. A call to this method guarantees that all records written are safely
    * flushed to the persistent storage.
+   *
+   * <p>Callers may batch several appends before calling this method, to share the cost of a single
+   * flush between them. If nothing was written since the last flush, this method returns without
+   * touching the persistent storage.
    */
   void flush();
 
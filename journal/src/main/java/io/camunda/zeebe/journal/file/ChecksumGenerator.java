@@ -22,11 +22,25 @@ public final class ChecksumGenerator {
 
   private final CRC32C crc32 = new CRC32C();
 
+  // a view on the last given buffer, reused as long as the same buffer is passed, which is the
+  // case for the writer and readers of a segment; this avoids creating a view for every record,
+  // while keeping the position and limit of the given buffer untouched
+  private ByteBuffer source;
+  private ByteBuffer view;
+
   /** Compute checksum of given ByteBuffer */
   public long compute(final ByteBuffer buffer, final int offset, final int length) {
-    final var slice = buffer.asReadOnlyBuffer().position(offset).slice();
+    if (buffer != source) {
+      source = buffer;
+      view = buffer.duplicate();
+    }
+
+    view.clear();
+    view.position(offset);
+    view.limit(offset + length);
+
     crc32.reset();
-    crc32.update(slice.limit(length));
+    crc32.update(view);
     return crc32.getValue();
   }
 }
@@ -78,4 +78,28 @@ interface JournalIndex {
 
   /** Delete all index mappings */
   void clear();
+
+  /**
+   * Visits all stored entries with an index between the given bounds (both inclusive), in ascending
+   * order of their index.
+   *
+   * @param fromIndex the lowest index to visit
+   * @param toIndex the highest index to visit
+   * @param visitor the visitor to call for each entry
+   */
+  void forEach(long fromIndex, long toIndex, IndexedEntryVisitor visitor);
+
+  @FunctionalInterface
+  interface IndexedEntryVisitor {
+
+    /**
+     * Visits a single entry of the index.
+     *
+     * @param index the index of the record
+     * @param position the position of the record within its segment
+     * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if none was
+     *     indexed
+     */
+    void visit(long index, int position, long asqn);
+  }
 }
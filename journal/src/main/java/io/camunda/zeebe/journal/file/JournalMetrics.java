@@ -15,9 +15,11 @@
  */
 package io.camunda.zeebe.journal.file;
 
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Gauge.Timer;
 import io.prometheus.client.Histogram;
+import java.util.concurrent.TimeUnit;
 
 class JournalMetrics {
   private static final String NAMESPACE = "atomix";
@@ -46,6 +48,33 @@ class JournalMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Histogram COMMIT_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("journal_commit_latency")
+          .help(
+              "Time between appending the first record of a flushed batch and the end of the flush, i.e. until the record is durable")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Histogram FLUSHED_RECORDS =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("journal_flushed_records")
+          .help("Number of records made durable by a single flush")
+          .buckets(1, 2, 5, 10, 20, 50, 100, 200, 500, 1000)
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Counter SEGMENT_ALLOCATION =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("segment_allocation")
+          .help(
+              "Number of segments created on rollover, by whether a preallocated file was taken over or the file had to be created on demand")
+          .labelNames(PARTITION_LABEL, "preallocated")
+          .register();
+
   private static final Gauge SEGMENT_COUNT =
       Gauge.build()
           .namespace(NAMESPACE)
@@ -71,10 +100,21 @@ class JournalMetrics {
     SEGMENT_CREATION_TIME.labels(logName).time(segmentCreation);
   }
 
+  public void observeSegmentAllocation(final boolean preallocated) {
+    SEGMENT_ALLOCATION.labels(logName, String.valueOf(preallocated)).inc();
+  }
+
   public void observeSegmentFlush(final Runnable segmentFlush) {
     SEGMENT_FLUSH_TIME.labels(logName).time(segmentFlush);
   }
 
+  public void observeCommit(final int flushedRecords, final long commitLatencyNanos) {
+    FLUSHED_RECORDS.labels(logName).observe(flushedRecords);
+    COMMIT_LATENCY
+        .labels(logName)
+        .observe(commitLatencyNanos / (double) TimeUnit.SECONDS.toNanos(1));
+  }
+
   public void observeSegmentTruncation(final Runnable segmentTruncation) {
     SEGMENT_TRUNCATE_TIME.labels(logName).time(segmentTruncation);
   }
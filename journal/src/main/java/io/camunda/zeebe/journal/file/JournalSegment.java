@@ -27,6 +27,7 @@ import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
 import java.nio.file.Files;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import org.agrona.IoUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +45,7 @@ class JournalSegment implements AutoCloseable {
   private final JournalSegmentFile file;
   private final JournalSegmentDescriptor descriptor;
   private final JournalIndex index;
+  private final JournalSegmentIndexFile indexFile;
   private final MappedJournalSegmentWriter writer;
   private final Set<MappedJournalSegmentReader> readers = Sets.newConcurrentHashSet();
   private boolean open = true;
@@ -56,13 +58,15 @@ class JournalSegment implements AutoCloseable {
       final JournalSegmentDescriptor descriptor,
       final MappedByteBuffer buffer,
       final long maxWrittenIndex,
-      final JournalIndex index) {
+      final JournalIndex index,
+      final boolean restoreIndex) {
     this.file = file;
     this.descriptor = descriptor;
     this.buffer = buffer;
     this.index = index;
+    indexFile = new JournalSegmentIndexFile(file.getIndexFile());
 
-    writer = createWriter(maxWrittenIndex);
+    writer = createWriter(maxWrittenIndex, restoreIndex);
   }
 
   /**
@@ -110,6 +114,29 @@ class JournalSegment implements AutoCloseable {
     return descriptor;
   }
 
+  /**
+   * Returns the file in which the index of the segment is persisted once it is sealed.
+   *
+   * @return The segment index file.
+   */
+  JournalSegmentIndexFile indexFile() {
+    return indexFile;
+  }
+
+  /**
+   * Persists the index entries of this segment, so they don't have to be rebuilt by reading the
+   * whole segment when the journal is opened again. Must only be called once the segment is sealed,
+   * i.e. no more entries will be appended to it.
+   *
+   * @param executor the executor which writes the index file
+   */
+  void persistIndex(final ExecutorService executor) {
+    final var lastEntry = writer.getLastEntry();
+    if (lastEntry != null) {
+      indexFile.write(descriptor, index, lastEntry, writer.getLastEntryPosition(), executor);
+    }
+  }
+
   /**
    * Returns a boolean value indicating whether the segment is empty.
    *
@@ -152,8 +179,9 @@ class JournalSegment implements AutoCloseable {
     return reader;
   }
 
-  private MappedJournalSegmentWriter createWriter(final long lastWrittenIndex) {
-    return new MappedJournalSegmentWriter(buffer, this, index, lastWrittenIndex);
+  private MappedJournalSegmentWriter createWriter(
+      final long lastWrittenIndex, final boolean restoreIndex) {
+    return new MappedJournalSegmentWriter(buffer, this, index, lastWrittenIndex, restoreIndex);
   }
 
   /**
@@ -232,6 +260,7 @@ class JournalSegment implements AutoCloseable {
     }
 
     writer.close();
+    indexFile.delete();
     final var target = file.getFileMarkedForDeletion();
     try {
       FileUtil.moveDurably(file.file().toPath(), target);
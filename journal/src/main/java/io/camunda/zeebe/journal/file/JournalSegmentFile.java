@@ -34,6 +34,7 @@ final class JournalSegmentFile {
   private static final String EXTENSION = "log";
   private static final String DELETE_EXTENSION = "deleted";
   private static final char DELETE_EXTENSION_SEPARATOR = '_';
+  private static final String INDEX_EXTENSION = "idx";
   private final File file;
   private Path fileMarkedForDeletion;
 
@@ -129,6 +130,16 @@ final class JournalSegmentFile {
     return fileMarkedForDeletion;
   }
 
+  /**
+   * Returns the path of the file in which the index of the segment is persisted, e.g. {@code
+   * journal-1.log.idx} for the segment {@code journal-1.log}.
+   */
+  public Path getIndexFile() {
+    return Path.of(
+        file.getParent(),
+        String.format("%s%c%s", file.getName(), EXTENSION_SEPARATOR, INDEX_EXTENSION));
+  }
+
   public static boolean isDeletedSegmentFile(final String journalName, final String fileName) {
     checkNotNull(journalName, "journalName cannot be null");
     checkNotNull(fileName, "fileName cannot be null");
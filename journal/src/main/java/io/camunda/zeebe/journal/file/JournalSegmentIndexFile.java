@@ -0,0 +1,360 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.file.SegmentIndexDecoder.EntriesDecoder;
+import io.camunda.zeebe.journal.file.SegmentIndexEncoder.EntriesEncoder;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.MutableInteger;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the entries of the {@link JournalIndex} which belong to a sealed segment, i.e. a segment
+ * which is not written to anymore, next to the segment file. When the journal is opened again, the
+ * index of the segment can be restored from this file instead of reading the whole segment.
+ *
+ * <p>The file is only written once the segment itself was flushed, and it is flushed before it is
+ * moved in place. It is only an optimization: it is written on a best effort basis in the
+ * background, so it doesn't delay appending to the next segment, and if it is missing, corrupted or
+ * does not match the segment, the index is rebuilt by reading the segment as before. Besides the
+ * index entries, the file contains the position and checksum of the last record of the segment,
+ * which the segment writer uses to verify that the file still matches the segment.
+ *
+ * <p>The first byte of the file contains its version. The subsequent bytes contain a {@link
+ * SegmentIndexMetadataEncoder metadata} with the checksum of the rest of the file, and the {@link
+ * SegmentIndexEncoder index} itself, both encoded using the SBE schema.
+ */
+final class JournalSegmentIndexFile {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JournalSegmentIndexFile.class);
+  private static final byte VERSION = 1;
+  private static final int VERSION_LENGTH = Byte.BYTES;
+  private static final int METADATA_LENGTH =
+      MessageHeaderEncoder.ENCODED_LENGTH + SegmentIndexMetadataEncoder.BLOCK_LENGTH;
+  private static final int INDEX_OFFSET = VERSION_LENGTH + METADATA_LENGTH;
+
+  private final Path path;
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+  private final SegmentIndexMetadataEncoder metadataEncoder = new SegmentIndexMetadataEncoder();
+  private final SegmentIndexMetadataDecoder metadataDecoder = new SegmentIndexMetadataDecoder();
+  private final SegmentIndexEncoder indexEncoder = new SegmentIndexEncoder();
+  private final SegmentIndexDecoder indexDecoder = new SegmentIndexDecoder();
+  private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
+  // the write of the file which was submitted last, if any; written by the journal writer, but read
+  // by whoever deletes the segment
+  private volatile Future<?> pendingWrite;
+
+  JournalSegmentIndexFile(final Path path) {
+    this.path = path;
+  }
+
+  /**
+   * Writes the index entries of the given segment, replacing any previously written file. The
+   * entries are encoded right away, as the index may change afterwards, but the file is written by
+   * the given executor. Failures are only logged, since the index can always be rebuilt from the
+   * segment.
+   *
+   * @param descriptor the descriptor of the sealed segment
+   * @param index the journal index containing the entries of the segment
+   * @param lastEntry the last record of the segment
+   * @param lastPosition the position of the last record in the segment
+   * @param executor the executor which writes the file
+   */
+  void write(
+      final JournalSegmentDescriptor descriptor,
+      final JournalIndex index,
+      final JournalRecord lastEntry,
+      final int lastPosition,
+      final ExecutorService executor) {
+    final byte[] content = encode(descriptor, index, lastEntry, lastPosition);
+    cancelPendingWrite();
+    try {
+      pendingWrite = executor.submit(() -> writeContent(content));
+    } catch (final RejectedExecutionException e) {
+      LOG.debug("Skipped writing index file {}, the journal is closing", path);
+    }
+  }
+
+  private byte[] encode(
+      final JournalSegmentDescriptor descriptor,
+      final JournalIndex index,
+      final JournalRecord lastEntry,
+      final int lastPosition) {
+    final long firstIndex = descriptor.index();
+    final long lastIndex = lastEntry.index();
+    final MutableInteger entryCount = new MutableInteger();
+    index.forEach(firstIndex, lastIndex, (entryIndex, position, asqn) -> entryCount.increment());
+
+    final int indexLength =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + SegmentIndexEncoder.BLOCK_LENGTH
+            + IndexEntriesEncodingEncoder.ENCODED_LENGTH
+            + entryCount.get() * EntriesEncoder.sbeBlockLength();
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[INDEX_OFFSET + indexLength]);
+
+    buffer.putByte(0, VERSION);
+    indexEncoder
+        .wrapAndApplyHeader(buffer, INDEX_OFFSET, headerEncoder)
+        .segmentId(descriptor.id())
+        .firstIndex(firstIndex)
+        .lastIndex(lastIndex)
+        .lastPosition(lastPosition)
+        .lastChecksum(lastEntry.checksum());
+    final EntriesEncoder entriesEncoder = indexEncoder.entriesCount(entryCount.get());
+    index.forEach(
+        firstIndex,
+        lastIndex,
+        (entryIndex, position, asqn) ->
+            entriesEncoder.next().index(entryIndex).position(position).asqn(asqn));
+
+    metadataEncoder
+        .wrapAndApplyHeader(buffer, VERSION_LENGTH, headerEncoder)
+        .checksum(computeChecksum(buffer, indexLength));
+    return buffer.byteArray();
+  }
+
+  private void writeContent(final byte[] content) {
+    // the content must be durable before the file is moved in place, and the move itself must be
+    // durable, otherwise an empty or partially written file may be found after a crash
+    final Path temporaryPath = getTemporaryPath();
+    try {
+      try (final FileChannel channel =
+          FileChannel.open(
+              temporaryPath,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.TRUNCATE_EXISTING,
+              StandardOpenOption.WRITE)) {
+        final ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        channel.force(true);
+      }
+      FileUtil.moveDurably(
+          temporaryPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Failed to write index file {}, the index will be rebuilt from the segment on restart",
+          path,
+          e);
+    }
+  }
+
+  /**
+   * Restores the index entries of the given segment from the file, if it exists and is valid.
+   * Nothing is added to the index if the file is missing or invalid, and an invalid file is
+   * deleted.
+   *
+   * @param descriptor the descriptor of the segment the file belongs to
+   * @param index the journal index to add the entries to
+   * @return the last record of the segment as persisted in the file, or null if the file is missing
+   *     or invalid
+   */
+  LastEntry read(final JournalSegmentDescriptor descriptor, final JournalIndex index) {
+    final byte[] content;
+    try {
+      content = Files.readAllBytes(path);
+    } catch (final NoSuchFileException e) {
+      return null;
+    } catch (final IOException e) {
+      LOG.warn("Failed to read index file {}, will rebuild the index from the segment", path, e);
+      return null;
+    }
+
+    final UnsafeBuffer buffer = new UnsafeBuffer(content);
+    if (!isValid(buffer, descriptor)) {
+      LOG.debug("Index file {} is invalid, will rebuild the index from the segment", path);
+      delete();
+      return null;
+    }
+
+    final IndexedRecord record = new IndexedRecord();
+    for (final EntriesDecoder entry : indexDecoder.entries()) {
+      index.index(record.wrap(entry.index(), entry.asqn()), entry.position());
+    }
+
+    return new LastEntry(
+        indexDecoder.lastIndex(), indexDecoder.lastPosition(), indexDecoder.lastChecksum());
+  }
+
+  /**
+   * Deletes the file, e.g. because the segment is deleted or written to again. A pending write of
+   * the file is cancelled, or awaited if it is already in progress. The deletion is flushed to
+   * disk, such that an outdated file cannot reappear after a crash.
+   */
+  void delete() {
+    cancelPendingWrite();
+    try {
+      Files.deleteIfExists(getTemporaryPath());
+      if (Files.deleteIfExists(path)) {
+        FileUtil.flushDirectory(path.getParent());
+      }
+    } catch (final IOException e) {
+      LOG.warn(
+          "Failed to delete index file {}, it will be ignored if it doesn't match the segment",
+          path,
+          e);
+    }
+  }
+
+  boolean exists() {
+    return Files.exists(path);
+  }
+
+  Path path() {
+    return path;
+  }
+
+  private void cancelPendingWrite() {
+    final Future<?> write = pendingWrite;
+    if (write == null) {
+      return;
+    }
+
+    if (!write.cancel(false)) {
+      try {
+        write.get();
+      } catch (final ExecutionException | CancellationException e) {
+        // a failed write leaves nothing behind but the temporary file, which is deleted anyway
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    pendingWrite = null;
+  }
+
+  private boolean isValid(final UnsafeBuffer buffer, final JournalSegmentDescriptor descriptor) {
+    if (buffer.capacity() < INDEX_OFFSET + MessageHeaderDecoder.ENCODED_LENGTH
+        || buffer.getByte(0) != VERSION
+        || !hasExpectedHeader(
+            buffer, VERSION_LENGTH, metadataDecoder.sbeSchemaId(), metadataDecoder.sbeTemplateId())
+        || !hasExpectedHeader(
+            buffer, INDEX_OFFSET, indexDecoder.sbeSchemaId(), indexDecoder.sbeTemplateId())) {
+      return false;
+    }
+
+    final int indexLength = buffer.capacity() - INDEX_OFFSET;
+    metadataDecoder.wrap(
+        buffer,
+        VERSION_LENGTH + MessageHeaderDecoder.ENCODED_LENGTH,
+        SegmentIndexMetadataDecoder.BLOCK_LENGTH,
+        SegmentIndexMetadataDecoder.SCHEMA_VERSION);
+    if (metadataDecoder.checksum() != computeChecksum(buffer, indexLength)) {
+      return false;
+    }
+
+    indexDecoder.wrap(
+        buffer,
+        INDEX_OFFSET + MessageHeaderDecoder.ENCODED_LENGTH,
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+    return indexDecoder.segmentId() == descriptor.id()
+        && indexDecoder.firstIndex() == descriptor.index()
+        && indexDecoder.lastIndex() >= descriptor.index()
+        && indexDecoder.lastPosition() >= descriptor.length()
+        && indexDecoder.lastPosition() < descriptor.maxSegmentSize();
+  }
+
+  private boolean hasExpectedHeader(
+      final DirectBuffer buffer, final int offset, final int schemaId, final int templateId) {
+    headerDecoder.wrap(buffer, offset);
+    return headerDecoder.schemaId() == schemaId && headerDecoder.templateId() == templateId;
+  }
+
+  private long computeChecksum(final UnsafeBuffer buffer, final int indexLength) {
+    return checksumGenerator.compute(
+        ByteBuffer.wrap(buffer.byteArray()), INDEX_OFFSET, indexLength);
+  }
+
+  private Path getTemporaryPath() {
+    return path.resolveSibling(path.getFileName() + ".tmp");
+  }
+
+  /** The last record of a segment, as persisted in the index file. */
+  static final class LastEntry {
+    private final long index;
+    private final int position;
+    private final long checksum;
+
+    private LastEntry(final long index, final int position, final long checksum) {
+      this.index = index;
+      this.position = position;
+      this.checksum = checksum;
+    }
+
+    long index() {
+      return index;
+    }
+
+    int position() {
+      return position;
+    }
+
+    long checksum() {
+      return checksum;
+    }
+  }
+
+  /** Exposes a persisted index entry as a record, so it can be added to the journal index. */
+  private static final class IndexedRecord implements JournalRecord {
+    private long index;
+    private long asqn;
+
+    private IndexedRecord wrap(final long index, final long asqn) {
+      this.index = index;
+      this.asqn = asqn;
+      return this;
+    }
+
+    @Override
+    public long index() {
+      return index;
+    }
+
+    @Override
+    public long asqn() {
+      return asqn;
+    }
+
+    @Override
+    public long checksum() {
+      return 0;
+    }
+
+    @Override
+    public DirectBuffer data() {
+      return null;
+    }
+  }
+}
@@ -20,6 +20,7 @@ import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.journal.JournalException.SegmentFull;
 import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.file.JournalSegmentIndexFile.LastEntry;
 import io.camunda.zeebe.journal.file.record.CorruptedLogException;
 import io.camunda.zeebe.journal.file.record.JournalRecordReaderUtil;
 import io.camunda.zeebe.journal.file.record.JournalRecordSerializer;
@@ -42,6 +43,7 @@ class MappedJournalSegmentWriter {
   private final JournalIndex index;
   private final long firstIndex;
   private JournalRecord lastEntry;
+  private int lastEntryPosition;
   private boolean isOpen = true;
   private final JournalRecordReaderUtil recordUtil;
   private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
@@ -53,7 +55,8 @@ class MappedJournalSegmentWriter {
       final MappedByteBuffer buffer,
       final JournalSegment segment,
       final JournalIndex index,
-      final long lastWrittenIndex) {
+      final long lastWrittenIndex,
+      final boolean restoreIndex) {
     this.segment = segment;
     descriptorLength = segment.descriptor().length();
     recordUtil = new JournalRecordReaderUtil(serializer);
@@ -61,6 +64,12 @@ class MappedJournalSegmentWriter {
     firstIndex = segment.index();
     this.buffer = buffer;
     writeBuffer.wrap(buffer);
+    if (restoreIndex && restoreFromIndexFile(lastWrittenIndex)) {
+      return;
+    }
+
+    // an index file of a segment which may still be written to can't be trusted
+    segment.indexFile().delete();
     reset(0, lastWrittenIndex);
   }
 
@@ -72,6 +81,10 @@ class MappedJournalSegmentWriter {
     return lastEntry;
   }
 
+  int getLastEntryPosition() {
+    return lastEntryPosition;
+  }
+
   public long getNextIndex() {
     if (lastEntry != null) {
       return lastEntry.index() + 1;
@@ -165,6 +178,7 @@ class MappedJournalSegmentWriter {
         serializer.readData(
             writeBuffer, startPosition + frameLength + metadataLength, recordLength);
     lastEntry = new PersistedJournalRecord(metadata, data);
+    lastEntryPosition = startPosition;
     index.index(lastEntry, startPosition);
   }
 
@@ -194,6 +208,67 @@ class MappedJournalSegmentWriter {
     FrameUtil.markAsIgnored(buffer, position);
   }
 
+  /**
+   * Restores the index and the last entry of a sealed segment from its index file, without reading
+   * the whole segment. The file is only used if all entries of the segment were acknowledged as
+   * written, and if the first entry of the segment and the last entry it refers to are intact, and
+   * the latter is still the last entry of the segment; otherwise, the restored index entries are
+   * removed again and the segment is read as a whole, which also truncates partially written
+   * entries.
+   *
+   * @return true if the segment was restored from the index file, false otherwise
+   */
+  private boolean restoreFromIndexFile(final long lastWrittenIndex) {
+    final var indexFile = segment.indexFile();
+    final var persistedLastEntry = indexFile.read(segment.descriptor(), index);
+    if (persistedLastEntry == null) {
+      return false;
+    }
+
+    try {
+      if (persistedLastEntry.index() <= lastWrittenIndex
+          && isFirstEntryValid()
+          && restoreLastEntry(persistedLastEntry)) {
+        return true;
+      }
+    } catch (final BufferUnderflowException | CorruptedLogException | InvalidIndex e) {
+      // the index file doesn't match the segment, fall through and rebuild the index
+    }
+
+    index.deleteAfter(firstIndex - 1);
+    return false;
+  }
+
+  private boolean isFirstEntryValid() {
+    buffer.position(descriptorLength);
+    if (!FrameUtil.hasValidVersion(buffer)) {
+      return false;
+    }
+
+    FrameUtil.readVersion(buffer);
+    // verifies the checksum of the entry
+    recordUtil.read(buffer, firstIndex);
+    return true;
+  }
+
+  private boolean restoreLastEntry(final LastEntry persistedLastEntry) {
+    buffer.position(persistedLastEntry.position());
+    if (!FrameUtil.hasValidVersion(buffer)) {
+      return false;
+    }
+
+    FrameUtil.readVersion(buffer);
+    // verifies the checksum of the entry
+    final var record = recordUtil.read(buffer, persistedLastEntry.index());
+    if (record.checksum() != persistedLastEntry.checksum() || FrameUtil.hasValidVersion(buffer)) {
+      return false;
+    }
+
+    lastEntry = record;
+    lastEntryPosition = persistedLastEntry.position();
+    return true;
+  }
+
   private void reset(final long index) {
     reset(index, -1);
   }
@@ -211,6 +286,7 @@ class MappedJournalSegmentWriter {
         FrameUtil.readVersion(buffer);
         lastEntry = recordUtil.read(buffer, nextIndex);
         nextIndex++;
+        lastEntryPosition = position;
         this.index.index(lastEntry, position);
         buffer.mark();
         position = buffer.position();
@@ -246,6 +322,9 @@ class MappedJournalSegmentWriter {
       return;
     }
 
+    // The segment is written to again, so its persisted index is outdated.
+    segment.indexFile().delete();
+
     // Reset the last entry.
     lastEntry = null;
 
@@ -0,0 +1,178 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.agrona.IoUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Prepares the file of the next segment in the background, such that rolling over to a new segment
+ * doesn't have to create, allocate and map a file on the writer's thread.
+ *
+ * <p>The file is prepared under a name which is not recognized as a segment file, as the id and the
+ * first index of the next segment are only known when rolling over. It is filled with zeroes up to
+ * the max segment size, which makes the file system allocate its blocks upfront, and flushed, such
+ * that writing the descriptor is the only thing left to flush when the file is taken over.
+ *
+ * <p>Preparing the file is only an optimization: if it is not ready yet when the journal rolls
+ * over, or it failed, the segment is created synchronously as before.
+ */
+final class SegmentPreallocator implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentPreallocator.class);
+  private static final String EXTENSION = ".log.prealloc";
+  private static final int FILL_CHUNK_SIZE = 1024 * 1024;
+
+  private final Path path;
+  private final int maxSegmentSize;
+  private final ExecutorService executor;
+  private Future<MappedByteBuffer> nextSegment;
+
+  SegmentPreallocator(final String name, final File directory, final int maxSegmentSize) {
+    path = getPreallocatedFile(name, directory);
+    this.maxSegmentSize = maxSegmentSize;
+    executor =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              final Thread thread = new Thread(runnable, name + "-segment-preallocator");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /** Returns the path of the prepared file of the journal with the given name. */
+  static Path getPreallocatedFile(final String name, final File directory) {
+    return directory.toPath().resolve(name + EXTENSION);
+  }
+
+  /** Starts preparing the next segment file in the background, unless one is already prepared. */
+  void preallocate() {
+    if (nextSegment == null) {
+      nextSegment = executor.submit(this::allocate);
+    }
+  }
+
+  /** Returns true if a prepared file is ready to be taken over. */
+  boolean isReady() {
+    return nextSegment != null && nextSegment.isDone() && !nextSegment.isCancelled();
+  }
+
+  /**
+   * Takes over the prepared file as the given segment file, if it is ready. Never blocks on a
+   * preparation which is still in progress.
+   *
+   * @param segmentFile the file of the new segment
+   * @return the mapped buffer of the prepared file, now located at the given segment file, or null
+   *     if no file is ready to be taken over
+   */
+  MappedByteBuffer take(final File segmentFile) {
+    if (nextSegment == null || !nextSegment.isDone() || segmentFile.exists()) {
+      return null;
+    }
+
+    final MappedByteBuffer buffer;
+    try {
+      buffer = nextSegment.get();
+    } catch (final ExecutionException | CancellationException e) {
+      LOG.warn("Failed to preallocate segment file {}, will create it on demand", path, e);
+      nextSegment = null;
+      return null;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    }
+
+    try {
+      Files.move(path, segmentFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      LOG.warn("Failed to move preallocated file {} to {}", path, segmentFile, e);
+      IoUtil.unmap(buffer);
+      nextSegment = null;
+      return null;
+    }
+
+    nextSegment = null;
+    return buffer;
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+    try {
+      if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+        LOG.warn("Segment preallocation did not stop in time, {} may remain on disk", path);
+        return;
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+
+    if (nextSegment != null && nextSegment.isDone()) {
+      try {
+        IoUtil.unmap(nextSegment.get());
+      } catch (final ExecutionException | CancellationException e) {
+        // nothing was mapped
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    nextSegment = null;
+
+    try {
+      Files.deleteIfExists(path);
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete preallocated segment file {}", path, e);
+    }
+  }
+
+  private MappedByteBuffer allocate() throws IOException {
+    try (final FileChannel channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE)) {
+      final ByteBuffer zeroes = ByteBuffer.allocate(Math.min(FILL_CHUNK_SIZE, maxSegmentSize));
+      long position = 0;
+      while (position < maxSegmentSize && !Thread.currentThread().isInterrupted()) {
+        zeroes.clear().limit((int) Math.min(zeroes.capacity(), maxSegmentSize - position));
+        position += channel.write(zeroes, position);
+      }
+
+      channel.force(true);
+      return channel.map(MapMode.READ_WRITE, 0, maxSegmentSize);
+    }
+  }
+}
@@ -51,6 +51,9 @@ import java.util.NavigableMap;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.StampedLock;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
@@ -77,6 +80,9 @@ public final class SegmentedJournal implements Journal {
   private final SegmentedJournalWriter writer;
   private final long lastWrittenIndex;
   private final StampedLock rwlock = new StampedLock();
+  private final SegmentPreallocator preallocator;
+  // writes the index files of sealed segments, such that rolling over doesn't wait for them
+  private final ExecutorService indexFileWriter;
 
   public SegmentedJournal(
       final String name,
@@ -84,7 +90,8 @@ public final class SegmentedJournal implements Journal {
       final int maxSegmentSize,
       final long minFreeSpace,
       final JournalIndex journalIndex,
-      final long lastWrittenIndex) {
+      final long lastWrittenIndex,
+      final boolean preallocateSegments) {
     this.name = checkNotNull(name, "name cannot be null");
     this.directory = checkNotNull(directory, "directory cannot be null");
     this.maxSegmentSize = maxSegmentSize;
@@ -92,6 +99,15 @@ public final class SegmentedJournal implements Journal {
     minFreeDiskSpace = minFreeSpace;
     this.journalIndex = journalIndex;
     this.lastWrittenIndex = lastWrittenIndex;
+    preallocator =
+        preallocateSegments ? new SegmentPreallocator(name, directory, maxSegmentSize) : null;
+    indexFileWriter =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              final Thread thread = new Thread(runnable, name + "-segment-index-writer");
+              thread.setDaemon(true);
+              return thread;
+            });
     open();
     writer = new SegmentedJournalWriter(this);
   }
@@ -227,6 +243,11 @@ public final class SegmentedJournal implements Journal {
 
   @Override
   public void close() {
+    if (preallocator != null) {
+      preallocator.close();
+    }
+    closeIndexFileWriter();
+
     segments
         .values()
         .forEach(
@@ -250,6 +271,7 @@ public final class SegmentedJournal implements Journal {
     // If a segment doesn't already exist, create an initial segment starting at index 1.
     if (!segments.isEmpty()) {
       currentSegment = segments.lastEntry().getValue();
+      persistMissingSegmentIndexes();
     } else {
       final JournalSegmentDescriptor descriptor =
           JournalSegmentDescriptor.builder()
@@ -270,6 +292,39 @@ public final class SegmentedJournal implements Journal {
     // node was stopped. It is safe to delete it now since there are no readers opened for these
     // segments.
     deleteDeferredFiles();
+    preallocateNextSegment();
+  }
+
+  /**
+   * Persists the index of all sealed segments which were loaded without an index file, e.g. because
+   * they were written by an older version, such that they don't have to be read again on the next
+   * restart.
+   */
+  private void persistMissingSegmentIndexes() {
+    for (final JournalSegment segment : segments.headMap(currentSegment.index()).values()) {
+      if (!segment.indexFile().exists()) {
+        // the index file must only refer to entries which are flushed
+        segment.writer().flush();
+        persistIndex(segment);
+      }
+    }
+  }
+
+  /**
+   * Lets the pending index files be written, such that the index doesn't have to be rebuilt after a
+   * regular restart, but doesn't wait for them indefinitely.
+   */
+  private void closeIndexFileWriter() {
+    indexFileWriter.shutdown();
+    try {
+      if (!indexFileWriter.awaitTermination(5, TimeUnit.SECONDS)) {
+        log.warn("Index files of sealed segments were not written in time, will rebuild them");
+        indexFileWriter.shutdownNow();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      indexFileWriter.shutdownNow();
+    }
   }
 
   /**
@@ -385,13 +440,48 @@ public final class SegmentedJournal implements Journal {
             .withMaxSegmentSize(maxSegmentSize)
             .build();
 
-    currentSegment = createSegment(descriptor);
+    currentSegment = createNextSegment(descriptor);
 
     segments.put(descriptor.index(), currentSegment);
     journalMetrics.incSegmentCount();
+    preallocateNextSegment();
     return currentSegment;
   }
 
+  /**
+   * Persists the index of the given sealed segment in the background. The segment must be flushed
+   * already, since the index file must only refer to entries which are on disk.
+   *
+   * @param segment the sealed segment
+   */
+  void persistIndex(final JournalSegment segment) {
+    segment.persistIndex(indexFileWriter);
+  }
+
+  /**
+   * Creates the next segment, taking over the preallocated segment file if it is ready, such that
+   * rolling over only has to write and flush the descriptor.
+   */
+  private JournalSegment createNextSegment(final JournalSegmentDescriptor descriptor) {
+    final var segmentFile = JournalSegmentFile.createSegmentFile(name, directory, descriptor.id());
+    final MappedByteBuffer preallocatedSegment =
+        preallocator != null ? preallocator.take(segmentFile) : null;
+    if (preallocatedSegment == null) {
+      journalMetrics.observeSegmentAllocation(false);
+      return createSegment(descriptor);
+    }
+
+    journalMetrics.observeSegmentAllocation(true);
+    preallocatedSegment.order(ENDIANNESS);
+    return initializeSegment(segmentFile, preallocatedSegment, descriptor);
+  }
+
+  private void preallocateNextSegment() {
+    if (preallocator != null) {
+      preallocator.preallocate();
+    }
+  }
+
   /**
    * Returns the segment following the segment with the given ID.
    *
@@ -453,7 +543,9 @@ public final class SegmentedJournal implements Journal {
 
       try {
         log.debug("Found segment file: {}", file.getName());
-        final JournalSegment segment = loadExistingSegment(file);
+        // only sealed segments can be restored from their index file, the last one may still have
+        // been written to after its index was persisted
+        final JournalSegment segment = loadExistingSegment(file, i < files.size() - 1);
 
         if (i > 0) {
           checkForIndexGaps(segments.get(i - 1), segment);
@@ -504,6 +596,7 @@ public final class SegmentedJournal implements Journal {
     for (int i = failedIndex; i < files.size(); i++) {
       final File file = files.get(i);
       try {
+        Files.deleteIfExists(new JournalSegmentFile(file).getIndexFile());
         Files.delete(file.toPath());
       } catch (final IOException e) {
         throw new JournalException(
@@ -657,6 +750,13 @@ public final class SegmentedJournal implements Journal {
       throw new JournalException(String.format("Failed to map new segment %s", segmentFile), e);
     }
 
+    return initializeSegment(segmentFile, mappedSegment, descriptor);
+  }
+
+  private JournalSegment initializeSegment(
+      final File segmentFile,
+      final MappedByteBuffer mappedSegment,
+      final JournalSegmentDescriptor descriptor) {
     try {
       descriptor.copyTo(mappedSegment);
       mappedSegment.force();
@@ -679,10 +779,10 @@ public final class SegmentedJournal implements Journal {
           e);
     }
 
-    return loadSegment(segmentFile, mappedSegment, descriptor);
+    return loadSegment(segmentFile, mappedSegment, descriptor, false);
   }
 
-  private JournalSegment loadExistingSegment(final File segmentFile) {
+  private JournalSegment loadExistingSegment(final File segmentFile, final boolean sealed) {
     final var descriptor = readDescriptor(segmentFile);
     final MappedByteBuffer mappedSegment;
 
@@ -693,13 +793,17 @@ public final class SegmentedJournal implements Journal {
           String.format("Failed to load existing segment %s", segmentFile), e);
     }
 
-    return loadSegment(segmentFile, mappedSegment, descriptor);
+    return loadSegment(segmentFile, mappedSegment, descriptor, sealed);
   }
 
   private JournalSegment loadSegment(
-      final File file, final MappedByteBuffer buffer, final JournalSegmentDescriptor descriptor) {
+      final File file,
+      final MappedByteBuffer buffer,
+      final JournalSegmentDescriptor descriptor,
+      final boolean sealed) {
     final JournalSegmentFile segmentFile = new JournalSegmentFile(file);
-    return new JournalSegment(segmentFile, descriptor, buffer, lastWrittenIndex, journalIndex);
+    return new JournalSegment(
+        segmentFile, descriptor, buffer, lastWrittenIndex, journalIndex, sealed);
   }
 
   private MappedByteBuffer mapNewSegment(
@@ -37,6 +37,7 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private long lastWrittenIndex = -1L;
+  private boolean preallocateSegments = false;
 
   protected SegmentedJournalBuilder() {}
 
@@ -128,9 +129,28 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the file of the next segment is prepared in the background, such that rolling over
+   * to a new segment does not have to create and allocate the file. Disabled by default, as it
+   * starts a background thread per journal which only stops when the journal is closed.
+   *
+   * @param preallocateSegments true to prepare the next segment file in the background
+   * @return the journal builder
+   */
+  public SegmentedJournalBuilder withSegmentPreallocation(final boolean preallocateSegments) {
+    this.preallocateSegments = preallocateSegments;
+    return this;
+  }
+
   public SegmentedJournal build() {
     final JournalIndex journalIndex = new SparseJournalIndex(journalIndexDensity);
     return new SegmentedJournal(
-        name, directory, maxSegmentSize, freeDiskSpace, journalIndex, lastWrittenIndex);
+        name,
+        directory,
+        maxSegmentSize,
+        freeDiskSpace,
+        journalIndex,
+        lastWrittenIndex,
+        preallocateSegments);
   }
 }
@@ -26,6 +26,13 @@ class SegmentedJournalWriter {
   private JournalSegment currentSegment;
   private MappedJournalSegmentWriter currentWriter;
 
+  // tracks what was written since the last flush, such that flushing a batch of appends at once
+  // only forces the segment once, and redundant flushes are skipped; we start dirty as the segment
+  // may contain records which were written before the journal was opened but never flushed
+  private boolean dirty = true;
+  private int unflushedRecords;
+  private long firstUnflushedAppendNanos;
+
   public SegmentedJournalWriter(final SegmentedJournal journal) {
     this.journal = journal;
     journalMetrics = journal.getJournalMetrics();
@@ -48,6 +55,7 @@ class SegmentedJournalWriter {
   public JournalRecord append(final long asqn, final DirectBuffer data) {
     final var appendResult = currentWriter.append(asqn, data);
     if (appendResult.isRight()) {
+      onAppended();
       return appendResult.get();
     }
 
@@ -60,12 +68,14 @@ class SegmentedJournalWriter {
     if (appendResultOnNewSegment.isLeft()) {
       throw appendResultOnNewSegment.getLeft();
     }
+    onAppended();
     return appendResultOnNewSegment.get();
   }
 
   public void append(final JournalRecord record) {
     final var appendResult = currentWriter.append(record);
     if (appendResult.isRight()) {
+      onAppended();
       return;
     }
 
@@ -78,11 +88,13 @@ class SegmentedJournalWriter {
     if (resultInNewSegment.isLeft()) {
       throw resultInNewSegment.getLeft();
     }
+    onAppended();
   }
 
   public void reset(final long index) {
     currentSegment = journal.resetSegments(index);
     currentWriter = currentSegment.writer();
+    dirty = true;
   }
 
   public void deleteAfter(final long index) {
@@ -95,18 +107,39 @@ class SegmentedJournalWriter {
 
     // Truncate the current index.
     currentWriter.truncate(index);
+    dirty = true;
   }
 
   public void flush() {
+    if (!dirty) {
+      return;
+    }
+
     journalMetrics.observeSegmentFlush(currentWriter::flush);
+    if (unflushedRecords > 0) {
+      journalMetrics.observeCommit(unflushedRecords, System.nanoTime() - firstUnflushedAppendNanos);
+    }
+
+    dirty = false;
+    unflushedRecords = 0;
   }
 
   public void close() {
     currentWriter.close();
   }
 
+  private void onAppended() {
+    if (unflushedRecords == 0) {
+      firstUnflushedAppendNanos = System.nanoTime();
+    }
+
+    unflushedRecords++;
+    dirty = true;
+  }
+
   private void createNewSegment() {
     currentWriter.flush();
+    journal.persistIndex(currentSegment);
     currentSegment = journal.getNextSegment();
     currentWriter = currentSegment.writer();
   }
@@ -16,17 +16,28 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.Arrays;
 
+/**
+ * Indexes every {@code density}-th record of the journal. The entries are kept in primitive arrays
+ * sorted by index, which is the order in which records are appended, so indexing a record is an
+ * array store (with an occasional growth of the arrays) and lookups are binary searches.
+ *
+ * <p>Records are indexed by the single writer without holding the journal lock, while readers may
+ * look up concurrently. The arrays are therefore filled before the new size is published, and a
+ * lookup only considers the entries up to the size it read. Truncating or compacting the index is
+ * only done while holding the journal's write lock.
+ */
 class SparseJournalIndex implements JournalIndex {
 
+  private static final int INITIAL_CAPACITY = 64;
+
   private final int density;
-  private final TreeMap<Long, Integer> indexToPosition = new TreeMap<>();
-  private final TreeMap<Long, Long> asqnToIndex = new TreeMap<>();
-  // This is added to make deleteAfter and deleteUntil easier.
-  // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
-  private final TreeMap<Long, Long> indexToAsqn = new TreeMap<>();
+  // position of every indexed record
+  private final IndexTable indexToPosition = new IndexTable();
+  // asqn of the indexed records which have one; since the asqn grows with the index, these are
+  // sorted by asqn as well
+  private final IndexTable indexToAsqn = new IndexTable();
 
   public SparseJournalIndex(final int density) {
     this.density = density;
@@ -39,7 +50,6 @@ class SparseJournalIndex implements JournalIndex {
       indexToPosition.put(index, position);
       final long asqn = indexedEntry.asqn();
       if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
         indexToAsqn.put(index, asqn);
       }
     }
@@ -47,8 +57,11 @@ class SparseJournalIndex implements JournalIndex {
 
   @Override
   public IndexInfo lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    final int size = indexToPosition.size;
+    final int slot = indexToPosition.floorIndex(index, size);
+    return slot >= 0
+        ? new IndexInfo(indexToPosition.indexes[slot], (int) indexToPosition.values[slot])
+        : null;
   }
 
   @Override
@@ -58,12 +71,15 @@ class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Long lookupAsqn(final long asqn, final long indexUpperBound) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    if (entry != null) {
-      if (entry.getValue() <= indexUpperBound) {
-        return entry.getValue();
+    final int size = indexToAsqn.size;
+    final int slot = indexToAsqn.floorValue(asqn, size);
+    if (slot >= 0) {
+      final long index = indexToAsqn.indexes[slot];
+      if (index <= indexUpperBound) {
+        return index;
       } else {
-        return indexToAsqn.floorKey(indexUpperBound);
+        final int boundSlot = indexToAsqn.floorIndex(indexUpperBound, size);
+        return boundSlot >= 0 ? indexToAsqn.indexes[boundSlot] : null;
       }
     }
     return null;
@@ -71,25 +87,17 @@ class SparseJournalIndex implements JournalIndex {
 
   @Override
   public void deleteAfter(final long index) {
-    indexToPosition.tailMap(index, false).clear();
-    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.tailMap(index, false).clear();
-      final boolean include = asqnEntryToDelete.getKey() > index;
-      asqnToIndex.tailMap(asqnToDelete, include).clear();
-    }
+    indexToPosition.deleteAfter(index);
+    indexToAsqn.deleteAfter(index);
   }
 
   @Override
   public void deleteUntil(final long index) {
-    indexToPosition.headMap(index, false).clear();
-
-    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.headMap(index, false).clear();
-      asqnToIndex.headMap(asqnToDelete, false).clear();
+    indexToPosition.deleteUntil(indexToPosition.floorIndex(index - 1, indexToPosition.size) + 1);
+    // keep the asqn of the closest lower entry, so that asqn lookups still resolve to it
+    final int asqnSlot = indexToAsqn.floorIndex(index, indexToAsqn.size);
+    if (asqnSlot > 0) {
+      indexToAsqn.deleteUntil(asqnSlot);
     }
   }
 
@@ -97,6 +105,104 @@ class SparseJournalIndex implements JournalIndex {
   public void clear() {
     indexToPosition.clear();
     indexToAsqn.clear();
-    asqnToIndex.clear();
+  }
+
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final IndexedEntryVisitor visitor) {
+    final int size = indexToPosition.size;
+    final int asqnSize = indexToAsqn.size;
+    int asqnSlot = indexToAsqn.floorIndex(fromIndex - 1, asqnSize) + 1;
+
+    for (int slot = indexToPosition.floorIndex(fromIndex - 1, size) + 1; slot < size; slot++) {
+      final long index = indexToPosition.indexes[slot];
+      if (index > toIndex) {
+        break;
+      }
+
+      while (asqnSlot < asqnSize && indexToAsqn.indexes[asqnSlot] < index) {
+        asqnSlot++;
+      }
+      final long asqn =
+          asqnSlot < asqnSize && indexToAsqn.indexes[asqnSlot] == index
+              ? indexToAsqn.values[asqnSlot]
+              : SegmentedJournal.ASQN_IGNORE;
+      visitor.visit(index, (int) indexToPosition.values[slot], asqn);
+    }
+  }
+
+  /** Maps record indexes to a long value, using two parallel arrays sorted by index. */
+  private static final class IndexTable {
+    private long[] indexes = new long[INITIAL_CAPACITY];
+    private long[] values = new long[INITIAL_CAPACITY];
+    // written after the arrays were updated, which makes new entries visible to readers
+    private volatile int size;
+
+    private void put(final long index, final long value) {
+      final int currentSize = size;
+      if (currentSize == 0 || indexes[currentSize - 1] < index) {
+        ensureCapacity(currentSize + 1);
+        indexes[currentSize] = index;
+        values[currentSize] = value;
+        size = currentSize + 1;
+        return;
+      }
+
+      // only happens when re-indexing after the journal was reset or truncated
+      final int slot = Arrays.binarySearch(indexes, 0, currentSize, index);
+      if (slot >= 0) {
+        values[slot] = value;
+      } else {
+        final int insertionPoint = -(slot + 1);
+        ensureCapacity(currentSize + 1);
+        System.arraycopy(
+            indexes, insertionPoint, indexes, insertionPoint + 1, currentSize - insertionPoint);
+        System.arraycopy(
+            values, insertionPoint, values, insertionPoint + 1, currentSize - insertionPoint);
+        indexes[insertionPoint] = index;
+        values[insertionPoint] = value;
+        size = currentSize + 1;
+      }
+    }
+
+    /** Returns the slot of the greatest index less than or equal to the given one, or -1. */
+    private int floorIndex(final long index, final int size) {
+      return floor(Arrays.binarySearch(indexes, 0, size, index));
+    }
+
+    /** Returns the slot of the greatest value less than or equal to the given one, or -1. */
+    private int floorValue(final long value, final int size) {
+      return floor(Arrays.binarySearch(values, 0, size, value));
+    }
+
+    private int floor(final int searchResult) {
+      return searchResult >= 0 ? searchResult : -(searchResult + 1) - 1;
+    }
+
+    private void deleteAfter(final long index) {
+      size = floorIndex(index, size) + 1;
+    }
+
+    private void deleteUntil(final int slot) {
+      final int remaining = size - slot;
+      if (slot <= 0 || remaining < 0) {
+        return;
+      }
+
+      System.arraycopy(indexes, slot, indexes, 0, remaining);
+      System.arraycopy(values, slot, values, 0, remaining);
+      size = remaining;
+    }
+
+    private void clear() {
+      size = 0;
+    }
+
+    private void ensureCapacity(final int capacity) {
+      if (capacity > indexes.length) {
+        final int newCapacity = Math.max(capacity, indexes.length << 1);
+        indexes = Arrays.copyOf(indexes, newCapacity);
+        values = Arrays.copyOf(values, newCapacity);
+      }
+    }
   }
 }
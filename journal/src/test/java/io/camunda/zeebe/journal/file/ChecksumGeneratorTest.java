@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32C;
+import org.junit.jupiter.api.Test;
+
+class ChecksumGeneratorTest {
+
+  private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
+
+  @Test
+  void shouldComputeChecksumOfRegion() {
+    // given
+    final ByteBuffer buffer = randomBuffer(ByteBuffer.allocateDirect(1024));
+
+    // when
+    final long checksum = checksumGenerator.compute(buffer, 100, 200);
+
+    // then
+    assertThat(checksum).isEqualTo(expectedChecksum(buffer, 100, 200));
+  }
+
+  @Test
+  void shouldNotChangePositionAndLimitOfBuffer() {
+    // given
+    final ByteBuffer buffer = randomBuffer(ByteBuffer.allocate(1024));
+    buffer.position(10).limit(20);
+
+    // when
+    checksumGenerator.compute(buffer, 100, 200);
+
+    // then
+    assertThat(buffer.position()).isEqualTo(10);
+    assertThat(buffer.limit()).isEqualTo(20);
+  }
+
+  @Test
+  void shouldComputeChecksumOfSubsequentRegionsAndBuffers() {
+    // given
+    final ByteBuffer buffer = randomBuffer(ByteBuffer.allocateDirect(1024));
+    final ByteBuffer otherBuffer = randomBuffer(ByteBuffer.allocate(1024));
+
+    // when
+    final long first = checksumGenerator.compute(buffer, 0, 512);
+    final long second = checksumGenerator.compute(buffer, 512, 512);
+    final long other = checksumGenerator.compute(otherBuffer, 512, 512);
+
+    // then
+    assertThat(first).isEqualTo(expectedChecksum(buffer, 0, 512));
+    assertThat(second).isEqualTo(expectedChecksum(buffer, 512, 512));
+    assertThat(other).isEqualTo(expectedChecksum(otherBuffer, 512, 512));
+  }
+
+  @Test
+  void shouldSeeUpdatedContentOfSameBuffer() {
+    // given
+    final ByteBuffer buffer = randomBuffer(ByteBuffer.allocateDirect(1024));
+    final long checksum = checksumGenerator.compute(buffer, 0, 128);
+
+    // when
+    buffer.put(64, (byte) (buffer.get(64) + 1));
+
+    // then
+    assertThat(checksumGenerator.compute(buffer, 0, 128))
+        .isNotEqualTo(checksum)
+        .isEqualTo(expectedChecksum(buffer, 0, 128));
+  }
+
+  private ByteBuffer randomBuffer(final ByteBuffer buffer) {
+    final byte[] bytes = new byte[buffer.capacity()];
+    ThreadLocalRandom.current().nextBytes(bytes);
+    buffer.put(bytes).clear();
+    return buffer;
+  }
+
+  private long expectedChecksum(final ByteBuffer buffer, final int offset, final int length) {
+    final byte[] bytes = new byte[length];
+    buffer.duplicate().position(offset).get(bytes);
+    final CRC32C crc32 = new CRC32C();
+    crc32.update(bytes);
+    return crc32.getValue();
+  }
+}
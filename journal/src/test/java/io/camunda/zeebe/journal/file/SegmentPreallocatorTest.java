@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.agrona.IoUtil;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SegmentPreallocatorTest {
+  private static final String JOURNAL_NAME = "journal";
+  private static final int MAX_SEGMENT_SIZE = 4 * 1024 * 1024 + 123;
+
+  @TempDir Path directory;
+  private SegmentPreallocator preallocator;
+
+  @BeforeEach
+  void setUp() {
+    preallocator = new SegmentPreallocator(JOURNAL_NAME, directory.toFile(), MAX_SEGMENT_SIZE);
+  }
+
+  @AfterEach
+  void tearDown() {
+    preallocator.close();
+  }
+
+  @Test
+  void shouldPreallocateFileOfMaxSegmentSize() throws Exception {
+    // when
+    preallocator.preallocate();
+    awaitReady();
+
+    // then
+    final Path preallocatedFile =
+        SegmentPreallocator.getPreallocatedFile(JOURNAL_NAME, directory.toFile());
+    assertThat(Files.size(preallocatedFile)).isEqualTo(MAX_SEGMENT_SIZE);
+    assertThat(JournalSegmentFile.isSegmentFile(JOURNAL_NAME, preallocatedFile.toFile())).isFalse();
+  }
+
+  @Test
+  void shouldTakeOverPreallocatedFile() {
+    // given
+    final File segmentFile =
+        JournalSegmentFile.createSegmentFile(JOURNAL_NAME, directory.toFile(), 2);
+    preallocator.preallocate();
+    awaitReady();
+
+    // when
+    final MappedByteBuffer buffer = preallocator.take(segmentFile);
+
+    // then
+    assertThat(buffer).isNotNull();
+    assertThat(buffer.capacity()).isEqualTo(MAX_SEGMENT_SIZE);
+    assertThat(segmentFile).exists().hasSize(MAX_SEGMENT_SIZE);
+    assertThat(SegmentPreallocator.getPreallocatedFile(JOURNAL_NAME, directory.toFile()))
+        .doesNotExist();
+    assertThat(preallocator.isReady()).isFalse();
+    IoUtil.unmap(buffer);
+  }
+
+  @Test
+  void shouldNotTakeOverIfNothingIsPreallocated() {
+    // given
+    final File segmentFile =
+        JournalSegmentFile.createSegmentFile(JOURNAL_NAME, directory.toFile(), 2);
+
+    // when
+    final MappedByteBuffer buffer = preallocator.take(segmentFile);
+
+    // then
+    assertThat(buffer).isNull();
+    assertThat(segmentFile).doesNotExist();
+  }
+
+  @Test
+  void shouldNotOverwriteExistingSegmentFile() throws Exception {
+    // given
+    final File segmentFile =
+        JournalSegmentFile.createSegmentFile(JOURNAL_NAME, directory.toFile(), 2);
+    Files.write(segmentFile.toPath(), new byte[] {1, 2, 3});
+    preallocator.preallocate();
+    awaitReady();
+
+    // when
+    final MappedByteBuffer buffer = preallocator.take(segmentFile);
+
+    // then
+    assertThat(buffer).isNull();
+    assertThat(segmentFile).hasBinaryContent(new byte[] {1, 2, 3});
+    assertThat(preallocator.isReady()).isTrue();
+  }
+
+  @Test
+  void shouldDeletePreallocatedFileOnClose() {
+    // given
+    preallocator.preallocate();
+    awaitReady();
+
+    // when
+    preallocator.close();
+
+    // then
+    assertThat(SegmentPreallocator.getPreallocatedFile(JOURNAL_NAME, directory.toFile()))
+        .doesNotExist();
+  }
+
+  private void awaitReady() {
+    Awaitility.await("until the segment file is preallocated")
+        .atMost(Duration.ofSeconds(30))
+        .until(preallocator::isReady);
+  }
+}
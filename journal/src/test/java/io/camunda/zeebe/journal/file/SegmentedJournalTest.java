@@ -24,14 +24,22 @@ import io.camunda.zeebe.journal.file.record.CorruptedLogException;
 import io.camunda.zeebe.journal.file.record.RecordData;
 import io.camunda.zeebe.journal.file.record.SBESerializer;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -42,6 +50,13 @@ class SegmentedJournalTest {
   private final int journalIndexDensity = 1;
   private final DirectBuffer data = new UnsafeBuffer("test".getBytes(StandardCharsets.UTF_8));
   private final int entrySize = getSerializedSize(data);
+  private final List<SegmentedJournal> openedJournals = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() {
+    // stop the segment preallocation before the directory is deleted
+    openedJournals.stream().filter(SegmentedJournal::isOpen).forEach(SegmentedJournal::close);
+  }
 
   @Test
   void shouldDeleteIndexMappingsOnReset() {
@@ -650,18 +665,334 @@ class SegmentedJournalTest {
     assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
   }
 
+  @Test
+  void shouldPersistIndexOfSealedSegments() {
+    // given
+    final int entriesPerSegment = 10;
+    final SegmentedJournal journal = openJournal(entriesPerSegment);
+
+    // when
+    for (int i = 0; i < 3 * entriesPerSegment; i++) {
+      journal.append(i + 1, data);
+    }
+
+    // then
+    final var firstSegment = journal.getFirstSegment();
+    final var secondSegment = journal.getNextSegment(firstSegment.index());
+    assertThat(journal.getNextSegment(secondSegment.index())).isEqualTo(journal.getLastSegment());
+    awaitIndexFile(firstSegment);
+    awaitIndexFile(secondSegment);
+    assertThat(journal.getLastSegment().indexFile().exists()).isFalse();
+  }
+
+  @Test
+  void shouldRestoreIndexFromIndexFilesAfterRestart() {
+    // given
+    final int entriesPerSegment = 10;
+    SegmentedJournal journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < 3 * entriesPerSegment; i++) {
+      journal.append(i + 1, data);
+    }
+    final var indexBeforeClose = journal.getJournalIndex();
+    journal.close();
+
+    // when
+    journal = openJournal(entriesPerSegment, entrySize, 3 * entriesPerSegment);
+
+    // then
+    final JournalIndex indexAfterRestart = journal.getJournalIndex();
+    for (int index = 1; index <= 3 * entriesPerSegment; index++) {
+      assertThat(indexAfterRestart.lookup(index).index())
+          .isEqualTo(indexBeforeClose.lookup(index).index());
+      assertThat(indexAfterRestart.lookup(index).position())
+          .isEqualTo(indexBeforeClose.lookup(index).position());
+      assertThat(indexAfterRestart.lookupAsqn(index)).isEqualTo(index);
+    }
+    assertThat(journal.getLastIndex()).isEqualTo(3 * entriesPerSegment);
+
+    final var reader = journal.openReader();
+    assertThat(reader.seekToAsqn(15)).isEqualTo(15);
+    assertThat(reader.next().asqn()).isEqualTo(15);
+    assertThat(journal.append(31, data).index()).isEqualTo(31);
+  }
+
+  @Test
+  void shouldRebuildIndexIfIndexFileIsCorrupted() throws Exception {
+    // given
+    final int entriesPerSegment = 10;
+    SegmentedJournal journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < 2 * entriesPerSegment; i++) {
+      journal.append(i + 1, data);
+    }
+    final var indexFile = journal.getFirstSegment().indexFile().path();
+    journal.close();
+    final byte[] content = Files.readAllBytes(indexFile);
+    content[content.length - 1] ^= 0xFF;
+    Files.write(indexFile, content);
+
+    // when
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    for (int index = 1; index <= 2 * entriesPerSegment; index++) {
+      assertThat(journal.getJournalIndex().lookup(index).index()).isEqualTo(index);
+    }
+    assertThat(journal.getFirstSegment().lastIndex()).isEqualTo(entriesPerSegment);
+    awaitIndexFile(journal.getFirstSegment());
+    assertThat(Files.readAllBytes(indexFile)).isNotEqualTo(content);
+  }
+
+  @Test
+  void shouldIgnoreIndexFileIfSegmentWasWrittenAfterwards() {
+    // given
+    final int entriesPerSegment = 10;
+    SegmentedJournal journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < entriesPerSegment + 1; i++) {
+      journal.append(i + 1, data);
+    }
+    final var firstSegmentIndexFile = awaitIndexFile(journal.getFirstSegment());
+    final byte[] staleIndexFile = readAllBytes(firstSegmentIndexFile.path());
+
+    // when - the first segment is written again, but its previous index file is left behind
+    journal.deleteAfter(5);
+    writeAllBytes(firstSegmentIndexFile.path(), staleIndexFile);
+    journal.append(6, data);
+    journal.close();
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(journal.getLastIndex()).isEqualTo(6);
+    assertThat(journal.getJournalIndex().lookup(10).index()).isEqualTo(6);
+    assertThat(journal.append(7, data).index()).isEqualTo(7);
+  }
+
+  @Test
+  void shouldDeleteIndexFileOnTruncate() {
+    // given
+    final int entriesPerSegment = 10;
+    final SegmentedJournal journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < 2 * entriesPerSegment; i++) {
+      journal.append(i + 1, data);
+    }
+    final var firstSegment = journal.getFirstSegment();
+    awaitIndexFile(firstSegment);
+
+    // when
+    journal.deleteAfter(5);
+
+    // then
+    assertThat(firstSegment.indexFile().exists()).isFalse();
+  }
+
+  @Test
+  void shouldNotWriteIndexFileIfTruncatedBeforeItIsWritten() {
+    // given
+    final int entriesPerSegment = 10;
+    final SegmentedJournal journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < entriesPerSegment + 1; i++) {
+      journal.append(i + 1, data);
+    }
+    final var firstSegmentIndexFile = journal.getFirstSegment().indexFile();
+
+    // when - truncated right after rolling over, while the index file may still be pending
+    journal.deleteAfter(5);
+    journal.close();
+
+    // then
+    assertThat(firstSegmentIndexFile.exists()).isFalse();
+  }
+
+  @Test
+  void shouldDeleteIndexFileOfDeletedSegment() {
+    // given
+    final int entriesPerSegment = 10;
+    final SegmentedJournal journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < 2 * entriesPerSegment; i++) {
+      journal.append(i + 1, data);
+    }
+    final var firstSegment = journal.getFirstSegment();
+
+    // when
+    journal.deleteUntil(entriesPerSegment + 1);
+
+    // then
+    assertThat(firstSegment.indexFile().exists()).isFalse();
+  }
+
+  @Test
+  void shouldPersistMissingIndexFilesOnLoad() {
+    // given
+    final int entriesPerSegment = 10;
+    SegmentedJournal journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < 2 * entriesPerSegment; i++) {
+      journal.append(i + 1, data);
+    }
+    final var firstSegmentIndexFile = journal.getFirstSegment().indexFile();
+    journal.close();
+    firstSegmentIndexFile.delete();
+
+    // when
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    awaitIndexFile(journal.getFirstSegment());
+  }
+
+  @Test
+  void shouldReadRecordsOfPreallocatedSegmentsAfterRestart() {
+    // given
+    final int entriesPerSegment = 10;
+    SegmentedJournal journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < 5 * entriesPerSegment; i++) {
+      journal.append(i + 1, data);
+      journal.flush();
+    }
+    journal.close();
+
+    // when
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    final JournalReader reader = journal.openReader();
+    for (int i = 0; i < 5 * entriesPerSegment; i++) {
+      assertThat(reader.hasNext()).isTrue();
+      final JournalRecord record = reader.next();
+      assertThat(record.index()).isEqualTo(i + 1);
+      assertThat(record.asqn()).isEqualTo(i + 1);
+      assertThat(record.data()).isEqualTo(data);
+    }
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  @Test
+  void shouldNotLoadPreallocatedFileAsSegment() {
+    // given
+    final int entriesPerSegment = 10;
+    SegmentedJournal journal = openJournal(entriesPerSegment);
+    journal.append(1, data);
+    journal.close();
+    final Path preallocatedFile =
+        SegmentPreallocator.getPreallocatedFile(JOURNAL_NAME, directory.resolve("data").toFile());
+    writeAllBytes(preallocatedFile, new byte[1024]);
+
+    // when
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(journal.getFirstSegment()).isEqualTo(journal.getLastSegment());
+    assertThat(journal.getLastIndex()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRebuildIndexIfIndexFileIsEmpty() throws Exception {
+    // given - a crash left an empty index file behind
+    final int entriesPerSegment = 10;
+    SegmentedJournal journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < 2 * entriesPerSegment; i++) {
+      journal.append(i + 1, data);
+    }
+    final var indexFile = journal.getFirstSegment().indexFile().path();
+    journal.close();
+    Files.write(indexFile, new byte[0]);
+
+    // when
+    journal = openJournal(entriesPerSegment, entrySize, 2 * entriesPerSegment);
+
+    // then
+    for (int index = 1; index <= 2 * entriesPerSegment; index++) {
+      assertThat(journal.getJournalIndex().lookup(index).index()).isEqualTo(index);
+    }
+    assertThat(journal.getLastIndex()).isEqualTo(2 * entriesPerSegment);
+    awaitIndexFile(journal.getFirstSegment());
+    assertThat(Files.size(indexFile)).isPositive();
+  }
+
+  @Test
+  void shouldNotRestoreIndexOfSegmentWithEntriesAfterLastWrittenIndex() throws Exception {
+    // given
+    final int entriesPerSegment = 10;
+    SegmentedJournal journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < 2 * entriesPerSegment; i++) {
+      journal.append(i + 1, data);
+    }
+    final File firstSegmentFile = journal.getFirstSegment().file().file();
+    journal.close();
+
+    // when - an entry which was not acknowledged as written is partially written
+    assertThat(LogCorrupter.corruptRecord(firstSegmentFile, 5)).isTrue();
+    journal = openJournal(entriesPerSegment, entrySize, 3);
+
+    // then - the segment is read as a whole and truncated before the partially written entry
+    assertThat(journal.getLastIndex()).isEqualTo(4);
+    assertThat(journal.append(5, data).index()).isEqualTo(5);
+  }
+
+  @Test
+  void shouldDetectCorruptedFirstEntryOfRestoredSegment() throws Exception {
+    // given
+    final int entriesPerSegment = 10;
+    final SegmentedJournal journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < 2 * entriesPerSegment; i++) {
+      journal.append(i + 1, data);
+    }
+    final File firstSegmentFile = journal.getFirstSegment().file().file();
+    journal.close();
+
+    // when
+    assertThat(LogCorrupter.corruptRecord(firstSegmentFile, 1)).isTrue();
+
+    // then
+    assertThatThrownBy(() -> openJournal(entriesPerSegment, entrySize, 2 * entriesPerSegment))
+        .isInstanceOf(CorruptedLogException.class);
+  }
+
+  private JournalSegmentIndexFile awaitIndexFile(final JournalSegment segment) {
+    final var indexFile = segment.indexFile();
+    Awaitility.await("until the index file of segment " + segment.id() + " is written")
+        .atMost(Duration.ofSeconds(30))
+        .until(indexFile::exists);
+    return indexFile;
+  }
+
   private SegmentedJournal openJournal(final float entriesPerSegment) {
     return openJournal(entriesPerSegment, entrySize);
   }
 
   private SegmentedJournal openJournal(final float entriesPerSegment, final int entrySize) {
-    return SegmentedJournal.builder()
-        .withDirectory(directory.resolve("data").toFile())
-        .withMaxSegmentSize(
-            (int) (entrySize * entriesPerSegment) + JournalSegmentDescriptor.getEncodingLength())
-        .withJournalIndexDensity(journalIndexDensity)
-        .withName(JOURNAL_NAME)
-        .build();
+    return openJournal(entriesPerSegment, entrySize, -1);
+  }
+
+  private SegmentedJournal openJournal(
+      final float entriesPerSegment, final int entrySize, final long lastWrittenIndex) {
+    final SegmentedJournal journal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.resolve("data").toFile())
+            .withMaxSegmentSize(
+                (int) (entrySize * entriesPerSegment)
+                    + JournalSegmentDescriptor.getEncodingLength())
+            .withJournalIndexDensity(journalIndexDensity)
+            .withName(JOURNAL_NAME)
+            .withSegmentPreallocation(true)
+            .withLastWrittenIndex(lastWrittenIndex)
+            .build();
+    openedJournals.add(journal);
+    return journal;
+  }
+
+  private byte[] readAllBytes(final Path file) {
+    try {
+      return Files.readAllBytes(file);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void writeAllBytes(final Path file, final byte[] content) {
+    try {
+      Files.write(file, content);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
   private int getSerializedSize(final DirectBuffer data) {
@@ -16,10 +16,13 @@
  */
 package io.camunda.zeebe.journal.file;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import io.camunda.zeebe.journal.JournalRecord;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 /** Sparse journal index test. */
@@ -238,4 +241,118 @@ class SparseJournalIndexTest {
     assertEquals(4, index.lookupAsqn(Long.MAX_VALUE, 5));
     assertEquals(6, index.lookupAsqn(Long.MAX_VALUE, 6));
   }
+
+  @Test
+  void shouldFindEntriesAfterGrowing() {
+    // given - every 2nd index is added
+    final JournalIndex index = new SparseJournalIndex(2);
+
+    // when - many more entries than the initial capacity
+    for (int i = 1; i <= 1_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 4);
+    }
+
+    // then
+    assertEquals(2, index.lookup(3).index());
+    assertEquals(8, index.lookup(3).position());
+    assertEquals(1_000, index.lookup(1_001).index());
+    assertEquals(4_000, index.lookup(1_001).position());
+    assertEquals(500, index.lookupAsqn(5_005));
+    assertEquals(998, index.lookupAsqn(Long.MAX_VALUE, 999));
+  }
+
+  @Test
+  void shouldOverwriteEntryWhenReindexed() {
+    // given - every 2nd index is added
+    final JournalIndex index = new SparseJournalIndex(2);
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(4, 40), 8);
+
+    // when - the same entries are indexed again, e.g. when the segment is re-read
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(4, 40), 10);
+
+    // then
+    assertEquals(4, index.lookup(5).index());
+    assertEquals(10, index.lookup(5).position());
+    assertEquals(2, index.lookup(3).index());
+    assertEquals(4, index.lookupAsqn(50));
+  }
+
+  @Test
+  void shouldInsertEntryLowerThanLastIndexed() {
+    // given - every 2nd index is added
+    final JournalIndex index = new SparseJournalIndex(2);
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(6, 60), 12);
+
+    // when
+    index.index(asJournalRecord(4, 40), 8);
+
+    // then
+    assertEquals(4, index.lookup(5).index());
+    assertEquals(8, index.lookup(5).position());
+    assertEquals(6, index.lookup(6).index());
+    assertEquals(4, index.lookupAsqn(50));
+    assertEquals(6, index.lookupAsqn(60));
+  }
+
+  @Test
+  void shouldAppendAfterCompaction() {
+    // given - every 2nd index is added
+    final JournalIndex index = new SparseJournalIndex(2);
+    for (int i = 1; i <= 10; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 4);
+    }
+    index.deleteUntil(7);
+
+    // when
+    index.index(asJournalRecord(11, 110), 44);
+    index.index(asJournalRecord(12, 120), 48);
+
+    // then
+    assertNull(index.lookup(5));
+    assertEquals(8, index.lookup(9).index());
+    assertEquals(12, index.lookup(13).index());
+    assertEquals(48, index.lookup(13).position());
+    assertEquals(6, index.lookupAsqn(70));
+    assertEquals(12, index.lookupAsqn(120));
+  }
+
+  @Test
+  void shouldIgnoreRecordsWithoutAsqnForAsqnLookup() {
+    // given - every 2nd index is added
+    final JournalIndex index = new SparseJournalIndex(2);
+
+    // when
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(4, SegmentedJournal.ASQN_IGNORE), 8);
+    index.index(asJournalRecord(6, 60), 12);
+
+    // then
+    assertEquals(4, index.lookup(5).index());
+    assertEquals(2, index.lookupAsqn(50));
+    assertEquals(2, index.lookupAsqn(60, 5));
+    assertEquals(6, index.lookupAsqn(60));
+  }
+
+  @Test
+  void shouldVisitEntriesInRange() {
+    // given - every 2nd index is added
+    final JournalIndex index = new SparseJournalIndex(2);
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(4, SegmentedJournal.ASQN_IGNORE), 8);
+    index.index(asJournalRecord(6, 60), 12);
+    index.index(asJournalRecord(8, 80), 16);
+
+    // when
+    final List<long[]> visited = new ArrayList<>();
+    index.forEach(
+        3, 6, (entryIndex, position, asqn) -> visited.add(new long[] {entryIndex, position, asqn}));
+
+    // then
+    assertEquals(2, visited.size());
+    assertArrayEquals(new long[] {4, 8, SegmentedJournal.ASQN_IGNORE}, visited.get(0));
+    assertArrayEquals(new long[] {6, 12, 60}, visited.get(1));
+  }
 }
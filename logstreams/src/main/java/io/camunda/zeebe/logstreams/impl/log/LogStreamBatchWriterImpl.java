@@ -23,6 +23,7 @@ import static org.agrona.BitUtil.SIZE_OF_LONG;
 
 import io.camunda.zeebe.dispatcher.ClaimedFragmentBatch;
 import io.camunda.zeebe.dispatcher.Dispatcher;
+import io.camunda.zeebe.dispatcher.impl.log.LogBufferAppender;
 import io.camunda.zeebe.logstreams.log.LogStreamBatchWriter;
 import io.camunda.zeebe.logstreams.log.LogStreamBatchWriter.LogEntryBuilder;
 import io.camunda.zeebe.protocol.Protocol;
@@ -85,6 +86,14 @@ public final class LogStreamBatchWriterImpl implements LogStreamBatchWriter, Log
     return logWriteBuffer.getMaxFragmentLength();
   }
 
+  @Override
+  public boolean canWriteAdditionalEvent(final int length) {
+    final int count = eventCount + 1;
+    final int batchLength = eventLength + length + (count * HEADER_BLOCK_LENGTH);
+    return LogBufferAppender.claimedBatchLength(count, batchLength)
+        < logWriteBuffer.getMaxFragmentLength();
+  }
+
   @Override
   public void reset() {
     eventBufferOffset = 0;
@@ -25,6 +25,13 @@ public interface LogStreamBatchWriter extends LogStreamWriter {
 
   int getMaxFragmentLength();
 
+  /**
+   * @param length the length of the metadata and the value of the log entry
+   * @return true if a log entry of the given length fits into the batch, in addition to the log
+   *     entries which were added already
+   */
+  boolean canWriteAdditionalEvent(int length);
+
   /** Discard all non-written batch data. */
   void reset();
 
@@ -415,6 +415,24 @@ public final class LogStreamBatchWriterTest {
     assertThat(pos).isEqualTo(0);
   }
 
+  @Test
+  public void shouldWriteEventsWhichFitIntoBatch() {
+    // given
+    final DirectBuffer value = new UnsafeBuffer(new byte[writer.getMaxFragmentLength() / 4]);
+    int eventCount = 0;
+
+    // when
+    while (writer.canWriteAdditionalEvent(value.capacity())) {
+      writer.event().key(eventCount).value(value).done();
+      eventCount += 1;
+    }
+    final long position = TestUtil.doRepeatedly(() -> writer.tryWrite()).until(pos -> pos > 0);
+
+    // then
+    assertThat(eventCount).isEqualTo(3);
+    assertThat(getWrittenEvents(position)).hasSize(eventCount);
+  }
+
   @Test
   public void shouldFailToWriteOnClosedLogStream() {
     // given
@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the single key operations and the prefix iteration of the {@link
+ * TransactionalColumnFamily}. Keys are composed of a scope key and an element key, similar to how
+ * the engine stores e.g. the variables of a scope.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class TransactionalColumnFamilyBenchmark {
+
+  @Param({"1000"})
+  int scopeCount;
+
+  @Param({"10"})
+  int entriesPerScope;
+
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext transactionContext;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbLong> columnFamily;
+  private DbLong scopeKey;
+  private DbLong elementKey;
+  private DbCompositeKey<DbLong, DbLong> compositeKey;
+  private DbLong value;
+  private Path directory;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("zb-db-benchmark");
+    zeebeDb = ZeebeRocksDbFactory.<DefaultColumnFamily>newFactory().createDb(directory.toFile());
+    transactionContext = zeebeDb.createContext();
+
+    scopeKey = new DbLong();
+    elementKey = new DbLong();
+    compositeKey = new DbCompositeKey<>(scopeKey, elementKey);
+    value = new DbLong();
+    columnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, transactionContext, compositeKey, value);
+
+    transactionContext.runInTransaction(
+        () -> {
+          for (long scope = 0; scope < scopeCount; scope++) {
+            for (long element = 0; element < entriesPerScope; element++) {
+              scopeKey.wrapLong(scope);
+              elementKey.wrapLong(element);
+              value.wrapLong(scope * element);
+              columnFamily.put(compositeKey, value);
+            }
+          }
+        });
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public DbLong get() {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    scopeKey.wrapLong(random.nextLong(scopeCount));
+    elementKey.wrapLong(random.nextLong(entriesPerScope));
+
+    return columnFamily.get(compositeKey);
+  }
+
+  @Benchmark
+  public void put() {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    scopeKey.wrapLong(random.nextLong(scopeCount));
+    elementKey.wrapLong(random.nextLong(entriesPerScope));
+    value.wrapLong(random.nextLong());
+
+    columnFamily.put(compositeKey, value);
+  }
+
+  @Benchmark
+  public void whileEqualPrefix(final Blackhole blackhole) {
+    scopeKey.wrapLong(ThreadLocalRandom.current().nextLong(scopeCount));
+
+    columnFamily.whileEqualPrefix(
+        scopeKey,
+        (key, value) -> {
+          blackhole.consume(value.getValue());
+        });
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the allocations of iterating over a column family, with values read into new arrays or
+ * into a reusable direct buffer. Run it with the GC profiler (e.g. {@code -prof gc}) and compare
+ * {@code gc.alloc.rate.norm}, i.e. the bytes allocated per scan of a scope.
+ *
+ * <p>The values only wrap a view of the stored bytes, like most records of the engine do, such that
+ * the allocations of the value type itself don't hide the ones of the iteration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class TransactionalColumnFamilyIterationBenchmark {
+
+  @Param({"false", "true"})
+  boolean directValueIteration;
+
+  @Param({"100"})
+  int scopeCount;
+
+  @Param({"100"})
+  int entriesPerScope;
+
+  @Param({"128"})
+  int valueLength;
+
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, BufferValue> columnFamily;
+  private DbLong scopeKey;
+  private Path directory;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("zb-db-benchmark");
+    zeebeDb =
+        ZeebeRocksDbFactory.<DefaultColumnFamily>newFactory(
+                new RocksDbConfiguration().setDirectValueIterationEnabled(directValueIteration))
+            .createDb(directory.toFile());
+    final TransactionContext transactionContext = zeebeDb.createContext();
+
+    scopeKey = new DbLong();
+    final DbLong elementKey = new DbLong();
+    final DbCompositeKey<DbLong, DbLong> compositeKey = new DbCompositeKey<>(scopeKey, elementKey);
+    final BufferValue value = new BufferValue();
+    columnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, transactionContext, compositeKey, value);
+
+    value.view.wrap(new byte[valueLength]);
+    transactionContext.runInTransaction(
+        () -> {
+          for (long scope = 0; scope < scopeCount; scope++) {
+            for (long element = 0; element < entriesPerScope; element++) {
+              scopeKey.wrapLong(scope);
+              elementKey.wrapLong(element);
+              columnFamily.put(compositeKey, value);
+            }
+          }
+        });
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public void whileEqualPrefix(final Blackhole blackhole) {
+    scopeKey.wrapLong(ThreadLocalRandom.current().nextLong(scopeCount));
+
+    columnFamily.whileEqualPrefix(
+        scopeKey,
+        (key, value) -> {
+          blackhole.consume(key.getSecond().getValue());
+          blackhole.consume(value.view.getByte(0));
+        });
+  }
+
+  private static final class BufferValue implements DbValue {
+    private final DirectBuffer view = new UnsafeBuffer(0, 0);
+
+    @Override
+    public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+      view.wrap(buffer, offset, length);
+    }
+
+    @Override
+    public int getLength() {
+      return view.capacity();
+    }
+
+    @Override
+    public void write(final MutableDirectBuffer buffer, final int offset) {
+      buffer.putBytes(offset, view, 0, view.capacity());
+    }
+  }
+}
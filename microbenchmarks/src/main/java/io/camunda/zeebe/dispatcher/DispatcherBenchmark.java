@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.dispatcher;
+
+import io.camunda.zeebe.util.ByteValue;
+import io.camunda.zeebe.util.sched.ActorScheduler;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures claiming fragments on the {@link Dispatcher} and consuming them as blocks via {@link
+ * Subscription#peekBlock(BlockPeek, int, boolean)}, which is how the log storage appender reads
+ * what the stream processor and the command API wrote.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class DispatcherBenchmark {
+
+  private static final int MAX_BLOCK_SIZE = 1024 * 1024;
+
+  /**
+   * Claims, commits and immediately consumes a single fragment on the same thread, i.e. the
+   * uncontended round trip through the dispatcher.
+   */
+  @Benchmark
+  @Group("claimAndPeek")
+  @GroupThreads(1)
+  public int claimAndPeek(final DispatcherState state, final ProducerState producer) {
+    final long position = producer.claim(state.dispatcher, state.fragmentLength);
+
+    final int bytes = state.subscription.peekBlock(producer.blockPeek, MAX_BLOCK_SIZE, false);
+    if (bytes > 0) {
+      producer.blockPeek.markCompleted();
+    }
+
+    return (int) position;
+  }
+
+  @Benchmark
+  @Group("producerConsumer")
+  @GroupThreads(1)
+  public long claimFragment(final DispatcherState state, final ProducerState producer) {
+    return producer.claim(state.dispatcher, state.fragmentLength);
+  }
+
+  @Benchmark
+  @Group("producerConsumer")
+  @GroupThreads(1)
+  public int peekBlock(final DispatcherState state, final ConsumerState consumer) {
+    final int bytes = state.subscription.peekBlock(consumer.blockPeek, MAX_BLOCK_SIZE, false);
+    if (bytes > 0) {
+      consumer.blockPeek.markCompleted();
+    }
+
+    return bytes;
+  }
+
+  @State(Scope.Group)
+  public static class DispatcherState {
+    @Param({"128", "1024"})
+    int fragmentLength;
+
+    ActorScheduler actorScheduler;
+    Dispatcher dispatcher;
+    Subscription subscription;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      actorScheduler =
+          ActorScheduler.newActorScheduler()
+              .setCpuBoundActorThreadCount(1)
+              .setIoBoundActorThreadCount(0)
+              .build();
+      actorScheduler.start();
+
+      dispatcher =
+          Dispatchers.create("benchmark")
+              .actorSchedulingService(actorScheduler)
+              .bufferSize((int) ByteValue.ofMegabytes(16))
+              .build();
+      subscription = dispatcher.openSubscription("benchmark");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+      dispatcher.close();
+      actorScheduler.close();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ProducerState {
+    final ClaimedFragment claimedFragment = new ClaimedFragment();
+    final BlockPeek blockPeek = new BlockPeek();
+
+    long claim(final Dispatcher dispatcher, final int fragmentLength) {
+      final long position = dispatcher.claimSingleFragment(claimedFragment, fragmentLength);
+      if (position >= 0) {
+        claimedFragment
+            .getBuffer()
+            .setMemory(claimedFragment.getOffset(), fragmentLength, (byte) 1);
+        claimedFragment.commit();
+      }
+
+      return position;
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ConsumerState {
+    final BlockPeek blockPeek = new BlockPeek();
+  }
+}
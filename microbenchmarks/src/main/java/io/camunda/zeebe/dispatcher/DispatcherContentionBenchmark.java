@@ -0,0 +1,162 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.dispatcher;
+
+import io.camunda.zeebe.util.ByteValue;
+import io.camunda.zeebe.util.sched.ActorScheduler;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures claiming fragments on the {@link Dispatcher} by multiple concurrent producers, while a
+ * single consumer reads them as blocks. Each group runs a different number of producers, so that
+ * the claim throughput under contention can be compared for 1, 2, 4 and 8 producers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class DispatcherContentionBenchmark {
+
+  private static final int MAX_BLOCK_SIZE = 1024 * 1024;
+
+  @Benchmark
+  @Group("producers1")
+  @GroupThreads(1)
+  public long claimWithOneProducer(final DispatcherState state, final ProducerState producer) {
+    return producer.claim(state.dispatcher, state.fragmentLength);
+  }
+
+  @Benchmark
+  @Group("producers1")
+  @GroupThreads(1)
+  public int peekWithOneProducer(final DispatcherState state, final ConsumerState consumer) {
+    return consumer.peek(state.subscription);
+  }
+
+  @Benchmark
+  @Group("producers2")
+  @GroupThreads(2)
+  public long claimWithTwoProducers(final DispatcherState state, final ProducerState producer) {
+    return producer.claim(state.dispatcher, state.fragmentLength);
+  }
+
+  @Benchmark
+  @Group("producers2")
+  @GroupThreads(1)
+  public int peekWithTwoProducers(final DispatcherState state, final ConsumerState consumer) {
+    return consumer.peek(state.subscription);
+  }
+
+  @Benchmark
+  @Group("producers4")
+  @GroupThreads(4)
+  public long claimWithFourProducers(final DispatcherState state, final ProducerState producer) {
+    return producer.claim(state.dispatcher, state.fragmentLength);
+  }
+
+  @Benchmark
+  @Group("producers4")
+  @GroupThreads(1)
+  public int peekWithFourProducers(final DispatcherState state, final ConsumerState consumer) {
+    return consumer.peek(state.subscription);
+  }
+
+  @Benchmark
+  @Group("producers8")
+  @GroupThreads(8)
+  public long claimWithEightProducers(final DispatcherState state, final ProducerState producer) {
+    return producer.claim(state.dispatcher, state.fragmentLength);
+  }
+
+  @Benchmark
+  @Group("producers8")
+  @GroupThreads(1)
+  public int peekWithEightProducers(final DispatcherState state, final ConsumerState consumer) {
+    return consumer.peek(state.subscription);
+  }
+
+  @State(Scope.Group)
+  public static class DispatcherState {
+    @Param({"128", "1024"})
+    int fragmentLength;
+
+    ActorScheduler actorScheduler;
+    Dispatcher dispatcher;
+    Subscription subscription;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      actorScheduler =
+          ActorScheduler.newActorScheduler()
+              .setCpuBoundActorThreadCount(1)
+              .setIoBoundActorThreadCount(0)
+              .build();
+      actorScheduler.start();
+
+      dispatcher =
+          Dispatchers.create("benchmark")
+              .actorSchedulingService(actorScheduler)
+              .bufferSize((int) ByteValue.ofMegabytes(16))
+              .build();
+      subscription = dispatcher.openSubscription("benchmark");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+      dispatcher.close();
+      actorScheduler.close();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ProducerState {
+    final ClaimedFragment claimedFragment = new ClaimedFragment();
+
+    long claim(final Dispatcher dispatcher, final int fragmentLength) {
+      final long position = dispatcher.claimSingleFragment(claimedFragment, fragmentLength);
+      if (position >= 0) {
+        claimedFragment
+            .getBuffer()
+            .setMemory(claimedFragment.getOffset(), fragmentLength, (byte) 1);
+        claimedFragment.commit();
+      }
+
+      return position;
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ConsumerState {
+    final BlockPeek blockPeek = new BlockPeek();
+
+    int peek(final Subscription subscription) {
+      final int bytes = subscription.peekBlock(blockPeek, MAX_BLOCK_SIZE, false);
+      if (bytes > 0) {
+        blockPeek.markCompleted();
+      }
+
+      return bytes;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per record cost of the {@link ChecksumGenerator}, which computes the checksum of
+ * every appended record, and of every record read or replicated. Records are laid out one after
+ * another in a direct buffer, like in a mapped segment, and in a heap buffer, like in the index
+ * file. {@link #sliceAndCompute()} computes the checksum on a read-only slice per record, to
+ * compare against creating a view for every record.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class ChecksumGeneratorBenchmark {
+
+  private static final int RECORD_COUNT = 1024;
+
+  @Param({"128", "1024", "16384"})
+  int recordLength;
+
+  @Param({"direct", "heap"})
+  String bufferType;
+
+  private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
+  private final CRC32C crc32 = new CRC32C();
+  private ByteBuffer buffer;
+  private int nextRecord;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final int capacity = recordLength * RECORD_COUNT;
+    buffer =
+        "direct".equals(bufferType)
+            ? ByteBuffer.allocateDirect(capacity)
+            : ByteBuffer.allocate(capacity);
+
+    final byte[] content = new byte[capacity];
+    ThreadLocalRandom.current().nextBytes(content);
+    buffer.put(content).clear();
+  }
+
+  @Benchmark
+  public long compute() {
+    return checksumGenerator.compute(buffer, nextOffset(), recordLength);
+  }
+
+  @Benchmark
+  public long sliceAndCompute() {
+    final ByteBuffer slice = buffer.asReadOnlyBuffer().position(nextOffset()).slice();
+    crc32.reset();
+    crc32.update(slice.limit(recordLength));
+    return crc32.getValue();
+  }
+
+  private int nextOffset() {
+    final int offset = nextRecord * recordLength;
+    nextRecord = (nextRecord + 1) % RECORD_COUNT;
+    return offset;
+  }
+}
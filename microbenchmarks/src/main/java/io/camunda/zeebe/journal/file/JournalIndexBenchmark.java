@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link SparseJournalIndex} with the previous {@link TreeMapJournalIndex} when
+ * indexing appended records and when looking up indexes and asqns, as done by the readers on seek.
+ * Run with {@code -prof gc} to compare the allocation rates as well.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class JournalIndexBenchmark {
+
+  private static final int DENSITY = 100;
+
+  @Param({"sparse", "treeMap"})
+  String implementation;
+
+  @Param({"1000000"})
+  int indexedRecords;
+
+  private final MutableRecord record = new MutableRecord();
+  private JournalIndex appendIndex;
+  private JournalIndex lookupIndex;
+  private long nextIndex;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    appendIndex = newIndex();
+    nextIndex = 1;
+
+    lookupIndex = newIndex();
+    for (long index = 1; index <= indexedRecords; index++) {
+      lookupIndex.index(record.wrap(index, index * 2), (int) index);
+    }
+  }
+
+  @Benchmark
+  public JournalIndex index() {
+    final long index = nextIndex++;
+    appendIndex.index(record.wrap(index, index * 2), (int) index);
+
+    // compact from time to time, like the journal does after taking a snapshot
+    if (index % indexedRecords == 0) {
+      appendIndex.deleteUntil(index);
+    }
+    return appendIndex;
+  }
+
+  @Benchmark
+  public IndexInfo lookup() {
+    return lookupIndex.lookup(ThreadLocalRandom.current().nextLong(1, indexedRecords + 1));
+  }
+
+  @Benchmark
+  public Long lookupAsqn() {
+    final long asqn = ThreadLocalRandom.current().nextLong(2, indexedRecords * 2 + 1);
+    return lookupIndex.lookupAsqn(asqn);
+  }
+
+  private JournalIndex newIndex() {
+    return "sparse".equals(implementation)
+        ? new SparseJournalIndex(DENSITY)
+        : new TreeMapJournalIndex(DENSITY);
+  }
+
+  private static final class MutableRecord implements JournalRecord {
+    private long index;
+    private long asqn;
+
+    private MutableRecord wrap(final long index, final long asqn) {
+      this.index = index;
+      this.asqn = asqn;
+      return this;
+    }
+
+    @Override
+    public long index() {
+      return index;
+    }
+
+    @Override
+    public long asqn() {
+      return asqn;
+    }
+
+    @Override
+    public long checksum() {
+      return 0;
+    }
+
+    @Override
+    public DirectBuffer data() {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the hot paths of the {@link SegmentedJournal}: appending records (including segment
+ * rollover) and seeking a reader to an arbitrary index.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class SegmentedJournalBenchmark {
+
+  private static final int MAX_SEGMENT_SIZE = 32 * 1024 * 1024;
+  // compact regularly so that long measurement iterations do not fill up the disk
+  private static final long COMPACTION_INTERVAL = 1_000_000;
+
+  @Benchmark
+  public JournalRecord append(final AppendState state) {
+    final JournalRecord record = state.journal.append(state.nextAsqn++, state.data);
+    if (record.index() % COMPACTION_INTERVAL == 0) {
+      state.journal.deleteUntil(record.index());
+    }
+
+    return record;
+  }
+
+  @Benchmark
+  public long seek(final SeekState state) {
+    final long index = ThreadLocalRandom.current().nextLong(1, state.recordCount + 1);
+    return state.reader.seek(index);
+  }
+
+  @Benchmark
+  public long seekToAsqn(final SeekState state) {
+    final long asqn = ThreadLocalRandom.current().nextLong(1, state.recordCount + 1);
+    return state.reader.seekToAsqn(asqn);
+  }
+
+  private static SegmentedJournal newJournal(final Path directory) {
+    return SegmentedJournal.builder()
+        .withDirectory(directory.toFile())
+        .withMaxSegmentSize(MAX_SEGMENT_SIZE)
+        // the benchmarks run in temporary directories which may not have much free space
+        .withFreeDiskSpace(0)
+        .build();
+  }
+
+  @State(Scope.Thread)
+  public static class AppendState {
+    @Param({"128", "1024"})
+    int recordSize;
+
+    SegmentedJournal journal;
+    UnsafeBuffer data;
+    long nextAsqn = 1;
+    private Path directory;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+      directory = Files.createTempDirectory("journal-benchmark");
+      journal = newJournal(directory);
+      data = new UnsafeBuffer(new byte[recordSize]);
+      nextAsqn = 1;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+      journal.close();
+      FileUtil.deleteFolderIfExists(directory);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class SeekState {
+    @Param({"100000"})
+    int recordCount;
+
+    SegmentedJournal journal;
+    JournalReader reader;
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+      directory = Files.createTempDirectory("journal-benchmark");
+      journal = newJournal(directory);
+
+      final UnsafeBuffer data = new UnsafeBuffer(new byte[128]);
+      for (int i = 1; i <= recordCount; i++) {
+        journal.append(i, data);
+      }
+      journal.flush();
+      reader = journal.openReader();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+      reader.close();
+      journal.close();
+      FileUtil.deleteFolderIfExists(directory);
+    }
+  }
+}
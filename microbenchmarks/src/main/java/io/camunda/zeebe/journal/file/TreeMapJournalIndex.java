@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The previous, {@link TreeMap} based implementation of the {@link SparseJournalIndex}. Only kept
+ * to compare it against the current implementation in the {@link JournalIndexBenchmark}.
+ */
+final class TreeMapJournalIndex implements JournalIndex {
+
+  private final int density;
+  private final TreeMap<Long, Integer> indexToPosition = new TreeMap<>();
+  private final TreeMap<Long, Long> asqnToIndex = new TreeMap<>();
+  private final TreeMap<Long, Long> indexToAsqn = new TreeMap<>();
+
+  TreeMapJournalIndex(final int density) {
+    this.density = density;
+  }
+
+  @Override
+  public void index(final JournalRecord indexedEntry, final int position) {
+    final long index = indexedEntry.index();
+    if (index % density == 0) {
+      indexToPosition.put(index, position);
+      final long asqn = indexedEntry.asqn();
+      if (asqn != SegmentedJournal.ASQN_IGNORE) {
+        asqnToIndex.put(asqn, index);
+        indexToAsqn.put(index, asqn);
+      }
+    }
+  }
+
+  @Override
+  public IndexInfo lookup(final long index) {
+    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
+    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn) {
+    return lookupAsqn(asqn, Long.MAX_VALUE);
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn, final long indexUpperBound) {
+    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
+    if (entry != null) {
+      if (entry.getValue() <= indexUpperBound) {
+        return entry.getValue();
+      } else {
+        return indexToAsqn.floorKey(indexUpperBound);
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public void deleteAfter(final long index) {
+    indexToPosition.tailMap(index, false).clear();
+    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
+    if (asqnEntryToDelete != null) {
+      final var asqnToDelete = asqnEntryToDelete.getValue();
+      indexToAsqn.tailMap(index, false).clear();
+      final boolean include = asqnEntryToDelete.getKey() > index;
+      asqnToIndex.tailMap(asqnToDelete, include).clear();
+    }
+  }
+
+  @Override
+  public void deleteUntil(final long index) {
+    indexToPosition.headMap(index, false).clear();
+
+    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
+    if (asqnEntryToDelete != null) {
+      final var asqnToDelete = asqnEntryToDelete.getValue();
+      indexToAsqn.headMap(index, false).clear();
+      asqnToIndex.headMap(asqnToDelete, false).clear();
+    }
+  }
+
+  @Override
+  public void clear() {
+    indexToPosition.clear();
+    indexToAsqn.clear();
+    asqnToIndex.clear();
+  }
+
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final IndexedEntryVisitor visitor) {
+    indexToPosition
+        .subMap(fromIndex, true, toIndex, true)
+        .forEach(
+            (index, position) ->
+                visitor.visit(
+                    index,
+                    position,
+                    indexToAsqn.getOrDefault(index, SegmentedJournal.ASQN_IGNORE)));
+  }
+}
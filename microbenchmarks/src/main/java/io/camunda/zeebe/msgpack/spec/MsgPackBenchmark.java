@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.msgpack.spec;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the raw {@link MsgPackWriter} and {@link MsgPackReader} on a flat document, which is the
+ * shape of most variable documents and records the engine handles.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class MsgPackBenchmark {
+
+  private static final DirectBuffer STRING_VALUE = wrapString("some-string-value-of-a-variable");
+
+  @Param({"10", "100"})
+  int entryCount;
+
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final MsgPackReader reader = new MsgPackReader();
+  private final MutableDirectBuffer writeBuffer = new ExpandableArrayBuffer();
+  private DirectBuffer[] keys;
+  private MutableDirectBuffer document;
+  private int documentLength;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    keys = new DirectBuffer[entryCount];
+    for (int i = 0; i < entryCount; i++) {
+      keys[i] = wrapString("key-" + i);
+    }
+
+    document = new ExpandableArrayBuffer();
+    documentLength = writeDocument(document);
+  }
+
+  @Benchmark
+  public int write() {
+    return writeDocument(writeBuffer);
+  }
+
+  @Benchmark
+  public void read(final Blackhole blackhole) {
+    reader.wrap(document, 0, documentLength);
+
+    final int size = reader.readMapHeader();
+    for (int i = 0; i < size; i++) {
+      blackhole.consume(reader.readToken());
+      final MsgPackToken value = reader.readToken();
+      if (value.getType() == MsgPackType.INTEGER) {
+        blackhole.consume(value.getIntegerValue());
+      } else {
+        blackhole.consume(value.getValueBuffer());
+      }
+    }
+  }
+
+  @Benchmark
+  public void skip(final Blackhole blackhole) {
+    reader.wrap(document, 0, documentLength);
+
+    final int size = reader.readMapHeader();
+    reader.skipValues(size * 2L);
+    blackhole.consume(reader.getOffset());
+  }
+
+  private int writeDocument(final MutableDirectBuffer buffer) {
+    writer.wrap(buffer, 0);
+    writer.writeMapHeader(entryCount);
+
+    for (int i = 0; i < entryCount; i++) {
+      writer.writeString(keys[i]);
+      if (i % 2 == 0) {
+        writer.writeInteger(i);
+      } else {
+        writer.writeString(STRING_VALUE);
+      }
+    }
+
+    return writer.getOffset();
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.msgpack.value;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.msgpack.property.ArrayProperty;
+import io.camunda.zeebe.msgpack.property.DocumentProperty;
+import io.camunda.zeebe.msgpack.property.IntegerProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
+import io.camunda.zeebe.msgpack.property.StringProperty;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the (de)serialization of an {@link ObjectValue} shaped like the job and process instance
+ * records: a few scalar properties, a variables document and an array of strings.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class ObjectValueBenchmark {
+
+  @Param({"10", "100"})
+  int variableCount;
+
+  private final BenchmarkRecord record = new BenchmarkRecord();
+  private final MutableDirectBuffer writeBuffer = new ExpandableArrayBuffer();
+  private DirectBuffer serializedRecord;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final MutableDirectBuffer variables = new ExpandableArrayBuffer();
+    final MsgPackWriter writer = new MsgPackWriter();
+    writer.wrap(variables, 0);
+    writer.writeMapHeader(variableCount);
+    for (int i = 0; i < variableCount; i++) {
+      writer.writeString(wrapString("variable-" + i));
+      writer.writeInteger(i);
+    }
+
+    record
+        .setKey(123L)
+        .setType(wrapString("benchmark-job-type"))
+        .setRetries(3)
+        .setVariables(new UnsafeBuffer(variables, 0, writer.getOffset()));
+    for (int i = 0; i < 5; i++) {
+      record.addFetchVariable(wrapString("variable-" + i));
+    }
+
+    final MutableDirectBuffer buffer = new UnsafeBuffer(new byte[record.getLength()]);
+    record.write(buffer, 0);
+    serializedRecord = buffer;
+  }
+
+  @Benchmark
+  public int write() {
+    record.write(writeBuffer, 0);
+    return record.getLength();
+  }
+
+  @Benchmark
+  public BenchmarkRecord read() {
+    record.wrap(serializedRecord);
+    return record;
+  }
+
+  @Benchmark
+  public int readAndWrite() {
+    record.wrap(serializedRecord);
+    record.write(writeBuffer, 0);
+    return record.getLength();
+  }
+
+  public static final class BenchmarkRecord extends UnpackedObject {
+    private final LongProperty keyProp = new LongProperty("key", -1L);
+    private final StringProperty typeProp = new StringProperty("type", "");
+    private final IntegerProperty retriesProp = new IntegerProperty("retries", -1);
+    private final DocumentProperty variablesProp = new DocumentProperty("variables");
+    private final ArrayProperty<StringValue> fetchVariablesProp =
+        new ArrayProperty<>("fetchVariables", new StringValue());
+
+    public BenchmarkRecord() {
+      declareProperty(keyProp)
+          .declareProperty(typeProp)
+          .declareProperty(retriesProp)
+          .declareProperty(variablesProp)
+          .declareProperty(fetchVariablesProp);
+    }
+
+    public BenchmarkRecord setKey(final long key) {
+      keyProp.setValue(key);
+      return this;
+    }
+
+    public BenchmarkRecord setType(final DirectBuffer type) {
+      typeProp.setValue(type);
+      return this;
+    }
+
+    public BenchmarkRecord setRetries(final int retries) {
+      retriesProp.setValue(retries);
+      return this;
+    }
+
+    public BenchmarkRecord setVariables(final DirectBuffer variables) {
+      variablesProp.setValue(variables);
+      return this;
+    }
+
+    public BenchmarkRecord addFetchVariable(final DirectBuffer variableName) {
+      fetchVariablesProp.add().wrap(variableName);
+      return this;
+    }
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import static io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder.partitionIdNullValue;
+
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder.CommandsDecoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder.CommandsEncoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderEncoder;
+import io.camunda.zeebe.util.buffer.BufferReader;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A batch of commands for the same partition. Each command is an encoded {@link
+ * ExecuteCommandRequest}, such that the receiver can handle it like a single command request.
+ */
+public final class ExecuteCommandBatchRequest implements BufferReader, BufferWriter {
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final ExecuteCommandBatchRequestEncoder bodyEncoder =
+      new ExecuteCommandBatchRequestEncoder();
+  private final ExecuteCommandBatchRequestDecoder bodyDecoder =
+      new ExecuteCommandBatchRequestDecoder();
+
+  private final List<BufferWriter> commandWriters = new ArrayList<>();
+  private final List<DirectBuffer> commands = new ArrayList<>();
+  private int partitionId;
+
+  public ExecuteCommandBatchRequest() {
+    reset();
+  }
+
+  public ExecuteCommandBatchRequest reset() {
+    partitionId = partitionIdNullValue();
+    commandWriters.clear();
+    commands.clear();
+
+    return this;
+  }
+
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  public ExecuteCommandBatchRequest setPartitionId(final int partitionId) {
+    this.partitionId = partitionId;
+    return this;
+  }
+
+  /** @param command writes an encoded {@link ExecuteCommandRequest} */
+  public ExecuteCommandBatchRequest addCommand(final BufferWriter command) {
+    commandWriters.add(command);
+    return this;
+  }
+
+  /** @return the encoded {@link ExecuteCommandRequest}s of the read batch */
+  public List<DirectBuffer> getCommands() {
+    return commands;
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, int offset, final int length) {
+    reset();
+
+    final int frameEnd = offset + length;
+
+    headerDecoder.wrap(buffer, offset);
+
+    offset += headerDecoder.encodedLength();
+
+    bodyDecoder.wrap(buffer, offset, headerDecoder.blockLength(), headerDecoder.version());
+
+    partitionId = bodyDecoder.partitionId();
+
+    final CommandsDecoder commandsDecoder = bodyDecoder.commands();
+    while (commandsDecoder.hasNext()) {
+      commandsDecoder.next();
+      final DirectBuffer command = new UnsafeBuffer();
+      commandsDecoder.wrapCommand(command);
+      commands.add(command);
+    }
+
+    assert bodyDecoder.limit() == frameEnd
+        : "Decoder read only to position "
+            + bodyDecoder.limit()
+            + " but expected "
+            + frameEnd
+            + " as final position";
+  }
+
+  @Override
+  public int getLength() {
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + ExecuteCommandBatchRequestEncoder.BLOCK_LENGTH
+            + CommandsEncoder.sbeHeaderSize();
+
+    for (final BufferWriter command : commandWriters) {
+      length += CommandsEncoder.commandHeaderLength() + command.getLength();
+    }
+
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, int offset) {
+    headerEncoder
+        .wrap(buffer, offset)
+        .blockLength(bodyEncoder.sbeBlockLength())
+        .templateId(bodyEncoder.sbeTemplateId())
+        .schemaId(bodyEncoder.sbeSchemaId())
+        .version(bodyEncoder.sbeSchemaVersion());
+
+    offset += headerEncoder.encodedLength();
+
+    bodyEncoder.wrap(buffer, offset).partitionId(partitionId);
+
+    final CommandsEncoder commandsEncoder = bodyEncoder.commandsCount(commandWriters.size());
+    for (final BufferWriter command : commandWriters) {
+      commandsEncoder.next();
+
+      // write the command in place, instead of copying it into an intermediate buffer
+      final int commandOffset = bodyEncoder.limit();
+      final int commandLength = command.getLength();
+      buffer.putInt(commandOffset, commandLength, ByteOrder.LITTLE_ENDIAN);
+      command.write(buffer, commandOffset + CommandsEncoder.commandHeaderLength());
+      bodyEncoder.limit(commandOffset + CommandsEncoder.commandHeaderLength() + commandLength);
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseDecoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseDecoder.ResponsesDecoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseEncoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseEncoder.ResponsesEncoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderEncoder;
+import io.camunda.zeebe.util.buffer.BufferReader;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * The responses to the commands of an {@link ExecuteCommandBatchRequest}, in the order of the
+ * commands. Each response is an encoded {@link ExecuteCommandResponse} or {@link ErrorResponse}.
+ */
+public final class ExecuteCommandBatchResponse implements BufferReader, BufferWriter {
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final ExecuteCommandBatchResponseEncoder bodyEncoder =
+      new ExecuteCommandBatchResponseEncoder();
+  private final ExecuteCommandBatchResponseDecoder bodyDecoder =
+      new ExecuteCommandBatchResponseDecoder();
+
+  private final List<BufferWriter> responseWriters = new ArrayList<>();
+  private final List<DirectBuffer> responses = new ArrayList<>();
+
+  public ExecuteCommandBatchResponse reset() {
+    responseWriters.clear();
+    responses.clear();
+
+    return this;
+  }
+
+  /** @param response writes an encoded {@link ExecuteCommandResponse} or {@link ErrorResponse} */
+  public ExecuteCommandBatchResponse addResponse(final BufferWriter response) {
+    responseWriters.add(response);
+    return this;
+  }
+
+  /** @return the encoded responses of the read batch, in the order of the commands */
+  public List<DirectBuffer> getResponses() {
+    return responses;
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, int offset, final int length) {
+    reset();
+
+    final int frameEnd = offset + length;
+
+    headerDecoder.wrap(buffer, offset);
+
+    offset += headerDecoder.encodedLength();
+
+    bodyDecoder.wrap(buffer, offset, headerDecoder.blockLength(), headerDecoder.version());
+
+    final ResponsesDecoder responsesDecoder = bodyDecoder.responses();
+    while (responsesDecoder.hasNext()) {
+      responsesDecoder.next();
+      final DirectBuffer response = new UnsafeBuffer();
+      responsesDecoder.wrapResponse(response);
+      responses.add(response);
+    }
+
+    assert bodyDecoder.limit() == frameEnd
+        : "Decoder read only to position "
+            + bodyDecoder.limit()
+            + " but expected "
+            + frameEnd
+            + " as final position";
+  }
+
+  @Override
+  public int getLength() {
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + ExecuteCommandBatchResponseEncoder.BLOCK_LENGTH
+            + ResponsesEncoder.sbeHeaderSize();
+
+    for (final BufferWriter response : responseWriters) {
+      length += ResponsesEncoder.responseHeaderLength() + response.getLength();
+    }
+
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, int offset) {
+    headerEncoder
+        .wrap(buffer, offset)
+        .blockLength(bodyEncoder.sbeBlockLength())
+        .templateId(bodyEncoder.sbeTemplateId())
+        .schemaId(bodyEncoder.sbeSchemaId())
+        .version(bodyEncoder.sbeSchemaVersion());
+
+    offset += headerEncoder.encodedLength();
+
+    bodyEncoder.wrap(buffer, offset);
+
+    final ResponsesEncoder responsesEncoder = bodyEncoder.responsesCount(responseWriters.size());
+    for (final BufferWriter response : responseWriters) {
+      responsesEncoder.next();
+
+      // write the response in place, instead of copying it into an intermediate buffer
+      final int responseOffset = bodyEncoder.limit();
+      final int responseLength = response.getLength();
+      buffer.putInt(responseOffset, responseLength, ByteOrder.LITTLE_ENDIAN);
+      response.write(buffer, responseOffset + ResponsesEncoder.responseHeaderLength());
+      bodyEncoder.limit(responseOffset + ResponsesEncoder.responseHeaderLength() + responseLength);
+    }
+  }
+}
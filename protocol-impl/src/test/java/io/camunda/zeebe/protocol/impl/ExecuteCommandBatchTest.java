@@ -0,0 +1,121 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.protocol.impl.encoding.ErrorResponse;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandRequest;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandResponse;
+import io.camunda.zeebe.protocol.record.ErrorCode;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.util.buffer.BufferReader;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class ExecuteCommandBatchTest {
+
+  @Test
+  public void shouldEncodeDecodeBatchRequest() {
+    // given
+    final var batchRequest = new ExecuteCommandBatchRequest().setPartitionId(3);
+    for (int i = 0; i < 300; i++) {
+      batchRequest.addCommand(
+          new ExecuteCommandRequest()
+              .setPartitionId(3)
+              .setKey(i)
+              .setValueType(ValueType.JOB)
+              .setIntent(JobIntent.COMPLETE)
+              .setValue(wrapString("value-" + i), 0, ("value-" + i).length()));
+    }
+
+    // when
+    final var decoded = new ExecuteCommandBatchRequest();
+    encodeDecode(batchRequest, decoded);
+
+    // then
+    assertThat(decoded.getPartitionId()).isEqualTo(3);
+    assertThat(decoded.getCommands()).hasSize(300);
+
+    final var command = new ExecuteCommandRequest();
+    for (int i = 0; i < 300; i++) {
+      final DirectBuffer buffer = decoded.getCommands().get(i);
+      command.wrap(buffer, 0, buffer.capacity());
+      assertThat(command.getKey()).isEqualTo(i);
+      assertThat(command.getValueType()).isEqualTo(ValueType.JOB);
+      assertThat(command.getIntent()).isEqualTo(JobIntent.COMPLETE);
+      assertThat(command.getValue()).isEqualTo(wrapString("value-" + i));
+    }
+  }
+
+  @Test
+  public void shouldEncodeDecodeEmptyBatchRequest() {
+    // given
+    final var batchRequest = new ExecuteCommandBatchRequest().setPartitionId(1);
+
+    // when
+    final var decoded = new ExecuteCommandBatchRequest();
+    encodeDecode(batchRequest, decoded);
+
+    // then
+    assertThat(decoded.getPartitionId()).isEqualTo(1);
+    assertThat(decoded.getCommands()).isEmpty();
+  }
+
+  @Test
+  public void shouldEncodeDecodeBatchResponse() {
+    // given
+    final var batchResponse =
+        new ExecuteCommandBatchResponse()
+            .addResponse(
+                new ExecuteCommandResponse()
+                    .setPartitionId(1)
+                    .setKey(12)
+                    .setRecordType(RecordType.EVENT)
+                    .setValueType(ValueType.JOB)
+                    .setIntent(JobIntent.COMPLETED))
+            .addResponse(
+                new ErrorResponse()
+                    .setErrorCode(ErrorCode.RESOURCE_EXHAUSTED)
+                    .setErrorData(wrapString("exhausted")));
+
+    // when
+    final var decoded = new ExecuteCommandBatchResponse();
+    encodeDecode(batchResponse, decoded);
+
+    // then
+    assertThat(decoded.getResponses()).hasSize(2);
+
+    final var commandResponse = new ExecuteCommandResponse();
+    final DirectBuffer first = decoded.getResponses().get(0);
+    commandResponse.wrap(first, 0, first.capacity());
+    assertThat(commandResponse.getKey()).isEqualTo(12);
+    assertThat(commandResponse.getIntent()).isEqualTo(JobIntent.COMPLETED);
+
+    final var errorResponse = new ErrorResponse();
+    final DirectBuffer second = decoded.getResponses().get(1);
+    assertThat(errorResponse.tryWrap(second)).isTrue();
+    errorResponse.wrap(second, 0, second.capacity());
+    assertThat(errorResponse.getErrorCode()).isEqualTo(ErrorCode.RESOURCE_EXHAUSTED);
+    assertThat(errorResponse.getErrorData()).isEqualTo(wrapString("exhausted"));
+  }
+
+  private static void encodeDecode(final BufferWriter writer, final BufferReader reader) {
+    // padding in front of the message to verify that offsets are handled
+    final var buffer = new UnsafeBuffer(new byte[writer.getLength() + 7]);
+    writer.write(buffer, 7);
+    reader.wrap(buffer, 7, writer.getLength());
+  }
+}
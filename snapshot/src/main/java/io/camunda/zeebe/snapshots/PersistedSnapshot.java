@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.file.Path;
+import java.util.Map;
 
 /** Represents a snapshot, which was persisted at the {@link PersistedSnapshotStore}. */
 public interface PersistedSnapshot extends CloseableSilently {
@@ -71,4 +72,14 @@ public interface PersistedSnapshot extends CloseableSilently {
    * @return the checksum of the snapshot
    */
   long getChecksum();
+
+  /**
+   * Returns the checksums of the chunks of this snapshot, which let a leader skip the chunks this
+   * snapshot has in common with the one it replicates, see {@link SnapshotChunkReader#reuse(Map)}.
+   *
+   * @return the checksum of each chunk by its name, or an empty map if these are not known
+   */
+  default Map<String, Long> getChunkChecksums() {
+    return Map.of();
+  }
 }
@@ -13,7 +13,7 @@ public interface SnapshotChunk {
   /** @return a unique snapshot identifier * */
   String getSnapshotId();
 
-  /** @return the total count of snapshot chunks, which correspond to the same snapshot */
+  /** @return the total count of files of the snapshot, which the chunks correspond to */
   int getTotalCount();
 
   /** @return the name of the current chunk (e.g. file name) */
@@ -25,6 +25,31 @@ public interface SnapshotChunk {
   /** @return the content of the current chunk */
   byte[] getContent();
 
+  /**
+   * Large files are split into several chunks of the same name, each containing a block of the
+   * file.
+   *
+   * @return the position of the content in the file of this chunk
+   */
+  default long getFileBlockPosition() {
+    return 0;
+  }
+
+  /** @return the size of the whole file this chunk is part of */
+  default long getTotalFileSize() {
+    return getContent().length;
+  }
+
   /** @return the checksum of the entire snapshot */
   long getSnapshotChecksum();
+
+  /**
+   * A reused chunk has no content, as the receiver already has a chunk with the same name and
+   * checksum in its latest snapshot, see {@link SnapshotChunkReader#reuse(java.util.Map)}.
+   *
+   * @return true if the receiver should take the content from its latest snapshot
+   */
+  default boolean isReused() {
+    return false;
+  }
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Map;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -32,4 +33,25 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @return the next chunk ID
    */
   ByteBuffer nextId();
+
+  /**
+   * Limits the size of the content of the next chunks: larger files are then split into several
+   * chunks, such that reading a chunk never requires more memory than the given size.
+   *
+   * @param maximumChunkSize the maximum size of the content of a chunk in bytes, must be positive
+   */
+  default void setMaximumChunkSize(final int maximumChunkSize) {
+    // chunks are not split
+  }
+
+  /**
+   * Marks the remaining chunks which the receiver already has, i.e. with the same name and checksum
+   * as one of the given chunks, as reused: these are returned without content, such that only new
+   * chunks are transferred. Chunks whose checksum is not known upfront are never reused.
+   *
+   * @param availableChunks the checksums of the chunks the receiver has, by chunk name
+   */
+  default void reuse(final Map<String, Long> availableChunks) {
+    // chunks are always transferred with their content
+  }
 }
@@ -18,6 +18,7 @@ import io.camunda.zeebe.util.sched.future.CompletableActorFuture;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -66,12 +67,23 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         });
   }
 
-  private boolean containsChunk(final String chunkId) {
-    return Files.exists(directory.resolve(chunkId));
+  /**
+   * A chunk is already applied if its file contains the whole block of the chunk, as the blocks of
+   * a file are applied in order.
+   */
+  private boolean containsChunk(final SnapshotChunk snapshotChunk, final byte[] content) {
+    final var snapshotFile = directory.resolve(snapshotChunk.getChunkName());
+    try {
+      return Files.exists(snapshotFile)
+          && Files.size(snapshotFile) >= snapshotChunk.getFileBlockPosition() + content.length;
+    } catch (final IOException e) {
+      return false;
+    }
   }
 
   private void applyInternal(final SnapshotChunk snapshotChunk) throws SnapshotWriteException {
-    if (containsChunk(snapshotChunk.getChunkName())) {
+    final byte[] content = snapshotChunk.getContent();
+    if (containsChunk(snapshotChunk, content)) {
       return;
     }
 
@@ -94,7 +106,9 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
-    checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
+    if (!snapshotChunk.isReused()) {
+      checkChunkChecksumIsValid(snapshotChunk, content, snapshotId, chunkName);
+    }
 
     final var tmpSnapshotDirectory = directory;
     try {
@@ -105,21 +119,87 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
 
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
-    if (Files.exists(snapshotFile)) {
+    checkFileBlockPositionIsValid(snapshotChunk, snapshotFile);
+
+    if (snapshotChunk.isReused()) {
+      LOGGER.trace("Reuse snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
+      linkReusedSnapshotChunk(snapshotChunk, snapshotFile);
+    } else {
+      LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
+      writeReceivedSnapshotChunk(snapshotChunk, content, snapshotFile);
+    }
+  }
+
+  private void checkFileBlockPositionIsValid(
+      final SnapshotChunk snapshotChunk, final Path snapshotFile) throws SnapshotWriteException {
+    final long fileSize;
+    try {
+      fileSize = Files.exists(snapshotFile) ? Files.size(snapshotFile) : 0;
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to read the size of snapshot chunk file %s", snapshotFile), e);
+    }
+
+    if (fileSize != snapshotChunk.getFileBlockPosition()) {
       throw new SnapshotWriteException(
           String.format(
-              "Received a snapshot snapshotChunk which already exist '%s'.", snapshotFile));
+              "Expected snapshot chunk %s to continue file '%s' of size %d, but it starts at position %d.",
+              snapshotChunk.getChunkName(),
+              snapshotFile,
+              fileSize,
+              snapshotChunk.getFileBlockPosition()));
     }
+  }
 
-    LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
-    writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
+  /**
+   * Takes over the file of a reused chunk from the latest snapshot, which is immutable, by linking
+   * it into this snapshot; it is only copied if the file system doesn't support links.
+   */
+  private void linkReusedSnapshotChunk(final SnapshotChunk snapshotChunk, final Path snapshotFile)
+      throws SnapshotWriteException {
+    final String chunkName = snapshotChunk.getChunkName();
+    final var latestSnapshot =
+        snapshotStore
+            .getLatestSnapshot()
+            .orElseThrow(
+                () ->
+                    new SnapshotWriteException(
+                        String.format(
+                            "Expected to reuse snapshot chunk %s, but there is no snapshot",
+                            chunkName)));
+
+    final Long availableChecksum = latestSnapshot.getChunkChecksums().get(chunkName);
+    if (availableChecksum == null || availableChecksum != snapshotChunk.getChecksum()) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Expected to reuse snapshot chunk %s with checksum %d, but snapshot %s has checksum %s",
+              chunkName, snapshotChunk.getChecksum(), latestSnapshot.getId(), availableChecksum));
+    }
+
+    final var availableFile = latestSnapshot.getPath().resolve(chunkName);
+    try {
+      try {
+        Files.createLink(snapshotFile, availableFile);
+      } catch (final UnsupportedOperationException | FileSystemException e) {
+        LOGGER.debug("Failed to link {}, copying it instead", availableFile, e);
+        Files.copy(availableFile, snapshotFile);
+      }
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to reuse snapshot chunk %s of %s", chunkName, latestSnapshot), e);
+    }
+
+    LOGGER.trace("Reused snapshot chunk {} of snapshot {}", availableFile, latestSnapshot.getId());
   }
 
   private void checkChunkChecksumIsValid(
-      final SnapshotChunk snapshotChunk, final String snapshotId, final String chunkName)
+      final SnapshotChunk snapshotChunk,
+      final byte[] content,
+      final String snapshotId,
+      final String chunkName)
       throws SnapshotWriteException {
     final long expectedChecksum = snapshotChunk.getChecksum();
-    final long actualChecksum = SnapshotChunkUtil.createChecksum(snapshotChunk.getContent());
+    final long actualChecksum = SnapshotChunkUtil.createChecksum(content);
 
     if (expectedChecksum != actualChecksum) {
       throw new SnapshotWriteException(
@@ -172,19 +252,27 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  /**
+   * Writes the block of the chunk at its position in the file, which is only flushed with the last
+   * block of the file.
+   */
   private void writeReceivedSnapshotChunk(
-      final SnapshotChunk snapshotChunk, final Path snapshotFile) throws SnapshotWriteException {
+      final SnapshotChunk snapshotChunk, final byte[] content, final Path snapshotFile)
+      throws SnapshotWriteException {
+    final long position = snapshotChunk.getFileBlockPosition();
     try (var channel =
-        FileChannel.open(snapshotFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
-      final ByteBuffer buffer = ByteBuffer.wrap(snapshotChunk.getContent());
+        FileChannel.open(snapshotFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+      final ByteBuffer buffer = ByteBuffer.wrap(content);
 
       while (buffer.hasRemaining()) {
         final int newLimit = Math.min(buffer.capacity(), buffer.position() + BLOCK_SIZE);
-        channel.write(buffer.limit(newLimit));
+        channel.write(buffer.limit(newLimit), position + buffer.position());
         buffer.limit(buffer.capacity());
       }
 
-      channel.force(true);
+      if (position + content.length >= snapshotChunk.getTotalFileSize()) {
+        channel.force(true);
+      }
     } catch (IOException e) {
       throw new SnapshotWriteException(
           String.format("Failed to write snapshot chunk %s", snapshotChunk), e);
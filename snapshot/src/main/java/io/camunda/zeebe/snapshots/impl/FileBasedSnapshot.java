@@ -14,6 +14,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,7 +69,7 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
   @Override
   public SnapshotChunkReader newChunkReader() {
     try {
-      return new FileBasedSnapshotChunkReader(directory, checksum);
+      return new FileBasedSnapshotChunkReader(directory, checksum, getChunkChecksums());
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
@@ -110,6 +111,16 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
     return checksum;
   }
 
+  @Override
+  public Map<String, Long> getChunkChecksums() {
+    try {
+      return SnapshotChecksum.read(checksumFile).getChecksums();
+    } catch (final IOException e) {
+      LOGGER.warn("Failed to read the checksums of the chunks of snapshot {}", directory, e);
+      return Map.of();
+    }
+  }
+
   @Override
   public void close() {
     // nothing to be done
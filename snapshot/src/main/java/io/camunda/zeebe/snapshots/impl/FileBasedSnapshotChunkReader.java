@@ -13,40 +13,69 @@ import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.TreeSet;
 import org.agrona.AsciiSequenceView;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 /**
- * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
- * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
- * the directory once this is created.
+ * Implements a chunk reader where each chunk is a block of a file in a root directory. Chunks are
+ * then ordered lexicographically by file name and position, and the files are assumed to be
+ * immutable, i.e. no more are added to the directory once this is created.
+ *
+ * <p>Files which are larger than the maximum chunk size are split into several chunks, each read
+ * with a positional read, such that a chunk never holds more than the maximum chunk size in memory.
+ * The ID of a chunk is the file name followed by the position of the block in the file.
+ *
+ * <p>Files which the receiver already has, with the same name and checksum, can be marked as reused
+ * via {@link #reuse(Map)}, in which case they are not read at all.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   static final Charset ID_CHARSET = StandardCharsets.US_ASCII;
 
   private final Path directory;
   private final NavigableSet<CharSequence> chunks;
-  private final CharSequenceView chunkIdView;
+  private final ChunkIdView chunkIdView;
 
   private NavigableSet<CharSequence> chunksView;
   private final int totalCount;
   private final long snapshotChecksum;
   private final String snapshotID;
+  private final Map<String, Long> chunkChecksums;
+  private final Set<String> reusedChunks = new HashSet<>();
+
+  // the position of the next block in the first file of the chunks view
+  private long filePosition;
+  private int maximumChunkSize = Integer.MAX_VALUE;
 
   FileBasedSnapshotChunkReader(final Path directory, final long checksum) throws IOException {
+    this(directory, checksum, Map.of());
+  }
+
+  /**
+   * @param chunkChecksums the checksum of each chunk by its name, which is required to reuse chunks
+   *     the receiver already has
+   */
+  FileBasedSnapshotChunkReader(
+      final Path directory, final long checksum, final Map<String, Long> chunkChecksums)
+      throws IOException {
     this.directory = directory;
+    this.chunkChecksums = chunkChecksums;
     chunks = collectChunks(directory);
     totalCount = chunks.size();
     chunksView = chunks;
-    chunkIdView = new CharSequenceView();
+    chunkIdView = new ChunkIdView();
 
     snapshotChecksum = checksum;
 
@@ -67,8 +96,9 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       return;
     }
 
-    final var path = decodeChunkId(id);
-    chunksView = chunks.tailSet(path, true);
+    chunkIdView.wrap(id);
+    chunksView = chunks.tailSet(chunkIdView.fileName(), true);
+    filePosition = chunkIdView.filePosition();
   }
 
   @Override
@@ -77,13 +107,41 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       return null;
     }
 
-    return encodeChunkId(chunksView.first());
+    return encodeChunkId(chunksView.first(), filePosition);
+  }
+
+  @Override
+  public void setMaximumChunkSize(final int maximumChunkSize) {
+    if (maximumChunkSize <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected the maximum chunk size to be positive, but was %d", maximumChunkSize));
+    }
+
+    this.maximumChunkSize = maximumChunkSize;
+  }
+
+  @Override
+  public void reuse(final Map<String, Long> availableChunks) {
+    for (final var chunk : chunksView) {
+      // the receiver already got the first blocks of a file which is partially sent
+      if (filePosition > 0 && chunk == chunksView.first()) {
+        continue;
+      }
+
+      final var chunkName = chunk.toString();
+      final var checksum = chunkChecksums.get(chunkName);
+      if (checksum != null && checksum.equals(availableChunks.get(chunkName))) {
+        reusedChunks.add(chunkName);
+      }
+    }
   }
 
   @Override
   public void close() {
     chunks.clear();
     chunksView.clear();
+    reusedChunks.clear();
   }
 
   @Override
@@ -93,36 +151,82 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
   @Override
   public SnapshotChunk next() {
-    final var chunkName = chunksView.pollFirst();
-    if (chunkName == null) {
+    if (chunksView.isEmpty()) {
       throw new NoSuchElementException();
     }
 
-    final var path = directory.resolve(chunkName.toString());
+    final var name = chunksView.first().toString();
+    final var path = directory.resolve(name);
 
     try {
-      return SnapshotChunkUtil.createSnapshotChunkFromFile(
-          path, snapshotID, totalCount, snapshotChecksum);
+      if (reusedChunks.contains(name)) {
+        final var chunk =
+            SnapshotChunkUtil.createReusedSnapshotChunk(
+                name,
+                chunkChecksums.get(name),
+                Files.size(path),
+                snapshotID,
+                totalCount,
+                snapshotChecksum);
+        nextFile();
+        return chunk;
+      }
+
+      try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+        final long fileSize = channel.size();
+        final int blockSize = (int) Math.min(maximumChunkSize, fileSize - filePosition);
+        final var chunk =
+            SnapshotChunkUtil.createSnapshotChunkFromFileBlock(
+                channel,
+                name,
+                filePosition,
+                blockSize,
+                fileSize,
+                snapshotID,
+                totalCount,
+                snapshotChecksum);
+
+        filePosition += blockSize;
+        if (filePosition >= fileSize) {
+          nextFile();
+        }
+        return chunk;
+      }
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
   }
 
-  private ByteBuffer encodeChunkId(final CharSequence path) {
-    return ByteBuffer.wrap(path.toString().getBytes(ID_CHARSET)).order(Protocol.ENDIANNESS);
+  private void nextFile() {
+    // keep the chunks which were already read, as the reader may be seeked back to them
+    chunksView = chunks.tailSet(chunksView.first(), false);
+    filePosition = 0;
   }
 
-  private CharSequence decodeChunkId(final ByteBuffer id) {
-    return chunkIdView.wrap(id);
+  private ByteBuffer encodeChunkId(final CharSequence fileName, final long filePosition) {
+    final byte[] name = fileName.toString().getBytes(ID_CHARSET);
+    return ByteBuffer.allocate(name.length + Long.BYTES)
+        .order(Protocol.ENDIANNESS)
+        .put(name)
+        .putLong(filePosition)
+        .flip();
   }
 
-  private static final class CharSequenceView {
+  private static final class ChunkIdView {
     private final DirectBuffer wrapper = new UnsafeBuffer();
-    private final AsciiSequenceView view = new AsciiSequenceView();
+    private final AsciiSequenceView fileNameView = new AsciiSequenceView();
 
-    private CharSequence wrap(final ByteBuffer buffer) {
+    private void wrap(final ByteBuffer buffer) {
       wrapper.wrap(buffer);
-      return view.wrap(wrapper, 0, wrapper.capacity());
+      fileNameView.wrap(wrapper, 0, wrapper.capacity() - Long.BYTES);
+    }
+
+    private CharSequence fileName() {
+      return fileNameView;
+    }
+
+    private long filePosition() {
+      return wrapper.getLong(wrapper.capacity() - Long.BYTES, Protocol.ENDIANNESS);
     }
   }
 }
@@ -59,6 +59,7 @@ public final class FileBasedSnapshotStore extends Actor
   private final Set<PersistedSnapshotListener> listeners;
 
   private final SnapshotMetrics snapshotMetrics;
+  private final SnapshotChecksumCalculator checksumCalculator;
 
   // Use AtomicReference so that getting latest snapshot doesn't have to go through the actor
   private final AtomicReference<FileBasedSnapshot> currentPersistedSnapshotRef =
@@ -83,6 +84,7 @@ public final class FileBasedSnapshotStore extends Actor
     listeners = new CopyOnWriteArraySet<>();
     actorName = buildActorName(nodeId, "SnapshotStore", partitionId);
     this.partitionId = partitionId;
+    checksumCalculator = new SnapshotChecksumCalculator(actorName, snapshotMetrics);
   }
 
   @Override
@@ -106,6 +108,7 @@ public final class FileBasedSnapshotStore extends Actor
   @Override
   protected void onActorClosing() {
     listeners.clear();
+    checksumCalculator.close();
   }
 
   private FileBasedSnapshot loadLatestSnapshot(final Path snapshotDirectory) {
@@ -183,7 +186,7 @@ public final class FileBasedSnapshotStore extends Actor
 
     try {
       final var expectedChecksum = SnapshotChecksum.read(checksumPath);
-      final var actualChecksum = SnapshotChecksum.calculate(path);
+      final var actualChecksum = checksumCalculator.calculate(path);
       if (expectedChecksum.getCombinedValue() != actualChecksum.getCombinedValue()) {
         LOGGER.warn(
             "Expected snapshot {} to have checksum {}, but the actual checksum is {}; the snapshot is most likely corrupted. The startup will fail if there is no other valid snapshot and the log has been compacted.",
@@ -484,7 +487,7 @@ public final class FileBasedSnapshotStore extends Actor
     try {
       // computing the checksum on the final destination also lets us detect any failures during the
       // copy/move that could occur
-      actualChecksum = SnapshotChecksum.calculate(destination);
+      actualChecksum = checksumCalculator.calculate(destination);
       if (actualChecksum.getCombinedValue() != expectedChecksum) {
         rollbackPartialSnapshot(destination);
         throw new InvalidSnapshotChecksum(
@@ -597,4 +600,8 @@ public final class FileBasedSnapshotStore extends Actor
   SnapshotMetrics getSnapshotMetrics() {
     return snapshotMetrics;
   }
+
+  SfvChecksum calculateChecksum(final Path snapshotDirectory) throws IOException {
+    return checksumCalculator.calculate(snapshotDirectory);
+  }
 }
@@ -42,7 +42,7 @@ final class SfvChecksum {
       Pattern.compile(".*combinedValue\\s+=\\s+([0-9a-fA-F]{1,16})");
   private static final String SNAPSHOT_DIRECTORY_PREFIX = "; snapshot directory = ";
 
-  private Checksum combinedChecksum;
+  private CombinedChecksum combinedChecksum;
   private final SortedMap<String, Long> checksums = new TreeMap<>();
   private String snapshotDirectoryComment;
 
@@ -56,13 +56,18 @@ final class SfvChecksum {
   }
 
   public SfvChecksum() {
-    this.combinedChecksum = new CRC32C();
+    this.combinedChecksum = new CombinableChecksum();
   }
 
   public long getCombinedValue() {
     return combinedChecksum.getValue();
   }
 
+  /** @return the checksum of each file, by its name */
+  public SortedMap<String, Long> getChecksums() {
+    return checksums;
+  }
+
   public void setSnapshotDirectoryComment(String headerComment) {
     this.snapshotDirectoryComment = headerComment;
   }
@@ -74,19 +79,38 @@ final class SfvChecksum {
 
     final Checksum checksum = new CRC32C();
     final ByteBuffer readBuffer = ByteBuffer.allocate(IoUtil.BLOCK_SIZE);
+    long fileSize = 0;
     try (final FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
-      readBuffer.clear();
-      while (channel.read(readBuffer) > 0) {
-        readBuffer.flip();
-        combinedChecksum.update(readBuffer);
+      int read;
+      while ((read = channel.read(readBuffer)) > 0) {
         readBuffer.flip();
         checksum.update(readBuffer);
         readBuffer.clear();
+        fileSize += read;
       }
     }
+
+    combinedChecksum.combine(checksum.getValue(), fileSize);
     checksums.put(fileName, checksum.getValue());
   }
 
+  /**
+   * Adds a file of which the checksum was computed beforehand, e.g. concurrently with other files.
+   * The combined value is the same as if the file would have been read via {@link
+   * #updateFromFile(Path)}, as long as files are added in the same order.
+   *
+   * @param fileName the name of the file
+   * @param fileChecksum the CRC32C checksum of the file's content
+   * @param fileSize the size of the file's content in bytes
+   */
+  public void updateFromChecksum(
+      final String fileName, final long fileChecksum, final long fileSize) {
+    final byte[] chunkId = fileName.getBytes(UTF_8);
+    combinedChecksum.update(chunkId);
+    combinedChecksum.combine(fileChecksum, fileSize);
+    checksums.put(fileName, fileChecksum);
+  }
+
   public void updateFromSfvFile(String... lines) {
     for (String line : lines) {
       line = line.trim();
@@ -137,7 +161,113 @@ final class SfvChecksum {
     return baos.toByteArray();
   }
 
-  private static class PreDefinedImmutableChecksum implements Checksum {
+  private interface CombinedChecksum extends Checksum {
+
+    /**
+     * Updates the checksum as if the bytes of which the given checksum was computed were passed to
+     * {@link #update(byte[], int, int)}.
+     */
+    void combine(long crc, long length);
+  }
+
+  /**
+   * A CRC32C checksum which, in addition to be updated with bytes, can be combined with the CRC32C
+   * checksum of subsequent bytes without reading them again. The combination follows zlib's {@code
+   * crc32_combine}: appending n bytes to a message is a linear operation on its CRC, which is
+   * applied by repeatedly squaring the operator which appends a single zero bit.
+   */
+  private static final class CombinableChecksum implements CombinedChecksum {
+    // the reversed CRC32C (Castagnoli) polynomial
+    private static final long POLYNOMIAL = 0x82F63B78L;
+    private static final int BITS = 32;
+
+    private long crc;
+
+    @Override
+    public void update(final int b) {
+      update(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void update(final byte[] b, final int off, final int len) {
+      final CRC32C checksum = new CRC32C();
+      checksum.update(b, off, len);
+      combine(checksum.getValue(), len);
+    }
+
+    @Override
+    public long getValue() {
+      return crc;
+    }
+
+    @Override
+    public void reset() {
+      crc = 0;
+    }
+
+    @Override
+    public void combine(final long otherCrc, final long length) {
+      if (length <= 0) {
+        return;
+      }
+
+      final long[] even = new long[BITS];
+      final long[] odd = new long[BITS];
+
+      // the operator for one zero bit
+      odd[0] = POLYNOMIAL;
+      long row = 1;
+      for (int n = 1; n < BITS; n++) {
+        odd[n] = row;
+        row <<= 1;
+      }
+
+      // the operators for two and four zero bits
+      square(even, odd);
+      square(odd, even);
+
+      // apply length zero bytes to the current checksum, the first squaring giving one zero byte
+      long remaining = length;
+      long value = crc;
+      do {
+        square(even, odd);
+        if ((remaining & 1) != 0) {
+          value = times(even, value);
+        }
+        remaining >>= 1;
+        if (remaining == 0) {
+          break;
+        }
+
+        square(odd, even);
+        if ((remaining & 1) != 0) {
+          value = times(odd, value);
+        }
+        remaining >>= 1;
+      } while (remaining != 0);
+
+      crc = value ^ otherCrc;
+    }
+
+    private static long times(final long[] matrix, final long vector) {
+      long sum = 0;
+      long remaining = vector;
+      for (int i = 0; remaining != 0; i++, remaining >>>= 1) {
+        if ((remaining & 1) != 0) {
+          sum ^= matrix[i];
+        }
+      }
+      return sum;
+    }
+
+    private static void square(final long[] square, final long[] matrix) {
+      for (int n = 0; n < BITS; n++) {
+        square[n] = times(matrix, matrix[n]);
+      }
+    }
+  }
+
+  private static class PreDefinedImmutableChecksum implements CombinedChecksum {
 
     private final long crc;
 
@@ -165,6 +295,11 @@ final class SfvChecksum {
       throw getUnsupportedOperationException();
     }
 
+    @Override
+    public void combine(final long crc, final long length) {
+      throw getUnsupportedOperationException();
+    }
+
     private static UnsupportedOperationException getUnsupportedOperationException() {
       return new UnsupportedOperationException("This is an immutable checksum.");
     }
@@ -0,0 +1,201 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.snapshots.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32C;
+import org.agrona.IoUtil;
+
+/**
+ * Calculates the checksum of a snapshot, reading its files concurrently on a small I/O pool. The
+ * result is the same as {@link SnapshotChecksum#calculate(Path)}, as the checksums of the files are
+ * combined in order afterwards.
+ *
+ * <p>The checksums of immutable files, i.e. RocksDB's SST files, are kept until the next
+ * calculation, keyed by name, size and modification time. Consecutive snapshots share most of their
+ * SST files, which are hard links to the same file, and a snapshot is checksummed again after being
+ * moved to its final directory, so these files are usually read only once.
+ */
+final class SnapshotChecksumCalculator implements AutoCloseable {
+  private static final String IMMUTABLE_FILE_SUFFIX = ".sst";
+  private static final int MAX_THREADS = 4;
+
+  private final ExecutorService executor;
+  private final SnapshotMetrics metrics;
+  private volatile Map<FileKey, Long> immutableFileChecksums = Map.of();
+
+  SnapshotChecksumCalculator(final String name, final SnapshotMetrics metrics) {
+    this.metrics = metrics;
+
+    final var threadCount = Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors());
+    final var threadId = new AtomicInteger();
+    final var pool =
+        new ThreadPoolExecutor(
+            threadCount,
+            threadCount,
+            1,
+            TimeUnit.MINUTES,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+              final var thread =
+                  new Thread(runnable, name + "-checksum-" + threadId.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    // snapshots are taken rarely, so don't keep idle threads around
+    pool.allowCoreThreadTimeOut(true);
+    executor = pool;
+  }
+
+  SfvChecksum calculate(final Path snapshotDirectory) throws IOException {
+    try (final var ignored = metrics.startChecksumTimer()) {
+      final List<Path> files;
+      try (final var fileStream = Files.list(snapshotDirectory).sorted()) {
+        files = fileStream.collect(Collectors.toList());
+      }
+
+      final var knownChecksums = immutableFileChecksums;
+      final var futures = new ArrayList<CompletableFuture<FileChecksum>>(files.size());
+      for (final var file : files) {
+        futures.add(
+            CompletableFuture.supplyAsync(() -> checksumFile(file, knownChecksums), executor));
+      }
+
+      final var sfvChecksum = new SfvChecksum();
+      final var newImmutableFileChecksums = new HashMap<FileKey, Long>();
+      for (final var future : futures) {
+        final var fileChecksum = join(future);
+        sfvChecksum.updateFromChecksum(
+            fileChecksum.key.name, fileChecksum.checksum, fileChecksum.key.size);
+        if (isImmutable(fileChecksum.key.name)) {
+          newImmutableFileChecksums.put(fileChecksum.key, fileChecksum.checksum);
+        }
+      }
+
+      immutableFileChecksums = newImmutableFileChecksums;
+      sfvChecksum.setSnapshotDirectoryComment(snapshotDirectory.toString());
+      return sfvChecksum;
+    }
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+    immutableFileChecksums = Map.of();
+  }
+
+  private FileChecksum checksumFile(final Path file, final Map<FileKey, Long> knownChecksums) {
+    try {
+      final var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      final var key =
+          new FileKey(
+              file.getFileName().toString(),
+              attributes.size(),
+              attributes.lastModifiedTime().toMillis());
+
+      final var knownChecksum = knownChecksums.get(key);
+      if (knownChecksum != null) {
+        return new FileChecksum(key, knownChecksum);
+      }
+
+      return new FileChecksum(key, readChecksum(file));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private long readChecksum(final Path file) throws IOException {
+    final var checksum = new CRC32C();
+    final var readBuffer = ByteBuffer.allocate(IoUtil.BLOCK_SIZE);
+    try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      while (channel.read(readBuffer) > 0) {
+        readBuffer.flip();
+        checksum.update(readBuffer);
+        readBuffer.clear();
+      }
+    }
+    return checksum.getValue();
+  }
+
+  private static boolean isImmutable(final String fileName) {
+    return fileName.endsWith(IMMUTABLE_FILE_SUFFIX);
+  }
+
+  private static FileChecksum join(final CompletableFuture<FileChecksum> future)
+      throws IOException {
+    try {
+      return future.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) e.getCause()).getCause();
+      }
+      throw e;
+    }
+  }
+
+  private static final class FileKey {
+    private final String name;
+    private final long size;
+    private final long lastModifiedMillis;
+
+    private FileKey(final String name, final long size, final long lastModifiedMillis) {
+      this.name = name;
+      this.size = size;
+      this.lastModifiedMillis = lastModifiedMillis;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(name, size, lastModifiedMillis);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final FileKey fileKey = (FileKey) o;
+      return size == fileKey.size
+          && lastModifiedMillis == fileKey.lastModifiedMillis
+          && name.equals(fileKey.name);
+    }
+  }
+
+  private static final class FileChecksum {
+    private final FileKey key;
+    private final long checksum;
+
+    private FileChecksum(final FileKey key, final long checksum) {
+      this.key = key;
+      this.checksum = checksum;
+    }
+  }
+}
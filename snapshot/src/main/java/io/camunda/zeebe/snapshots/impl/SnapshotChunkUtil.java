@@ -8,9 +8,10 @@
 package io.camunda.zeebe.snapshots.impl;
 
 import io.camunda.zeebe.snapshots.SnapshotChunk;
+import java.io.EOFException;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
 
@@ -28,21 +29,66 @@ final class SnapshotChunkUtil {
     return new CRC32C();
   }
 
-  static SnapshotChunk createSnapshotChunkFromFile(
-      final Path chunkFile,
+  /**
+   * Reads a block of the given file with a positional read, which doesn't change the position of
+   * the channel.
+   */
+  static SnapshotChunk createSnapshotChunkFromFileBlock(
+      final FileChannel channel,
+      final String chunkName,
+      final long blockPosition,
+      final int blockSize,
+      final long fileSize,
       final String snapshotId,
       final int totalCount,
       final long snapshotChecksum)
       throws IOException {
-    final byte[] content = Files.readAllBytes(chunkFile);
+    final byte[] content = new byte[blockSize];
+    final ByteBuffer buffer = ByteBuffer.wrap(content);
+    while (buffer.hasRemaining()) {
+      final int read = channel.read(buffer, blockPosition + buffer.position());
+      if (read < 0) {
+        throw new EOFException(
+            String.format(
+                "Expected to read %d bytes of %s at position %d, but reached the end of the file",
+                blockSize, chunkName, blockPosition));
+      }
+    }
+
     final long checksum = createChecksum(content);
     return new SnapshotChunkImpl(
         snapshotId,
         totalCount,
-        chunkFile.getFileName().toString(),
+        chunkName,
         checksum,
         content,
-        snapshotChecksum);
+        blockPosition,
+        fileSize,
+        snapshotChecksum,
+        false);
+  }
+
+  /**
+   * Creates a chunk without content, which the receiver already has, see {@link
+   * SnapshotChunk#isReused()}.
+   */
+  static SnapshotChunk createReusedSnapshotChunk(
+      final String chunkName,
+      final long checksum,
+      final long fileSize,
+      final String snapshotId,
+      final int totalCount,
+      final long snapshotChecksum) {
+    return new SnapshotChunkImpl(
+        snapshotId,
+        totalCount,
+        chunkName,
+        checksum,
+        new byte[0],
+        0,
+        fileSize,
+        snapshotChecksum,
+        true);
   }
 
   private static final class SnapshotChunkImpl implements SnapshotChunk {
@@ -50,8 +96,11 @@ final class SnapshotChunkUtil {
     private final int totalCount;
     private final String chunkName;
     private final byte[] content;
+    private final long fileBlockPosition;
+    private final long totalFileSize;
     private final long snapshotChecksum;
     private final long checksum;
+    private final boolean reused;
 
     SnapshotChunkImpl(
         final String snapshotId,
@@ -59,13 +108,19 @@ final class SnapshotChunkUtil {
         final String chunkName,
         final long checksum,
         final byte[] content,
-        final long snapshotChecksum) {
+        final long fileBlockPosition,
+        final long totalFileSize,
+        final long snapshotChecksum,
+        final boolean reused) {
       this.snapshotId = snapshotId;
       this.totalCount = totalCount;
       this.chunkName = chunkName;
       this.checksum = checksum;
       this.content = content;
+      this.fileBlockPosition = fileBlockPosition;
+      this.totalFileSize = totalFileSize;
       this.snapshotChecksum = snapshotChecksum;
+      this.reused = reused;
     }
 
     @Override
@@ -93,9 +148,24 @@ final class SnapshotChunkUtil {
       return content;
     }
 
+    @Override
+    public long getFileBlockPosition() {
+      return fileBlockPosition;
+    }
+
+    @Override
+    public long getTotalFileSize() {
+      return totalFileSize;
+    }
+
     @Override
     public long getSnapshotChecksum() {
       return snapshotChecksum;
     }
+
+    @Override
+    public boolean isReused() {
+      return reused;
+    }
   }
 }
@@ -67,7 +67,7 @@ public class SnapshotChunkReaderTest {
         final var chunk = snapshotChunkReader.next();
 
         // then
-        assertThat(asByteBuffer(chunk.getChunkName())).isNotNull().isEqualTo(nextId);
+        assertThat(asChunkId(chunk.getChunkName())).isNotNull().isEqualTo(nextId);
         assertThat(chunk.getSnapshotId()).isEqualTo(persistedSnapshot.getId());
         assertThat(chunk.getTotalCount()).isEqualTo(EXPECTED_CHUNK_COUNT);
         assertThat(chunk.getSnapshotChecksum()).isEqualTo(expectedSnapshotChecksum);
@@ -90,7 +90,7 @@ public class SnapshotChunkReaderTest {
 
     // then
     assertThat(snapshotChunkIds)
-        .containsExactly(asByteBuffer("file1"), asByteBuffer("file2"), asByteBuffer("file3"));
+        .containsExactly(asChunkId("file1"), asChunkId("file2"), asChunkId("file3"));
 
     assertThat(snapshotChunks)
         .extracting(SnapshotChunk::getContent)
@@ -103,7 +103,27 @@ public class SnapshotChunkReaderTest {
     // when
     final var snapshotChunkIds = new ArrayList<String>();
     try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
-      snapshotChunkReader.seek(asByteBuffer("file2"));
+      snapshotChunkReader.seek(asChunkId("file2"));
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunkIds.add(snapshotChunkReader.next().getChunkName());
+      }
+    }
+
+    // then
+    assertThat(snapshotChunkIds).containsExactly("file2", "file3");
+  }
+
+  @Test
+  public void shouldSeekBackToChunkAlreadyRead() {
+    // given
+    final var snapshotChunkIds = new ArrayList<String>();
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunkReader.next();
+      }
+
+      // when
+      snapshotChunkReader.seek(asChunkId("file2"));
       while (snapshotChunkReader.hasNext()) {
         snapshotChunkIds.add(snapshotChunkReader.next().getChunkName());
       }
@@ -127,8 +147,13 @@ public class SnapshotChunkReaderTest {
     assertThatThrownBy(snapshotChunkReader::next).isInstanceOf(NoSuchElementException.class);
   }
 
-  private ByteBuffer asByteBuffer(final String string) {
-    return ByteBuffer.wrap(string.getBytes()).order(Protocol.ENDIANNESS);
+  private ByteBuffer asChunkId(final String fileName) {
+    final byte[] name = fileName.getBytes();
+    return ByteBuffer.allocate(name.length + Long.BYTES)
+        .order(Protocol.ENDIANNESS)
+        .put(name)
+        .putLong(0)
+        .flip();
   }
 
   private boolean takeSnapshot(final Path path) {
@@ -97,6 +97,16 @@ public final class SnapshotChunkWrapper implements SnapshotChunk {
     return contents;
   }
 
+  @Override
+  public long getFileBlockPosition() {
+    return wrappedChunk.getFileBlockPosition();
+  }
+
+  @Override
+  public long getTotalFileSize() {
+    return wrappedChunk.getTotalFileSize();
+  }
+
   @Override
   public long getSnapshotChecksum() {
     if (snapshotChecksum == null) {
@@ -322,6 +322,122 @@ public class FileBasedReceivedSnapshotTest {
             receivedSnapshot.getPath().resolve(firstChunk.getChunkName()));
   }
 
+  @Test
+  public void shouldReuseChunksOfLatestSnapshot() {
+    // given
+    final var firstSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var secondSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot = receiverSnapshotStore.newReceivedSnapshot(secondSnapshot.getId());
+
+    // when
+    try (final var snapshotChunkReader = secondSnapshot.newChunkReader()) {
+      snapshotChunkReader.reuse(firstSnapshot.getChunkChecksums());
+      while (snapshotChunkReader.hasNext()) {
+        final var chunk = snapshotChunkReader.next();
+        assertThat(chunk.isReused()).isTrue();
+        receivedSnapshot.apply(chunk).join();
+      }
+    }
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(persistedSnapshot.getChecksum()).isEqualTo(secondSnapshot.getChecksum());
+    for (final var entry : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      assertThat(persistedSnapshot.getPath().resolve(entry.getKey())).hasContent(entry.getValue());
+    }
+  }
+
+  @Test
+  public void shouldNotReuseChunkWithDifferentChecksum() {
+    // given
+    final var firstSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var secondSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot = receiverSnapshotStore.newReceivedSnapshot(secondSnapshot.getId());
+    final long checksum = firstSnapshot.getChunkChecksums().get("file1");
+
+    // when
+    final var chunk =
+        SnapshotChunkUtil.createReusedSnapshotChunk(
+            "file1",
+            checksum + 1,
+            SNAPSHOT_FILE_CONTENTS.get("file1").length(),
+            secondSnapshot.getId(),
+            SNAPSHOT_FILE_CONTENTS.size(),
+            secondSnapshot.getChecksum());
+    final var result = receivedSnapshot.apply(chunk);
+
+    // then
+    assertThatThrownBy(result::join).hasCauseInstanceOf(SnapshotWriteException.class);
+    assertThat(receivedSnapshot.getPath().resolve("file1")).doesNotExist();
+  }
+
+  @Test
+  public void shouldReceiveFilesSplitIntoBlocks() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(4);
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(receivedPersistedSnapshot.getChecksum()).isEqualTo(persistedSnapshot.getChecksum());
+    for (final var entry : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      assertThat(receivedPersistedSnapshot.getPath().resolve(entry.getKey()))
+          .hasContent(entry.getValue());
+    }
+  }
+
+  @Test
+  public void shouldIgnoreFileBlockWhichIsAlreadyReceived() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+    final SnapshotChunk firstBlock;
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(4);
+      firstBlock = snapshotChunkReader.next();
+      receivedSnapshot.apply(firstBlock).join();
+      receivedSnapshot.apply(snapshotChunkReader.next()).join();
+    }
+
+    // when
+    receivedSnapshot.apply(firstBlock).join();
+
+    // then
+    assertThat(receivedSnapshot.getPath().resolve(firstBlock.getChunkName()))
+        .hasContent(SNAPSHOT_FILE_CONTENTS.get(firstBlock.getChunkName()).substring(0, 8));
+  }
+
+  @Test
+  public void shouldNotWriteFileBlockOutOfOrder() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+    final SnapshotChunk secondBlock;
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(4);
+      snapshotChunkReader.next();
+      secondBlock = snapshotChunkReader.next();
+    }
+
+    // when
+    final var result = receivedSnapshot.apply(secondBlock);
+
+    // then
+    assertThatThrownBy(result::join).hasCauseInstanceOf(SnapshotWriteException.class);
+    assertThat(receivedSnapshot.getPath().resolve(secondBlock.getChunkName())).doesNotExist();
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
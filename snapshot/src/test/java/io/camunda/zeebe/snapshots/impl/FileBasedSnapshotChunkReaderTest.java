@@ -9,7 +9,10 @@ package io.camunda.zeebe.snapshots.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -17,7 +20,9 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Map;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -74,9 +79,7 @@ public final class FileBasedSnapshotChunkReaderTest {
 
         // then
 
-        assertThat(ByteBuffer.wrap(chunk.getChunkName().getBytes(StandardCharsets.UTF_8)))
-            .isNotNull()
-            .isEqualTo(nextId);
+        assertThat(chunkId(chunk.getChunkName(), 0)).isNotNull().isEqualTo(nextId);
         assertThat(chunk.getSnapshotId()).isEqualTo(snapshotDirectory.getFileName().toString());
         assertThat(chunk.getTotalCount()).isEqualTo(2);
         assertThat(chunk.getSnapshotChecksum()).isEqualTo(SNAPSHOT_CHECKSUM);
@@ -88,7 +91,141 @@ public final class FileBasedSnapshotChunkReaderTest {
     }
   }
 
+  @Test
+  public void shouldReuseChunksWithSameNameAndChecksum() throws IOException {
+    // given
+    final long checksum = SnapshotChunkUtil.createChecksum("content".getBytes());
+    final var reader = newReader(Map.of("bar", checksum, "foo", checksum));
+
+    // when
+    reader.reuse(Map.of("bar", checksum + 1, "foo", checksum, "baz", checksum));
+
+    // then
+    final var bar = reader.next();
+    assertThat(bar.isReused()).isFalse();
+    assertThat(bar.getContent()).isEqualTo("content".getBytes());
+
+    final var foo = reader.next();
+    assertThat(foo.isReused()).isTrue();
+    assertThat(foo.getChunkName()).isEqualTo("foo");
+    assertThat(foo.getChecksum()).isEqualTo(checksum);
+    assertThat(foo.getContent()).isEmpty();
+    assertThat(foo.getTotalCount()).isEqualTo(2);
+    assertThat(foo.getSnapshotChecksum()).isEqualTo(SNAPSHOT_CHECKSUM);
+  }
+
+  @Test
+  public void shouldNotReuseChunksWithoutKnownChecksum() throws IOException {
+    // given
+    final long checksum = SnapshotChunkUtil.createChecksum("content".getBytes());
+    final var reader = newReader();
+
+    // when
+    reader.reuse(Map.of("bar", checksum, "foo", checksum));
+
+    // then
+    assertThat(reader.next().isReused()).isFalse();
+    assertThat(reader.next().isReused()).isFalse();
+  }
+
+  @Test
+  public void shouldSplitFilesIntoBlocksOfMaximumChunkSize() throws IOException {
+    // given
+    final var reader = newReader();
+
+    // when
+    reader.setMaximumChunkSize(3);
+
+    // then
+    final var chunkIds = new ArrayList<ByteBuffer>();
+    final var chunks = new ArrayList<SnapshotChunk>();
+    while (reader.hasNext()) {
+      chunkIds.add(reader.nextId());
+      chunks.add(reader.next());
+    }
+
+    assertThat(chunkIds)
+        .containsExactly(
+            chunkId("bar", 0),
+            chunkId("bar", 3),
+            chunkId("bar", 6),
+            chunkId("foo", 0),
+            chunkId("foo", 3),
+            chunkId("foo", 6));
+    assertThat(chunks)
+        .extracting(SnapshotChunk::getChunkName, SnapshotChunk::getFileBlockPosition)
+        .containsExactly(
+            tuple("bar", 0L),
+            tuple("bar", 3L),
+            tuple("bar", 6L),
+            tuple("foo", 0L),
+            tuple("foo", 3L),
+            tuple("foo", 6L));
+    assertThat(chunks)
+        .extracting(chunk -> new String(chunk.getContent(), StandardCharsets.UTF_8))
+        .containsExactly("con", "ten", "t", "con", "ten", "t");
+    assertThat(chunks).allMatch(chunk -> chunk.getTotalFileSize() == 7);
+    assertThat(chunks).allMatch(chunk -> chunk.getTotalCount() == 2);
+    assertThat(chunks)
+        .allMatch(
+            chunk -> chunk.getChecksum() == SnapshotChunkUtil.createChecksum(chunk.getContent()));
+  }
+
+  @Test
+  public void shouldSeekToFileBlock() throws IOException {
+    // given
+    final var reader = newReader();
+    reader.setMaximumChunkSize(3);
+
+    // when
+    reader.seek(chunkId("foo", 3));
+
+    // then
+    assertThat(reader.nextId()).isEqualTo(chunkId("foo", 3));
+    final var chunk = reader.next();
+    assertThat(chunk.getChunkName()).isEqualTo("foo");
+    assertThat(chunk.getFileBlockPosition()).isEqualTo(3);
+    assertThat(chunk.getContent()).isEqualTo("ten".getBytes());
+  }
+
+  @Test
+  public void shouldNotReuseFileWhichIsPartiallySent() throws IOException {
+    // given
+    final long checksum = SnapshotChunkUtil.createChecksum("content".getBytes());
+    final var reader = newReader(Map.of("bar", checksum, "foo", checksum));
+    reader.setMaximumChunkSize(3);
+    reader.next();
+
+    // when
+    reader.reuse(Map.of("bar", checksum, "foo", checksum));
+
+    // then
+    final var bar = reader.next();
+    assertThat(bar.isReused()).isFalse();
+    assertThat(bar.getFileBlockPosition()).isEqualTo(3);
+    assertThat(reader.next().isReused()).isFalse();
+
+    final var foo = reader.next();
+    assertThat(foo.isReused()).isTrue();
+    assertThat(foo.getTotalFileSize()).isEqualTo(7);
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  private static ByteBuffer chunkId(final String fileName, final long filePosition) {
+    final byte[] name = fileName.getBytes(StandardCharsets.US_ASCII);
+    return ByteBuffer.allocate(name.length + Long.BYTES)
+        .order(Protocol.ENDIANNESS)
+        .put(name)
+        .putLong(filePosition)
+        .flip();
+  }
+
   private FileBasedSnapshotChunkReader newReader() throws IOException {
+    return newReader(Map.of());
+  }
+
+  private FileBasedSnapshotChunkReader newReader(final Map<String, Long> chunkChecksums)
+      throws IOException {
     snapshotDirectory = temporaryFolder.getRoot().toPath();
     for (final var chunk : Arrays.asList("foo", "bar")) {
       final var path = snapshotDirectory.resolve(chunk);
@@ -96,6 +233,6 @@ public final class FileBasedSnapshotChunkReaderTest {
       Files.writeString(path, "content");
     }
 
-    return new FileBasedSnapshotChunkReader(snapshotDirectory, SNAPSHOT_CHECKSUM);
+    return new FileBasedSnapshotChunkReader(snapshotDirectory, SNAPSHOT_CHECKSUM, chunkChecksums);
   }
 }
@@ -13,6 +13,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.CRC32C;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -95,6 +97,28 @@ public class SfvChecksumTest {
         .contains("; This is an automatically created file - please do NOT modify.");
   }
 
+  @Test
+  public void shouldCombineChecksumsLikeReadingFiles() throws IOException {
+    // given
+    final var folder = temporaryFolder.newFolder().toPath();
+    createChunk(folder, "file1.txt");
+    createChunk(folder, "file2.txt");
+    final var expected = new SfvChecksum();
+    expected.updateFromFile(folder.resolve("file1.txt"));
+    expected.updateFromFile(folder.resolve("file2.txt"));
+
+    // when
+    for (final var fileName : List.of("file1.txt", "file2.txt")) {
+      final var checksum = new CRC32C();
+      checksum.update(fileName.getBytes(StandardCharsets.UTF_8));
+      sfvChecksum.updateFromChecksum(fileName, checksum.getValue(), fileName.length());
+    }
+
+    // then
+    assertThat(sfvChecksum.getCombinedValue()).isEqualTo(expected.getCombinedValue());
+    assertThat(sfvChecksum.getChecksums()).isEqualTo(expected.getChecksums());
+  }
+
   @Test
   public void shouldThrowExceptionWhenUsingPreDefinedChecksumFromSfv() throws IOException {
     // given
@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.snapshots.impl;
+
+import static io.camunda.zeebe.snapshots.impl.SnapshotChecksumTest.createChunk;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import org.agrona.IoUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SnapshotChecksumCalculatorTest {
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private SnapshotChecksumCalculator calculator;
+  private Path snapshot;
+
+  @Before
+  public void setup() throws Exception {
+    calculator = new SnapshotChecksumCalculator("test", new SnapshotMetrics("1"));
+    snapshot = temporaryFolder.newFolder().toPath();
+  }
+
+  @After
+  public void tearDown() {
+    calculator.close();
+  }
+
+  @Test
+  public void shouldCalculateSameChecksumAsSequentialCalculation() throws IOException {
+    // given
+    createChunk(snapshot, "file1.txt");
+    createChunk(snapshot, "file2.sst");
+    createChunk(snapshot, "file3.txt");
+    Files.writeString(
+        snapshot.resolve("file4.sst"),
+        "a".repeat(4 * IoUtil.BLOCK_SIZE + 100),
+        StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE);
+    final var expected = SnapshotChecksum.calculate(snapshot);
+
+    // when
+    final var actual = calculator.calculate(snapshot);
+
+    // then
+    assertThat(actual.getCombinedValue()).isEqualTo(expected.getCombinedValue());
+    assertThat(actual.getChecksums()).isEqualTo(expected.getChecksums());
+  }
+
+  @Test
+  public void shouldReuseChecksumOfUnchangedImmutableFile() throws IOException {
+    // given
+    createChunk(snapshot, "file1.sst");
+    final var expected = calculator.calculate(snapshot);
+
+    // when - same name, size and modification time, so the file is assumed to be unchanged
+    rewriteKeepingSizeAndModificationTime(snapshot.resolve("file1.sst"), "FILE1.SST");
+    final var actual = calculator.calculate(snapshot);
+
+    // then
+    assertThat(actual.getCombinedValue()).isEqualTo(expected.getCombinedValue());
+  }
+
+  @Test
+  public void shouldReadMutableFileAgain() throws IOException {
+    // given
+    createChunk(snapshot, "CURRENT");
+    final var previous = calculator.calculate(snapshot);
+
+    // when
+    rewriteKeepingSizeAndModificationTime(snapshot.resolve("CURRENT"), "current");
+    final var actual = calculator.calculate(snapshot);
+
+    // then
+    assertThat(actual.getCombinedValue()).isNotEqualTo(previous.getCombinedValue());
+    assertThat(actual.getCombinedValue())
+        .isEqualTo(SnapshotChecksum.calculate(snapshot).getCombinedValue());
+  }
+
+  @Test
+  public void shouldReadImmutableFileAgainIfModified() throws IOException {
+    // given
+    createChunk(snapshot, "file1.sst");
+    final var previous = calculator.calculate(snapshot);
+
+    // when
+    Files.writeString(snapshot.resolve("file1.sst"), "modified", StandardOpenOption.APPEND);
+    final var actual = calculator.calculate(snapshot);
+
+    // then
+    assertThat(actual.getCombinedValue()).isNotEqualTo(previous.getCombinedValue());
+    assertThat(actual.getCombinedValue())
+        .isEqualTo(SnapshotChecksum.calculate(snapshot).getCombinedValue());
+  }
+
+  @Test
+  public void shouldFailIfSnapshotDirectoryDoesNotExist() {
+    // when - then
+    assertThatThrownBy(() -> calculator.calculate(snapshot.resolve("missing")))
+        .isInstanceOf(NoSuchFileException.class);
+  }
+
+  private void rewriteKeepingSizeAndModificationTime(final Path file, final String content)
+      throws IOException {
+    final FileTime lastModifiedTime = Files.getLastModifiedTime(file);
+    Files.writeString(file, content, StandardOpenOption.TRUNCATE_EXISTING);
+    Files.setLastModifiedTime(file, lastModifiedTime);
+  }
+}
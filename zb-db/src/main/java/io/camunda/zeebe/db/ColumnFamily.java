@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db;
 
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -35,6 +36,19 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key);
 
+  /**
+   * Looks up the values of all given keys at once, which is cheaper than looking them up one by
+   * one. Uncommitted writes of the current transaction are taken into account, just as with {@link
+   * #get(DbKey)}.
+   *
+   * <p>As all keys are needed at once, every key has to be a separate instance.
+   *
+   * @param keys the keys to look up
+   * @param visitor is called for each key in the given order, with the key and the corresponding
+   *     value, or null if the key was not found; the value instance is reused for all keys
+   */
+  void multiGet(List<KeyType> keys, BiConsumer<KeyType, ValueType> visitor);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
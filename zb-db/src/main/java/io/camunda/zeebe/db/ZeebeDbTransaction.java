@@ -38,4 +38,53 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Sets a save point, to which the transaction can be rolled back via {@link
+   * #rollbackToSavePoint()} while keeping the changes made before. Save points are kept on a stack:
+   * the transaction is rolled back to the latest one, which makes the one set before it the latest
+   * again. Committing or rolling back the transaction removes all of them.
+   *
+   * <p>Note that there is no way to release a save point without rolling back to it, so they are
+   * kept until the transaction is committed or rolled back. Callers should therefore bound the
+   * number of save points which are set in a single transaction.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void setSavePoint() throws Exception;
+
+  /**
+   * Rolls the transaction back to the latest save point, discards all changes made since it was
+   * set. The save point is removed afterwards, such that the save point which was set before it can
+   * be rolled back to next.
+   *
+   * @throws IllegalStateException if no save point was set
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void rollbackToSavePoint() throws Exception;
+
+  /**
+   * Adds the uncommitted changes of the given transaction to this transaction, as if they were made
+   * by this transaction after its own changes. This allows to prepare changes concurrently in
+   * separate transactions, and to commit them atomically afterwards. The given transaction is left
+   * unchanged and has to be rolled back by the caller.
+   *
+   * @param other a transaction of the same database, which is not used concurrently
+   * @throws IllegalArgumentException if the given transaction is not of the same kind
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void merge(ZeebeDbTransaction other) throws Exception;
+
+  /**
+   * Registers a listener which is called once the transaction is committed, e.g. to keep an
+   * in-memory view of the state in sync with the committed changes. Listeners are called in the
+   * order in which they were registered. A listener is discarded if the transaction is rolled back,
+   * or rolled back to a save point which was set before the listener was registered.
+   *
+   * @param listener the listener to call after the commit
+   */
+  void addCommitListener(Runnable listener);
 }
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 public final class RocksDbConfiguration {
@@ -18,6 +20,8 @@ public final class RocksDbConfiguration {
   public static final boolean DEFAULT_STATISTICS_ENABLED = false;
   public static final boolean DEFAULT_WAL_DISABLED = false;
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
+  public static final boolean DEFAULT_SEPARATE_COLUMN_FAMILIES_ENABLED = false;
+  public static final boolean DEFAULT_DIRECT_VALUE_ITERATION_ENABLED = false;
 
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
@@ -26,6 +30,40 @@ public final class RocksDbConfiguration {
   private int minWriteBufferNumberToMerge = DEFAULT_MIN_WRITE_BUFFER_NUMBER_TO_MERGE;
   private boolean walDisabled = DEFAULT_WAL_DISABLED;
 
+  /**
+   * Defines whether each logical column family is stored in its own RocksDB column family, instead
+   * of sharing the default column family and being distinguished only by a key prefix. Separate
+   * column families have their own memtables, SST files and options, at the cost of more files and
+   * a memtable per column family. Existing state is migrated lazily in both directions, i.e. when a
+   * column family is first accessed after switching this setting.
+   *
+   * <p>https://github.com/facebook/rocksdb/wiki/Column-Families
+   */
+  private boolean separateColumnFamiliesEnabled = DEFAULT_SEPARATE_COLUMN_FAMILIES_ENABLED;
+
+  /**
+   * Options per logical column family, keyed by its name, which are applied on top of {@link
+   * #columnFamilyOptions}. Only used when separate column families are enabled.
+   */
+  private Map<String, Properties> columnFamilyOptionsOverrides = new HashMap<>();
+
+  /**
+   * The maximum size of the cache of committed entries per logical column family, keyed by its
+   * name. Reads of cached entries don't have to go through RocksDB, which is especially useful for
+   * entries which are read again shortly after being written. Column families without a size, or a
+   * size of 0 or less, are not cached.
+   */
+  private Map<String, Long> columnFamilyCacheSizes = new HashMap<>();
+
+  /**
+   * Defines whether values are read into a reusable direct buffer when iterating over a column
+   * family, instead of into a new array per entry, which makes iterating allocation free. Keys are
+   * always read this way, as they are copied when wrapped. Values are not, so when this is enabled
+   * a visited value, and anything it exposes as a view (e.g. a string property), is only valid
+   * until the visitor returns or the next iteration over the same column family instance starts.
+   */
+  private boolean directValueIterationEnabled = DEFAULT_DIRECT_VALUE_ITERATION_ENABLED;
+
   /**
    * Defines how many files are kept open by RocksDB, per default it is unlimited (-1). This is done
    * for performance reasons, if we set a value higher then zero it needs to keep track of open
@@ -120,4 +158,44 @@ public final class RocksDbConfiguration {
     this.walDisabled = walDisabled;
     return this;
   }
+
+  public boolean isSeparateColumnFamiliesEnabled() {
+    return separateColumnFamiliesEnabled;
+  }
+
+  public RocksDbConfiguration setSeparateColumnFamiliesEnabled(
+      final boolean separateColumnFamiliesEnabled) {
+    this.separateColumnFamiliesEnabled = separateColumnFamiliesEnabled;
+    return this;
+  }
+
+  public Map<String, Properties> getColumnFamilyOptionsOverrides() {
+    return columnFamilyOptionsOverrides;
+  }
+
+  public RocksDbConfiguration setColumnFamilyOptionsOverrides(
+      final Map<String, Properties> columnFamilyOptionsOverrides) {
+    this.columnFamilyOptionsOverrides = columnFamilyOptionsOverrides;
+    return this;
+  }
+
+  public Map<String, Long> getColumnFamilyCacheSizes() {
+    return columnFamilyCacheSizes;
+  }
+
+  public RocksDbConfiguration setColumnFamilyCacheSizes(
+      final Map<String, Long> columnFamilyCacheSizes) {
+    this.columnFamilyCacheSizes = columnFamilyCacheSizes;
+    return this;
+  }
+
+  public boolean isDirectValueIterationEnabled() {
+    return directValueIterationEnabled;
+  }
+
+  public RocksDbConfiguration setDirectValueIterationEnabled(
+      final boolean directValueIterationEnabled) {
+    this.directValueIterationEnabled = directValueIterationEnabled;
+    return this;
+  }
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.db.impl.rocksdb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -19,6 +20,7 @@ import java.util.Properties;
 import org.agrona.CloseHelper;
 import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
 import org.rocksdb.CompactionStyle;
@@ -27,13 +29,13 @@ import org.rocksdb.DBOptions;
 import org.rocksdb.DataBlockIndexType;
 import org.rocksdb.IndexType;
 import org.rocksdb.LRUCache;
-import org.rocksdb.Options;
 import org.rocksdb.RateLimiter;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.Statistics;
 import org.rocksdb.StatsLevel;
 import org.rocksdb.TableFormatConfig;
+import org.rocksdb.WriteBufferManager;
 
 public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamilyType>>
     implements ZeebeDbFactory<ColumnFamilyType> {
@@ -63,18 +65,26 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     final ZeebeTransactionDb<ColumnFamilyType> db;
     final List<AutoCloseable> closeables = Collections.synchronizedList(new ArrayList<>());
     try {
+      final var blockCache = createBlockCache(closeables);
+      // shared by all column families, such that they also share the block cache
+      final var tableConfig = createTableFormatConfig(closeables, blockCache);
+
       // column family options have to be closed as last
-      final var columnFamilyOptions = createColumnFamilyOptions(closeables);
+      final var columnFamilyOptions =
+          createColumnFamilyOptions(
+              new String(RocksDB.DEFAULT_COLUMN_FAMILY, StandardCharsets.UTF_8), tableConfig);
       closeables.add(columnFamilyOptions);
-      final var dbOptions = createDefaultDbOptions(closeables);
+      final var dbOptions = createDefaultDbOptions(closeables, blockCache);
       closeables.add(dbOptions);
 
-      final var options = new Options(dbOptions, columnFamilyOptions);
-      closeables.add(options);
-
       db =
           ZeebeTransactionDb.openTransactionalDb(
-              options, pathName.getAbsolutePath(), closeables, rocksDbConfiguration);
+              dbOptions,
+              columnFamilyOptions,
+              name -> createColumnFamilyOptions(name, tableConfig),
+              pathName.getAbsolutePath(),
+              closeables,
+              rocksDbConfiguration);
 
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(closeables);
@@ -83,7 +93,8 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     return db;
   }
 
-  private DBOptions createDefaultDbOptions(final List<AutoCloseable> closeables) {
+  private DBOptions createDefaultDbOptions(
+      final List<AutoCloseable> closeables, final Cache blockCache) {
     final var dbOptions =
         new DBOptions()
             .setErrorIfExists(false)
@@ -92,7 +103,7 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
+            // separate column families are created on demand
             .setCreateMissingColumnFamilies(false)
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
@@ -105,6 +116,15 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
             .setLogFileTimeToRoll(Duration.ofMinutes(30).toSeconds())
             .setKeepLogFileNum(2);
 
+    if (rocksDbConfiguration.isSeparateColumnFamiliesEnabled()) {
+      // every column family has its own memtables, so their total memory is bounded across all
+      // column families instead, and charged to the block cache which is sized for the whole
+      // memory budget in this case
+      final var writeBufferManager = new WriteBufferManager(getTotalMemtableMemory(), blockCache);
+      closeables.add(writeBufferManager);
+      dbOptions.setWriteBufferManager(writeBufferManager);
+    }
+
     // limit I/O writes
     if (rocksDbConfiguration.getIoRateBytesPerSecond() > 0) {
       final RateLimiter rateLimiter =
@@ -129,14 +149,32 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
 
   /** @return Options which are used on all column families */
   ColumnFamilyOptions createColumnFamilyOptions(final List<AutoCloseable> closeables) {
-    final var userProvidedColumnFamilyOptions = rocksDbConfiguration.getColumnFamilyOptions();
+    final var tableConfig = createTableFormatConfig(closeables, createBlockCache(closeables));
+    return createColumnFamilyOptions(
+        new String(RocksDB.DEFAULT_COLUMN_FAMILY, StandardCharsets.UTF_8), tableConfig);
+  }
+
+  /**
+   * @return Options which are used on the column family with the given name, i.e. the user provided
+   *     options with the overrides for this column family applied, or our defaults if there are
+   *     none
+   */
+  ColumnFamilyOptions createColumnFamilyOptions(
+      final String columnFamilyName, final TableFormatConfig tableConfig) {
+    final var userProvidedColumnFamilyOptions = new Properties();
+    userProvidedColumnFamilyOptions.putAll(rocksDbConfiguration.getColumnFamilyOptions());
+    final var overrides =
+        rocksDbConfiguration.getColumnFamilyOptionsOverrides().get(columnFamilyName);
+    if (overrides != null) {
+      userProvidedColumnFamilyOptions.putAll(overrides);
+    }
     final var hasUserOptions = !userProvidedColumnFamilyOptions.isEmpty();
 
     if (hasUserOptions) {
       return createFromUserOptions(userProvidedColumnFamilyOptions);
     }
 
-    return createDefaultColumnFamilyOptions(closeables);
+    return createDefaultColumnFamilyOptions(tableConfig);
   }
 
   private ColumnFamilyOptions createFromUserOptions(
@@ -156,13 +194,9 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
   }
 
   private ColumnFamilyOptions createDefaultColumnFamilyOptions(
-      final List<AutoCloseable> closeables) {
+      final TableFormatConfig tableConfig) {
     final var columnFamilyOptions = new ColumnFamilyOptions();
 
-    final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
-    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
-    // and filters into the block cache, so we don't need to account for more memory there
-    final var blockCacheMemory = totalMemoryBudget / 3;
     // flushing the memtables is done asynchronously, so there may be multiple memtables in memory,
     // although only a single one is writable. once we have too many memtables, writes will stop.
     // since prefix iteration is our bread n butter, we will build an additional filter for each
@@ -174,14 +208,15 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     // prefix seek must be fast, so we allocate some extra memory of a single memtable budget to
     // create
     // a filter for each memtable, allowing us to skip the prefixes if possible
-    final var memtablePrefixFilterMemory = 0.15;
+    // when every column family is separate, all keys of a column family share the same prefix, so
+    // the filter would be useless
+    final var memtablePrefixFilterMemory =
+        rocksDbConfiguration.isSeparateColumnFamiliesEnabled() ? 0 : 0.15;
     final var memtableMemory =
         Math.round(
-            ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
+            (getTotalMemtableMemory() / (double) maxConcurrentMemtableCount)
                 * (1 - memtablePrefixFilterMemory));
 
-    final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
-
     return columnFamilyOptions
         // to extract our column family type (used as prefix) and seek faster
         .useFixedLengthPrefixExtractor(Long.BYTES)
@@ -231,13 +266,31 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
         .setTableFormatConfig(tableConfig);
   }
 
-  private TableFormatConfig createTableFormatConfig(
-      final List<AutoCloseable> closeables, final long blockCacheMemory) {
+  // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
+  // and filters into the block cache, so we don't need to account for more memory there
+  private long getBlockCacheMemory() {
+    return rocksDbConfiguration.getMemoryLimit() / 3;
+  }
+
+  private long getTotalMemtableMemory() {
+    return rocksDbConfiguration.getMemoryLimit() - getBlockCacheMemory();
+  }
+
+  private Cache createBlockCache(final List<AutoCloseable> closeables) {
+    // with separate column families, the memtables are charged to the block cache as well
+    final var cacheMemory =
+        rocksDbConfiguration.isSeparateColumnFamiliesEnabled()
+            ? rocksDbConfiguration.getMemoryLimit()
+            : getBlockCacheMemory();
     // you can use the perf context to check if we're often blocked on the block cache mutex, in
     // which case we want to increase the number of shards (shard count == 2^shardBits)
-    final var cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
+    final var cache = new LRUCache(cacheMemory, 8, false, 0.15);
     closeables.add(cache);
+    return cache;
+  }
 
+  private TableFormatConfig createTableFormatConfig(
+      final List<AutoCloseable> closeables, final Cache cache) {
     final var filter = new BloomFilter(10, false);
     closeables.add(filter);
 
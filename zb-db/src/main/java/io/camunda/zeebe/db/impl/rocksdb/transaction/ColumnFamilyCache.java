@@ -0,0 +1,140 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.prometheus.client.Counter;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A bounded cache of the committed entries of a single column family, which lets reads of hot keys
+ * skip the call into RocksDB.
+ *
+ * <p>Writes still go through to the RocksDB transaction as usual, and are only applied to the cache
+ * once the transaction is committed; until then they are kept as pending writes of the transaction,
+ * which are visible to its own reads. This way the cache never contains uncommitted state, and
+ * rolling back a transaction only has to discard its pending writes.
+ *
+ * <p>Keys which are known to not exist are cached as well, as many lookups check for existence. The
+ * least recently used entries are evicted once the size of all keys and values exceeds the limit.
+ */
+final class ColumnFamilyCache {
+
+  /** Marks a key which does not exist, or is deleted by the transaction. */
+  static final byte[] ABSENT = new byte[0];
+
+  private static final Counter LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("rocksdb_cache_lookups")
+          .help(
+              "Number of lookups in the cache of a column family, by whether it was a hit or miss")
+          .labelNames("columnFamily", "result")
+          .register();
+
+  // rough estimate of the memory used by a map entry and the key and value objects
+  private static final int ENTRY_OVERHEAD = 96;
+
+  private final long maxSize;
+  private final Map<DirectBuffer, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+  private long size;
+  private long version;
+
+  ColumnFamilyCache(final String columnFamilyName, final long maxSize) {
+    this.maxSize = maxSize;
+    hits = LOOKUPS.labels(columnFamilyName, "hit");
+    misses = LOOKUPS.labels(columnFamilyName, "miss");
+  }
+
+  /**
+   * Looks up the given key, first in the pending writes of the given transaction, then in the
+   * committed entries.
+   *
+   * @return the value of the key, {@link #ABSENT} if the key is known to not exist, or null if the
+   *     key is not cached
+   */
+  byte[] get(final ZeebeTransaction transaction, final DirectBuffer key) {
+    final var pendingWrites = transaction.getPendingCacheWrites(this);
+    byte[] value = pendingWrites != null ? pendingWrites.get(key) : null;
+
+    if (value == null) {
+      synchronized (this) {
+        value = entries.get(key);
+      }
+    }
+
+    if (value != null) {
+      hits.inc();
+    } else {
+      misses.inc();
+    }
+    return value;
+  }
+
+  /**
+   * @return the current version of the cache, which has to be passed to {@link
+   *     #populate(DirectBuffer, byte[], long)} when reading a value which was not cached
+   */
+  synchronized long getVersion() {
+    return version;
+  }
+
+  /**
+   * Caches the committed value of the given key, which was read from RocksDB. The value is only
+   * cached if no transaction was committed since the given version was obtained, as the value may
+   * be outdated otherwise.
+   *
+   * @param key the key, which is copied
+   * @param value the value read from RocksDB, or null if the key does not exist
+   * @param readVersion the version of the cache obtained before reading the value
+   */
+  synchronized void populate(final DirectBuffer key, final byte[] value, final long readVersion) {
+    if (readVersion == version) {
+      put(copy(key), value != null ? value.clone() : ABSENT);
+    }
+  }
+
+  /** Applies the pending writes of a committed transaction. */
+  synchronized void apply(final Map<DirectBuffer, byte[]> pendingWrites) {
+    version++;
+    pendingWrites.forEach(this::put);
+  }
+
+  synchronized int getEntryCount() {
+    return entries.size();
+  }
+
+  static DirectBuffer copy(final DirectBuffer buffer) {
+    final byte[] bytes = new byte[buffer.capacity()];
+    buffer.getBytes(0, bytes);
+    return new UnsafeBuffer(bytes);
+  }
+
+  private void put(final DirectBuffer key, final byte[] value) {
+    final var previousValue = entries.put(key, value);
+    if (previousValue != null) {
+      size -= previousValue.length;
+    } else {
+      size += key.capacity() + ENTRY_OVERHEAD;
+    }
+    size += value.length;
+
+    final Iterator<Entry<DirectBuffer, byte[]>> eldest = entries.entrySet().iterator();
+    while (size > maxSize && eldest.hasNext()) {
+      final var entry = eldest.next();
+      size -= entry.getKey().capacity() + entry.getValue().length + ENTRY_OVERHEAD;
+      eldest.remove();
+    }
+  }
+}
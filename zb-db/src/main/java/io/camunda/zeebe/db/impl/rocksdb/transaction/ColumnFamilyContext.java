@@ -10,24 +10,37 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.impl.ZeebeDbConstants;
+import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 import java.util.Queue;
 import java.util.function.ObjIntConsumer;
+import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.rocksdb.RocksIterator;
 
 public class ColumnFamilyContext {
 
   private static final byte[] ZERO_SIZE_ARRAY = new byte[0];
+  private static final int INITIAL_ITERATOR_KEY_SIZE = 128;
+  private static final int INITIAL_ITERATOR_VALUE_SIZE = 1024;
 
   // we can also simply use one buffer
   private final ExpandableArrayBuffer keyBuffer = new ExpandableArrayBuffer();
   private final ExpandableArrayBuffer valueBuffer = new ExpandableArrayBuffer();
+  private final ExpandableArrayBuffer cachedValueBuffer = new ExpandableArrayBuffer();
 
+  private final DirectBuffer keyBufferView = new UnsafeBuffer(0, 0);
   private final DirectBuffer keyViewBuffer = new UnsafeBuffer(0, 0);
   private final DirectBuffer valueViewBuffer = new UnsafeBuffer(0, 0);
 
+  // direct buffers the current entry of an iterator is read into, allocated on first use
+  private final UnsafeBuffer iteratorKeyBuffer = new UnsafeBuffer(0, 0);
+  private final UnsafeBuffer iteratorValueBuffer = new UnsafeBuffer(0, 0);
+  private ByteBuffer iteratorKey;
+  private ByteBuffer iteratorValue;
+
   private final Queue<ExpandableArrayBuffer> prefixKeyBuffers;
   private int keyLength;
   private final long columnFamilyPrefix;
@@ -51,6 +64,12 @@ public class ColumnFamilyContext {
     return keyLength;
   }
 
+  /** @return a view of the written key, which is only valid until the next key is written */
+  public DirectBuffer getKeyBuffer() {
+    keyBufferView.wrap(keyBuffer, 0, keyLength);
+    return keyBufferView;
+  }
+
   public byte[] getKeyBufferArray() {
     return keyBuffer.byteArray();
   }
@@ -63,15 +82,6 @@ public class ColumnFamilyContext {
     return valueBuffer.byteArray();
   }
 
-  public void wrapKeyView(final byte[] key) {
-    if (key != null) {
-      // wrap without the column family key
-      keyViewBuffer.wrap(key, Long.BYTES, key.length - Long.BYTES);
-    } else {
-      keyViewBuffer.wrap(ZERO_SIZE_ARRAY);
-    }
-  }
-
   public DirectBuffer getKeyView() {
     return isKeyViewEmpty() ? null : keyViewBuffer;
   }
@@ -88,6 +98,19 @@ public class ColumnFamilyContext {
     }
   }
 
+  /**
+   * Wraps the value view around a copy of the given value, such that it can be shared, e.g. when it
+   * is cached.
+   */
+  public void copyValueView(final byte[] value) {
+    if (value != null) {
+      cachedValueBuffer.putBytes(0, value);
+      valueViewBuffer.wrap(cachedValueBuffer, 0, value.length);
+    } else {
+      valueViewBuffer.wrap(ZERO_SIZE_ARRAY);
+    }
+  }
+
   public DirectBuffer getValueView() {
     return isValueViewEmpty() ? null : valueViewBuffer;
   }
@@ -96,6 +119,55 @@ public class ColumnFamilyContext {
     return valueViewBuffer.capacity() == ZERO_SIZE_ARRAY.length;
   }
 
+  /**
+   * Reads the key of the entry the iterator points to into a reusable direct buffer, without
+   * allocating an array for it.
+   *
+   * @return a view of the whole key, including the column family prefix, which is only valid until
+   *     the next key is read
+   */
+  public DirectBuffer readIteratorKey(final RocksIterator iterator) {
+    if (iteratorKey == null) {
+      iteratorKey = ByteBuffer.allocateDirect(INITIAL_ITERATOR_KEY_SIZE);
+    }
+
+    final int length = iterator.key(iteratorKey.clear());
+    if (length > iteratorKey.capacity()) {
+      iteratorKey = allocateDirect(length);
+      iterator.key(iteratorKey);
+    }
+
+    iteratorKeyBuffer.wrap(iteratorKey, 0, length);
+    return iteratorKeyBuffer;
+  }
+
+  /**
+   * Wraps the key view around the key which was last read by {@link
+   * #readIteratorKey(RocksIterator)}, without the column family prefix.
+   */
+  public void wrapIteratorKeyView() {
+    keyViewBuffer.wrap(iteratorKeyBuffer, Long.BYTES, iteratorKeyBuffer.capacity() - Long.BYTES);
+  }
+
+  /**
+   * Reads the value of the entry the iterator points to into a reusable direct buffer, and wraps
+   * the value view around it. The value is only valid until the next value is read.
+   */
+  public void readIteratorValueView(final RocksIterator iterator) {
+    if (iteratorValue == null) {
+      iteratorValue = ByteBuffer.allocateDirect(INITIAL_ITERATOR_VALUE_SIZE);
+    }
+
+    final int length = iterator.value(iteratorValue.clear());
+    if (length > iteratorValue.capacity()) {
+      iteratorValue = allocateDirect(length);
+      iterator.value(iteratorValue);
+    }
+
+    iteratorValueBuffer.wrap(iteratorValue, 0, length);
+    valueViewBuffer.wrap(iteratorValueBuffer, 0, iteratorValueBuffer.capacity());
+  }
+
   public void withPrefixKey(final DbKey key, final ObjIntConsumer<byte[]> prefixKeyConsumer) {
     if (prefixKeyBuffers.peek() == null) {
       throw new IllegalStateException(
@@ -113,4 +185,8 @@ public class ColumnFamilyContext {
       prefixKeyBuffers.add(prefixKeyBuffer);
     }
   }
+
+  private static ByteBuffer allocateDirect(final int minCapacity) {
+    return ByteBuffer.allocateDirect(BitUtil.findNextPositivePowerOfTwo(minCapacity));
+  }
 }
@@ -7,17 +7,20 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
-import static io.camunda.zeebe.util.buffer.BufferUtil.startsWith;
-
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -33,6 +36,10 @@ class TransactionalColumnFamily<
   private final ValueType valueInstance;
   private final KeyType keyInstance;
   private final ColumnFamilyContext columnFamilyContext;
+  private final ColumnFamilyHandle handle;
+  private final long nativeHandle;
+  private final ColumnFamilyCache cache;
+  private final boolean directValueIteration;
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -45,6 +52,10 @@ class TransactionalColumnFamily<
     this.keyInstance = keyInstance;
     this.valueInstance = valueInstance;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.ordinal());
+    handle = transactionDb.getColumnFamilyHandle(columnFamily);
+    nativeHandle = ZeebeTransactionDb.getNativeHandle(handle);
+    cache = transactionDb.getColumnFamilyCache(columnFamily);
+    directValueIteration = transactionDb.isDirectValueIterationEnabled();
   }
 
   private void ensureInOpenTransaction(
@@ -62,11 +73,19 @@ class TransactionalColumnFamily<
           columnFamilyContext.writeValue(value);
 
           transaction.put(
-              transactionDb.getDefaultNativeHandle(),
+              nativeHandle,
               columnFamilyContext.getKeyBufferArray(),
               columnFamilyContext.getKeyLength(),
               columnFamilyContext.getValueBufferArray(),
               value.getLength());
+
+          if (cache != null) {
+            final byte[] cachedValue = new byte[value.getLength()];
+            System.arraycopy(
+                columnFamilyContext.getValueBufferArray(), 0, cachedValue, 0, cachedValue.length);
+            transaction.addPendingCacheWrite(
+                cache, columnFamilyContext.getKeyBuffer(), cachedValue);
+          }
         });
   }
 
@@ -86,9 +105,14 @@ class TransactionalColumnFamily<
     ensureInOpenTransaction(
         context,
         transaction -> {
+          if (cache != null) {
+            getCachedValue(transaction, columnFamilyContext);
+            return;
+          }
+
           final byte[] value =
               transaction.get(
-                  transactionDb.getDefaultNativeHandle(),
+                  nativeHandle,
                   transactionDb.getReadOptionsNativeHandle(),
                   columnFamilyContext.getKeyBufferArray(),
                   columnFamilyContext.getKeyLength());
@@ -97,6 +121,115 @@ class TransactionalColumnFamily<
     return columnFamilyContext.getValueView();
   }
 
+  private void getCachedValue(
+      final ZeebeTransaction transaction, final ColumnFamilyContext columnFamilyContext)
+      throws Exception {
+    final var key = columnFamilyContext.getKeyBuffer();
+    final byte[] cachedValue = cache.get(transaction, key);
+    if (cachedValue == ColumnFamilyCache.ABSENT) {
+      columnFamilyContext.wrapValueView(null);
+    } else if (cachedValue != null) {
+      // the cached value is shared, so it must not be wrapped directly
+      columnFamilyContext.copyValueView(cachedValue);
+    } else {
+      final long cacheVersion = cache.getVersion();
+      final byte[] value =
+          transaction.get(
+              nativeHandle,
+              transactionDb.getReadOptionsNativeHandle(),
+              columnFamilyContext.getKeyBufferArray(),
+              columnFamilyContext.getKeyLength());
+      // only committed values can be cached, not the ones written by this transaction, but these
+      // would have been found in its pending writes already
+      cache.populate(key, value, cacheVersion);
+      columnFamilyContext.wrapValueView(value);
+    }
+  }
+
+  @Override
+  public void multiGet(final List<KeyType> keys, final BiConsumer<KeyType, ValueType> visitor) {
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    ensureInOpenTransaction(
+        context,
+        transaction -> {
+          final byte[][] values =
+              cache != null ? multiGetCached(transaction, keys) : multiGet(transaction, keys);
+
+          for (int i = 0; i < values.length; i++) {
+            columnFamilyContext.wrapValueView(values[i]);
+            final DirectBuffer valueBuffer = columnFamilyContext.getValueView();
+            if (valueBuffer != null) {
+              valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
+              visitor.accept(keys.get(i), valueInstance);
+            } else {
+              visitor.accept(keys.get(i), null);
+            }
+          }
+        });
+  }
+
+  private byte[][] multiGet(final ZeebeTransaction transaction, final List<KeyType> keys)
+      throws Exception {
+    final byte[][] serializedKeys = new byte[keys.size()][];
+    for (int i = 0; i < serializedKeys.length; i++) {
+      serializedKeys[i] = serializeKey(keys.get(i));
+    }
+
+    return transaction.multiGet(
+        transactionDb.getReadOptions(),
+        Collections.nCopies(serializedKeys.length, handle),
+        serializedKeys);
+  }
+
+  /** Like {@link #multiGet(ZeebeTransaction, List)}, but only looks up keys which aren't cached. */
+  private byte[][] multiGetCached(final ZeebeTransaction transaction, final List<KeyType> keys)
+      throws Exception {
+    final byte[][] values = new byte[keys.size()][];
+    final int[] missingIndexes = new int[values.length];
+    final byte[][] missingKeys = new byte[values.length][];
+    int missingCount = 0;
+
+    final long cacheVersion = cache.getVersion();
+    for (int i = 0; i < values.length; i++) {
+      columnFamilyContext.writeKey(keys.get(i));
+      final byte[] cachedValue = cache.get(transaction, columnFamilyContext.getKeyBuffer());
+      if (cachedValue == null) {
+        missingIndexes[missingCount] = i;
+        missingKeys[missingCount] =
+            Arrays.copyOf(
+                columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength());
+        missingCount++;
+      } else if (cachedValue != ColumnFamilyCache.ABSENT) {
+        // the cached value is shared, so it must not be wrapped directly
+        values[i] = cachedValue.clone();
+      }
+    }
+
+    if (missingCount > 0) {
+      final byte[][] lookedUpKeys = Arrays.copyOf(missingKeys, missingCount);
+      final byte[][] lookedUpValues =
+          transaction.multiGet(
+              transactionDb.getReadOptions(),
+              Collections.nCopies(missingCount, handle),
+              lookedUpKeys);
+      for (int i = 0; i < missingCount; i++) {
+        values[missingIndexes[i]] = lookedUpValues[i];
+        cache.populate(new UnsafeBuffer(lookedUpKeys[i]), lookedUpValues[i], cacheVersion);
+      }
+    }
+
+    return values;
+  }
+
+  private byte[] serializeKey(final KeyType key) {
+    columnFamilyContext.writeKey(key);
+    return Arrays.copyOf(
+        columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength());
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     forEach(context, consumer);
@@ -129,11 +262,17 @@ class TransactionalColumnFamily<
     columnFamilyContext.writeKey(key);
     ensureInOpenTransaction(
         context,
-        transaction ->
-            transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength()));
+        transaction -> {
+          transaction.delete(
+              nativeHandle,
+              columnFamilyContext.getKeyBufferArray(),
+              columnFamilyContext.getKeyLength());
+
+          if (cache != null) {
+            transaction.addPendingCacheWrite(
+                cache, columnFamilyContext.getKeyBuffer(), ColumnFamilyCache.ABSENT);
+          }
+        });
   }
 
   @Override
@@ -196,7 +335,7 @@ class TransactionalColumnFamily<
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(options, handle);
   }
 
   protected <KeyType extends DbKey, ValueType extends DbValue> void whileEqualPrefix(
@@ -281,8 +420,8 @@ class TransactionalColumnFamily<
                             prefixLength);
                         iterator.isValid() && shouldVisitNext;
                         iterator.next()) {
-                      final byte[] keyBytes = iterator.key();
-                      if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
+                      final DirectBuffer key = columnFamilyContext.readIteratorKey(iterator);
+                      if (!startsWith(prefixKey, prefixLength, key)) {
                         break;
                       }
 
@@ -297,10 +436,13 @@ class TransactionalColumnFamily<
       final ValueType valueInstance,
       final KeyValuePairVisitor<KeyType, ValueType> iteratorConsumer,
       final RocksIterator iterator) {
-    final var keyBytes = iterator.key();
-
-    columnFamilyContext.wrapKeyView(keyBytes);
-    columnFamilyContext.wrapValueView(iterator.value());
+    // the key was already read when checking the prefix, and is copied when wrapped
+    columnFamilyContext.wrapIteratorKeyView();
+    if (directValueIteration) {
+      columnFamilyContext.readIteratorValueView(iterator);
+    } else {
+      columnFamilyContext.wrapValueView(iterator.value());
+    }
 
     final DirectBuffer keyViewBuffer = columnFamilyContext.getKeyView();
     keyInstance.wrap(keyViewBuffer, 0, keyViewBuffer.capacity());
@@ -309,4 +451,18 @@ class TransactionalColumnFamily<
 
     return iteratorConsumer.visit(keyInstance, valueInstance);
   }
+
+  private static boolean startsWith(
+      final byte[] prefix, final int prefixLength, final DirectBuffer key) {
+    if (key.capacity() < prefixLength) {
+      return false;
+    }
+
+    for (int i = 0; i < prefixLength; i++) {
+      if (key.getByte(i) != prefix[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
 }
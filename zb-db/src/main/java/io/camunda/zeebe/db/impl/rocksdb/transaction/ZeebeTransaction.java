@@ -12,6 +12,14 @@ import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRoc
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
@@ -22,6 +30,14 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
+  // writes of this transaction to cached column families, which are applied to the caches on commit
+  private final Map<ColumnFamilyCache, Map<DirectBuffer, byte[]>> pendingCacheWrites =
+      new IdentityHashMap<>();
+  // the pending cache writes which were overwritten since the first save point, in order
+  private final List<OverwrittenCacheWrite> cacheWritesSinceSavePoint = new ArrayList<>();
+  private final List<Runnable> commitListeners = new ArrayList<>();
+  // the number of overwritten cache writes and commit listeners when each save point was set
+  private final Deque<SavePoint> savePoints = new ArrayDeque<>();
 
   private boolean inCurrentTransaction;
   private Transaction transaction;
@@ -59,6 +75,12 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
             transaction, nativeHandle, readOptionsHandle, key, keyLength, columnFamilyHandle);
   }
 
+  public byte[][] multiGet(
+      final ReadOptions options, final List<ColumnFamilyHandle> handles, final byte[][] keys)
+      throws RocksDBException {
+    return transaction.multiGet(options, handles, keys);
+  }
+
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
     RocksDbInternal.removeWithHandle.invoke(
@@ -69,7 +91,30 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     return transaction.getIterator(options, handle);
   }
 
+  Map<DirectBuffer, byte[]> getPendingCacheWrites(final ColumnFamilyCache cache) {
+    return pendingCacheWrites.get(cache);
+  }
+
+  /**
+   * Remembers a write to a cached column family, such that it is visible to reads of this
+   * transaction and applied to the cache once this transaction is committed.
+   *
+   * @param value the written value, or {@link ColumnFamilyCache#ABSENT} if the key was deleted
+   */
+  void addPendingCacheWrite(
+      final ColumnFamilyCache cache, final DirectBuffer key, final byte[] value) {
+    final var writes = pendingCacheWrites.computeIfAbsent(cache, ignored -> new HashMap<>());
+    final var keyCopy = ColumnFamilyCache.copy(key);
+    final var previousValue = writes.put(keyCopy, value);
+    if (!savePoints.isEmpty()) {
+      cacheWritesSinceSavePoint.add(new OverwrittenCacheWrite(writes, keyCopy, previousValue));
+    }
+  }
+
   void resetTransaction() {
+    clearSavePoints();
+    pendingCacheWrites.clear();
+    commitListeners.clear();
     transaction = transactionRenovator.renewTransaction(transaction);
     inCurrentTransaction = true;
   }
@@ -117,17 +162,139 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  @Override
+  public void setSavePoint() throws RocksDBException {
+    try {
+      // RocksDB keeps a stack of save points as well, which is cleared on commit or rollback
+      transaction.setSavePoint();
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage = "Unexpected error occurred during RocksDB set save point.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+
+    savePoints.push(new SavePoint(cacheWritesSinceSavePoint.size(), commitListeners.size()));
+  }
+
+  @Override
+  public void rollbackToSavePoint() throws RocksDBException {
+    if (savePoints.isEmpty()) {
+      throw new IllegalStateException(
+          "Expected to roll back to a save point, but no save point was set.");
+    }
+
+    try {
+      transaction.rollbackToSavePoint();
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage =
+          "Unexpected error occurred during RocksDB transaction rollback to save point.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+
+    final var savePoint = savePoints.pop();
+    for (int i = cacheWritesSinceSavePoint.size() - 1; i >= savePoint.cacheWrites; i--) {
+      cacheWritesSinceSavePoint.remove(i).restore();
+    }
+    commitListeners.subList(savePoint.commitListeners, commitListeners.size()).clear();
+  }
+
+  @Override
+  public void merge(final ZeebeDbTransaction other) throws RocksDBException {
+    if (!(other instanceof ZeebeTransaction)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected to merge a transaction of type %s, but got %s.",
+              ZeebeTransaction.class.getSimpleName(), other.getClass().getSimpleName()));
+    }
+
+    final var otherTransaction = (ZeebeTransaction) other;
+    try {
+      // the write batch is owned by the other transaction and must not be closed
+      transaction.rebuildFromWriteBatch(
+          otherTransaction.transaction.getWriteBatch().getWriteBatch());
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage = "Unexpected error occurred during RocksDB transaction merge.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+
+    otherTransaction.pendingCacheWrites.forEach(
+        (cache, writes) -> writes.forEach((key, value) -> addPendingCacheWrite(cache, key, value)));
+    commitListeners.addAll(otherTransaction.commitListeners);
+  }
+
+  @Override
+  public void addCommitListener(final Runnable listener) {
+    commitListeners.add(listener);
+  }
+
   void commitInternal() throws RocksDBException {
+    clearSavePoints();
     inCurrentTransaction = false;
     transaction.commit();
+    pendingCacheWrites.forEach(ColumnFamilyCache::apply);
+    pendingCacheWrites.clear();
+    try {
+      commitListeners.forEach(Runnable::run);
+    } finally {
+      commitListeners.clear();
+    }
   }
 
   void rollbackInternal() throws RocksDBException {
+    clearSavePoints();
     inCurrentTransaction = false;
+    pendingCacheWrites.clear();
+    commitListeners.clear();
     transaction.rollback();
   }
 
   public void close() {
     transaction.close();
   }
+
+  private void clearSavePoints() {
+    savePoints.clear();
+    cacheWritesSinceSavePoint.clear();
+  }
+
+  private static final class SavePoint {
+    private final int cacheWrites;
+    private final int commitListeners;
+
+    private SavePoint(final int cacheWrites, final int commitListeners) {
+      this.cacheWrites = cacheWrites;
+      this.commitListeners = commitListeners;
+    }
+  }
+
+  private static final class OverwrittenCacheWrite {
+    private final Map<DirectBuffer, byte[]> writes;
+    private final DirectBuffer key;
+    private final byte[] previousValue;
+
+    private OverwrittenCacheWrite(
+        final Map<DirectBuffer, byte[]> writes,
+        final DirectBuffer key,
+        final byte[] previousValue) {
+      this.writes = writes;
+      this.key = key;
+      this.previousValue = previousValue;
+    }
+
+    private void restore() {
+      if (previousValue == null) {
+        writes.remove(key);
+      } else {
+        writes.put(key, previousValue);
+      }
+    }
+  }
 }
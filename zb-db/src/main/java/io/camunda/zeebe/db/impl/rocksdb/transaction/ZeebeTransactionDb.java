@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static io.camunda.zeebe.util.buffer.BufferUtil.startsWith;
+
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
@@ -14,20 +16,33 @@ import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.Checkpoint;
+import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.DBOptions;
 import org.rocksdb.OptimisticTransactionDB;
 import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
 import org.rocksdb.RocksObject;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 
@@ -37,23 +52,39 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   private static final Logger LOG = Loggers.DB_LOGGER;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
+  private static final int MIGRATION_BATCH_SIZE = 10_000;
   private final OptimisticTransactionDB optimisticTransactionDB;
   private final List<AutoCloseable> closables;
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
   private final WriteOptions defaultWriteOptions;
   private final ColumnFamilyHandle defaultHandle;
-  private final long defaultNativeHandle;
+  private final boolean separateColumnFamilies;
+  private final Function<String, ColumnFamilyOptions> columnFamilyOptionsFactory;
+  // handles of all RocksDB column families except the default one, by name
+  private final Map<String, ColumnFamilyHandle> columnFamilyHandles;
+  // the handle used by each logical column family, resolved on first access
+  private final Map<ColumnFamilyNames, ColumnFamilyHandle> resolvedHandles =
+      new ConcurrentHashMap<>();
+  private final Map<String, Long> columnFamilyCacheSizes;
+  private final boolean directValueIteration;
+  private final Map<ColumnFamilyNames, ColumnFamilyCache> caches = new ConcurrentHashMap<>();
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
+      final Map<String, ColumnFamilyHandle> columnFamilyHandles,
+      final Function<String, ColumnFamilyOptions> columnFamilyOptionsFactory,
       final OptimisticTransactionDB optimisticTransactionDB,
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration) {
     this.defaultHandle = defaultHandle;
-    defaultNativeHandle = getNativeHandle(defaultHandle);
+    this.columnFamilyHandles = new ConcurrentHashMap<>(columnFamilyHandles);
+    this.columnFamilyOptionsFactory = columnFamilyOptionsFactory;
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.closables = closables;
+    separateColumnFamilies = rocksDbConfiguration.isSeparateColumnFamiliesEnabled();
+    columnFamilyCacheSizes = rocksDbConfiguration.getColumnFamilyCacheSizes();
+    directValueIteration = rocksDbConfiguration.isDirectValueIterationEnabled();
 
     prefixReadOptions =
         new ReadOptions()
@@ -70,20 +101,75 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     closables.add(defaultWriteOptions);
   }
 
+  /**
+   * Opens the database with all of its existing column families.
+   *
+   * @param options the database options
+   * @param defaultColumnFamilyOptions the options of the default column family
+   * @param columnFamilyOptionsFactory creates the options of any other column family by its name;
+   *     options created by it are closed together with the database
+   * @param path the path of the database
+   * @param closables the resources to close, in reverse order, when closing the database
+   * @param rocksDbConfiguration the configuration of the database
+   */
   public static <ColumnFamilyNames extends Enum<ColumnFamilyNames>>
       ZeebeTransactionDb<ColumnFamilyNames> openTransactionalDb(
-          final Options options,
+          final DBOptions options,
+          final ColumnFamilyOptions defaultColumnFamilyOptions,
+          final Function<String, ColumnFamilyOptions> columnFamilyOptionsFactory,
           final String path,
           final List<AutoCloseable> closables,
           final RocksDbConfiguration rocksDbConfiguration)
           throws RocksDBException {
+    final List<ColumnFamilyDescriptor> descriptors = new ArrayList<>();
+    descriptors.add(
+        new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, defaultColumnFamilyOptions));
+    for (final String name : listColumnFamilies(path)) {
+      final var columnFamilyOptions = columnFamilyOptionsFactory.apply(name);
+      // column family options have to be closed after the database
+      closables.add(0, columnFamilyOptions);
+      descriptors.add(
+          new ColumnFamilyDescriptor(name.getBytes(StandardCharsets.UTF_8), columnFamilyOptions));
+    }
+
+    final List<ColumnFamilyHandle> handles = new ArrayList<>();
     final OptimisticTransactionDB optimisticTransactionDB =
-        OptimisticTransactionDB.open(options, path);
+        OptimisticTransactionDB.open(options, path, descriptors, handles);
     closables.add(optimisticTransactionDB);
-    final var defaultColumnFamilyHandle = optimisticTransactionDB.getDefaultColumnFamily();
+    closables.addAll(handles);
+
+    final var columnFamilyHandles = new ConcurrentHashMap<String, ColumnFamilyHandle>();
+    for (int i = 1; i < handles.size(); i++) {
+      columnFamilyHandles.put(
+          new String(descriptors.get(i).getName(), StandardCharsets.UTF_8), handles.get(i));
+    }
 
     return new ZeebeTransactionDb<>(
-        defaultColumnFamilyHandle, optimisticTransactionDB, closables, rocksDbConfiguration);
+        handles.get(0),
+        columnFamilyHandles,
+        columnFamilyOptionsFactory,
+        optimisticTransactionDB,
+        closables,
+        rocksDbConfiguration);
+  }
+
+  /** @return the names of all column families of the database at the given path, except default */
+  private static List<String> listColumnFamilies(final String path) throws RocksDBException {
+    if (!new File(path, "CURRENT").exists()) {
+      return List.of();
+    }
+
+    final List<String> names = new ArrayList<>();
+    try (final Options options = new Options()) {
+      for (final byte[] name : RocksDB.listColumnFamilies(options, path)) {
+        final var columnFamilyName = new String(name, StandardCharsets.UTF_8);
+        if (!columnFamilyName.equals(
+            new String(RocksDB.DEFAULT_COLUMN_FAMILY, StandardCharsets.UTF_8))) {
+          names.add(columnFamilyName);
+        }
+      }
+    }
+    return names;
   }
 
   static long getNativeHandle(final RocksObject object) {
@@ -99,16 +185,130 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     return prefixReadOptions;
   }
 
-  protected ColumnFamilyHandle getDefaultHandle() {
-    return defaultHandle;
+  protected ReadOptions getReadOptions() {
+    return defaultReadOptions;
   }
 
   protected long getReadOptionsNativeHandle() {
     return getNativeHandle(defaultReadOptions);
   }
 
-  protected long getDefaultNativeHandle() {
-    return defaultNativeHandle;
+  /**
+   * Returns the handle of the RocksDB column family in which the given logical column family is
+   * stored. On first access, entries which are still stored in the other layout (e.g. of a snapshot
+   * taken before separate column families were enabled or disabled) are moved over.
+   */
+  protected ColumnFamilyHandle getColumnFamilyHandle(final ColumnFamilyNames columnFamily) {
+    return resolvedHandles.computeIfAbsent(columnFamily, this::resolveColumnFamilyHandle);
+  }
+
+  /**
+   * Returns the cache of the given column family, which is shared by all of its instances, or null
+   * if no cache is configured for it.
+   */
+  protected ColumnFamilyCache getColumnFamilyCache(final ColumnFamilyNames columnFamily) {
+    final Long cacheSize = columnFamilyCacheSizes.get(columnFamily.name());
+    if (cacheSize == null || cacheSize <= 0) {
+      return null;
+    }
+
+    return caches.computeIfAbsent(
+        columnFamily, ignored -> new ColumnFamilyCache(columnFamily.name(), cacheSize));
+  }
+
+  /**
+   * Returns true if values are read into a reusable direct buffer when iterating, see {@link
+   * RocksDbConfiguration#isDirectValueIterationEnabled()}.
+   */
+  protected boolean isDirectValueIterationEnabled() {
+    return directValueIteration;
+  }
+
+  private synchronized ColumnFamilyHandle resolveColumnFamilyHandle(
+      final ColumnFamilyNames columnFamily) {
+    final var name = columnFamily.name();
+    final var existingHandle = columnFamilyHandles.get(name);
+
+    try {
+      if (separateColumnFamilies) {
+        final var handle = existingHandle != null ? existingHandle : createColumnFamily(name);
+        moveEntries(columnFamily, defaultHandle, handle);
+        return handle;
+      }
+
+      if (existingHandle != null) {
+        moveEntries(columnFamily, existingHandle, defaultHandle);
+        optimisticTransactionDB.dropColumnFamily(existingHandle);
+        columnFamilyHandles.remove(name);
+      }
+      return defaultHandle;
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException(
+          String.format("Failed to open column family %s.", columnFamily), e);
+    }
+  }
+
+  private ColumnFamilyHandle createColumnFamily(final String name) throws RocksDBException {
+    final var columnFamilyOptions = columnFamilyOptionsFactory.apply(name);
+    // column family options have to be closed after the database
+    closables.add(0, columnFamilyOptions);
+    final var handle =
+        optimisticTransactionDB.createColumnFamily(
+            new ColumnFamilyDescriptor(name.getBytes(StandardCharsets.UTF_8), columnFamilyOptions));
+    closables.add(handle);
+    columnFamilyHandles.put(name, handle);
+    return handle;
+  }
+
+  /**
+   * Moves all entries of the given logical column family from one RocksDB column family to another.
+   * Keys are stored with the same column family prefix in either layout, so entries are copied as
+   * they are. Every batch is written atomically, such that the move can be resumed after a crash.
+   */
+  private void moveEntries(
+      final ColumnFamilyNames columnFamily,
+      final ColumnFamilyHandle source,
+      final ColumnFamilyHandle target)
+      throws RocksDBException {
+    final var prefix = new UnsafeBuffer(new byte[Long.BYTES]);
+    prefix.putLong(0, columnFamily.ordinal(), ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    final byte[] prefixKey = prefix.byteArray();
+
+    long movedEntries = 0;
+    try (final RocksIterator iterator =
+            optimisticTransactionDB.newIterator(source, prefixReadOptions);
+        final WriteBatch batch = new WriteBatch()) {
+      for (iterator.seek(prefixKey); iterator.isValid(); iterator.next()) {
+        final byte[] key = iterator.key();
+        if (!startsWith(prefixKey, 0, prefixKey.length, key, 0, key.length)) {
+          break;
+        }
+
+        batch.put(target, key, iterator.value());
+        batch.delete(source, key);
+        movedEntries++;
+
+        if (batch.count() >= MIGRATION_BATCH_SIZE * 2) {
+          optimisticTransactionDB.write(defaultWriteOptions, batch);
+          batch.clear();
+        }
+      }
+      iterator.status();
+
+      if (batch.count() > 0) {
+        optimisticTransactionDB.write(defaultWriteOptions, batch);
+      }
+    }
+
+    if (movedEntries > 0) {
+      LOG.info(
+          "Moved {} entries of column family {} {}",
+          movedEntries,
+          columnFamily,
+          separateColumnFamilies
+              ? "into its own RocksDB column family"
+              : "back into the default RocksDB column family");
+    }
   }
 
   @Override
@@ -137,7 +337,12 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   public Optional<String> getProperty(final String propertyName) {
     String propertyValue = null;
     try {
-      propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      if (separateColumnFamilies) {
+        propertyValue =
+            String.valueOf(optimisticTransactionDB.getAggregatedLongProperty(propertyName));
+      } else {
+        propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      }
     } catch (final RocksDBException rde) {
       LOG.debug(rde.getMessage(), rde);
     }
@@ -122,6 +122,41 @@ public final class ColumnFamilyTest {
     assertThat(longValue.getValue()).isEqualTo(12345);
   }
 
+  @Test
+  public void shouldMultiGetValues() {
+    // given
+    putKeyValuePair(1, 10);
+    putKeyValuePair(3, 30);
+    final List<DbLong> keys = List.of(newKey(3), newKey(2), newKey(1));
+
+    // when
+    final List<Long> foundKeys = new ArrayList<>();
+    final List<Long> foundValues = new ArrayList<>();
+    columnFamily.multiGet(
+        keys,
+        (key, value) -> {
+          foundKeys.add(key.getValue());
+          foundValues.add(value != null ? value.getValue() : null);
+        });
+
+    // then
+    assertThat(foundKeys).containsExactly(3L, 2L, 1L);
+    assertThat(foundValues).containsExactly(30L, null, 10L);
+  }
+
+  @Test
+  public void shouldMultiGetNoValues() {
+    // given
+    putKeyValuePair(1, 10);
+
+    // when
+    final List<DbLong> visitedKeys = new ArrayList<>();
+    columnFamily.multiGet(List.of(), (key, value) -> visitedKeys.add(key));
+
+    // then
+    assertThat(visitedKeys).isEmpty();
+  }
+
   @Test
   public void shouldCheckForExistence() {
     // given
@@ -328,6 +363,12 @@ public final class ColumnFamilyTest {
     assertThat(columnFamily.isEmpty()).isTrue();
   }
 
+  private static DbLong newKey(final long value) {
+    final var key = new DbLong();
+    key.wrapLong(value);
+    return key;
+  }
+
   private void putKeyValuePair(final int key, final int value) {
     this.key.wrapLong(key);
     this.value.wrapLong(value);
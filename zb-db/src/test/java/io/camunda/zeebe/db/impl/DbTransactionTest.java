@@ -8,6 +8,7 @@
 package io.camunda.zeebe.db.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
@@ -15,7 +16,9 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.Before;
@@ -29,6 +32,7 @@ public final class DbTransactionTest {
   private final ZeebeDbFactory<ColumnFamilies> dbFactory =
       DefaultZeebeDbFactory.getDefaultFactory();
 
+  private ZeebeDb<ColumnFamilies> zeebeDb;
   private TransactionContext transactionContext;
 
   private ColumnFamily<DbLong, DbLong> oneColumnFamily;
@@ -45,7 +49,7 @@ public final class DbTransactionTest {
   @Before
   public void setup() throws Exception {
     final File pathName = temporaryFolder.newFolder();
-    final ZeebeDb<ColumnFamilies> zeebeDb = dbFactory.createDb(pathName);
+    zeebeDb = dbFactory.createDb(pathName);
     transactionContext = zeebeDb.createContext();
 
     oneKey = new DbLong();
@@ -253,6 +257,38 @@ public final class DbTransactionTest {
     assertThat(oneColumnFamily.get(oneKey).getValue()).isEqualTo(-1);
   }
 
+  @Test
+  public void shouldMultiGetValuesInTransaction() {
+    // given
+    final Map<Long, Long> actualValues = new HashMap<>();
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+    oneColumnFamily.put(oneKey, oneValue);
+
+    final DbLong firstKey = new DbLong();
+    firstKey.wrapLong(1);
+    final DbLong secondKey = new DbLong();
+    secondKey.wrapLong(2);
+
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          oneKey.wrapLong(1);
+          oneColumnFamily.delete(oneKey);
+          oneKey.wrapLong(2);
+          oneValue.wrapLong(-2);
+          oneColumnFamily.put(oneKey, oneValue);
+
+          oneColumnFamily.multiGet(
+              List.of(firstKey, secondKey),
+              (key, value) ->
+                  actualValues.put(key.getValue(), value != null ? value.getValue() : null));
+        });
+
+    // then
+    assertThat(actualValues).containsEntry(1L, null).containsEntry(2L, -2L);
+  }
+
   @Test
   public void shouldFindValueInTransaction() {
     // given
@@ -459,6 +495,218 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isFalse();
   }
 
+  @Test
+  public void shouldRollbackToSavePoint() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          oneKey.wrapLong(1);
+          oneValue.wrapLong(-1);
+          oneColumnFamily.put(oneKey, oneValue);
+        });
+    transaction.setSavePoint();
+    transaction.run(
+        () -> {
+          oneValue.wrapLong(-2);
+          oneColumnFamily.put(oneKey, oneValue);
+          twoKey.wrapLong(52000);
+          twoValue.wrapLong(192313);
+          twoColumnFamily.put(twoKey, twoValue);
+        });
+
+    // when
+    transaction.rollbackToSavePoint();
+    transaction.commit();
+
+    // then
+    assertThat(oneColumnFamily.get(oneKey).getValue()).isEqualTo(-1);
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+  }
+
+  @Test
+  public void shouldReplaceSavePoint() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.setSavePoint();
+    transaction.run(
+        () -> {
+          oneKey.wrapLong(1);
+          oneValue.wrapLong(-1);
+          oneColumnFamily.put(oneKey, oneValue);
+        });
+    transaction.setSavePoint();
+    transaction.run(
+        () -> {
+          twoKey.wrapLong(52000);
+          twoValue.wrapLong(192313);
+          twoColumnFamily.put(twoKey, twoValue);
+        });
+
+    // when
+    transaction.rollbackToSavePoint();
+    transaction.commit();
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isTrue();
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+  }
+
+  @Test
+  public void shouldRollbackToEarlierSavePoint() throws Exception {
+    // given
+    final List<Integer> calledListeners = new ArrayList<>();
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          oneKey.wrapLong(1);
+          oneValue.wrapLong(-1);
+          oneColumnFamily.put(oneKey, oneValue);
+        });
+    transaction.addCommitListener(() -> calledListeners.add(1));
+    transaction.setSavePoint();
+    transaction.run(
+        () -> {
+          twoKey.wrapLong(52000);
+          twoValue.wrapLong(192313);
+          twoColumnFamily.put(twoKey, twoValue);
+        });
+    transaction.addCommitListener(() -> calledListeners.add(2));
+    transaction.setSavePoint();
+    transaction.run(
+        () -> {
+          threeKey.wrapLong(2);
+          threeValue.wrapLong(3);
+          threeColumnFamily.put(threeKey, threeValue);
+        });
+    transaction.addCommitListener(() -> calledListeners.add(3));
+
+    // when
+    transaction.rollbackToSavePoint();
+    transaction.rollbackToSavePoint();
+    transaction.commit();
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isTrue();
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+    assertThat(threeColumnFamily.exists(threeKey)).isFalse();
+    assertThat(calledListeners).containsExactly(1);
+  }
+
+  @Test
+  public void shouldNotRollbackToSavePointAfterCommit() throws Exception {
+    // given
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.setSavePoint();
+    transaction.run(
+        () -> {
+          oneKey.wrapLong(1);
+          oneValue.wrapLong(-1);
+          oneColumnFamily.put(oneKey, oneValue);
+        });
+    transaction.commit();
+
+    // when - then
+    assertThatThrownBy(() -> transactionContext.getCurrentTransaction().rollbackToSavePoint())
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(oneColumnFamily.exists(oneKey)).isTrue();
+  }
+
+  @Test
+  public void shouldMergeTransaction() throws Exception {
+    // given
+    transactionContext.runInTransaction(
+        () -> {
+          twoKey.wrapLong(2);
+          twoValue.wrapLong(-2);
+          twoColumnFamily.put(twoKey, twoValue);
+        });
+
+    final TransactionContext otherContext = zeebeDb.createContext();
+    final DbLong otherKey = new DbLong();
+    final DbLong otherValue = new DbLong();
+    final ColumnFamily<DbLong, DbLong> otherOneColumnFamily =
+        zeebeDb.createColumnFamily(ColumnFamilies.ONE, otherContext, otherKey, otherValue);
+    final ColumnFamily<DbLong, DbLong> otherTwoColumnFamily =
+        zeebeDb.createColumnFamily(ColumnFamilies.TWO, otherContext, otherKey, otherValue);
+    final ZeebeDbTransaction otherTransaction = otherContext.getCurrentTransaction();
+    otherTransaction.run(
+        () -> {
+          otherKey.wrapLong(1);
+          otherValue.wrapLong(-1);
+          otherOneColumnFamily.put(otherKey, otherValue);
+          otherKey.wrapLong(2);
+          otherTwoColumnFamily.delete(otherKey);
+        });
+
+    // when
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          threeKey.wrapLong(3);
+          threeValue.wrapLong(-3);
+          threeColumnFamily.put(threeKey, threeValue);
+        });
+    transaction.merge(otherTransaction);
+    otherTransaction.rollback();
+    transaction.commit();
+
+    // then
+    oneKey.wrapLong(1);
+    assertThat(oneColumnFamily.get(oneKey).getValue()).isEqualTo(-1);
+    assertThat(twoColumnFamily.exists(twoKey)).isFalse();
+    assertThat(threeColumnFamily.get(threeKey).getValue()).isEqualTo(-3);
+  }
+
+  @Test
+  public void shouldCallCommitListenersAfterCommit() throws Exception {
+    // given
+    final List<Integer> calledListeners = new ArrayList<>();
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.addCommitListener(() -> calledListeners.add(1));
+    transaction.addCommitListener(() -> calledListeners.add(2));
+
+    // when
+    assertThat(calledListeners).isEmpty();
+    transaction.commit();
+
+    // then
+    assertThat(calledListeners).containsExactly(1, 2);
+  }
+
+  @Test
+  public void shouldNotCallCommitListenersAfterRollback() throws Exception {
+    // given
+    final List<Integer> calledListeners = new ArrayList<>();
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.addCommitListener(() -> calledListeners.add(1));
+
+    // when
+    transaction.rollback();
+    transactionContext.getCurrentTransaction().commit();
+
+    // then
+    assertThat(calledListeners).isEmpty();
+  }
+
+  @Test
+  public void shouldDiscardCommitListenersOnRollbackToSavePoint() throws Exception {
+    // given
+    final List<Integer> calledListeners = new ArrayList<>();
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.addCommitListener(() -> calledListeners.add(1));
+    transaction.setSavePoint();
+    transaction.addCommitListener(() -> calledListeners.add(2));
+
+    // when
+    transaction.rollbackToSavePoint();
+    transaction.addCommitListener(() -> calledListeners.add(3));
+    transaction.commit();
+
+    // then
+    assertThat(calledListeners).containsExactly(1, 3);
+  }
+
   private enum ColumnFamilies {
     DEFAULT, // rocksDB needs a default column family
     ONE,
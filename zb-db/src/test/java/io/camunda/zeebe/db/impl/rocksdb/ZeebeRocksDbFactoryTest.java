@@ -16,6 +16,7 @@ import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.util.ByteValue;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Map;
 import java.util.Properties;
 import org.junit.Rule;
 import org.junit.Test;
@@ -98,6 +99,52 @@ public final class ZeebeRocksDbFactoryTest {
         .containsExactly(ByteValue.ofMegabytes(16), CompactionPriority.ByCompensatedSize, 7);
   }
 
+  @Test
+  public void shouldApplyColumnFamilyOptionsOverrides() throws Exception {
+    // given
+    final var customProperties = new Properties();
+    customProperties.put("compaction_pri", "kByCompensatedSize");
+    final var overrides = new Properties();
+    overrides.put("write_buffer_size", String.valueOf(ByteValue.ofMegabytes(16)));
+
+    final var factory =
+        (ZeebeRocksDbFactory<DefaultColumnFamily>)
+            ZeebeRocksDbFactory.newFactory(
+                new RocksDbConfiguration()
+                    .setSeparateColumnFamiliesEnabled(true)
+                    .setColumnFamilyOptions(customProperties)
+                    .setColumnFamilyOptionsOverrides(Map.of("DEFAULT", overrides)));
+
+    // when
+    final var options = factory.createColumnFamilyOptions("DEFAULT", null);
+    final var otherOptions = factory.createColumnFamilyOptions("OTHER", null);
+
+    // then
+    assertThat(options)
+        .extracting(ColumnFamilyOptions::writeBufferSize, ColumnFamilyOptions::compactionPriority)
+        .containsExactly(ByteValue.ofMegabytes(16), CompactionPriority.ByCompensatedSize);
+    assertThat(otherOptions)
+        .extracting(ColumnFamilyOptions::writeBufferSize, ColumnFamilyOptions::compactionPriority)
+        .containsExactly(ByteValue.ofMegabytes(64), CompactionPriority.ByCompensatedSize);
+  }
+
+  @Test
+  public void shouldCreateDbWithSeparateColumnFamilies() throws Exception {
+    // given
+    final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
+        ZeebeRocksDbFactory.newFactory(
+            new RocksDbConfiguration().setSeparateColumnFamiliesEnabled(true));
+    final File pathName = temporaryFolder.newFolder();
+
+    // when
+    final ZeebeDb<DefaultColumnFamily> db = dbFactory.createDb(pathName);
+
+    // then
+    assertThat(db.isEmpty(DefaultColumnFamily.DEFAULT, db.createContext())).isTrue();
+    assertThat(db.getProperty("rocksdb.estimate-num-keys")).hasValue("0");
+    db.close();
+  }
+
   @Test
   public void shouldFailIfPropertiesDoesntExist() throws Exception {
     // given
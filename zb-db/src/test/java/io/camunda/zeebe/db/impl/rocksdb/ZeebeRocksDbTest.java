@@ -15,9 +15,14 @@ import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
 
 public final class ZeebeRocksDbTest {
 
@@ -110,4 +115,148 @@ public final class ZeebeRocksDbTest {
     assertThat(dbString).isNotNull();
     assertThat(dbString.toString()).isEqualTo("bar");
   }
+
+  @Test
+  public void shouldStoreColumnFamiliesSeparately() throws Exception {
+    // given
+    final ZeebeDbFactory<ColumnFamilies> dbFactory =
+        ZeebeRocksDbFactory.newFactory(
+            new RocksDbConfiguration().setSeparateColumnFamiliesEnabled(true));
+    final File pathName = temporaryFolder.newFolder();
+    ZeebeDb<ColumnFamilies> db = dbFactory.createDb(pathName);
+    put(db, ColumnFamilies.FIRST, "foo", "bar");
+    put(db, ColumnFamilies.SECOND, "foo", "baz");
+    db.close();
+
+    // when
+    db = dbFactory.createDb(pathName);
+
+    // then
+    assertThat(get(db, ColumnFamilies.FIRST, "foo")).isEqualTo("bar");
+    assertThat(get(db, ColumnFamilies.SECOND, "foo")).isEqualTo("baz");
+    db.close();
+    assertThat(listColumnFamilies(pathName)).containsExactlyInAnyOrder("FIRST", "SECOND");
+  }
+
+  @Test
+  public void shouldRecoverFromSnapshotWithSeparateColumnFamilies() throws Exception {
+    // given
+    final ZeebeDbFactory<ColumnFamilies> dbFactory =
+        ZeebeRocksDbFactory.newFactory(
+            new RocksDbConfiguration().setSeparateColumnFamiliesEnabled(true));
+    final File pathName = temporaryFolder.newFolder();
+    ZeebeDb<ColumnFamilies> db = dbFactory.createDb(pathName);
+    put(db, ColumnFamilies.FIRST, "foo", "bar");
+
+    final File snapshotDir = new File(temporaryFolder.newFolder(), "snapshot");
+    db.createSnapshot(snapshotDir);
+    put(db, ColumnFamilies.FIRST, "foo", "otherString");
+    db.close();
+
+    // when
+    db = dbFactory.createDb(snapshotDir);
+
+    // then
+    assertThat(get(db, ColumnFamilies.FIRST, "foo")).isEqualTo("bar");
+    db.close();
+  }
+
+  @Test
+  public void shouldMoveExistingStateIntoSeparateColumnFamilies() throws Exception {
+    // given
+    final File pathName = temporaryFolder.newFolder();
+    ZeebeDb<ColumnFamilies> db =
+        ZeebeRocksDbFactory.<ColumnFamilies>newFactory().createDb(pathName);
+    put(db, ColumnFamilies.FIRST, "foo", "bar");
+    put(db, ColumnFamilies.SECOND, "foo", "baz");
+    db.close();
+
+    // when
+    db =
+        ZeebeRocksDbFactory.<ColumnFamilies>newFactory(
+                new RocksDbConfiguration().setSeparateColumnFamiliesEnabled(true))
+            .createDb(pathName);
+
+    // then
+    assertThat(get(db, ColumnFamilies.FIRST, "foo")).isEqualTo("bar");
+    assertThat(get(db, ColumnFamilies.SECOND, "foo")).isEqualTo("baz");
+    assertThat(db.isEmpty(ColumnFamilies.THIRD, db.createContext())).isTrue();
+    db.close();
+    assertThat(listColumnFamilies(pathName)).containsExactlyInAnyOrder("FIRST", "SECOND", "THIRD");
+    assertThat(countDefaultColumnFamilyEntries(pathName)).isZero();
+  }
+
+  @Test
+  public void shouldMoveSeparateColumnFamiliesBackIntoDefaultColumnFamily() throws Exception {
+    // given
+    final File pathName = temporaryFolder.newFolder();
+    ZeebeDb<ColumnFamilies> db =
+        ZeebeRocksDbFactory.<ColumnFamilies>newFactory(
+                new RocksDbConfiguration().setSeparateColumnFamiliesEnabled(true))
+            .createDb(pathName);
+    put(db, ColumnFamilies.FIRST, "foo", "bar");
+    put(db, ColumnFamilies.SECOND, "foo", "baz");
+    db.close();
+
+    // when
+    db = ZeebeRocksDbFactory.<ColumnFamilies>newFactory().createDb(pathName);
+
+    // then
+    assertThat(get(db, ColumnFamilies.FIRST, "foo")).isEqualTo("bar");
+    assertThat(get(db, ColumnFamilies.SECOND, "foo")).isEqualTo("baz");
+    db.close();
+    assertThat(listColumnFamilies(pathName)).isEmpty();
+    assertThat(countDefaultColumnFamilyEntries(pathName)).isEqualTo(2);
+  }
+
+  private static void put(
+      final ZeebeDb<ColumnFamilies> db,
+      final ColumnFamilies columnFamilyName,
+      final String key,
+      final String value) {
+    final DbString dbKey = new DbString();
+    final DbString dbValue = new DbString();
+    final ColumnFamily<DbString, DbString> columnFamily =
+        db.createColumnFamily(columnFamilyName, db.createContext(), dbKey, dbValue);
+    dbKey.wrapString(key);
+    dbValue.wrapString(value);
+    columnFamily.put(dbKey, dbValue);
+  }
+
+  private static String get(
+      final ZeebeDb<ColumnFamilies> db, final ColumnFamilies columnFamilyName, final String key) {
+    final DbString dbKey = new DbString();
+    final ColumnFamily<DbString, DbString> columnFamily =
+        db.createColumnFamily(columnFamilyName, db.createContext(), dbKey, new DbString());
+    dbKey.wrapString(key);
+    final DbString value = columnFamily.get(dbKey);
+    return value == null ? null : value.toString();
+  }
+
+  private static List<String> listColumnFamilies(final File pathName) throws Exception {
+    try (final Options options = new Options()) {
+      return RocksDB.listColumnFamilies(options, pathName.getAbsolutePath()).stream()
+          .map(name -> new String(name, StandardCharsets.UTF_8))
+          .filter(name -> !name.equals("default"))
+          .collect(Collectors.toList());
+    }
+  }
+
+  private static int countDefaultColumnFamilyEntries(final File pathName) throws Exception {
+    int entries = 0;
+    try (final Options options = new Options();
+        final RocksDB db = RocksDB.openReadOnly(options, pathName.getAbsolutePath());
+        final var iterator = db.newIterator()) {
+      for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
+        entries++;
+      }
+    }
+    return entries;
+  }
+
+  private enum ColumnFamilies {
+    FIRST,
+    SECOND,
+    THIRD
+  }
 }
@@ -0,0 +1,402 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDbTransaction;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.prometheus.client.CollectorRegistry;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class ColumnFamilyCacheTest {
+
+  private static final long CACHE_SIZE = 4 * 1024;
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private ZeebeTransactionDb<ColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private DbLong key;
+  private DbLong value;
+
+  @Before
+  public void setup() throws Exception {
+    final File pathName = temporaryFolder.newFolder();
+    zeebeDb =
+        (ZeebeTransactionDb<ColumnFamilies>)
+            ZeebeRocksDbFactory.<ColumnFamilies>newFactory(
+                    new RocksDbConfiguration()
+                        .setColumnFamilyCacheSizes(
+                            Map.of(ColumnFamilies.CACHED.name(), CACHE_SIZE)))
+                .createDb(pathName);
+    transactionContext = zeebeDb.createContext();
+
+    key = new DbLong();
+    value = new DbLong();
+    columnFamily =
+        zeebeDb.createColumnFamily(ColumnFamilies.CACHED, transactionContext, key, value);
+  }
+
+  @After
+  public void tearDown() {
+    zeebeDb.close();
+  }
+
+  @Test
+  public void shouldReadCommittedValueFromCache() {
+    // given
+    put(1, 10);
+    final double hits = getLookups("hit");
+
+    // when
+    key.wrapLong(1);
+    final DbLong result = columnFamily.get(key);
+
+    // then
+    assertThat(result.getValue()).isEqualTo(10);
+    assertThat(getLookups("hit")).isEqualTo(hits + 1);
+  }
+
+  @Test
+  public void shouldCacheValueReadFromDb() {
+    // given
+    put(1, 10);
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(ColumnFamilies.CACHED, zeebeDb.createContext(), key, value);
+    key.wrapLong(2);
+    final double misses = getLookups("miss");
+
+    // when
+    assertThat(otherColumnFamily.exists(key)).isFalse();
+    assertThat(otherColumnFamily.exists(key)).isFalse();
+
+    // then
+    assertThat(getLookups("miss")).isEqualTo(misses + 1);
+  }
+
+  @Test
+  public void shouldShareCacheBetweenInstances() {
+    // given
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            ColumnFamilies.CACHED, zeebeDb.createContext(), otherKey, otherValue);
+    otherKey.wrapLong(1);
+    assertThat(otherColumnFamily.get(otherKey)).isNull();
+
+    // when
+    put(1, 10);
+
+    // then
+    assertThat(otherColumnFamily.get(otherKey).getValue()).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldReadUncommittedValueInSameTransaction() throws Exception {
+    // given
+    put(1, 10);
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+
+    // when
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(20);
+          columnFamily.put(key, value);
+
+          // then
+          assertThat(columnFamily.get(key).getValue()).isEqualTo(20);
+        });
+    transaction.commit();
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(20);
+  }
+
+  @Test
+  public void shouldNotSeeUncommittedValueFromOtherTransaction() throws Exception {
+    // given
+    put(1, 10);
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            ColumnFamilies.CACHED, zeebeDb.createContext(), otherKey, otherValue);
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+
+    // when
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(20);
+          columnFamily.put(key, value);
+        });
+
+    // then
+    otherKey.wrapLong(1);
+    assertThat(otherColumnFamily.get(otherKey).getValue()).isEqualTo(10);
+    transaction.rollback();
+  }
+
+  @Test
+  public void shouldDiscardWritesOnRollback() throws Exception {
+    // given
+    put(1, 10);
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(20);
+          columnFamily.put(key, value);
+          key.wrapLong(2);
+          value.wrapLong(30);
+          columnFamily.put(key, value);
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    key.wrapLong(1);
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(10);
+    key.wrapLong(2);
+    assertThat(columnFamily.get(key)).isNull();
+  }
+
+  @Test
+  public void shouldDiscardWritesOnRollbackToSavePoint() throws Exception {
+    // given
+    put(1, 10);
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(20);
+          columnFamily.put(key, value);
+        });
+    transaction.setSavePoint();
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(30);
+          columnFamily.put(key, value);
+          key.wrapLong(2);
+          value.wrapLong(40);
+          columnFamily.put(key, value);
+        });
+
+    // when
+    transaction.rollbackToSavePoint();
+
+    // then
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          assertThat(columnFamily.get(key).getValue()).isEqualTo(20);
+          key.wrapLong(2);
+          assertThat(columnFamily.get(key)).isNull();
+        });
+    transaction.commit();
+    key.wrapLong(1);
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(20);
+    key.wrapLong(2);
+    assertThat(columnFamily.get(key)).isNull();
+  }
+
+  @Test
+  public void shouldDiscardWritesOnRollbackToEarlierSavePoint() throws Exception {
+    // given
+    put(1, 10);
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.setSavePoint();
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(20);
+          columnFamily.put(key, value);
+        });
+    transaction.setSavePoint();
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(30);
+          columnFamily.put(key, value);
+        });
+
+    // when
+    transaction.rollbackToSavePoint();
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          assertThat(columnFamily.get(key).getValue()).isEqualTo(20);
+        });
+    transaction.rollbackToSavePoint();
+
+    // then
+    transaction.commit();
+    key.wrapLong(1);
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldApplyMergedWritesOnCommit() throws Exception {
+    // given
+    put(1, 10);
+    key.wrapLong(1);
+    columnFamily.get(key);
+
+    final TransactionContext otherContext = zeebeDb.createContext();
+    final DbLong otherKey = new DbLong();
+    final DbLong otherValue = new DbLong();
+    final ColumnFamily<DbLong, DbLong> otherColumnFamily =
+        zeebeDb.createColumnFamily(ColumnFamilies.CACHED, otherContext, otherKey, otherValue);
+    final ZeebeDbTransaction otherTransaction = otherContext.getCurrentTransaction();
+    otherTransaction.run(
+        () -> {
+          otherKey.wrapLong(1);
+          otherValue.wrapLong(20);
+          otherColumnFamily.put(otherKey, otherValue);
+        });
+
+    // when
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.merge(otherTransaction);
+    otherTransaction.rollback();
+    transaction.commit();
+
+    // then
+    key.wrapLong(1);
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(20);
+  }
+
+  @Test
+  public void shouldNotFindDeletedValue() throws Exception {
+    // given
+    put(1, 10);
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+
+    // when
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          columnFamily.delete(key);
+
+          // then
+          assertThat(columnFamily.exists(key)).isFalse();
+        });
+    transaction.commit();
+    assertThat(columnFamily.get(key)).isNull();
+  }
+
+  @Test
+  public void shouldNotShareValueWithCache() {
+    // given
+    put(1, 10);
+    key.wrapLong(1);
+    final var firstValue = new DbLong();
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            ColumnFamilies.CACHED, zeebeDb.createContext(), new DbLong(), firstValue);
+    otherColumnFamily.get(key);
+
+    // when
+    put(1, 20);
+
+    // then
+    assertThat(firstValue.getValue()).isEqualTo(10);
+    assertThat(otherColumnFamily.get(key).getValue()).isEqualTo(20);
+  }
+
+  @Test
+  public void shouldMultiGetCachedAndUncachedValues() throws Exception {
+    // given
+    put(1, 10);
+    put(2, 20);
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            ColumnFamilies.CACHED, zeebeDb.createContext(), new DbLong(), new DbLong());
+    final var keys = List.of(new DbLong(), new DbLong(), new DbLong());
+    keys.get(0).wrapLong(1);
+    keys.get(1).wrapLong(3);
+    keys.get(2).wrapLong(2);
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          key.wrapLong(2);
+          columnFamily.delete(key);
+        });
+    transaction.commit();
+    final double hits = getLookups("hit");
+
+    // when
+    final List<Long> values = new ArrayList<>();
+    otherColumnFamily.multiGet(
+        keys, (key, value) -> values.add(value != null ? value.getValue() : null));
+    otherColumnFamily.multiGet(keys, (key, value) -> {});
+
+    // then
+    assertThat(values).containsExactly(10L, null, null);
+    assertThat(getLookups("hit")).isEqualTo(hits + 5);
+  }
+
+  @Test
+  public void shouldEvictEntriesWhenFull() {
+    // when
+    for (int i = 0; i < 1_000; i++) {
+      put(i, i);
+    }
+
+    // then
+    final var cache = zeebeDb.getColumnFamilyCache(ColumnFamilies.CACHED);
+    assertThat(cache.getEntryCount()).isPositive().isLessThan(1_000);
+    key.wrapLong(0);
+    assertThat(columnFamily.get(key).getValue()).isZero();
+  }
+
+  @Test
+  public void shouldNotCacheColumnFamilyWithoutSize() {
+    // when
+    final var cache = zeebeDb.getColumnFamilyCache(ColumnFamilies.NOT_CACHED);
+
+    // then
+    assertThat(cache).isNull();
+  }
+
+  private void put(final long newKey, final long newValue) {
+    key.wrapLong(newKey);
+    value.wrapLong(newValue);
+    columnFamily.put(key, value);
+  }
+
+  private static double getLookups(final String result) {
+    final Double value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_rocksdb_cache_lookups_total",
+            new String[] {"columnFamily", "result"},
+            new String[] {ColumnFamilies.CACHED.name(), result});
+    return value == null ? 0 : value;
+  }
+
+  private enum ColumnFamilies {
+    CACHED,
+    NOT_CACHED
+  }
+}
@@ -7,15 +7,26 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -54,18 +65,15 @@ public final class ZeebeRocksDbIterationTest {
                     DbNil.INSTANCE));
   }
 
+  @After
+  public void tearDown() {
+    zeebeDb.close();
+  }
+
   @Test
   public void shouldStopIteratingAfterPrefixExceeded() {
     // given
-    final AtomicReference<RocksIterator> spyIterator = new AtomicReference<>();
-    Mockito.doAnswer(
-            invocation -> {
-              final Object spy = Mockito.spy(invocation.callRealMethod());
-              spyIterator.set((RocksIterator) spy);
-              return spy;
-            })
-        .when(columnFamily)
-        .newIterator(Mockito.any(TransactionContext.class), Mockito.any(ReadOptions.class));
+    final AtomicReference<RocksIterator> spyIterator = spyOnIterator(columnFamily);
 
     final long prefixes = 3;
     final long suffixes = 5;
@@ -85,4 +93,105 @@ public final class ZeebeRocksDbIterationTest {
     // then
     Mockito.verify(spyIterator.get(), Mockito.times((int) suffixes)).next();
   }
+
+  @Test
+  public void shouldNotReadKeysIntoNewArrays() {
+    // given
+    final AtomicReference<RocksIterator> spyIterator = spyOnIterator(columnFamily);
+    firstKey.wrapLong(1);
+    for (long suffix = 0; suffix < 5; suffix++) {
+      secondKey.wrapLong(suffix);
+      columnFamily.put(compositeKey, DbNil.INSTANCE);
+    }
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    columnFamily.whileEqualPrefix(
+        firstKey,
+        (BiConsumer<DbCompositeKey<DbLong, DbLong>, DbNil>)
+            (key, value) -> visitedKeys.add(key.getSecond().getValue()));
+
+    // then
+    assertThat(visitedKeys).containsExactly(0L, 1L, 2L, 3L, 4L);
+    Mockito.verify(spyIterator.get(), Mockito.never()).key();
+  }
+
+  @Test
+  public void shouldIterateOverEntriesLargerThanIteratorBuffers() throws Exception {
+    // given
+    final var key = new DbString();
+    final var value = new DbString();
+    final var stringColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), key, value);
+    final Map<String, String> entries = Map.of("a", "small", "b".repeat(1_000), "c".repeat(10_000));
+    entries.forEach(
+        (k, v) -> {
+          key.wrapString(k);
+          value.wrapString(v);
+          stringColumnFamily.put(key, value);
+        });
+
+    // when
+    final var visitedEntries = new HashMap<String, String>();
+    stringColumnFamily.forEach((k, v) -> visitedEntries.put(k.toString(), v.toString()));
+
+    // then
+    assertThat(visitedEntries).isEqualTo(entries);
+  }
+
+  @Test
+  public void shouldReadValuesIntoDirectBuffer() throws Exception {
+    // given
+    final var directDb =
+        (ZeebeTransactionDb<DefaultColumnFamily>)
+            ZeebeRocksDbFactory.<DefaultColumnFamily>newFactory(
+                    new RocksDbConfiguration().setDirectValueIterationEnabled(true))
+                .createDb(temporaryFolder.newFolder());
+    final var value = new DbString();
+    final var directColumnFamily =
+        Mockito.spy(
+            (TransactionalColumnFamily<
+                    DefaultColumnFamily, DbCompositeKey<DbLong, DbLong>, DbString>)
+                directDb.createColumnFamily(
+                    DefaultColumnFamily.DEFAULT, directDb.createContext(), compositeKey, value));
+    final AtomicReference<RocksIterator> spyIterator = spyOnIterator(directColumnFamily);
+    firstKey.wrapLong(1);
+    for (long suffix = 0; suffix < 3; suffix++) {
+      secondKey.wrapLong(suffix);
+      value.wrapString("value-" + "x".repeat((int) suffix * 1_000));
+      directColumnFamily.put(compositeKey, value);
+    }
+
+    // when
+    final List<String> visitedValues = new ArrayList<>();
+    try {
+      directColumnFamily.whileEqualPrefix(
+          firstKey,
+          (BiConsumer<DbCompositeKey<DbLong, DbLong>, DbString>)
+              (key, visitedValue) -> visitedValues.add(visitedValue.toString()));
+    } finally {
+      directDb.close();
+    }
+
+    // then
+    assertThat(visitedValues)
+        .containsExactly("value-", "value-" + "x".repeat(1_000), "value-" + "x".repeat(2_000));
+    Mockito.verify(spyIterator.get(), Mockito.never()).key();
+    Mockito.verify(spyIterator.get(), Mockito.never()).value();
+  }
+
+  private static AtomicReference<RocksIterator> spyOnIterator(
+      final TransactionalColumnFamily<?, ?, ?> columnFamily) {
+    final AtomicReference<RocksIterator> spyIterator = new AtomicReference<>();
+    Mockito.doAnswer(
+            invocation -> {
+              final Object spy = Mockito.spy(invocation.callRealMethod());
+              spyIterator.set((RocksIterator) spy);
+              return spy;
+            })
+        .when(columnFamily)
+        .newIterator(Mockito.any(TransactionContext.class), Mockito.any(ReadOptions.class));
+    return spyIterator;
+  }
 }